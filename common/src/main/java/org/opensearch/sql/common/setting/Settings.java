@@ -61,6 +61,15 @@ public abstract class Settings {
      */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_AGGREGATION_PAGE_SIZE("plugins.query.aggregation.page_size"),
+    QUERY_SORT_SPILL_THRESHOLD("plugins.query.sort.spill_threshold"),
+    QUERY_AGGREGATION_MEMORY_LIMIT("plugins.query.aggregation.memory_limit"),
+    QUERY_DEDUP_MEMORY_LIMIT("plugins.query.dedup.memory_limit"),
+    QUERY_SCAN_MAX_SLICES("plugins.query.scan.max_slices"),
+    QUERY_SCAN_PREFETCH_PAGES("plugins.query.scan.prefetch_pages"),
+    QUERY_SCAN_DOCVALUE_FIELDS_ENABLED("plugins.query.scan.docvalue_fields.enabled"),
+    QUERY_WINDOW_PARALLELISM("plugins.query.window.parallelism"),
+    QUERY_TOP_SKETCH_SIZE("plugins.query.top.sketch_size"),
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval");
 
@@ -59,11 +59,14 @@ import org.opensearch.sql.ast.expression.When;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.expression.Xor;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.NamedArgumentExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -76,6 +79,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Analyze the {@link UnresolvedExpression} in the {@link AnalysisContext} to construct the {@link
@@ -89,8 +93,8 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
   @Override
   public Expression visitCast(Cast node, AnalysisContext context) {
     final Expression expression = node.getExpression().accept(this, context);
-    return (Expression) repository
-        .compile(node.convertFunctionName(), Collections.singletonList(expression));
+    return foldConstant((Expression) repository
+        .compile(node.convertFunctionName(), Collections.singletonList(expression)));
   }
 
   public ExpressionAnalyzer(
@@ -183,7 +187,7 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
         node.getFuncArgs().stream()
             .map(unresolvedExpression -> analyze(unresolvedExpression, context))
             .collect(Collectors.toList());
-    return (Expression) repository.compile(functionName, arguments);
+    return foldConstant((Expression) repository.compile(functionName, arguments));
   }
 
   @SuppressWarnings("unchecked")
@@ -202,8 +206,8 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     FunctionName functionName = FunctionName.of(node.getOperator());
     Expression left = analyze(node.getLeft(), context);
     Expression right = analyze(node.getRight(), context);
-    return (Expression)
-        repository.compile(functionName, Arrays.asList(left, right));
+    return foldConstant((Expression)
+        repository.compile(functionName, Arrays.asList(left, right)));
   }
 
   @Override
@@ -276,6 +280,36 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     return new NamedArgumentExpression(node.getArgName(), node.getValue().accept(this, context));
   }
 
+  /**
+   * Fold function whose arguments are all literals into a literal of its value, so it is
+   * evaluated once here instead of for each row by operators or by scripts on data nodes. A
+   * function without argument, ex. rand(), may be non-deterministic and is not folded. The
+   * function is kept as is if evaluation fails, so the error is still raised at execution time
+   * only if it is reached, or if the result is null, missing or of a different type, so the
+   * type of the expression seen by its parent doesn't change.
+   */
+  private Expression foldConstant(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return expression;
+    }
+    List<Expression> arguments = ((FunctionExpression) expression).getArguments();
+    if (arguments.isEmpty()
+        || !arguments.stream().allMatch(arg -> arg instanceof LiteralExpression)) {
+      return expression;
+    }
+
+    ExprValue value;
+    try {
+      value = expression.valueOf(BindingTuple.EMPTY);
+    } catch (RuntimeException e) {
+      return expression;
+    }
+    if (value.isNull() || value.isMissing() || !value.type().equals(expression.type())) {
+      return expression;
+    }
+    return DSL.literal(value);
+  }
+
   private Expression visitIdentifier(String ident, AnalysisContext context) {
     TypeEnvironment typeEnv = context.peek();
     ReferenceExpression ref = DSL.ref(ident,
@@ -32,6 +32,7 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +42,13 @@ import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.WindowFunction;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
@@ -89,9 +96,16 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
     List<Expression> partitionByList = analyzePartitionList(unresolved, context);
     List<Pair<SortOption, Expression>> sortList = analyzeSortList(unresolved, context);
 
-    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList);
+    FrameDefinition frame = analyzeFrame(unresolved.getFrame(), sortList);
+
+    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList, frame);
     NamedExpression namedWindowFunction =
         new NamedExpression(node.getName(), windowFunction, node.getAlias());
+    LogicalPlan window = addToWindow(child, namedWindowFunction, windowDefinition);
+    if (window != null) {
+      return window;
+    }
+
     List<Pair<SortOption, Expression>> allSortItems = windowDefinition.getAllSortItems();
 
     if (allSortItems.isEmpty()) {
@@ -103,6 +117,45 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
         windowDefinition);
   }
 
+  /**
+   * Add window function to the window operator analyzed for previous project item with the same
+   * window definition, so that all window functions sharing a window definition are evaluated in
+   * one pass. The window operator is searched through window and sort operators generated for
+   * other window definitions in between. This is fine because window function only appends its
+   * result column to each row without changing anything else.
+   *
+   * @return plan with the window function added, or null if no such window operator found
+   */
+  private LogicalPlan addToWindow(LogicalPlan plan,
+                                  NamedExpression windowFunction,
+                                  WindowDefinition windowDefinition) {
+    if (!(plan instanceof LogicalWindow)) {
+      return null;
+    }
+
+    LogicalWindow window = (LogicalWindow) plan;
+    LogicalPlan input = window.getChild().get(0);
+    if (window.getWindowDefinition().equals(windowDefinition)) {
+      List<NamedExpression> windowFunctions = new ArrayList<>(window.getWindowFunctions());
+      windowFunctions.add(windowFunction);
+      return new LogicalWindow(input, windowFunctions, windowDefinition);
+    }
+
+    if (input instanceof LogicalSort) {
+      LogicalPlan newInput =
+          addToWindow(input.getChild().get(0), windowFunction, windowDefinition);
+      input = (newInput == null) ? null
+          : new LogicalSort(newInput, ((LogicalSort) input).getSortList());
+    } else {
+      input = addToWindow(input, windowFunction, windowDefinition);
+    }
+
+    if (input == null) {
+      return null;
+    }
+    return new LogicalWindow(input, window.getWindowFunctions(), window.getWindowDefinition());
+  }
+
   private List<Expression> analyzePartitionList(WindowFunction node, AnalysisContext context) {
     return node.getPartitionByList()
                .stream()
@@ -120,6 +173,39 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
                .collect(Collectors.toList());
   }
 
+  /**
+   * Check if frame bounds are valid. In particular, offset of RANGE frame is the difference
+   * of sort key value from current row, which requires single sort key of number type.
+   */
+  private FrameDefinition analyzeFrame(FrameDefinition frame,
+                                       List<Pair<SortOption, Expression>> sortList) {
+    if (frame == null) {
+      return null;
+    }
+
+    FrameBound start = frame.getStart();
+    FrameBound end = frame.getEnd();
+    if (start.getType() == BoundType.UNBOUNDED_FOLLOWING
+        || end.getType() == BoundType.UNBOUNDED_PRECEDING
+        || start.distance() > end.distance()) {
+      throw new SemanticCheckException(String.format(
+          "Invalid frame with start bound [%s] and end bound [%s]",
+          start.getType(), end.getType()));
+    }
+
+    if (frame.getType() == FrameType.RANGE && (start.hasOffset() || end.hasOffset())
+        && !isSingleNumberSortKey(sortList)) {
+      throw new SemanticCheckException(
+          "RANGE frame with offset requires exactly one sort key of number type");
+    }
+    return frame;
+  }
+
+  private boolean isSingleNumberSortKey(List<Pair<SortOption, Expression>> sortList) {
+    return (sortList.size() == 1)
+        && ExprCoreType.numberTypes().contains(sortList.get(0).getRight().type());
+  }
+
   /**
    * Frontend creates sort option from query directly which means sort or null order may be null.
    * The final and default value for each is determined here during expression analysis.
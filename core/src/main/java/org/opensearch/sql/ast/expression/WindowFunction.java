@@ -30,6 +30,7 @@ package org.opensearch.sql.ast.expression;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +50,19 @@ public class WindowFunction extends UnresolvedExpression {
   private final UnresolvedExpression function;
   private List<UnresolvedExpression> partitionByList;
   private List<Pair<SortOption, UnresolvedExpression>> sortList;
+  private FrameDefinition frame;
+
+  /**
+   * Constructor of window function without frame clause specified.
+   * @param function        function
+   * @param partitionByList partition by list
+   * @param sortList        sort list
+   */
+  public WindowFunction(UnresolvedExpression function,
+                        List<UnresolvedExpression> partitionByList,
+                        List<Pair<SortOption, UnresolvedExpression>> sortList) {
+    this(function, partitionByList, sortList, null);
+  }
 
   @Override
   public List<? extends Node> getChild() {
@@ -64,4 +78,88 @@ public class WindowFunction extends UnresolvedExpression {
     return nodeVisitor.visitWindowFunction(this, context);
   }
 
+  /**
+   * Frame definition in window function that determines which rows in the partition are
+   * accessible to aggregate window function when calculating for current row.
+   */
+  @Data
+  public static class FrameDefinition {
+
+    /**
+     * Default frame if frame clause absent, which is current row and all its peers
+     * plus all rows before them in the partition.
+     */
+    public static final FrameDefinition DEFAULT = new FrameDefinition(
+        FrameType.RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW);
+
+    private final FrameType type;
+    private final FrameBound start;
+    private final FrameBound end;
+  }
+
+  /**
+   * Frame bound relative to current row.
+   */
+  @Data
+  public static class FrameBound {
+
+    public static final FrameBound UNBOUNDED_PRECEDING =
+        new FrameBound(BoundType.UNBOUNDED_PRECEDING, 0);
+    public static final FrameBound CURRENT_ROW = new FrameBound(BoundType.CURRENT_ROW, 0);
+    public static final FrameBound UNBOUNDED_FOLLOWING =
+        new FrameBound(BoundType.UNBOUNDED_FOLLOWING, 0);
+
+    private final BoundType type;
+
+    /**
+     * Number of rows for ROWS frame or difference of sort key value for RANGE frame.
+     * Only used by bound type PRECEDING and FOLLOWING.
+     */
+    private final long offset;
+
+    public static FrameBound preceding(long offset) {
+      return new FrameBound(BoundType.PRECEDING, offset);
+    }
+
+    public static FrameBound following(long offset) {
+      return new FrameBound(BoundType.FOLLOWING, offset);
+    }
+
+    /**
+     * Signed distance to current row, which is negative if preceding and positive if following.
+     * @return  distance or infinity if unbounded
+     */
+    public double distance() {
+      switch (type) {
+        case UNBOUNDED_PRECEDING:
+          return Double.NEGATIVE_INFINITY;
+        case PRECEDING:
+          return -offset;
+        case FOLLOWING:
+          return offset;
+        case UNBOUNDED_FOLLOWING:
+          return Double.POSITIVE_INFINITY;
+        default:
+          return 0;
+      }
+    }
+
+    public boolean hasOffset() {
+      return type == BoundType.PRECEDING || type == BoundType.FOLLOWING;
+    }
+  }
+
+  public enum FrameType {
+    ROWS,
+    RANGE
+  }
+
+  public enum BoundType {
+    UNBOUNDED_PRECEDING,
+    PRECEDING,
+    CURRENT_ROW,
+    FOLLOWING,
+    UNBOUNDED_FOLLOWING
+  }
+
 }
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import lombok.Getter;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
+
+/**
+ * Expression row value which holds the field values by slot index of a shared {@link RowSchema}
+ * rather than in a map of its own. Field absent in the row is a null slot and resolved as
+ * missing. It's the same as the {@link ExprTupleValue} of its fields, which is built only when
+ * the map form is required, for example by protocol formatter.
+ */
+public class ExprRowValue extends AbstractExprValue {
+
+  @Getter
+  private final RowSchema schema;
+
+  private final ExprValue[] values;
+
+  /**
+   * Constructor of ExprRowValue. The values array is owned by the row and must not be modified
+   * once the row is created.
+   *
+   * @param schema schema of the row
+   * @param values field values by slot index, null if the field is absent
+   */
+  public ExprRowValue(RowSchema schema, ExprValue[] values) {
+    if (schema.size() != values.length) {
+      throw new IllegalArgumentException(String.format(
+          "expect %d values in row, but got %d", schema.size(), values.length));
+    }
+    this.schema = schema;
+    this.values = values;
+  }
+
+  /**
+   * Value in the slot, or missing if the field is absent or the slot is not in the schema.
+   */
+  public ExprValue slotValue(int index) {
+    ExprValue value = (index < 0) ? null : values[index];
+    return (value == null) ? ExprMissingValue.of() : value;
+  }
+
+  /**
+   * Copy of the field values, which is extended with null slots if length is greater than the
+   * size of schema.
+   */
+  public ExprValue[] copyValues(int length) {
+    ExprValue[] copy = new ExprValue[length];
+    System.arraycopy(values, 0, copy, 0, Math.min(length, values.length));
+    return copy;
+  }
+
+  @Override
+  public Object value() {
+    LinkedHashMap<String, Object> resultMap = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        resultMap.put(schema.name(i), values[i].value());
+      }
+    }
+    return resultMap;
+  }
+
+  @Override
+  public ExprType type() {
+    return ExprCoreType.STRUCT;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(",", "{", "}");
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        joiner.add(String.format("%s:%s", schema.name(i), values[i]));
+      }
+    }
+    return joiner.toString();
+  }
+
+  @Override
+  public BindingTuple bindingTuples() {
+    return new LazyBindingTuple(() -> this);
+  }
+
+  /**
+   * Build the map of fields present in the row in the order of schema.
+   */
+  @Override
+  public Map<String, ExprValue> tupleValue() {
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        valueMap.put(schema.name(i), values[i]);
+      }
+    }
+    return valueMap;
+  }
+
+  @Override
+  public ExprValue keyValue(String key) {
+    return slotValue(schema.indexOf(key));
+  }
+
+  /**
+   * Equal to any row or tuple of the same fields in the same order.
+   */
+  @Override
+  public boolean equal(ExprValue o) {
+    return (o instanceof ExprRowValue || o instanceof ExprTupleValue)
+        && ExprTupleValue.equalFields(tupleValue(), o.tupleValue());
+  }
+
+  /**
+   * Only compare the size of the map.
+   */
+  @Override
+  public int compare(ExprValue other) {
+    return Integer.compare(tupleValue().size(), other.tupleValue().size());
+  }
+
+  /**
+   * Same as the hash code of the map of its fields without building the map.
+   */
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        hash += schema.name(i).hashCode() ^ values[i].hashCode();
+      }
+    }
+    return hash;
+  }
+}
@@ -89,26 +89,29 @@ public class ExprTupleValue extends AbstractExprValue {
   }
 
   /**
-   * Override the equals method.
+   * Override the equals method. Tuple is equal to the {@link ExprRowValue} of the same fields.
    * @return true for equal, otherwise false.
    */
   public boolean equal(ExprValue o) {
-    if (!(o instanceof ExprTupleValue)) {
-      return false;
-    } else {
-      ExprTupleValue other = (ExprTupleValue) o;
-      Iterator<Entry<String, ExprValue>> thisIterator = this.valueMap.entrySet().iterator();
-      Iterator<Entry<String, ExprValue>> otherIterator = other.valueMap.entrySet().iterator();
-      while (thisIterator.hasNext() && otherIterator.hasNext()) {
-        Entry<String, ExprValue> thisEntry = thisIterator.next();
-        Entry<String, ExprValue> otherEntry = otherIterator.next();
-        if (!(thisEntry.getKey().equals(otherEntry.getKey())
-            && thisEntry.getValue().equals(otherEntry.getValue()))) {
-          return false;
-        }
+    return (o instanceof ExprTupleValue || o instanceof ExprRowValue)
+        && equalFields(valueMap, o.tupleValue());
+  }
+
+  /**
+   * Compare the fields of two tuples in order.
+   */
+  static boolean equalFields(Map<String, ExprValue> thisMap, Map<String, ExprValue> otherMap) {
+    Iterator<Entry<String, ExprValue>> thisIterator = thisMap.entrySet().iterator();
+    Iterator<Entry<String, ExprValue>> otherIterator = otherMap.entrySet().iterator();
+    while (thisIterator.hasNext() && otherIterator.hasNext()) {
+      Entry<String, ExprValue> thisEntry = thisIterator.next();
+      Entry<String, ExprValue> otherEntry = otherIterator.next();
+      if (!(thisEntry.getKey().equals(otherEntry.getKey())
+          && thisEntry.getValue().equals(otherEntry.getValue()))) {
+        return false;
       }
-      return !(thisIterator.hasNext() || otherIterator.hasNext());
     }
+    return !(thisIterator.hasNext() || otherIterator.hasNext());
   }
 
   /**
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema shared by all {@link ExprRowValue} produced by the same operator or scan. It's created
+ * once at plan time, so the slot index of a field is looked up only once for all rows in the
+ * same schema.
+ */
+public class RowSchema implements Serializable {
+  private final String[] names;
+  private final Map<String, Integer> indexes;
+
+  private RowSchema(String[] names) {
+    this.names = names;
+    this.indexes = new HashMap<>(names.length * 4 / 3 + 1);
+    for (int i = 0; i < names.length; i++) {
+      if (indexes.put(names[i], i) != null) {
+        throw new IllegalArgumentException(
+            String.format("Multiple entries with same key: %s", names[i]));
+      }
+    }
+  }
+
+  /**
+   * Create schema of the field names in order. Exception is thrown if any name is duplicate.
+   */
+  public static RowSchema of(Collection<String> names) {
+    return new RowSchema(names.toArray(new String[0]));
+  }
+
+  /**
+   * Create schema of the fields in this schema followed by the new names not in this schema.
+   */
+  public RowSchema extend(Collection<String> newNames) {
+    List<String> result = new ArrayList<>(names.length + newNames.size());
+    for (String name : names) {
+      result.add(name);
+    }
+    for (String name : newNames) {
+      if (!indexes.containsKey(name) && !result.contains(name)) {
+        result.add(name);
+      }
+    }
+    return of(result);
+  }
+
+  /**
+   * Number of fields.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Field name of the slot.
+   */
+  public String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * Slot index of the field, or -1 if the field is not in this schema.
+   */
+  public int indexOf(String name) {
+    Integer index = indexes.get(name);
+    return (index == null) ? -1 : index;
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Compact binary encoding of {@link ExprValue} used to spill intermediate results to disk.
+ * Each value is written as a one byte tag followed by its payload. Value class from storage
+ * engine, ex. OpenSearch text or geo point, is encoded by the {@link StorageValueCodec}
+ * registered for it, and only falls back to Java serialization if none registered, so the
+ * exact value class is preserved after decoding.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte DATETIME = 12;
+  private static final byte TIMESTAMP = 13;
+  private static final byte TUPLE = 14;
+  private static final byte ARRAY = 15;
+  private static final byte SERIALIZED = 16;
+  private static final byte STORAGE = 17;
+
+  /**
+   * Codecs registered by storage engine. The index of a codec in the list is written after
+   * {@link #STORAGE} tag, so storage engine must register its codecs in a fixed order.
+   */
+  private static final List<StorageValueCodec<?>> STORAGE_CODECS = new CopyOnWriteArrayList<>();
+
+  private static final Map<Class<?>, Integer> STORAGE_CODEC_IDS = new ConcurrentHashMap<>();
+
+  /**
+   * Encoding of value class from storage engine.
+   *
+   * @param <T> value class
+   */
+  public interface StorageValueCodec<T extends ExprValue> {
+
+    /**
+     * Value class encoded by this codec.
+     */
+    Class<T> valueClass();
+
+    /**
+     * Encode payload of the value.
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Decode the value from payload.
+     */
+    T read(DataInput in) throws IOException;
+  }
+
+  /**
+   * Register codec of value class from storage engine. Codec of the class registered already
+   * is ignored.
+   *
+   * @param codec codec of value class
+   */
+  public static synchronized void register(StorageValueCodec<?> codec) {
+    if (!STORAGE_CODEC_IDS.containsKey(codec.valueClass())) {
+      STORAGE_CODECS.add(codec);
+      STORAGE_CODEC_IDS.put(codec.valueClass(), STORAGE_CODECS.size() - 1);
+    }
+  }
+
+  /**
+   * Encode value to the output.
+   *
+   * @param out   data output
+   * @param value expression value
+   */
+  public static void write(DataOutput out, ExprValue value) throws IOException {
+    Class<?> clazz = value.getClass();
+    if (value.isNull()) {
+      out.writeByte(NULL);
+    } else if (value.isMissing()) {
+      out.writeByte(MISSING);
+    } else if (clazz == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (clazz == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (clazz == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (clazz == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (clazz == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (clazz == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (clazz == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (clazz == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(out, value.stringValue());
+    } else if (clazz == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (clazz == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (clazz == ExprDatetimeValue.class) {
+      out.writeByte(DATETIME);
+      LocalDateTime datetime = value.datetimeValue();
+      out.writeLong(datetime.toLocalDate().toEpochDay());
+      out.writeLong(datetime.toLocalTime().toNanoOfDay());
+    } else if (clazz == ExprTimestampValue.class) {
+      out.writeByte(TIMESTAMP);
+      Instant timestamp = value.timestampValue();
+      out.writeLong(timestamp.getEpochSecond());
+      out.writeInt(timestamp.getNano());
+    } else if (clazz == ExprTupleValue.class || clazz == ExprRowValue.class) {
+      out.writeByte(TUPLE);
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(out, entry.getKey());
+        write(out, entry.getValue());
+      }
+    } else if (clazz == ExprCollectionValue.class) {
+      out.writeByte(ARRAY);
+      List<ExprValue> collection = value.collectionValue();
+      out.writeInt(collection.size());
+      for (ExprValue item : collection) {
+        write(out, item);
+      }
+    } else if (STORAGE_CODEC_IDS.containsKey(clazz)) {
+      int id = STORAGE_CODEC_IDS.get(clazz);
+      out.writeByte(STORAGE);
+      out.writeByte(id);
+      writeStorageValue(out, STORAGE_CODECS.get(id), value);
+    } else {
+      out.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Decode next value from the input.
+   *
+   * @param in  data input
+   * @return    expression value
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case DATETIME:
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        return new ExprDatetimeValue(LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong())));
+      case TIMESTAMP:
+        long seconds = in.readLong();
+        return new ExprTimestampValue(Instant.ofEpochSecond(seconds, in.readInt()));
+      case TUPLE:
+        int tupleSize = in.readInt();
+        LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+        for (int i = 0; i < tupleSize; i++) {
+          String key = readString(in);
+          tuple.put(key, read(in));
+        }
+        return new ExprTupleValue(tuple);
+      case ARRAY:
+        int arraySize = in.readInt();
+        List<ExprValue> collection = new ArrayList<>(arraySize);
+        for (int i = 0; i < arraySize; i++) {
+          collection.add(read(in));
+        }
+        return new ExprCollectionValue(collection);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectInput =
+                 new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (ExprValue) objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IllegalStateException("Failed to deserialize expression value", e);
+        }
+      case STORAGE:
+        return STORAGE_CODECS.get(in.readByte()).read(in);
+      default:
+        throw new IllegalStateException("Unknown expression value tag: " + tag);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends ExprValue> void writeStorageValue(
+      DataOutput out, StorageValueCodec<T> codec, ExprValue value) throws IOException {
+    codec.write(out, (T) value);
+  }
+
+  /**
+   * String is written as UTF-8 bytes with length because {@link DataOutput#writeUTF} is
+   * limited to 64KB.
+   */
+  private static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -27,6 +27,7 @@
 
 package org.opensearch.sql.executor;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -50,6 +51,34 @@ public interface ExecutionEngine {
    */
   void execute(PhysicalPlan plan, ResponseListener<QueryResponse> listener);
 
+  /**
+   * Execute physical plan and call back response listener with the rows not pulled from the plan
+   * yet, so that each row is consumed as soon as the plan produces it rather than after all rows
+   * are collected. The listener is called on the thread executing the plan and must consume the
+   * rows before it returns, after which the plan is closed. Any failure while pulling a row is
+   * thrown by the iterator to the listener. By default, the plan is executed by
+   * {@link ExecutionEngine#execute(PhysicalPlan, ResponseListener)} and the rows collected are
+   * iterated.
+   *
+   * @param plan     executable physical plan
+   * @param listener response listener
+   */
+  default void executeStream(PhysicalPlan plan,
+                             ResponseListener<StreamingQueryResponse> listener) {
+    execute(plan, new ResponseListener<QueryResponse>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+        listener.onResponse(new StreamingQueryResponse(
+            response.getSchema(), response.getResults().iterator()));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    });
+  }
+
   /**
    * Explain physical plan and call back response listener. The reason why this has to
    * be part of execution engine interface is that the physical plan probably needs to
@@ -69,6 +98,15 @@ public interface ExecutionEngine {
     private final List<ExprValue> results;
   }
 
+  /**
+   * Data class that encapsulates the rows pulled from the plan one by one while iterated.
+   */
+  @Data
+  class StreamingQueryResponse {
+    private final Schema schema;
+    private final Iterator<ExprValue> results;
+  }
+
   @Data
   class Schema {
     private final List<Column> columns;
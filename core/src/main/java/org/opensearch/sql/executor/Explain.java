@@ -35,10 +35,13 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
@@ -51,6 +54,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -100,10 +104,8 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "function", node.getWindowFunction().toString(),
-        "definition", ImmutableMap.of(
-            "partitionBy", node.getWindowDefinition().getPartitionByList().toString(),
-            "sortList", describeSortList(node.getWindowDefinition().getSortList())))));
+        "functions", node.getWindowFunctions().toString(),
+        "definition", describeWindowDefinition(node.getWindowDefinition()))));
   }
 
   @Override
@@ -163,6 +165,13 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         "limit", node.getLimit(), "offset", node.getOffset())));
   }
 
+  @Override
+  public ExplainResponseNode visitTopN(TopNOperator node, Object context) {
+    return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
+        "sortList", describeSortList(node.getSortList()),
+        "limit", node.getLimit(), "offset", node.getOffset())));
+  }
+
   protected ExplainResponseNode explain(PhysicalPlan node, Object context,
                                         Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
@@ -188,6 +197,26 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                     p -> p.getRight().toString()));
   }
 
+  private Map<String, Object> describeWindowDefinition(WindowDefinition definition) {
+    ImmutableMap.Builder<String, Object> description = ImmutableMap.<String, Object>builder()
+        .put("partitionBy", definition.getPartitionByList().toString())
+        .put("sortList", describeSortList(definition.getSortList()));
+    if (definition.getFrame() != null) {
+      description.put("frame", describeFrame(definition.getFrame()));
+    }
+    return description.build();
+  }
+
+  private String describeFrame(FrameDefinition frame) {
+    return String.format("%s BETWEEN %s AND %s",
+        frame.getType(), describeFrameBound(frame.getStart()), describeFrameBound(frame.getEnd()));
+  }
+
+  private String describeFrameBound(FrameBound bound) {
+    String type = bound.getType().toString().replace('_', ' ');
+    return bound.hasOffset() ? (bound.getOffset() + " " + type) : type;
+  }
+
   private Map<String, Map<String, String>> describeSortList(
       List<Pair<Sort.SortOption, Expression>> sortList) {
     return sortList.stream()
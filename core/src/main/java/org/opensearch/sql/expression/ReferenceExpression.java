@@ -33,8 +33,10 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
 
@@ -49,6 +51,13 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /**
+   * Slots of this reference in the schema of the rows resolved last time. Schema is shared by
+   * all rows from the same operator, so the slots are looked up once rather than for each row.
+   */
+  @EqualsAndHashCode.Exclude
+  private transient Slots slots;
+
   /**
    * Constructor of ReferenceExpression.
    * @param ref the field name. e.g. addr.state/addr.
@@ -112,19 +121,56 @@ public class ReferenceExpression implements Expression {
    * 1. Resolve the full name by combine the paths("x"."y"."z") as whole ("x.y.z").
    * 2. Resolve the path recursively through ExprValue.
    *
-   * @param value {@link ExprTupleValue}.
-   * @return {@link ExprTupleValue}.
+   * <p>The {@link ExprRowValue} is resolved by the same rule with slot index of the full name and
+   * the first path bound to its schema.
+   *
+   * @param value {@link ExprTupleValue} or {@link ExprRowValue}.
+   * @return {@link ExprValue}.
    */
-  public ExprValue resolve(ExprTupleValue value) {
+  public ExprValue resolve(ExprValue value) {
+    if (value instanceof ExprRowValue) {
+      return resolve((ExprRowValue) value);
+    }
     return resolve(value, paths);
   }
 
+  private ExprValue resolve(ExprRowValue row) {
+    Slots bound = slots;
+    if (bound == null || bound.schema != row.getSchema()) {
+      bound = new Slots(row.getSchema(), paths);
+      slots = bound;
+    }
+    final ExprValue wholePathValue = row.slotValue(bound.wholePathIndex);
+    if (!wholePathValue.isMissing() || paths.size() == 1) {
+      return wholePathValue;
+    } else {
+      return resolve(row.slotValue(bound.firstPathIndex), paths.subList(1, paths.size()));
+    }
+  }
+
   private ExprValue resolve(ExprValue value, List<String> paths) {
-    final ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
+    // Single path is the common case, look it up directly without joining string
+    final String wholePath = paths.size() == 1 ? paths.get(0) : String.join(PATH_SEP, paths);
+    final ExprValue wholePathValue = value.keyValue(wholePath);
     if (!wholePathValue.isMissing() || paths.size() == 1) {
       return wholePathValue;
     } else {
       return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
     }
   }
+
+  /**
+   * Slot index of the full name and the first path in the schema.
+   */
+  private static class Slots {
+    private final RowSchema schema;
+    private final int wholePathIndex;
+    private final int firstPathIndex;
+
+    Slots(RowSchema schema, List<String> paths) {
+      this.schema = schema;
+      this.wholePathIndex = schema.indexOf(String.join(PATH_SEP, paths));
+      this.firstPathIndex = schema.indexOf(paths.get(0));
+    }
+  }
 }
@@ -99,6 +99,52 @@ public abstract class Aggregator<S extends AggregationState>
     return iterate(value, state);
   }
 
+  /**
+   * Check if the aggregator supports removing values from {@link AggregationState} in the same
+   * order as they were iterated. This allows sliding window frame to aggregate incrementally
+   * rather than iterate all rows in the frame again once any row removed.
+   *
+   * @return true if removal supported
+   */
+  public boolean isRemovable() {
+    return false;
+  }
+
+  /**
+   * Create an {@link AggregationState} that supports removal. By default, it's same as the one
+   * created by {@link #create()}.
+   */
+  public S createRemovable() {
+    return create();
+  }
+
+  /**
+   * Remove {@link ExprValue} which is the earliest value iterated and not removed yet.
+   * @param value {@link ExprValue}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  protected S remove(ExprValue value, S state) {
+    throw new ExpressionEvaluationException(
+        String.format("can't remove value from aggregator: %s", functionName));
+  }
+
+  /**
+   * Let the aggregator remove the {@link BindingTuple} iterated before. The ExprValues filtered
+   * out by {@link #iterate(BindingTuple, AggregationState)} are skipped here in the same way.
+   *
+   * @param tuple {@link BindingTuple}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  public S remove(BindingTuple tuple, S state) {
+    ExprValue value = getArguments().get(0).valueOf(tuple);
+    if (value.isNull() || value.isMissing() || !conditionValue(tuple)) {
+      return state;
+    }
+    return remove(value, state);
+  }
+
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
     throw new ExpressionEvaluationException(
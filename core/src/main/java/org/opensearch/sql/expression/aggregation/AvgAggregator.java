@@ -59,6 +59,18 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected AvgState remove(ExprValue value, AvgState state) {
+    state.count--;
+    state.total -= ExprValueUtils.getDoubleValue(value);
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
@@ -68,7 +80,7 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
    * Average State.
    */
   protected static class AvgState implements AggregationState {
-    private int count;
+    private long count;
     private double total;
 
     AvgState() {
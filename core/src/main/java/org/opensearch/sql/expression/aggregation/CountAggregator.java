@@ -56,6 +56,20 @@ public class CountAggregator extends Aggregator<CountState> {
     return state;
   }
 
+  /**
+   * Distinct count is not removable because occurrences of each distinct value are not tracked.
+   */
+  @Override
+  public boolean isRemovable() {
+    return !distinct;
+  }
+
+  @Override
+  protected CountState remove(ExprValue value, CountState state) {
+    state.count--;
+    return state;
+  }
+
   @Override
   public String toString() {
     return distinct
@@ -29,6 +29,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import java.util.Comparator;
 import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -52,6 +53,22 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  public MaxState createRemovable() {
+    return new RemovableMaxState();
+  }
+
+  @Override
+  protected MaxState remove(ExprValue value, MaxState state) {
+    ((RemovableMaxState) state).deque.removeFirst();
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("max(%s)", format(getArguments()));
@@ -75,4 +92,21 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
       return maxResult;
     }
   }
+
+  /**
+   * Maximum state that supports removal by keeping values in a monotonic deque.
+   */
+  protected static class RemovableMaxState extends MaxState {
+    private final MonotonicDeque deque = new MonotonicDeque(Comparator.reverseOrder());
+
+    @Override
+    public void max(ExprValue value) {
+      deque.add(value);
+    }
+
+    @Override
+    public ExprValue result() {
+      return deque.first();
+    }
+  }
 }
@@ -29,6 +29,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import java.util.Comparator;
 import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -57,6 +58,22 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  public MinState createRemovable() {
+    return new RemovableMinState();
+  }
+
+  @Override
+  protected MinState remove(ExprValue value, MinState state) {
+    ((RemovableMinState) state).deque.removeFirst();
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("min(%s)", format(getArguments()));
@@ -80,4 +97,21 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
       return minResult;
     }
   }
+
+  /**
+   * Minimum state that supports removal by keeping values in a monotonic deque.
+   */
+  protected static class RemovableMinState extends MinState {
+    private final MonotonicDeque deque = new MonotonicDeque(Comparator.naturalOrder());
+
+    @Override
+    public void min(ExprValue value) {
+      deque.add(value);
+    }
+
+    @Override
+    public ExprValue result() {
+      return deque.first();
+    }
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Monotonic deque that maintains minimum (or maximum by reversed comparator) of values in a
+ * sliding window in amortized O(1) time. Values are added to the end and removed from the front
+ * in the same order. Any value followed by a smaller one can never be the minimum again before
+ * removed, so it is dropped right away and the values in deque are always in ascending order.
+ */
+@RequiredArgsConstructor
+class MonotonicDeque {
+
+  private final Comparator<ExprValue> comparator;
+
+  private final Deque<Entry> entries = new ArrayDeque<>();
+
+  /**
+   * Total number of values added and removed which is used as sequence number of value.
+   */
+  private long added;
+  private long removed;
+
+  public void add(ExprValue value) {
+    while (!entries.isEmpty() && comparator.compare(entries.peekLast().value, value) >= 0) {
+      entries.pollLast();
+    }
+    entries.addLast(new Entry(added++, value));
+  }
+
+  /**
+   * Remove the earliest value added. Do nothing if it is dropped already.
+   */
+  public void removeFirst() {
+    if (entries.peekFirst().sequence == removed) {
+      entries.pollFirst();
+    }
+    removed++;
+  }
+
+  /**
+   * Get minimum value in the sliding window.
+   * @return minimum value or null if no value
+   */
+  public ExprValue first() {
+    return entries.isEmpty() ? LITERAL_NULL : entries.peekFirst().value;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final long sequence;
+    private final ExprValue value;
+  }
+}
@@ -16,7 +16,6 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.math3.stat.descriptive.moment.StandardDeviation;
 import org.opensearch.sql.common.utils.StringUtils;
@@ -90,21 +89,19 @@ public class StdDevAggregator extends Aggregator<StdDevAggregator.StdDevState> {
 
     private final StandardDeviation standardDeviation;
 
-    private final List<Double> values = new ArrayList<>();
-
     public StdDevState(boolean isSampleStdDev) {
       this.standardDeviation = new StandardDeviation(isSampleStdDev);
     }
 
     public void evaluate(ExprValue value) {
-      values.add(value.doubleValue());
+      standardDeviation.increment(value.doubleValue());
     }
 
     @Override
     public ExprValue result() {
-      return values.size() == 0
+      return standardDeviation.getN() == 0
           ? ExprNullValue.of()
-          : doubleValue(standardDeviation.evaluate(values.stream().mapToDouble(d -> d).toArray()));
+          : doubleValue(standardDeviation.getResult());
     }
   }
 }
@@ -40,7 +40,6 @@ import java.util.List;
 import java.util.Locale;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
@@ -64,47 +63,89 @@ public class SumAggregator extends Aggregator<SumState> {
 
   @Override
   protected SumState iterate(ExprValue value, SumState state) {
-    state.isEmptyCollection = false;
+    state.count++;
     state.add(value);
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected SumState remove(ExprValue value, SumState state) {
+    state.count--;
+    state.subtract(value);
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "sum(%s)", format(getArguments()));
   }
 
   /**
-   * Sum State.
+   * Sum State. The sum is accumulated in primitive of the return type to avoid creating an
+   * {@link ExprValue} for each row.
    */
   protected static class SumState implements AggregationState {
 
     private final ExprCoreType type;
-    private ExprValue sumResult;
-    private boolean isEmptyCollection;
+    private int intSum;
+    private long longSum;
+    private float floatSum;
+    private double doubleSum;
+
+    /**
+     * Number of values in the sum which is used to tell if the collection is empty.
+     */
+    private long count;
 
     SumState(ExprCoreType type) {
       this.type = type;
-      sumResult = ExprValueUtils.integerValue(0);
-      isEmptyCollection = true;
+      count = 0;
     }
 
     /**
-     * Add value to current sumResult.
+     * Add value to current sum.
      */
     public void add(ExprValue value) {
       switch (type) {
         case INTEGER:
-          sumResult = integerValue(getIntegerValue(sumResult) + getIntegerValue(value));
+          intSum += getIntegerValue(value);
+          break;
+        case LONG:
+          longSum += getLongValue(value);
+          break;
+        case FLOAT:
+          floatSum += getFloatValue(value);
+          break;
+        case DOUBLE:
+          doubleSum += getDoubleValue(value);
+          break;
+        default:
+          throw new ExpressionEvaluationException(
+              String.format("unexpected type [%s] in sum aggregation", type));
+      }
+    }
+
+    /**
+     * Subtract value from current sum.
+     */
+    public void subtract(ExprValue value) {
+      switch (type) {
+        case INTEGER:
+          intSum -= getIntegerValue(value);
           break;
         case LONG:
-          sumResult = longValue(getLongValue(sumResult) + getLongValue(value));
+          longSum -= getLongValue(value);
           break;
         case FLOAT:
-          sumResult = floatValue(getFloatValue(sumResult) + getFloatValue(value));
+          floatSum -= getFloatValue(value);
           break;
         case DOUBLE:
-          sumResult = doubleValue(getDoubleValue(sumResult) + getDoubleValue(value));
+          doubleSum -= getDoubleValue(value);
           break;
         default:
           throw new ExpressionEvaluationException(
@@ -114,7 +155,19 @@ public class SumAggregator extends Aggregator<SumState> {
 
     @Override
     public ExprValue result() {
-      return isEmptyCollection ? ExprNullValue.of() : sumResult;
+      if (count == 0) {
+        return ExprNullValue.of();
+      }
+      switch (type) {
+        case INTEGER:
+          return integerValue(intSum);
+        case LONG:
+          return longValue(longSum);
+        case FLOAT:
+          return floatValue(floatSum);
+        default:
+          return doubleValue(doubleSum);
+      }
     }
   }
 }
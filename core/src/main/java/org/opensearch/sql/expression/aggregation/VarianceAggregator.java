@@ -16,7 +16,6 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
 import org.opensearch.sql.common.utils.StringUtils;
@@ -89,21 +88,19 @@ public class VarianceAggregator extends Aggregator<VarianceAggregator.VarianceSt
 
     private final Variance variance;
 
-    private final List<Double> values = new ArrayList<>();
-
     public VarianceState(boolean isSampleVariance) {
       this.variance = new Variance(isSampleVariance);
     }
 
     public void evaluate(ExprValue value) {
-      values.add(value.doubleValue());
+      variance.increment(value.doubleValue());
     }
 
     @Override
     public ExprValue result() {
-      return values.size() == 0
+      return variance.getN() == 0
           ? ExprNullValue.of()
-          : doubleValue(variance.evaluate(values.stream().mapToDouble(d -> d).toArray()));
+          : doubleValue(variance.getResult());
     }
   }
 }
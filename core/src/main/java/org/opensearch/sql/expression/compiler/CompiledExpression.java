@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression compiled by {@link ExpressionCompiler}, which is evaluated to the same value as the
+ * expression it's compiled from.
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+  /**
+   * Evaluate the compiled expression in the value environment.
+   *
+   * @param valueEnv value environment
+   * @return expression value
+   */
+  ExprValue valueOf(Environment<Expression, ExprValue> valueEnv);
+}
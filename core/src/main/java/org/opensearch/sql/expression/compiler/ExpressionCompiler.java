@@ -0,0 +1,553 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
+import org.opensearch.sql.planner.physical.vector.ColumnVector;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Expression compiler which turns an expression tree into a tree of evaluators specialized for
+ * the function and type of each node. Arithmetic function of INTEGER, LONG or DOUBLE, comparison
+ * of two INTEGER, LONG or DOUBLE values, AND, OR and NOT are evaluated on primitive values. The
+ * null and missing value is tracked in the {@link Frame} of current evaluation rather than boxing
+ * each intermediate result into an {@link ExprValue} and going through the generic function
+ * implementation. Any other expression in the tree, for example reference or other function, is
+ * evaluated by the interpreter as a leaf.
+ *
+ * <p>Evaluators are composed from lambdas which only capture the original expressions and
+ * operators, so the compiled expression behaves the same as the expression it's compiled from,
+ * including the null and missing handling and arithmetic exception.
+ *
+ * <p>Filter condition can also be compiled into a {@link VectorPredicate} on {@link ColumnBatch},
+ * which compares a field with a literal or another field in a loop over {@link ColumnVector}.
+ */
+@UtilityClass
+public class ExpressionCompiler {
+
+  /**
+   * Evaluation state if the value evaluated is neither null nor missing.
+   */
+  private static final int VALUE = 0;
+
+  /**
+   * Evaluation state if the value evaluated is null.
+   */
+  private static final int NULL = 1;
+
+  /**
+   * Evaluation state if the value evaluated is missing, which takes precedence over null.
+   */
+  private static final int MISSING = 2;
+
+  private static final Set<ExprType> COMPILED_TYPES = ImmutableSet.of(INTEGER, LONG, DOUBLE);
+
+  private static final Set<FunctionName> ARITHMETIC_FUNCTIONS = ImmutableSet.of(
+      BuiltinFunctionName.ADD.getName(),
+      BuiltinFunctionName.SUBTRACT.getName(),
+      BuiltinFunctionName.MULTIPLY.getName(),
+      BuiltinFunctionName.DIVIDE.getName(),
+      BuiltinFunctionName.MODULES.getName());
+
+  private static final Set<FunctionName> COMPARISON_FUNCTIONS = ImmutableSet.of(
+      BuiltinFunctionName.EQUAL.getName(),
+      BuiltinFunctionName.NOTEQUAL.getName(),
+      BuiltinFunctionName.LESS.getName(),
+      BuiltinFunctionName.LTE.getName(),
+      BuiltinFunctionName.GREATER.getName(),
+      BuiltinFunctionName.GTE.getName());
+
+  private static final Set<FunctionName> LOGICAL_FUNCTIONS = ImmutableSet.of(
+      BuiltinFunctionName.AND.getName(),
+      BuiltinFunctionName.OR.getName(),
+      BuiltinFunctionName.NOT.getName());
+
+  /**
+   * Compile the expression. The expression is evaluated by interpreter as is if its root is not
+   * a function that can be compiled.
+   *
+   * @param expression expression to compile
+   * @return compiled expression
+   */
+  public static CompiledExpression compile(Expression expression) {
+    if ((isFunctionOf(expression, COMPARISON_FUNCTIONS) && isComparedByPrimitive(expression))
+        || isFunctionOf(expression, LOGICAL_FUNCTIONS)) {
+      Predicate<Frame> evaluator = compileBoolean(expression);
+      return valueEnv -> {
+        Frame frame = new Frame(valueEnv);
+        boolean result = evaluator.test(frame);
+        return (frame.state == VALUE) ? ExprBooleanValue.of(result) : frame.nullOrMissing();
+      };
+    } else if (isArithmetic(expression) && expression.type() == DOUBLE) {
+      ToDoubleFunction<Frame> evaluator = compileDouble(expression);
+      return valueEnv -> {
+        Frame frame = new Frame(valueEnv);
+        double result = evaluator.applyAsDouble(frame);
+        return (frame.state == VALUE) ? new ExprDoubleValue(result) : frame.nullOrMissing();
+      };
+    } else if (isArithmetic(expression)) {
+      ToLongFunction<Frame> evaluator = compileLong(expression);
+      boolean isInteger = (expression.type() == INTEGER);
+      return valueEnv -> {
+        Frame frame = new Frame(valueEnv);
+        long result = evaluator.applyAsLong(frame);
+        if (frame.state != VALUE) {
+          return frame.nullOrMissing();
+        }
+        return isInteger ? new ExprIntegerValue((int) result) : new ExprLongValue(result);
+      };
+    }
+    return expression::valueOf;
+  }
+
+  /**
+   * Compile the filter condition into a predicate on column batch. Comparison of a field of
+   * INTEGER, LONG or DOUBLE type with a literal or another field of the same type is evaluated on
+   * the column vector of the field. The arguments of AND narrow the selection one after another,
+   * so the second argument is only evaluated on the rows selected by the first one. Any other
+   * condition is compiled by {@link ExpressionCompiler#compile(Expression)} and evaluated on each
+   * selected row.
+   *
+   * @param condition filter condition
+   * @return predicate on column batch
+   */
+  public static VectorPredicate compilePredicate(Expression condition) {
+    if (isFunctionOf(condition, LOGICAL_FUNCTIONS) && ((FunctionExpression) condition)
+        .getFunctionName().equals(BuiltinFunctionName.AND.getName())) {
+      List<Expression> arguments = ((FunctionExpression) condition).getArguments();
+      VectorPredicate left = compilePredicate(arguments.get(0));
+      VectorPredicate right = compilePredicate(arguments.get(1));
+      return batch -> {
+        left.filter(batch);
+        right.filter(batch);
+      };
+    } else if (isFunctionOf(condition, COMPARISON_FUNCTIONS)
+        && isComparedByPrimitive(condition)) {
+      FunctionExpression function = (FunctionExpression) condition;
+      IntPredicate test = comparisonTest(function.getFunctionName());
+      Expression left = function.getArguments().get(0);
+      Expression right = function.getArguments().get(1);
+      if (left instanceof ReferenceExpression
+          && (right instanceof ReferenceExpression || right instanceof LiteralExpression)) {
+        return compileVectorComparison((ReferenceExpression) left, right, test);
+      } else if (left instanceof LiteralExpression && right instanceof ReferenceExpression) {
+        return compileVectorComparison((ReferenceExpression) right, left,
+            result -> test.test(-result));
+      }
+    }
+
+    CompiledExpression compiled = compile(condition);
+    return batch -> {
+      int[] selection = batch.selection();
+      int size = 0;
+      for (int i = 0; i < batch.size(); i++) {
+        ExprValue value = compiled.valueOf(batch.row(selection[i]).bindingTuples());
+        if (!(value.isNull() || value.isMissing()) && value.booleanValue()) {
+          selection[size++] = selection[i];
+        }
+      }
+      batch.select(size);
+    };
+  }
+
+  /**
+   * Compile comparison of the field with a literal or another field of the same type, whose
+   * result is tested by the predicate. Rows whose value of either side is null or missing are
+   * filtered out, because the comparison is evaluated to null or missing.
+   */
+  private static VectorPredicate compileVectorComparison(ReferenceExpression left,
+                                                         Expression right, IntPredicate test) {
+    boolean isDouble = (left.type() == DOUBLE);
+    if (right instanceof LiteralExpression) {
+      ExprValue literal = right.valueOf(BindingTuple.EMPTY);
+      if (isDouble) {
+        double constant = literal.doubleValue();
+        return batch -> {
+          ColumnVector vector = batch.column(left);
+          double[] values = vector.doubleValues();
+          boolean[] nulls = vector.nulls();
+          int[] selection = batch.selection();
+          int size = 0;
+          for (int i = 0; i < batch.size(); i++) {
+            int row = selection[i];
+            if (!nulls[row] && test.test(Double.compare(values[row], constant))) {
+              selection[size++] = row;
+            }
+          }
+          batch.select(size);
+        };
+      }
+
+      long constant = literal.longValue();
+      return batch -> {
+        ColumnVector vector = batch.column(left);
+        long[] values = vector.longValues();
+        boolean[] nulls = vector.nulls();
+        int[] selection = batch.selection();
+        int size = 0;
+        for (int i = 0; i < batch.size(); i++) {
+          int row = selection[i];
+          if (!nulls[row] && test.test(Long.compare(values[row], constant))) {
+            selection[size++] = row;
+          }
+        }
+        batch.select(size);
+      };
+    }
+
+    ReferenceExpression rightField = (ReferenceExpression) right;
+    if (isDouble) {
+      return batch -> {
+        ColumnVector leftVector = batch.column(left);
+        ColumnVector rightVector = batch.column(rightField);
+        double[] leftValues = leftVector.doubleValues();
+        double[] rightValues = rightVector.doubleValues();
+        boolean[] leftNulls = leftVector.nulls();
+        boolean[] rightNulls = rightVector.nulls();
+        int[] selection = batch.selection();
+        int size = 0;
+        for (int i = 0; i < batch.size(); i++) {
+          int row = selection[i];
+          if (!leftNulls[row] && !rightNulls[row]
+              && test.test(Double.compare(leftValues[row], rightValues[row]))) {
+            selection[size++] = row;
+          }
+        }
+        batch.select(size);
+      };
+    }
+    return batch -> {
+      ColumnVector leftVector = batch.column(left);
+      ColumnVector rightVector = batch.column(rightField);
+      long[] leftValues = leftVector.longValues();
+      long[] rightValues = rightVector.longValues();
+      boolean[] leftNulls = leftVector.nulls();
+      boolean[] rightNulls = rightVector.nulls();
+      int[] selection = batch.selection();
+      int size = 0;
+      for (int i = 0; i < batch.size(); i++) {
+        int row = selection[i];
+        if (!leftNulls[row] && !rightNulls[row]
+            && test.test(Long.compare(leftValues[row], rightValues[row]))) {
+          selection[size++] = row;
+        }
+      }
+      batch.select(size);
+    };
+  }
+
+  private static Predicate<Frame> compileBoolean(Expression expression) {
+    if (isFunctionOf(expression, LOGICAL_FUNCTIONS)) {
+      return compileLogical((FunctionExpression) expression);
+    } else if (isFunctionOf(expression, COMPARISON_FUNCTIONS)
+        && isComparedByPrimitive(expression)) {
+      return compileComparison((FunctionExpression) expression);
+    }
+    return frame -> {
+      ExprValue value = frame.valueOf(expression);
+      return (frame.state == VALUE) && value.booleanValue();
+    };
+  }
+
+  /**
+   * Compile AND, OR and NOT by the logic defined in BinaryPredicateOperator and
+   * UnaryPredicateOperator. Both arguments of AND and OR are always evaluated as interpreter.
+   */
+  private static Predicate<Frame> compileLogical(FunctionExpression function) {
+    List<Expression> arguments = function.getArguments();
+    Predicate<Frame> left = compileBoolean(arguments.get(0));
+    if (function.getFunctionName().equals(BuiltinFunctionName.NOT.getName())) {
+      return frame -> !left.test(frame);
+    }
+
+    Predicate<Frame> right = compileBoolean(arguments.get(1));
+    if (function.getFunctionName().equals(BuiltinFunctionName.AND.getName())) {
+      return frame -> {
+        boolean leftValue = left.test(frame);
+        int leftState = frame.reset();
+        boolean rightValue = right.test(frame);
+        if ((leftState == VALUE && !leftValue) || (frame.state == VALUE && !rightValue)) {
+          frame.state = VALUE;
+          return false;
+        }
+        return frame.merge(leftState);
+      };
+    }
+    return frame -> {
+      boolean leftValue = left.test(frame);
+      int leftState = frame.reset();
+      boolean rightValue = right.test(frame);
+      if ((leftState == VALUE && leftValue) || (frame.state == VALUE && rightValue)) {
+        frame.state = VALUE;
+        return true;
+      }
+      // Unlike AND, null takes precedence over missing in OR
+      frame.state = (leftState == NULL || frame.state == NULL)
+          ? NULL : Math.max(leftState, frame.state);
+      return false;
+    };
+  }
+
+  /**
+   * Compile comparison of two values of the same INTEGER, LONG or DOUBLE type, which compares
+   * the same way as the compare and equal method of the value.
+   */
+  private static Predicate<Frame> compileComparison(FunctionExpression function) {
+    IntPredicate test = comparisonTest(function.getFunctionName());
+    Expression leftArg = function.getArguments().get(0);
+    Expression rightArg = function.getArguments().get(1);
+    if (leftArg.type() == DOUBLE) {
+      ToDoubleFunction<Frame> left = compileDouble(leftArg);
+      ToDoubleFunction<Frame> right = compileDouble(rightArg);
+      return frame -> {
+        double leftValue = left.applyAsDouble(frame);
+        int leftState = frame.reset();
+        double rightValue = right.applyAsDouble(frame);
+        return frame.merge(leftState) && test.test(Double.compare(leftValue, rightValue));
+      };
+    }
+
+    ToLongFunction<Frame> left = compileLong(leftArg);
+    ToLongFunction<Frame> right = compileLong(rightArg);
+    return frame -> {
+      long leftValue = left.applyAsLong(frame);
+      int leftState = frame.reset();
+      long rightValue = right.applyAsLong(frame);
+      return frame.merge(leftState) && test.test(Long.compare(leftValue, rightValue));
+    };
+  }
+
+  /**
+   * Compile expression whose value is read by {@link ExprValue#doubleValue()}.
+   */
+  private static ToDoubleFunction<Frame> compileDouble(Expression expression) {
+    if (!isArithmetic(expression)) {
+      return frame -> {
+        ExprValue value = frame.valueOf(expression);
+        return (frame.state == VALUE) ? value.doubleValue() : 0D;
+      };
+    } else if (expression.type() != DOUBLE) {
+      ToLongFunction<Frame> evaluator = compileLong(expression);
+      return evaluator::applyAsLong;
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    ToDoubleFunction<Frame> left = compileDouble(function.getArguments().get(0));
+    ToDoubleFunction<Frame> right = compileDouble(function.getArguments().get(1));
+    DoubleBinaryOperator operator = doubleOperator(function.getFunctionName());
+    boolean nullIfZero = isNullIfZero(function.getFunctionName());
+    return frame -> {
+      double leftValue = left.applyAsDouble(frame);
+      int leftState = frame.reset();
+      double rightValue = right.applyAsDouble(frame);
+      if (!frame.merge(leftState)) {
+        return 0D;
+      } else if (nullIfZero && rightValue == 0) {
+        frame.state = NULL;
+        return 0D;
+      }
+      return operator.applyAsDouble(leftValue, rightValue);
+    };
+  }
+
+  /**
+   * Compile expression whose value is read by {@link ExprValue#longValue()}, which is never an
+   * arithmetic of DOUBLE type because integral arithmetic and comparison only take integral
+   * arguments. Arithmetic of INTEGER type reads its arguments by {@link ExprValue#integerValue()}
+   * and produces a value within integer range.
+   */
+  private static ToLongFunction<Frame> compileLong(Expression expression) {
+    if (!isArithmetic(expression)) {
+      return frame -> {
+        ExprValue value = frame.valueOf(expression);
+        return (frame.state == VALUE) ? value.longValue() : 0L;
+      };
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    ToLongFunction<Frame> left = compileLong(function.getArguments().get(0));
+    ToLongFunction<Frame> right = compileLong(function.getArguments().get(1));
+    boolean isInteger = (function.type() == INTEGER);
+    LongBinaryOperator operator = longOperator(function.getFunctionName(), isInteger);
+    boolean nullIfZero = isNullIfZero(function.getFunctionName());
+    return frame -> {
+      long leftValue = left.applyAsLong(frame);
+      int leftState = frame.reset();
+      long rightValue = right.applyAsLong(frame);
+      if (!frame.merge(leftState)) {
+        return 0L;
+      }
+      if (isInteger) {
+        leftValue = (int) leftValue;
+        rightValue = (int) rightValue;
+      }
+      if (nullIfZero && rightValue == 0) {
+        frame.state = NULL;
+        return 0L;
+      }
+      return operator.applyAsLong(leftValue, rightValue);
+    };
+  }
+
+  /**
+   * Operator of the arithmetic function of DOUBLE type as in ArithmeticFunction.
+   */
+  private static DoubleBinaryOperator doubleOperator(FunctionName functionName) {
+    if (functionName.equals(BuiltinFunctionName.ADD.getName())) {
+      return (left, right) -> left + right;
+    } else if (functionName.equals(BuiltinFunctionName.SUBTRACT.getName())) {
+      return (left, right) -> left - right;
+    } else if (functionName.equals(BuiltinFunctionName.MULTIPLY.getName())) {
+      return (left, right) -> left * right;
+    } else if (functionName.equals(BuiltinFunctionName.DIVIDE.getName())) {
+      return (left, right) -> left / right;
+    }
+    return (left, right) -> left % right;
+  }
+
+  /**
+   * Operator of the arithmetic function of INTEGER or LONG type as in ArithmeticFunction. The
+   * arguments of INTEGER arithmetic are within integer range, so the exact long result is only
+   * checked for integer overflow.
+   */
+  private static LongBinaryOperator longOperator(FunctionName functionName, boolean isInteger) {
+    if (functionName.equals(BuiltinFunctionName.ADD.getName())) {
+      return isInteger ? (left, right) -> Math.toIntExact(left + right) : Math::addExact;
+    } else if (functionName.equals(BuiltinFunctionName.SUBTRACT.getName())) {
+      return isInteger ? (left, right) -> Math.toIntExact(left - right) : Math::subtractExact;
+    } else if (functionName.equals(BuiltinFunctionName.MULTIPLY.getName())) {
+      return isInteger ? (left, right) -> Math.toIntExact(left * right) : Math::multiplyExact;
+    } else if (functionName.equals(BuiltinFunctionName.DIVIDE.getName())) {
+      return isInteger ? (left, right) -> (int) (left / right) : (left, right) -> left / right;
+    }
+    return (left, right) -> left % right;
+  }
+
+  private static IntPredicate comparisonTest(FunctionName functionName) {
+    if (functionName.equals(BuiltinFunctionName.EQUAL.getName())) {
+      return result -> result == 0;
+    } else if (functionName.equals(BuiltinFunctionName.NOTEQUAL.getName())) {
+      return result -> result != 0;
+    } else if (functionName.equals(BuiltinFunctionName.LESS.getName())) {
+      return result -> result < 0;
+    } else if (functionName.equals(BuiltinFunctionName.LTE.getName())) {
+      return result -> result <= 0;
+    } else if (functionName.equals(BuiltinFunctionName.GREATER.getName())) {
+      return result -> result > 0;
+    }
+    return result -> result >= 0;
+  }
+
+  /**
+   * Division and modulus by zero returns null.
+   */
+  private static boolean isNullIfZero(FunctionName functionName) {
+    return functionName.equals(BuiltinFunctionName.DIVIDE.getName())
+        || functionName.equals(BuiltinFunctionName.MODULES.getName());
+  }
+
+  private static boolean isArithmetic(Expression expression) {
+    return isFunctionOf(expression, ARITHMETIC_FUNCTIONS)
+        && COMPILED_TYPES.contains(expression.type());
+  }
+
+  private static boolean isComparedByPrimitive(Expression expression) {
+    List<Expression> arguments = ((FunctionExpression) expression).getArguments();
+    ExprType type = arguments.get(0).type();
+    return type == arguments.get(1).type() && COMPILED_TYPES.contains(type);
+  }
+
+  private static boolean isFunctionOf(Expression expression, Set<FunctionName> functionNames) {
+    return expression instanceof FunctionExpression
+        && functionNames.contains(((FunctionExpression) expression).getFunctionName());
+  }
+
+  /**
+   * Evaluation frame which holds the value environment and the state of the value evaluated
+   * last. The state is always {@link #VALUE} before an evaluator is called.
+   */
+  @RequiredArgsConstructor
+  private static class Frame {
+    private final Environment<Expression, ExprValue> valueEnv;
+    private int state = VALUE;
+
+    /**
+     * Evaluate the expression by interpreter and update state if the value is null or missing.
+     */
+    ExprValue valueOf(Expression expression) {
+      ExprValue value = expression.valueOf(valueEnv);
+      if (value.isMissing()) {
+        state = MISSING;
+      } else if (value.isNull()) {
+        state = NULL;
+      }
+      return value;
+    }
+
+    /**
+     * Reset the state before evaluating next argument.
+     *
+     * @return the state before reset
+     */
+    int reset() {
+      int previousState = state;
+      state = VALUE;
+      return previousState;
+    }
+
+    /**
+     * Merge the state of previous argument, so the result is missing if any argument is missing,
+     * otherwise null if any argument is null.
+     *
+     * @return true if none of the arguments is null or missing
+     */
+    boolean merge(int previousState) {
+      state = Math.max(state, previousState);
+      return state == VALUE;
+    }
+
+    ExprValue nullOrMissing() {
+      return (state == NULL) ? ExprNullValue.of() : ExprMissingValue.of();
+    }
+  }
+}
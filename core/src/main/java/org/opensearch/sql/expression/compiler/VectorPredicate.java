@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
+
+/**
+ * Condition compiled by {@link ExpressionCompiler} to filter a {@link ColumnBatch}, which keeps
+ * the same rows as evaluating the condition on each row and keeping the rows evaluated to true.
+ */
+@FunctionalInterface
+public interface VectorPredicate {
+
+  /**
+   * Narrow the selection vector of the batch to the selected rows which the condition is true.
+   *
+   * @param batch column batch
+   */
+  void filter(ColumnBatch batch);
+}
@@ -32,19 +32,34 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
 import org.opensearch.sql.expression.Expression;
 
 /**
  * Window definition that consists of partition and sort by information for a window.
+ * Frame definition is optional and null if frame clause not specified.
  */
 @Data
+@AllArgsConstructor
 public class WindowDefinition {
 
   private final List<Expression> partitionByList;
   private final List<Pair<SortOption, Expression>> sortList;
+  private final FrameDefinition frame;
+
+  /**
+   * Constructor of window definition without frame definition.
+   * @param partitionByList partition by list
+   * @param sortList        sort list
+   */
+  public WindowDefinition(List<Expression> partitionByList,
+                          List<Pair<SortOption, Expression>> sortList) {
+    this(partitionByList, sortList, null);
+  }
 
   /**
    * Return all items in partition by and sort list.
@@ -47,4 +47,12 @@ public interface WindowFunctionExpression extends Expression {
    */
   WindowFrame createWindowFrame(WindowDefinition definition);
 
+  /**
+   * Create a copy of the window function without the state kept across rows, so that the copy
+   * can evaluate other partitions independently.
+   *
+   * @return new window function
+   */
+  WindowFunctionExpression copy();
+
 }
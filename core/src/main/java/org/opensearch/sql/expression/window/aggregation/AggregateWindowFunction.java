@@ -30,6 +30,7 @@ package org.opensearch.sql.expression.window.aggregation;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -40,6 +41,7 @@ import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
@@ -52,25 +54,74 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
   private final Aggregator<AggregationState> aggregator;
   private AggregationState state;
 
+  /**
+   * Peer frame is used for default frame. Otherwise sliding frame is used to aggregate
+   * rows in the frame defined.
+   */
   @Override
   public WindowFrame createWindowFrame(WindowDefinition definition) {
-    return new PeerRowsWindowFrame(definition);
+    FrameDefinition frame = definition.getFrame();
+    if (frame == null || frame.equals(FrameDefinition.DEFAULT)) {
+      return new PeerRowsWindowFrame(definition);
+    }
+    return new SlidingWindowFrame(definition);
+  }
+
+  /**
+   * Aggregator is shared by the copy because aggregation state is kept in this function only.
+   */
+  @Override
+  public AggregateWindowFunction copy() {
+    return new AggregateWindowFunction(aggregator);
   }
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (valueEnv instanceof SlidingWindowFrame) {
+      return aggregateSlidingFrame((SlidingWindowFrame) valueEnv);
+    }
+
     PeerRowsWindowFrame frame = (PeerRowsWindowFrame) valueEnv;
     if (frame.isNewPartition()) {
       state = aggregator.create();
     }
 
-    List<ExprValue> peers = frame.next();
-    for (ExprValue peer : peers) {
-      state = aggregator.iterate(peer.bindingTuples(), state);
+    iterate(frame.next());
+    return state.result();
+  }
+
+  /**
+   * Add rows entering the frame and remove rows leaving it if aggregator supports removal,
+   * which costs O(1) amortized per row. Otherwise, aggregate all rows in frame again
+   * once any row removed.
+   */
+  private ExprValue aggregateSlidingFrame(SlidingWindowFrame frame) {
+    boolean isRemovable = aggregator.isRemovable();
+    if (frame.isNewPartition()) {
+      state = isRemovable ? aggregator.createRemovable() : aggregator.create();
+    }
+
+    if (isRemovable) {
+      // Add first because row may enter and leave the frame at the same time
+      iterate(frame.next());
+      for (ExprValue row : frame.removed()) {
+        state = aggregator.remove(row.bindingTuples(), state);
+      }
+    } else if (frame.removed().isEmpty()) {
+      iterate(frame.next());
+    } else {
+      state = aggregator.create();
+      iterate(frame.rows());
     }
     return state.result();
   }
 
+  private void iterate(List<ExprValue> rows) {
+    for (ExprValue row : rows) {
+      state = aggregator.iterate(row.bindingTuples(), state);
+    }
+  }
+
   @Override
   public ExprType type() {
     return aggregator.type();
@@ -82,6 +82,7 @@ public class CurrentRowWindowFrame implements WindowFrame {
     return current;
   }
 
+  @Override
   public ExprValue previous() {
     return previous;
   }
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprValue;
@@ -47,6 +48,7 @@ import org.opensearch.sql.expression.window.WindowDefinition;
 @RequiredArgsConstructor
 public class PeerRowsWindowFrame implements WindowFrame {
 
+  @Getter
   private final WindowDefinition windowDefinition;
 
   /**
@@ -61,30 +63,33 @@ public class PeerRowsWindowFrame implements WindowFrame {
   private int position;
 
   /**
-   * Does row at current position represents a new partition.
+   * Does peer rows loaded represent a new partition.
    */
   private boolean isNewPartition = true;
 
+  /**
+   * Row before current one.
+   */
+  private ExprValue previous;
+
   /**
    * If any more pre-fetched rows not returned to window operator yet.
    */
   @Override
   public boolean hasNext() {
-    return position < peers.size();
+    return position + 1 < peers.size();
   }
 
   /**
-   * Move position and clear new partition flag.
    * Note that because all peer rows have same result from window function,
-   * this is only returned at first time to change window function state.
-   * Afterwards, empty list is returned to avoid changes until next peer loaded.
+   * all peer rows are only returned for the first row in the peer to change window function
+   * state. Afterwards, empty list is returned to avoid changes until next peer loaded.
    *
    * @return all rows for the peer
    */
   @Override
   public List<ExprValue> next() {
-    isNewPartition = false;
-    if (position++ == 0) {
+    if (position == 0) {
       return peers;
     }
     return Collections.emptyList();
@@ -100,9 +105,15 @@ public class PeerRowsWindowFrame implements WindowFrame {
     return peers.get(position);
   }
 
+  @Override
+  public ExprValue previous() {
+    return previous;
+  }
+
   /**
-   * Preload all peer rows if last peer rows done. Note that when no more data in peeking iterator,
-   * there must be rows in frame (hasNext()=true), so no need to check it.hasNext() in this method.
+   * Move to next row in peer if any. Otherwise, preload all peer rows. Note that when no more
+   * data in peeking iterator, there must be rows in frame (hasNext()=true), so no need to check
+   * it.hasNext() in this method.
    * Load until:
    *  1. Different peer found (row with different sort key)
    *  2. Or new partition (row with different partition key)
@@ -111,7 +122,9 @@ public class PeerRowsWindowFrame implements WindowFrame {
    */
   @Override
   public void load(PeekingIterator<ExprValue> it) {
+    previous = peers.isEmpty() ? null : current();
     if (hasNext()) {
+      position++;
       return;
     }
 
@@ -132,9 +145,12 @@ public class PeerRowsWindowFrame implements WindowFrame {
     }
   }
 
+  /**
+   * Only the first row in peer rows loaded can begin a new partition.
+   */
   @Override
   public boolean isNewPartition() {
-    return isNewPartition;
+    return isNewPartition && (position == 0);
   }
 
   private boolean isPeer(ExprValue next) {
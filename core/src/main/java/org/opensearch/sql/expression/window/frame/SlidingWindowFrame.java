@@ -0,0 +1,327 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.expression.window.frame;
+
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.ast.tree.Sort.SortOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+/**
+ * Sliding window frame that keeps rows in frame of current row as defined by frame definition.
+ * Because rows are sorted in partition, both start and end of the frame only move forward as
+ * current row moves. So each row enters and leaves the frame once, which allows window function
+ * to aggregate incrementally by the rows added and removed rather than all rows in the frame.
+ *
+ * <p>Rows from frame start (or current row if before it) to frame end (or current row if after
+ * it) are kept in a ring buffer. At most one more row is read ahead to tell where the frame ends.
+ * See SlidingWindowFrameTest for details about how this window frame interacts with window
+ * operator and window function.
+ */
+public class SlidingWindowFrame implements WindowFrame {
+
+  @Getter
+  private final WindowDefinition windowDefinition;
+
+  private final FrameDefinition frame;
+
+  private final List<Expression> sortFields;
+
+  /**
+   * Rows loaded in current partition.
+   */
+  private final RowBuffer rows = new RowBuffer();
+
+  /**
+   * Position of row in partition currently being enriched by window function.
+   */
+  private int position = -1;
+
+  /**
+   * Position of first row in frame.
+   */
+  private int frameStart;
+
+  /**
+   * Position after last row in frame.
+   */
+  private int frameEnd;
+
+  private boolean isNewPartition = true;
+
+  /**
+   * Row before current one.
+   */
+  private ExprValue previous;
+
+  /**
+   * Rows added to frame when moving to current row.
+   */
+  private final List<ExprValue> added = new ArrayList<>();
+
+  /**
+   * Rows removed from frame when moving to current row.
+   */
+  private final List<ExprValue> removed = new ArrayList<>();
+
+  public SlidingWindowFrame(WindowDefinition windowDefinition) {
+    this.windowDefinition = windowDefinition;
+    this.frame = windowDefinition.getFrame();
+    this.sortFields = windowDefinition.getSortList()
+                                      .stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+  }
+
+  /**
+   * If any more rows loaded ahead not returned to window operator yet.
+   */
+  @Override
+  public boolean hasNext() {
+    return position + 1 < rows.end();
+  }
+
+  /**
+   * Rows added to the frame when moving to current row. Unlike peer frame, this is not cleared
+   * until next row loaded.
+   *
+   * @return rows added
+   */
+  @Override
+  public List<ExprValue> next() {
+    return added;
+  }
+
+  /**
+   * Rows removed from the frame when moving to current row in the same order as added.
+   * @return rows removed
+   */
+  public List<ExprValue> removed() {
+    return removed;
+  }
+
+  /**
+   * All rows in the frame of current row.
+   * @return rows in frame
+   */
+  public List<ExprValue> rows() {
+    List<ExprValue> frameRows = new ArrayList<>();
+    for (int i = frameStart; i < frameEnd; i++) {
+      frameRows.add(rows.get(i));
+    }
+    return frameRows;
+  }
+
+  @Override
+  public ExprValue current() {
+    return rows.get(position);
+  }
+
+  @Override
+  public ExprValue previous() {
+    return previous;
+  }
+
+  @Override
+  public boolean isNewPartition() {
+    return isNewPartition;
+  }
+
+  /**
+   * Move to next row and slide the frame. Next row is read from iterator unless it's loaded
+   * already, in which case it must belong to the same partition.
+   *
+   * @param it  rows iterator
+   */
+  @Override
+  public void load(PeekingIterator<ExprValue> it) {
+    previous = (position < 0) ? null : current();
+    added.clear();
+    removed.clear();
+
+    if (hasNext()) {
+      isNewPartition = false;
+    } else {
+      ExprValue next = it.next();
+      isNewPartition = rows.isEmpty() || !isSamePartition(rows.last(), next);
+      if (isNewPartition) {
+        rows.clear();
+        position = -1;
+        frameStart = 0;
+        frameEnd = 0;
+      }
+      rows.add(next);
+    }
+    position++;
+
+    slideFrameEnd(it);
+    slideFrameStart();
+    rows.removeBefore(Math.min(frameStart, position));
+  }
+
+  private void slideFrameEnd(PeekingIterator<ExprValue> it) {
+    double endDistance = frame.getEnd().distance();
+    while (frameEnd < rows.end() || readAhead(it)) {
+      if (distance(frameEnd) > endDistance) {
+        break;
+      }
+      added.add(rows.get(frameEnd++));
+    }
+  }
+
+  private void slideFrameStart() {
+    double startDistance = frame.getStart().distance();
+    while (frameStart < frameEnd && distance(frameStart) < startDistance) {
+      removed.add(rows.get(frameStart++));
+    }
+  }
+
+  /**
+   * Read next row into buffer if it's in the same partition.
+   */
+  private boolean readAhead(PeekingIterator<ExprValue> it) {
+    if (it.hasNext() && isSamePartition(rows.last(), it.peek())) {
+      rows.add(it.next());
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Distance from the row at the given position to current row. For ROWS frame, it is the
+   * difference of position. For RANGE frame, it is 0 for peers (rows with same sort key) and
+   * otherwise the difference of the sort key value if required by offset in frame bound.
+   * Non-peer rows are simply considered infinitely far away if no offset in frame bound.
+   */
+  private double distance(int pos) {
+    if (frame.getType() == FrameType.ROWS) {
+      return pos - position;
+    }
+
+    List<ExprValue> rowKey = resolve(sortFields, rows.get(pos));
+    List<ExprValue> currentKey = resolve(sortFields, current());
+    if (rowKey.equals(currentKey)) {
+      return 0;
+    }
+
+    if (hasOffset() && isNotNull(rowKey) && isNotNull(currentKey)) {
+      double diff = ExprValueUtils.getDoubleValue(rowKey.get(0))
+          - ExprValueUtils.getDoubleValue(currentKey.get(0));
+      return isAscending() ? diff : -diff;
+    }
+    return (pos < position) ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+  }
+
+  private boolean hasOffset() {
+    return frame.getStart().hasOffset() || frame.getEnd().hasOffset();
+  }
+
+  private boolean isNotNull(List<ExprValue> sortKey) {
+    return !sortKey.get(0).isNull() && !sortKey.get(0).isMissing();
+  }
+
+  private boolean isAscending() {
+    SortOption option = windowDefinition.getSortList().get(0).getLeft();
+    return option.getSortOrder() != SortOrder.DESC;
+  }
+
+  private boolean isSamePartition(ExprValue row, ExprValue next) {
+    List<Expression> partitionByList = windowDefinition.getPartitionByList();
+    return resolve(partitionByList, row).equals(resolve(partitionByList, next));
+  }
+
+  private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
+    Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
+    return expressions.stream()
+                      .map(expr -> expr.valueOf(valueEnv))
+                      .collect(Collectors.toList());
+  }
+
+  /**
+   * Ring buffer of rows addressed by position in partition.
+   */
+  private static class RowBuffer {
+    private ExprValue[] elements = new ExprValue[16];
+
+    /**
+     * Index of first row in elements array.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Position of first row in partition.
+     */
+    private int start;
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    /**
+     * Position after last row in partition.
+     */
+    int end() {
+      return start + size;
+    }
+
+    ExprValue get(int pos) {
+      return elements[(head + pos - start) % elements.length];
+    }
+
+    ExprValue last() {
+      return get(end() - 1);
+    }
+
+    void add(ExprValue row) {
+      if (size == elements.length) {
+        ExprValue[] grown = new ExprValue[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+          grown[i] = elements[(head + i) % elements.length];
+        }
+        elements = grown;
+        head = 0;
+      }
+      elements[(head + size++) % elements.length] = row;
+    }
+
+    /**
+     * Remove rows before the given position.
+     */
+    void removeBefore(int pos) {
+      while (start < pos) {
+        elements[head] = null;
+        head = (head + 1) % elements.length;
+        size--;
+        start++;
+      }
+    }
+
+    void clear() {
+      removeBefore(end());
+      start = 0;
+    }
+  }
+
+}
@@ -33,6 +33,7 @@ import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
 
 /**
  * Window frame that represents a subset of a window which is all data accessible to
@@ -42,6 +43,9 @@ import org.opensearch.sql.expression.env.Environment;
  *  3) Sliding window frame that maintains a sliding window of fixed size
  * Note that which type of window frame is used is determined by both window function itself
  * and frame definition in a window definition.
+ *
+ * <p>All state of a window frame is changed by load() only, so that multiple window functions
+ * with the same window definition can be evaluated on one window frame for each row.
  */
 public interface WindowFrame extends Environment<Expression, ExprValue>, Iterator<List<ExprValue>> {
 
@@ -68,4 +72,17 @@ public interface WindowFrame extends Environment<Expression, ExprValue>, Iterato
    */
   ExprValue current();
 
+  /**
+   * Get data row loaded before current row, which belongs to previous partition if current row
+   * begins a new partition.
+   * @return data row or null if current row is the first one
+   */
+  ExprValue previous();
+
+  /**
+   * Get window definition of the window frame.
+   * @return window definition
+   */
+  WindowDefinition getWindowDefinition();
+
 }
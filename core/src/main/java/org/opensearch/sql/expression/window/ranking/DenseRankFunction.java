@@ -28,7 +28,7 @@
 package org.opensearch.sql.expression.window.ranking;
 
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
-import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
+import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
  * Dense rank window function that assigns a rank number to each row similarly as
@@ -41,7 +41,12 @@ public class DenseRankFunction extends RankingWindowFunction {
   }
 
   @Override
-  protected int rank(CurrentRowWindowFrame frame) {
+  public DenseRankFunction copy() {
+    return new DenseRankFunction();
+  }
+
+  @Override
+  protected int rank(WindowFrame frame) {
     if (frame.isNewPartition()) {
       rank = 1;
     } else {
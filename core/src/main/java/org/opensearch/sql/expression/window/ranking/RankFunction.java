@@ -28,7 +28,7 @@
 package org.opensearch.sql.expression.window.ranking;
 
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
-import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
+import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
  * Rank window function that assigns a rank number to each row based on sort items
@@ -47,7 +47,12 @@ public class RankFunction extends RankingWindowFunction {
   }
 
   @Override
-  protected int rank(CurrentRowWindowFrame frame) {
+  public RankFunction copy() {
+    return new RankFunction();
+  }
+
+  @Override
+  protected int rank(WindowFrame frame) {
     if (frame.isNewPartition()) {
       total = 1;
       rank = 1;
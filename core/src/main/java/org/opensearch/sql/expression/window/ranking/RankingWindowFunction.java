@@ -74,7 +74,7 @@ public abstract class RankingWindowFunction extends FunctionExpression
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
-    return new ExprIntegerValue(rank((CurrentRowWindowFrame) valueEnv));
+    return new ExprIntegerValue(rank((WindowFrame) valueEnv));
   }
 
   /**
@@ -82,14 +82,14 @@ public abstract class RankingWindowFunction extends FunctionExpression
    * @param frame   window frame
    * @return        rank number
    */
-  protected abstract int rank(CurrentRowWindowFrame frame);
+  protected abstract int rank(WindowFrame frame);
 
   /**
    * Check sort field to see if current value is different from previous.
    * @param frame   window frame
    * @return        true if different, false if same or no sort list defined
    */
-  protected boolean isSortFieldValueDifferent(CurrentRowWindowFrame frame) {
+  protected boolean isSortFieldValueDifferent(WindowFrame frame) {
     if (isSortItemsNotDefined(frame)) {
       return false;
     }
@@ -105,7 +105,7 @@ public abstract class RankingWindowFunction extends FunctionExpression
     return !current.equals(previous);
   }
 
-  private boolean isSortItemsNotDefined(CurrentRowWindowFrame frame) {
+  private boolean isSortItemsNotDefined(WindowFrame frame) {
     return frame.getWindowDefinition().getSortList().isEmpty();
   }
 
@@ -28,7 +28,7 @@
 package org.opensearch.sql.expression.window.ranking;
 
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
-import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
+import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
  * Row number window function that assigns row number starting from 1 to each row in a partition.
@@ -40,7 +40,12 @@ public class RowNumberFunction extends RankingWindowFunction {
   }
 
   @Override
-  protected int rank(CurrentRowWindowFrame frame) {
+  public RowNumberFunction copy() {
+    return new RowNumberFunction();
+  }
+
+  @Override
+  protected int rank(WindowFrame frame) {
     if (frame.isNewPartition()) {
       rank = 1;
     }
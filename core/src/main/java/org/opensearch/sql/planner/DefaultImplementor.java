@@ -53,6 +53,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 
@@ -98,7 +99,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
   public PhysicalPlan visitWindow(LogicalWindow node, C context) {
     return new WindowOperator(
         visitChild(node, context),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
@@ -138,8 +139,19 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new ValuesOperator(node.getValues());
   }
 
+  /**
+   * Limit directly on top of sort is implemented by {@link TopNOperator} which only keeps
+   * the first offset + limit rows in memory. Storage may have already pushed down both, so
+   * this is only the case when the sort is left for post-processing.
+   */
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
+    LogicalPlan child = node.getChild().get(0);
+    if (child instanceof LogicalSort) {
+      LogicalSort sort = (LogicalSort) child;
+      return new TopNOperator(
+          visitChild(sort, context), sort.getSortList(), node.getLimit(), node.getOffset());
+    }
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
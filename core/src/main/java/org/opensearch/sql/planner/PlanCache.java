@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+/**
+ * Bounded cache of prepared plans keyed by query text. Parsing, analysis and logical
+ * optimization happen only on cache miss. A new physical plan is still implemented from the
+ * cached logical plan for each execution because physical operators are stateful.
+ * Entries are evicted in LRU order when the cache is full or after a fixed time to live,
+ * and the owner is expected to invalidate all entries whenever index mapping changes.
+ */
+public class PlanCache {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  public static final long DEFAULT_EXPIRE_MINUTES = 10;
+
+  private final Cache<String, Supplier<PhysicalPlan>> cache;
+
+  public PlanCache() {
+    this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_MINUTES, TimeUnit.MINUTES, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  PlanCache(long maximumSize, long expireAfterWrite, TimeUnit unit, Ticker ticker) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite, unit)
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Get physical plan for the query from cache or analyze and prepare it on cache miss.
+   *
+   * @param query     query text as cache key
+   * @param analyzer  analyze the query to logical plan on cache miss
+   * @param planner   planner to optimize logical plan
+   * @return          new physical plan
+   */
+  public PhysicalPlan plan(String query, Supplier<LogicalPlan> analyzer, Planner planner) {
+    Supplier<PhysicalPlan> prepared = cache.getIfPresent(query);
+    if (prepared == null) {
+      LogicalPlan logicalPlan = analyzer.get();
+      prepared = planner.prepare(logicalPlan);
+      if (isCacheable(logicalPlan)) {
+        cache.put(query, prepared);
+      }
+    }
+    return prepared.get();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /**
+   * Window functions keep ranking state in expression itself which cannot be shared by
+   * concurrent executions.
+   */
+  private boolean isCacheable(LogicalPlan plan) {
+    if (plan instanceof LogicalWindow) {
+      return false;
+    }
+    return plan.getChild().stream().allMatch(this::isCacheable);
+  }
+}
@@ -30,6 +30,7 @@ package org.opensearch.sql.planner;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
@@ -61,14 +62,26 @@ public class Planner {
    * @return optimal physical plan
    */
   public PhysicalPlan plan(LogicalPlan plan) {
+    return prepare(plan).get();
+  }
+
+  /**
+   * Optimize logical plan once and return a supplier that implements a new physical plan
+   * for the optimized logical plan on each call. This allows the optimized plan to be reused
+   * across executions while physical operators with runtime state are not shared.
+   *
+   * @param plan logical plan
+   * @return supplier of physical plan
+   */
+  public Supplier<PhysicalPlan> prepare(LogicalPlan plan) {
     String tableName = findTableName(plan);
     if (isNullOrEmpty(tableName)) {
-      return plan.accept(new DefaultImplementor<>(), null);
+      return () -> plan.accept(new DefaultImplementor<>(), null);
     }
 
     Table table = storageEngine.getTable(tableName);
-    return table.implement(
-        table.optimize(optimize(plan)));
+    LogicalPlan optimized = table.optimize(optimize(plan));
+    return () -> table.implement(optimized);
   }
 
   private String findTableName(LogicalPlan plan) {
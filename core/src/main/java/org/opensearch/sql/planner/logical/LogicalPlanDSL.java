@@ -75,6 +75,12 @@ public class LogicalPlanDSL {
     return new LogicalWindow(input, windowFunction, windowDefinition);
   }
 
+  public LogicalPlan window(LogicalPlan input,
+                            List<NamedExpression> windowFunctions,
+                            WindowDefinition windowDefinition) {
+    return new LogicalWindow(input, windowFunctions, windowDefinition);
+  }
+
   public static LogicalPlan remove(LogicalPlan input, ReferenceExpression... fields) {
     return new LogicalRemove(input, ImmutableSet.copyOf(fields));
   }
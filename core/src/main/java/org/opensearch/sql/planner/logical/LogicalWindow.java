@@ -28,6 +28,7 @@
 package org.opensearch.sql.planner.logical;
 
 import java.util.Collections;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -37,24 +38,35 @@ import org.opensearch.sql.expression.window.WindowDefinition;
 /**
  * Logical operator for window function generated from project list. Logically, each window operator
  * has to work with a Sort operator to ensure input data is sorted as required by window definition.
- * However, the Sort operator may be removed after logical optimization.
+ * However, the Sort operator may be removed after logical optimization. Window functions with
+ * the same window definition are evaluated by a single window operator.
  */
 @EqualsAndHashCode(callSuper = true)
 @Getter
 @ToString
 public class LogicalWindow extends LogicalPlan {
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
   private final WindowDefinition windowDefinition;
 
   /**
-   * Constructor of logical window.
+   * Constructor of logical window with single window function.
    */
   public LogicalWindow(
       LogicalPlan child,
       NamedExpression windowFunction,
       WindowDefinition windowDefinition) {
+    this(child, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Constructor of logical window.
+   */
+  public LogicalWindow(
+      LogicalPlan child,
+      List<NamedExpression> windowFunctions,
+      WindowDefinition windowDefinition) {
     super(Collections.singletonList(child));
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
   }
 
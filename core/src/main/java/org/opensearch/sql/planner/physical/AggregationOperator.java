@@ -26,6 +26,9 @@
 
 package org.opensearch.sql.planner.physical;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -40,23 +43,60 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.planner.physical.bucket.Group;
 import org.opensearch.sql.planner.physical.bucket.SpanBucket;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Group the all the input {@link BindingTuple} by {@link AggregationOperator#groupByExprList},
  * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}.
+ *
+ * <p>The estimated memory of all groups is accounted while consuming the input. Once it exceeds
+ * the memory limit, no more group is created in memory. Rows of groups in memory are still
+ * aggregated in memory, while rows of the other groups are spilled to temporary files on local
+ * disk, partitioned by hash of group key. After the input is consumed, each partition is
+ * aggregated one by one in the same way with a different hash. The query is rejected only if a
+ * partition still exceeds the memory limit after {@link AggregationOperator#MAX_SPILL_LEVEL}
+ * levels of partitioning, or if group by span whose empty buckets are filled across all groups.
+ *
+ * <p>Input is consumed by {@link ColumnBatch}, whose rows are aggregated batch by batch while
+ * the groups fit in memory, so the aggregators of numeric field read its column vector.
  */
 @EqualsAndHashCode
 @ToString
 public class AggregationOperator extends PhysicalPlan {
+  /**
+   * Memory of aggregation is not limited by default.
+   */
+  public static final long NO_MEMORY_LIMIT = Long.MAX_VALUE;
+
+  /**
+   * Max times to partition the spilled rows.
+   */
+  public static final int MAX_SPILL_LEVEL = 4;
+
+  /**
+   * Number of partitions spilled at each level. Bits of hash used by each level don't overlap.
+   */
+  private static final int PARTITION_BITS = 4;
+
+  private static final String SPILL_FILE_PREFIX = "opensearch-sql-aggregation-";
+
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final List<NamedAggregator> aggregatorList;
   @Getter
   private final List<NamedExpression> groupByExprList;
+  /**
+   * Max estimated bytes of all groups.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private final long memoryLimit;
   @EqualsAndHashCode.Exclude
-  private final Group group;
+  @ToString.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
   @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
@@ -69,11 +109,23 @@ public class AggregationOperator extends PhysicalPlan {
    */
   public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
                              List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, NO_MEMORY_LIMIT);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input           Input {@link PhysicalPlan}
+   * @param aggregatorList  List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryLimit     Max estimated bytes of all groups
+   */
+  public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
+                             List<NamedExpression> groupByExprList, long memoryLimit) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.group = groupBySpan(groupByExprList) ? new SpanBucket(aggregatorList, groupByExprList)
-        : new Group(aggregatorList, groupByExprList);
+    this.memoryLimit = memoryLimit;
   }
 
   @Override
@@ -100,10 +152,94 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      group.push(input.next());
+    iterator = aggregate(batches(input), 0);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
+  }
+
+  /**
+   * Aggregate the rows. Rows of groups which cannot be held in memory are spilled and aggregated
+   * lazily partition by partition when the result of previous partitions is consumed.
+   */
+  private Iterator<ExprValue> aggregate(Iterator<ColumnBatch> batches, int level) {
+    boolean groupBySpan = groupBySpan(groupByExprList);
+    Group group = groupBySpan ? new SpanBucket(aggregatorList, groupByExprList)
+        : new Group(aggregatorList, groupByExprList);
+    List<SpillFile> partitions = null;
+    while (batches.hasNext()) {
+      ColumnBatch batch = batches.next();
+      int pushed = 0;
+      if (partitions == null) {
+        pushed = group.push(batch, memoryLimit);
+        if (group.getEstimatedBytes() > memoryLimit) {
+          if (groupBySpan || level >= MAX_SPILL_LEVEL) {
+            throw new IllegalStateException(String.format(
+                "aggregation of %d groups exceeds the memory limit of %d bytes, quit.",
+                group.size(), memoryLimit));
+          }
+          partitions = createPartitions();
+        }
+      }
+      for (int i = pushed; i < batch.size(); i++) {
+        ExprValue row = batch.selectedRow(i);
+        Group.Key key = group.groupKey(row);
+        if (!group.pushIfPresent(key, row)) {
+          partitions.get(partition(key, level)).write(Collections.singletonList(row));
+        }
+      }
     }
-    iterator = group.result().iterator();
+
+    Iterator<ExprValue> result = group.result().iterator();
+    if (partitions == null) {
+      return result;
+    }
+    return Iterators.concat(result, Iterators.concat(Iterators.transform(
+        partitions.iterator(), partition -> aggregatePartition(partition, level + 1))));
+  }
+
+  private Iterator<ExprValue> aggregatePartition(SpillFile partition, int level) {
+    Iterator<ExprValue> rows = Iterators.transform(partition.read(), record -> record.get(0));
+    Iterator<ExprValue> result = aggregate(Iterators.transform(
+        Iterators.partition(rows, DEFAULT_BATCH_SIZE), ColumnBatch::of), level);
+    partition.close();
+    return result;
+  }
+
+  /**
+   * Iterate the column batches of input.
+   */
+  private Iterator<ColumnBatch> batches(PhysicalPlan plan) {
+    return new AbstractIterator<ColumnBatch>() {
+      @Override
+      protected ColumnBatch computeNext() {
+        ColumnBatch batch = plan.nextColumnBatch(DEFAULT_BATCH_SIZE);
+        return batch.isEmpty() ? endOfData() : batch;
+      }
+    };
+  }
+
+  private List<SpillFile> createPartitions() {
+    List<SpillFile> partitions = new ArrayList<>();
+    for (int i = 0; i < (1 << PARTITION_BITS); i++) {
+      SpillFile partition = SpillFile.create(SPILL_FILE_PREFIX);
+      spillFiles.add(partition);
+      partitions.add(partition);
+    }
+    return partitions;
+  }
+
+  /**
+   * Partition of the group key at the level. The hash is mixed by Fibonacci hashing and each
+   * level takes the next {@link AggregationOperator#PARTITION_BITS} high bits of it.
+   */
+  private int partition(Group.Key key, int level) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    return (hash >>> (Integer.SIZE - PARTITION_BITS * (level + 1))) & ((1 << PARTITION_BITS) - 1);
   }
 
   private boolean groupBySpan(List<NamedExpression> namedExpressionList) {
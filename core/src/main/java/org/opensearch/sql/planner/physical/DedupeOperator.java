@@ -26,11 +26,18 @@
 
 package org.opensearch.sql.planner.physical;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
@@ -38,16 +45,27 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Dedupe operator. Dedupe the input {@link ExprValue} by using the {@link
  * DedupeOperator#dedupeList} The result order follow the input order.
+ *
+ * <p>In non-consecutive mode, every distinct dedupe key seen is kept in memory. The key is the
+ * value itself if dedupe by single field, and the value of single integral field is kept in a
+ * primitive hash table without any object allocated per key. The estimated memory of the keys
+ * is accounted, and the query is rejected once it exceeds the memory limit.
  */
 @Getter
 @EqualsAndHashCode
 public class DedupeOperator extends PhysicalPlan {
+  /**
+   * Memory of distinct keys is not limited by default.
+   */
+  public static final long NO_MEMORY_LIMIT = Long.MAX_VALUE;
+
   @Getter
   private final PhysicalPlan input;
   @Getter
@@ -58,9 +76,25 @@ public class DedupeOperator extends PhysicalPlan {
   private final Boolean keepEmpty;
   @Getter
   private final Boolean consecutive;
+  /**
+   * Max estimated bytes of distinct keys in non-consecutive mode.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private final long memoryLimit;
 
   @EqualsAndHashCode.Exclude
-  private final Deduper<List<ExprValue>> deduper;
+  private final Deduper<Object> deduper;
+  /**
+   * Deduper of single integral field in non-consecutive mode, otherwise null.
+   */
+  @EqualsAndHashCode.Exclude
+  private final LongDeduper longDeduper;
+  /**
+   * Estimated bytes of distinct keys in {@link DedupeOperator#deduper}.
+   */
+  @EqualsAndHashCode.Exclude
+  private long estimatedBytes = 0L;
   @EqualsAndHashCode.Exclude
   private ExprValue next;
 
@@ -69,6 +103,15 @@ public class DedupeOperator extends PhysicalPlan {
   private static final Boolean NON_CONSECUTIVE = false;
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
   private static final Integer SEEN_FIRST_TIME = 1;
+  private static final Set<ExprType> INTEGRAL_TYPES = ImmutableSet.of(BYTE, SHORT, INTEGER, LONG);
+  /**
+   * Estimated bytes of hash map entry, count and key object of a distinct key.
+   */
+  private static final long KEY_OVERHEAD_BYTES = 64;
+  /**
+   * Estimated bytes of a dedupe value other than string.
+   */
+  private static final long VALUE_BYTES = 24;
 
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
@@ -90,12 +133,39 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(input, dedupeList, allowedDuplication, keepEmpty, consecutive, NO_MEMORY_LIMIT);
+  }
+
+  /**
+   * Dedup Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param memoryLimit max estimated bytes of distinct keys in non-consecutive mode
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      long memoryLimit) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
-    this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    this.memoryLimit = memoryLimit;
+    // Seen times beyond allowedDuplication + 1 make no difference, saturate to avoid overflow
+    int maxSeenTimes = (int) Math.min((long) allowedDuplication + 1, Integer.MAX_VALUE);
+    this.deduper = this.consecutive ? Deduper.consecutiveDeduper(maxSeenTimes)
+        : Deduper.historicalDeduper(maxSeenTimes);
+    this.longDeduper =
+        (!this.consecutive && dedupeList.size() == 1
+            && INTEGRAL_TYPES.contains(dedupeList.get(0).type())) ? new LongDeduper(maxSeenTimes) : null;
   }
 
   @Override
@@ -136,35 +206,80 @@ public class DedupeOperator extends PhysicalPlan {
    */
   public boolean keep(ExprValue value) {
     BindingTuple bindingTuple = value.bindingTuples();
+    if (dedupeList.size() == 1) {
+      ExprValue exprValue = dedupeList.get(0).valueOf(bindingTuple);
+      if (NULL_OR_MISSING.test(exprValue)) {
+        return keepEmpty;
+      }
+      if (longDeduper != null) {
+        return seenTimes(exprValue.longValue()) <= allowedDuplication;
+      }
+      return seenTimes(exprValue, valueBytes(exprValue)) <= allowedDuplication;
+    }
+
     ImmutableList.Builder<ExprValue> dedupeKeyBuilder = new ImmutableList.Builder<>();
+    long keyBytes = 0L;
     for (Expression expression : dedupeList) {
       ExprValue exprValue = expression.valueOf(bindingTuple);
       if (NULL_OR_MISSING.test(exprValue)) {
         return keepEmpty;
       }
       dedupeKeyBuilder.add(exprValue);
+      keyBytes += valueBytes(exprValue);
     }
-    List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
+    return seenTimes(dedupeKeyBuilder.build(), keyBytes) <= allowedDuplication;
+  }
+
+  private int seenTimes(long dedupeKey) {
+    int seenTimes = longDeduper.seenTimes(dedupeKey);
+    if (seenTimes == SEEN_FIRST_TIME) {
+      checkMemoryLimit(longDeduper.size(), longDeduper.estimatedBytes());
+    }
+    return seenTimes;
+  }
+
+  private int seenTimes(Object dedupeKey, long keyBytes) {
     int seenTimes = deduper.seenTimes(dedupeKey);
-    return seenTimes <= allowedDuplication;
+    // Only one key is kept in consecutive mode
+    if (seenTimes == SEEN_FIRST_TIME && !consecutive) {
+      estimatedBytes += KEY_OVERHEAD_BYTES + keyBytes;
+      checkMemoryLimit(deduper.size(), estimatedBytes);
+    }
+    return seenTimes;
+  }
+
+  private void checkMemoryLimit(int keyCount, long bytes) {
+    if (bytes > memoryLimit) {
+      throw new IllegalStateException(String.format(
+          "dedup of %d distinct keys exceeds the memory limit of %d bytes, quit.",
+          keyCount, memoryLimit));
+    }
+  }
+
+  private long valueBytes(ExprValue value) {
+    Object rawValue = value.value();
+    return (rawValue instanceof String)
+        ? VALUE_BYTES + 2L * ((String) rawValue).length() : VALUE_BYTES;
   }
 
   /**
    * Return how many times the dedupeKey has been seen before. The side effect is the seen times
-   * will add 1 times after calling this function.
+   * will add 1 times after calling this function, until it saturates at maxSeenTimes.
    *
    * @param <K> dedupe key
    */
   @RequiredArgsConstructor
   static class Deduper<K> {
+    private final int maxSeenTimes;
     private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
-    private final Map<K, Integer> seenMap = new ConcurrentHashMap<>();
+    private final Map<K, Integer> seenMap = new HashMap<>();
 
     /**
      * The Historical Deduper monitor the duplicated element with all the seen value.
      */
-    public static <K> Deduper<K> historicalDeduper() {
+    public static <K> Deduper<K> historicalDeduper(int maxSeenTimes) {
       return new Deduper<>(
+          maxSeenTimes,
           (map, key) -> {
             map.put(key, SEEN_FIRST_TIME);
             return SEEN_FIRST_TIME;
@@ -175,8 +290,9 @@ public class DedupeOperator extends PhysicalPlan {
      * The Consecutive Deduper monitor the duplicated element with consecutive seen value. It means
      * only the consecutive duplicated value will be counted.
      */
-    public static <K> Deduper<K> consecutiveDeduper() {
+    public static <K> Deduper<K> consecutiveDeduper(int maxSeenTimes) {
       return new Deduper<>(
+          maxSeenTimes,
           (map, key) -> {
             map.clear();
             map.put(key, SEEN_FIRST_TIME);
@@ -185,11 +301,104 @@ public class DedupeOperator extends PhysicalPlan {
     }
 
     public int seenTimes(K dedupeKey) {
-      if (seenMap.containsKey(dedupeKey)) {
-        return seenMap.computeIfPresent(dedupeKey, (k, v) -> v + 1);
-      } else {
-        return seenFirstTime.apply(seenMap, dedupeKey);
+      Integer seenTimes = seenMap.computeIfPresent(dedupeKey, (k, v) -> Math.min(v + 1, maxSeenTimes));
+      return (seenTimes != null) ? seenTimes : seenFirstTime.apply(seenMap, dedupeKey);
+    }
+
+    /**
+     * Number of keys held.
+     */
+    public int size() {
+      return seenMap.size();
+    }
+  }
+
+  /**
+   * Historical deduper of long keys in an open addressing hash table with linear probing. The
+   * keys and their seen times are stored in primitive arrays, so no object is allocated per key.
+   */
+  @RequiredArgsConstructor
+  static class LongDeduper {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Seen times saturate at this value so the count never overflows.
+     */
+    private final int maxSeenTimes;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    /**
+     * Seen times of the key in the same slot. 0 means the slot is empty.
+     */
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Return how many times the key has been seen including this time.
+     */
+    public int seenTimes(long dedupeKey) {
+      int slot = slot(dedupeKey);
+      if (counts[slot] > 0) {
+        if (counts[slot] < maxSeenTimes) {
+          counts[slot]++;
+        }
+        return counts[slot];
+      }
+
+      keys[slot] = dedupeKey;
+      counts[slot] = SEEN_FIRST_TIME;
+      size++;
+      // Keep load factor below 0.75
+      if (size * 4 > keys.length * 3) {
+        resize();
+      }
+      return SEEN_FIRST_TIME;
+    }
+
+    /**
+     * Number of keys held.
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Estimated bytes of the hash table.
+     */
+    public long estimatedBytes() {
+      return (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      int[] oldCounts = counts;
+      keys = new long[oldKeys.length * 2];
+      counts = new int[oldCounts.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldCounts[i] > 0) {
+          int slot = slot(oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          counts[slot] = oldCounts[i];
+        }
       }
     }
+
+    /**
+     * Find the slot of the key, or the empty slot where the key should be put.
+     */
+    private int slot(long key) {
+      int mask = keys.length - 1;
+      int slot = hash(key) & mask;
+      while (counts[slot] > 0 && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private static int hash(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      int result = (int) (hash ^ (hash >>> 32));
+      return result ^ (result >>> 16);
+    }
   }
 }
@@ -29,8 +29,8 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.Maps;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -38,14 +38,17 @@ import java.util.Map;
 import java.util.Map.Entry;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 
 /**
@@ -59,13 +62,39 @@ import org.opensearch.sql.expression.env.Environment;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class EvalOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /**
+   * Compiled form of each expression in {@link EvalOperator#expressionList}.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final CompiledExpression[] compiledExpressions;
+
+  /**
+   * Layout of output rows for the schema of input rows evaluated last time.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private RowLayout rowLayout;
+
+  /**
+   * Eval operator constructor. The expressions are compiled once here and evaluated in compiled
+   * form for each row.
+   */
+  public EvalOperator(PhysicalPlan input,
+                      List<Pair<ReferenceExpression, Expression>> expressionList) {
+    this.input = input;
+    this.expressionList = expressionList;
+    this.compiledExpressions = expressionList.stream()
+        .map(pair -> ExpressionCompiler.compile(pair.getValue()))
+        .toArray(CompiledExpression[]::new);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -83,27 +112,63 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return evalRow(input.next());
+  }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> inputBatch = input.nextBatch(maxSize);
+    List<ExprValue> batch = new ArrayList<>(inputBatch.size());
+    for (ExprValue inputValue : inputBatch) {
+      batch.add(evalRow(inputValue));
+    }
+    return batch;
+  }
+
+  private ExprValue evalRow(ExprValue inputValue) {
+    if (inputValue instanceof ExprRowValue) {
+      return evalRow((ExprRowValue) inputValue);
+    }
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
+      // Build the output map directly which is owned by the new tuple without further copy
+      LinkedHashMap<String, ExprValue> resultMap =
+          Maps.newLinkedHashMapWithExpectedSize(tupleValue.size() + evalMap.size());
       for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (evalMap.containsKey(valueEntry.getKey())) {
-          resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
-          evalMap.remove(valueEntry.getKey());
-        } else {
-          resultBuilder.put(valueEntry);
-        }
+        ExprValue evalValue = evalMap.remove(valueEntry.getKey());
+        resultMap.put(valueEntry.getKey(),
+            evalValue == null ? valueEntry.getValue() : evalValue);
       }
-      resultBuilder.putAll(evalMap);
-      return ExprTupleValue.fromExprValueMap(resultBuilder.build());
+      resultMap.putAll(evalMap);
+      return new ExprTupleValue(resultMap);
     } else {
       return inputValue;
     }
   }
 
+  /**
+   * Evaluate the input row into output row of the input schema extended by the eval fields. The
+   * output row copies the input slots and puts the value of each eval field into its slot.
+   */
+  private ExprValue evalRow(ExprRowValue inputRow) {
+    RowLayout layout = rowLayout;
+    if (layout == null || layout.inputSchema != inputRow.getSchema()) {
+      layout = new RowLayout(inputRow.getSchema(), expressionList);
+      rowLayout = layout;
+    }
+
+    ExprValue[] values = inputRow.copyValues(layout.outputSchema.size());
+    Environment<Expression, ExprValue> env = inputRow.bindingTuples();
+    for (int i = 0; i < compiledExpressions.length; i++) {
+      ExprValue value = compiledExpressions[i].valueOf(env);
+      env = extendEnv(env, expressionList.get(i).getKey(), value);
+      values[layout.evalSlots[i]] = value;
+    }
+    return new ExprRowValue(layout.outputSchema, values);
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
    * @param env {@link Environment}
@@ -111,12 +176,30 @@ public class EvalOperator extends PhysicalPlan {
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
+    for (int i = 0; i < compiledExpressions.length; i++) {
+      ReferenceExpression var = expressionList.get(i).getKey();
+      ExprValue value = compiledExpressions[i].valueOf(env);
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
     }
     return evalResultMap;
   }
+
+  /**
+   * Output schema and slot of each eval field for the input schema.
+   */
+  private static class RowLayout {
+    private final RowSchema inputSchema;
+    private final RowSchema outputSchema;
+    private final int[] evalSlots;
+
+    RowLayout(RowSchema inputSchema,
+              List<Pair<ReferenceExpression, Expression>> expressionList) {
+      List<String> names = new ArrayList<>(expressionList.size());
+      expressionList.forEach(pair -> names.add(pair.getKey().toString()));
+      this.inputSchema = inputSchema;
+      this.outputSchema = inputSchema.extend(names);
+      this.evalSlots = names.stream().mapToInt(outputSchema::indexOf).toArray();
+    }
+  }
 }
@@ -15,28 +15,48 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
+import org.opensearch.sql.expression.compiler.VectorPredicate;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * The Filter operator use the conditions to evaluate the input {@link BindingTuple}.
  * The Filter operator only return the results that evaluated to true.
  * The NULL and MISSING are handled by the logic defined in {@link BinaryPredicateOperator}.
+ * A batch of input is filtered by narrowing its selection vector by {@link VectorPredicate}.
  */
 @EqualsAndHashCode
 @ToString
-@RequiredArgsConstructor
 public class FilterOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final Expression conditions;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final CompiledExpression compiledConditions;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final VectorPredicate vectorConditions;
   @ToString.Exclude private ExprValue next = null;
 
+  /**
+   * Filter operator constructor. The conditions are compiled once here and evaluated in compiled
+   * form for each row or each batch.
+   */
+  public FilterOperator(PhysicalPlan input, Expression conditions) {
+    this.input = input;
+    this.conditions = conditions;
+    this.compiledConditions = ExpressionCompiler.compile(conditions);
+    this.vectorConditions = ExpressionCompiler.compilePredicate(conditions);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -51,8 +71,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (isTrue(compiledConditions.valueOf(inputValue.bindingTuples()))) {
         next = inputValue;
         return true;
       }
@@ -64,4 +83,29 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    return nextColumnBatch(maxSize).selectedRows();
+  }
+
+  /**
+   * Filter input batches until some rows are selected or no more input.
+   */
+  @Override
+  public ColumnBatch nextColumnBatch(int maxSize) {
+    ColumnBatch batch;
+    do {
+      batch = input.nextColumnBatch(maxSize);
+      if (batch.isEmpty()) {
+        break;
+      }
+      vectorConditions.filter(batch);
+    } while (batch.isEmpty());
+    return batch;
+  }
+
+  private boolean isTrue(ExprValue exprValue) {
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
@@ -27,6 +27,7 @@
 package org.opensearch.sql.planner.physical;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -60,7 +61,7 @@ public class LimitOperator extends PhysicalPlan {
     super.open();
 
     // skip the leading rows of offset size
-    while (input.hasNext() && count < offset) {
+    while (count < offset && input.hasNext()) {
       count++;
       input.next();
     }
@@ -68,7 +69,7 @@ public class LimitOperator extends PhysicalPlan {
 
   @Override
   public boolean hasNext() {
-    return input.hasNext() && count < offset + limit;
+    return count < offset + limit && input.hasNext();
   }
 
   @Override
@@ -77,6 +78,17 @@ public class LimitOperator extends PhysicalPlan {
     return input.next();
   }
 
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    int size = Math.min(maxSize, offset + limit - count);
+    if (size <= 0) {
+      return Collections.emptyList();
+    }
+    List<ExprValue> batch = input.nextBatch(size);
+    count += batch.size();
+    return batch;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitLimit(this, context);
@@ -26,10 +26,13 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
 
 /**
  * Physical plan.
@@ -37,6 +40,11 @@ import org.opensearch.sql.planner.PlanNode;
 public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     Iterator<ExprValue>,
     AutoCloseable {
+  /**
+   * Default max number of rows pulled by one {@link PhysicalPlan#nextBatch(int)} call.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1024;
+
   /**
    * Accept the {@link PhysicalPlanNodeVisitor}.
    *
@@ -56,6 +64,36 @@ public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Pull the next batch of rows, which amortizes the per row calls through the operator chain.
+   * The default implementation adapts to the row interface by {@link PhysicalPlan#hasNext()}
+   * and {@link PhysicalPlan#next()}. Operators that can process a batch of input at once
+   * override it. Batches and rows can be pulled from the same plan in turn, as long as each
+   * {@link PhysicalPlan#hasNext()} returning true is followed by its {@link PhysicalPlan#next()}.
+   *
+   * @param maxSize max number of rows returned
+   * @return next batch of rows with size between 1 and maxSize, or empty if no more row
+   */
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> batch = new ArrayList<>(Math.min(maxSize, DEFAULT_BATCH_SIZE));
+    while (batch.size() < maxSize && hasNext()) {
+      batch.add(next());
+    }
+    return batch;
+  }
+
+  /**
+   * Pull the next batch of rows with selection vector, whose numeric fields can be read into
+   * column vectors. The default implementation wraps {@link PhysicalPlan#nextBatch(int)}.
+   * Operators that narrow the selection of input batch rather than copying the rows override it.
+   *
+   * @param maxSize max number of rows in batch
+   * @return next batch with selected rows between 1 and maxSize, or empty if no more row
+   */
+  public ColumnBatch nextColumnBatch(int maxSize) {
+    return ColumnBatch.of(nextBatch(maxSize));
+  }
+
   public ExecutionEngine.Schema schema() {
     throw new IllegalStateException(String.format("[BUG] schema can been only applied to "
         + "ProjectOperator, instead of %s", toString()));
@@ -99,6 +99,12 @@ public class PhysicalPlanDSL {
     return new WindowOperator(input, windowFunction, windowDefinition);
   }
 
+  public WindowOperator window(PhysicalPlan input,
+                               List<NamedExpression> windowFunctions,
+                               WindowDefinition windowDefinition) {
+    return new WindowOperator(input, windowFunctions, windowDefinition);
+  }
+
   public static RareTopNOperator rareTopN(PhysicalPlan input, CommandType commandType,
       List<Expression> groups, Expression... expressions) {
     return new RareTopNOperator(input, commandType, Arrays.asList(expressions), groups);
@@ -120,4 +126,10 @@ public class PhysicalPlanDSL {
     return new LimitOperator(input, limit, offset);
   }
 
+  @SafeVarargs
+  public static TopNOperator topN(PhysicalPlan input, Integer limit, Integer offset,
+                                  Pair<SortOption, Expression>... sorts) {
+    return new TopNOperator(input, Arrays.asList(sorts), limit, offset);
+  }
+
 }
@@ -26,32 +26,49 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Project the fields specified in {@link ProjectOperator#projectList} from input.
  */
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor
 public class ProjectOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final List<NamedExpression> projectList;
 
+  /**
+   * Schema of output rows shared by all rows projected.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final RowSchema rowSchema;
+
+  /**
+   * Project operator constructor. The schema of output rows is created here once, so exception
+   * is thrown if output name is duplicate.
+   */
+  public ProjectOperator(PhysicalPlan input, List<NamedExpression> projectList) {
+    this.input = input;
+    this.projectList = projectList;
+    this.rowSchema = RowSchema.of(projectList.stream()
+        .map(NamedExpression::getNameOrAlias).collect(Collectors.toList()));
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -69,13 +86,29 @@ public class ProjectOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
-    for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
-      mapBuilder.put(expr.getNameOrAlias(), exprValue);
+    return project(input.next());
+  }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> inputBatch = input.nextBatch(maxSize);
+    List<ExprValue> batch = new ArrayList<>(inputBatch.size());
+    for (ExprValue inputValue : inputBatch) {
+      batch.add(project(inputValue));
+    }
+    return batch;
+  }
+
+  /**
+   * Build output row in the order of project list.
+   */
+  private ExprValue project(ExprValue inputValue) {
+    BindingTuple bindingTuples = inputValue.bindingTuples();
+    ExprValue[] values = new ExprValue[projectList.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = projectList.get(i).valueOf(bindingTuples);
     }
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    return new ExprRowValue(rowSchema, values);
   }
 
   @Override
@@ -30,6 +30,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -51,6 +52,8 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 /**
  * Group the all the input {@link BindingTuple} by {@link RareTopNOperator#groupByExprList},
  * Calculate the rare result by using the {@link RareTopNOperator#fieldExprList}.
+ * If sketch size is positive, top result is approximated by Space-Saving algorithm which keeps
+ * a bounded number of counters for each group instead of counting every distinct field value.
  */
 @ToString
 @EqualsAndHashCode
@@ -67,6 +70,13 @@ public class RareTopNOperator extends PhysicalPlan {
   @Getter
   private final List<Expression> groupByExprList;
 
+  /**
+   * Max number of counters kept for each group by top. Exact counting if not positive.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private final int sketchSize;
+
   @EqualsAndHashCode.Exclude
   private final Group group;
   @EqualsAndHashCode.Exclude
@@ -92,11 +102,29 @@ public class RareTopNOperator extends PhysicalPlan {
   public RareTopNOperator(PhysicalPlan input, CommandType commandType, int noOfResults,
       List<Expression> fieldExprList,
       List<Expression> groupByExprList) {
+    this(input, commandType, noOfResults, fieldExprList, groupByExprList, 0);
+  }
+
+  /**
+   * RareTopNOperator Constructor.
+   *
+   * @param input           Input {@link PhysicalPlan}
+   * @param commandType     Enum for Rare/TopN command.
+   * @param noOfResults     Number of results
+   * @param fieldExprList   List of {@link Expression}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param sketchSize      Max number of counters kept for each group by top
+   */
+  public RareTopNOperator(PhysicalPlan input, CommandType commandType, int noOfResults,
+      List<Expression> fieldExprList,
+      List<Expression> groupByExprList,
+      int sketchSize) {
     this.input = input;
     this.commandType = commandType;
     this.noOfResults = noOfResults;
     this.fieldExprList = fieldExprList;
     this.groupByExprList = groupByExprList;
+    this.sketchSize = sketchSize;
     this.group = new Group();
   }
 
@@ -135,24 +163,21 @@ public class RareTopNOperator extends PhysicalPlan {
 
     private final Map<Key, Map<Key, Integer>> groupListMap = new HashMap<>();
 
+    private final Map<Key, SpaceSaving<Key>> groupSketchMap = new HashMap<>();
+
     /**
      * Push the BindingTuple to Group.
      */
     public void push(ExprValue inputValue) {
       Key groupKey = new Key(inputValue, groupByExprList);
       Key fieldKey = new Key(inputValue, fieldExprList);
-      groupListMap.computeIfAbsent(groupKey, k -> {
-        Map<Key, Integer> map = new HashMap<>();
-        map.put(fieldKey, 1);
-        return map;
-      });
-      groupListMap.computeIfPresent(groupKey, (key, map) -> {
-        map.computeIfAbsent(fieldKey, f -> 1);
-        map.computeIfPresent(fieldKey, (field, count) -> {
-          return count + 1;
-        });
-        return map;
-      });
+      if (CommandType.TOP.equals(commandType) && sketchSize > 0) {
+        groupSketchMap.computeIfAbsent(groupKey,
+            k -> new SpaceSaving<>(Math.max(sketchSize, noOfResults))).add(fieldKey);
+      } else {
+        groupListMap.computeIfAbsent(groupKey, k -> new HashMap<>())
+            .merge(fieldKey, 1, Integer::sum);
+      }
     }
 
     /**
@@ -160,18 +185,20 @@ public class RareTopNOperator extends PhysicalPlan {
      */
     public List<ExprValue> result() {
       ImmutableList.Builder<ExprValue> resultBuilder = new ImmutableList.Builder<>();
+      groupListMap.forEach((groups, fieldMap) -> addResult(resultBuilder, groups, find(fieldMap)));
+      groupSketchMap.forEach((groups, sketch) ->
+          addResult(resultBuilder, groups, sketch.top(noOfResults)));
+      return resultBuilder.build();
+    }
 
-      groupListMap.forEach((groups, fieldMap) -> {
+    private void addResult(ImmutableList.Builder<ExprValue> resultBuilder, Key groups,
+                           List<Key> fields) {
+      fields.forEach(field -> {
         Map<String, ExprValue> map = new LinkedHashMap<>();
-        List<Key> result = find(fieldMap);
-        result.forEach(field -> {
-          map.putAll(groups.keyMap(groupByExprList));
-          map.putAll(field.keyMap(fieldExprList));
-          resultBuilder.add(ExprTupleValue.fromExprValueMap(map));
-        });
+        map.putAll(groups.keyMap(groupByExprList));
+        map.putAll(field.keyMap(fieldExprList));
+        resultBuilder.add(ExprTupleValue.fromExprValueMap(map));
       });
-
-      return resultBuilder.build();
     }
 
     /**
@@ -190,6 +217,115 @@ public class RareTopNOperator extends PhysicalPlan {
     }
   }
 
+  /**
+   * Space-Saving algorithm which finds the most frequent items with a fixed number of counters.
+   * Once all counters are taken, the item with min count is replaced by new item which inherits
+   * its count. Any item more frequent than total count divided by the number of counters is
+   * guaranteed to be kept, and its count is overestimated by at most the min count. Counters are
+   * organized in a min heap so that each item is counted in O(log capacity) time.
+   */
+  @VisibleForTesting
+  static class SpaceSaving<T> {
+
+    private final int capacity;
+
+    private final Map<T, Counter> counters = new HashMap<>();
+
+    private final List<Counter> heap = new ArrayList<>();
+
+    SpaceSaving(int capacity) {
+      this.capacity = capacity;
+    }
+
+    /**
+     * Count the item.
+     */
+    void add(T item) {
+      Counter counter = counters.get(item);
+      if (counter != null) {
+        counter.count++;
+        siftDown(counter.index);
+      } else if (heap.size() < capacity) {
+        counter = new Counter(item, heap.size());
+        counters.put(item, counter);
+        heap.add(counter);
+        siftUp(counter.index);
+      } else {
+        counter = heap.get(0);
+        counters.remove(counter.item);
+        counter.item = item;
+        counter.count++;
+        counters.put(item, counter);
+        siftDown(0);
+      }
+    }
+
+    /**
+     * Get the n items with max estimated count.
+     */
+    List<T> top(int n) {
+      return heap.stream()
+          .sorted(Comparator.comparingLong((Counter counter) -> counter.count).reversed())
+          .limit(n)
+          .map(counter -> counter.item)
+          .collect(Collectors.toList());
+    }
+
+    /**
+     * Estimated count of the item, or 0 if not counted.
+     */
+    long count(T item) {
+      Counter counter = counters.get(item);
+      return counter == null ? 0 : counter.count;
+    }
+
+    private void siftUp(int index) {
+      while (index > 0) {
+        int parent = (index - 1) / 2;
+        if (heap.get(parent).count <= heap.get(index).count) {
+          return;
+        }
+        swap(parent, index);
+        index = parent;
+      }
+    }
+
+    private void siftDown(int index) {
+      while (true) {
+        int min = index;
+        for (int child = 2 * index + 1; child <= 2 * index + 2 && child < heap.size(); child++) {
+          if (heap.get(child).count < heap.get(min).count) {
+            min = child;
+          }
+        }
+        if (min == index) {
+          return;
+        }
+        swap(min, index);
+        index = min;
+      }
+    }
+
+    private void swap(int i, int j) {
+      Counter counter = heap.get(i);
+      heap.set(i, heap.get(j));
+      heap.set(j, counter);
+      heap.get(i).index = i;
+      heap.get(j).index = j;
+    }
+
+    private class Counter {
+      private T item;
+      private long count = 1;
+      private int index;
+
+      private Counter(T item, int index) {
+        this.item = item;
+        this.index = index;
+      }
+    }
+  }
+
   /**
    * Key.
    */
@@ -28,9 +28,9 @@ package org.opensearch.sql.planner.physical;
 
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -89,14 +89,15 @@ public class RemoveOperator extends PhysicalPlan {
   public ExprValue next() {
     ExprValue inputValue = input.next();
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
+      LinkedHashMap<String, ExprValue> resultMap =
+          Maps.newLinkedHashMapWithExpectedSize(tupleValue.size());
       for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
         if (!nameRemoveList.contains(valueEntry.getKey())) {
-          mapBuilder.put(valueEntry);
+          resultMap.put(valueEntry.getKey(), valueEntry.getValue());
         }
       }
-      return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+      return new ExprTupleValue(resultMap);
     } else {
       return inputValue;
     }
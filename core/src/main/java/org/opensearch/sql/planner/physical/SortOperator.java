@@ -29,39 +29,81 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Singular;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}.
  * The count indicate how many sorted result should been return.
+ *
+ * <p>Sort keys are evaluated once for each input row. Once the estimated bytes of rows buffered
+ * in memory reach the spill threshold, the buffer is sorted and spilled to a temporary file as
+ * a sorted run. All runs and the remaining buffer are merged at last.
  */
 @ToString
 @EqualsAndHashCode
 public class SortOperator extends PhysicalPlan {
+  /**
+   * Sort is completely done in memory by default.
+   */
+  public static final long NO_SPILL = Long.MAX_VALUE;
+
+  private static final String SPILL_FILE_PREFIX = "opensearch-sql-sort-";
+
+  /**
+   * Estimated bytes of a buffered entry including its sort key list.
+   */
+  private static final long ENTRY_OVERHEAD_BYTES = 64;
+  /**
+   * Estimated bytes of a field in tuple other than its name and value.
+   */
+  private static final long FIELD_OVERHEAD_BYTES = 48;
+  /**
+   * Estimated bytes of a value other than string, tuple and array.
+   */
+  private static final long VALUE_BYTES = 24;
+
   @Getter
   private final PhysicalPlan input;
 
   @Getter
   private final List<Pair<SortOption, Expression>> sortList;
+
+  /**
+   * Max estimated bytes of rows buffered in memory before spilling a sorted run to disk.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private final long spillThreshold;
+
   @EqualsAndHashCode.Exclude
   private final Sorter sorter;
   @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+  @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
   /**
@@ -72,20 +114,22 @@ public class SortOperator extends PhysicalPlan {
    */
   public SortOperator(
       PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, NO_SPILL);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param spillThreshold max estimated bytes of rows sorted in memory before spilling to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, long spillThreshold) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.spillThreshold = spillThreshold;
+    this.sorter = Sorter.of(sortList);
   }
 
   @Override
@@ -96,12 +140,38 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    List<SortEntry> buffer = new ArrayList<>();
+    long bufferedBytes = 0L;
     while (input.hasNext()) {
-      sorted.add(input.next());
+      ExprValue row = input.next();
+      buffer.add(new SortEntry(sorter.keys(row), row));
+      // Sort keys mostly refer to the values in row, so only row is counted
+      bufferedBytes += ENTRY_OVERHEAD_BYTES + estimatedBytes(row);
+      if (bufferedBytes >= spillThreshold) {
+        spill(buffer);
+        buffer = new ArrayList<>();
+        bufferedBytes = 0L;
+      }
     }
+    buffer.sort(this::compare);
 
-    iterator = iterator(sorted);
+    if (spillFiles.isEmpty()) {
+      iterator = buffer.stream().map(SortEntry::getRow).iterator();
+    } else {
+      List<Iterator<SortEntry>> runs = new ArrayList<>();
+      for (SpillFile spillFile : spillFiles) {
+        runs.add(readRun(spillFile));
+      }
+      runs.add(buffer.iterator());
+      iterator = merge(runs);
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
   }
 
   @Override
@@ -119,20 +189,76 @@ public class SortOperator extends PhysicalPlan {
     return iterator.next();
   }
 
+  /**
+   * Estimated bytes of the value in memory.
+   */
+  public static long estimatedBytes(ExprValue value) {
+    if (value instanceof ExprTupleValue || value instanceof ExprRowValue) {
+      long bytes = VALUE_BYTES;
+      for (Map.Entry<String, ExprValue> field : value.tupleValue().entrySet()) {
+        bytes += FIELD_OVERHEAD_BYTES + 2L * field.getKey().length()
+            + estimatedBytes(field.getValue());
+      }
+      return bytes;
+    } else if (value instanceof ExprCollectionValue) {
+      long bytes = VALUE_BYTES;
+      for (ExprValue item : value.collectionValue()) {
+        bytes += estimatedBytes(item);
+      }
+      return bytes;
+    }
+    Object rawValue = value.value();
+    return (rawValue instanceof String)
+        ? VALUE_BYTES + 2L * ((String) rawValue).length() : VALUE_BYTES;
+  }
+
   @Builder
   public static class Sorter implements Comparator<ExprValue> {
     @Singular
     private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
 
+    /**
+     * Build sorter for the sort fields.
+     * @param sortList list of sort field specified by {@link Expression} with {@link SortOption}
+     * @return sorter
+     */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      SorterBuilder sorterBuilder = Sorter.builder();
+      for (Pair<SortOption, Expression> pair : sortList) {
+        SortOption option = pair.getLeft();
+        ExprValueOrdering ordering =
+            ASC.equals(option.getSortOrder())
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        ordering =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
+      }
+      return sorterBuilder.build();
+    }
+
     @Override
     public int compare(ExprValue o1, ExprValue o2) {
+      return compareKeys(keys(o1), keys(o2));
+    }
+
+    /**
+     * Evaluate all sort keys of the row.
+     */
+    public List<ExprValue> keys(ExprValue row) {
+      List<ExprValue> keys = new ArrayList<>(comparators.size());
       for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
-        Expression expression = comparator.getKey();
-        int result =
-            comparator
-                .getValue()
-                .compare(
-                    expression.valueOf(o1.bindingTuples()), expression.valueOf(o2.bindingTuples()));
+        keys.add(comparator.getKey().valueOf(row.bindingTuples()));
+      }
+      return keys;
+    }
+
+    /**
+     * Compare the sort keys evaluated by {@link Sorter#keys}.
+     */
+    public int compareKeys(List<ExprValue> keys1, List<ExprValue> keys2) {
+      for (int i = 0; i < comparators.size(); i++) {
+        int result = comparators.get(i).getValue().compare(keys1.get(i), keys2.get(i));
         if (result != 0) {
           return result;
         }
@@ -141,16 +267,76 @@ public class SortOperator extends PhysicalPlan {
     }
   }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
+  @Getter
+  @RequiredArgsConstructor
+  private static class SortEntry {
+    private final List<ExprValue> keys;
+    private final ExprValue row;
+  }
+
+  private int compare(SortEntry e1, SortEntry e2) {
+    return sorter.compareKeys(e1.getKeys(), e2.getKeys());
+  }
+
+  /**
+   * Sort the buffer and write it as a sorted run. Each record in spill file consists of the
+   * sort keys followed by the row.
+   */
+  private void spill(List<SortEntry> buffer) {
+    buffer.sort(this::compare);
+    SpillFile spillFile = SpillFile.create(SPILL_FILE_PREFIX);
+    spillFiles.add(spillFile);
+    for (SortEntry entry : buffer) {
+      List<ExprValue> record = new ArrayList<>(entry.getKeys());
+      record.add(entry.getRow());
+      spillFile.write(record);
+    }
+  }
+
+  private Iterator<SortEntry> readRun(SpillFile spillFile) {
+    Iterator<List<ExprValue>> records = spillFile.read();
+    return new Iterator<SortEntry>() {
+      @Override
+      public boolean hasNext() {
+        return records.hasNext();
+      }
+
+      @Override
+      public SortEntry next() {
+        List<ExprValue> record = records.next();
+        int last = record.size() - 1;
+        return new SortEntry(record.subList(0, last), record.get(last));
+      }
+    };
+  }
+
+  /**
+   * K-way merge of sorted runs. Rows with equal sort keys are returned in run order so the
+   * result is the same as sorting all rows in memory.
+   */
+  private Iterator<ExprValue> merge(List<Iterator<SortEntry>> runs) {
+    PriorityQueue<Pair<SortEntry, Integer>> heads = new PriorityQueue<>(runs.size(),
+        Comparator.<Pair<SortEntry, Integer>, SortEntry>comparing(Pair::getLeft, this::compare)
+            .thenComparing(Pair::getRight));
+    for (int i = 0; i < runs.size(); i++) {
+      if (runs.get(i).hasNext()) {
+        heads.add(Pair.of(runs.get(i).next(), i));
+      }
+    }
     return new Iterator<ExprValue>() {
       @Override
       public boolean hasNext() {
-        return !result.isEmpty();
+        return !heads.isEmpty();
       }
 
       @Override
       public ExprValue next() {
-        return result.poll();
+        Pair<SortEntry, Integer> head = heads.poll();
+        Iterator<SortEntry> run = runs.get(head.getRight());
+        if (run.hasNext()) {
+          heads.add(Pair.of(run.next(), head.getRight()));
+        }
+        return head.getLeft().getRow();
       }
     };
   }
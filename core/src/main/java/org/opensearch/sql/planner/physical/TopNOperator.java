@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * TopN Operator. It is the combination of {@link SortOperator} and {@link LimitOperator} on top
+ * of it. Only the first offset + limit rows in sort order are kept in a bounded heap, thus it
+ * takes O(n log k) time and O(k) memory where k is offset + limit, instead of sorting the entire
+ * input. Rows with the same sort keys are returned in input order as what sort does.
+ */
+@ToString
+@EqualsAndHashCode
+public class TopNOperator extends PhysicalPlan {
+
+  @Getter
+  private final PhysicalPlan input;
+
+  @Getter
+  private final List<Pair<SortOption, Expression>> sortList;
+
+  @Getter
+  private final Integer limit;
+
+  @Getter
+  private final Integer offset;
+
+  @EqualsAndHashCode.Exclude
+  private final Sorter sorter;
+
+  @EqualsAndHashCode.Exclude
+  private Iterator<ExprValue> iterator;
+
+  /**
+   * TopN Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param limit max number of rows returned
+   * @param offset number of leading rows in sort order skipped
+   */
+  public TopNOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList,
+                      Integer limit, Integer offset) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTopN(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    long size = (long) limit + offset;
+    if (size == 0) {
+      iterator = Collections.emptyIterator();
+      return;
+    }
+
+    // Max heap whose head is the last row in sort order, which is evicted once heap is full
+    Comparator<TopNEntry> order =
+        Comparator.<TopNEntry, List<ExprValue>>comparing(TopNEntry::getKeys, sorter::compareKeys)
+            .thenComparingLong(TopNEntry::getSeq);
+    PriorityQueue<TopNEntry> heap = new PriorityQueue<>(order.reversed());
+    long seq = 0;
+    while (input.hasNext()) {
+      ExprValue row = input.next();
+      TopNEntry entry = new TopNEntry(sorter.keys(row), row, seq++);
+      if (heap.size() < size) {
+        heap.add(entry);
+      } else if (order.compare(entry, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(entry);
+      }
+    }
+
+    List<TopNEntry> result = new ArrayList<>(heap);
+    result.sort(order);
+    List<ExprValue> rows = new ArrayList<>(Math.max(result.size() - offset, 0));
+    for (int i = offset; i < result.size(); i++) {
+      rows.add(result.get(i).getRow());
+    }
+    iterator = rows.iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class TopNEntry {
+    private final List<ExprValue> keys;
+    private final ExprValue row;
+    /**
+     * Position in input to keep the order of rows with same sort keys.
+     */
+    private final long seq;
+  }
+}
@@ -32,6 +32,7 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -40,10 +41,13 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
+import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
- * Physical operator for window function computation.
+ * Physical operator for window function computation. All window functions share the same window
+ * definition and thus are evaluated on the same window frame in one pass. Each row is enriched by
+ * the results of all window functions at once.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -52,7 +56,7 @@ public class WindowOperator extends PhysicalPlan {
   private final PhysicalPlan input;
 
   @Getter
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
 
   @Getter
   private final WindowDefinition windowDefinition;
@@ -71,7 +75,7 @@ public class WindowOperator extends PhysicalPlan {
   private final PeekingIterator<ExprValue> peekingIterator;
 
   /**
-   * Initialize window operator.
+   * Initialize window operator with single window function.
    * @param input             child operator
    * @param windowFunction    window function
    * @param windowDefinition  window definition
@@ -79,8 +83,20 @@ public class WindowOperator extends PhysicalPlan {
   public WindowOperator(PhysicalPlan input,
                         NamedExpression windowFunction,
                         WindowDefinition windowDefinition) {
+    this(input, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Initialize window operator.
+   * @param input             child operator
+   * @param windowFunctions   window functions with the same window definition
+   * @param windowDefinition  window definition
+   */
+  public WindowOperator(PhysicalPlan input,
+                        List<NamedExpression> windowFunctions,
+                        WindowDefinition windowDefinition) {
     this.input = input;
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
     this.windowFrame = createWindowFrame();
     this.peekingIterator = Iterators.peekingIterator(input);
@@ -107,15 +123,27 @@ public class WindowOperator extends PhysicalPlan {
     return enrichCurrentRowByWindowFunctionResult();
   }
 
+  /**
+   * Ranking window function only requires current and previous row accessible in any window
+   * frame. So the frame required by other window function, such as aggregate window function,
+   * takes precedence if any.
+   */
   private WindowFrame createWindowFrame() {
-    return ((WindowFunctionExpression) windowFunction.getDelegated())
-        .createWindowFrame(windowDefinition);
+    List<WindowFrame> frames = windowFunctions.stream()
+        .map(func -> ((WindowFunctionExpression) func.getDelegated())
+            .createWindowFrame(windowDefinition))
+        .collect(Collectors.toList());
+
+    return frames.stream()
+                 .filter(frame -> !(frame instanceof CurrentRowWindowFrame))
+                 .findFirst()
+                 .orElse(frames.get(0));
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
     preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
+    addWindowFunctionResultColumns(mapBuilder);
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
@@ -124,9 +152,10 @@ public class WindowOperator extends PhysicalPlan {
     inputValue.tupleValue().forEach(mapBuilder::put);
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  private void addWindowFunctionResultColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+    for (NamedExpression windowFunction : windowFunctions) {
+      mapBuilder.put(windowFunction.getName(), windowFunction.valueOf(windowFrame));
+    }
   }
 
 }
@@ -12,96 +12,378 @@
 
 package org.opensearch.sql.planner.physical.bucket;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
-import org.opensearch.sql.expression.aggregation.AggregationState;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
+/**
+ * Groups of aggregation kept in an open addressing hash table. Groups are returned in the order
+ * they are created, which is the order of the first row of each group in input.
+ *
+ * <p>The key of a group by a single integral or string expression, or by two integral expressions,
+ * is encoded in primitive fields rather than a list of {@link ExprValue}. The aggregation states
+ * are kept in a {@link StateColumn} for each aggregator.
+ */
 @VisibleForTesting
-@RequiredArgsConstructor
 public class Group {
+  /**
+   * Estimated bytes of table slots and group key object of a group.
+   */
+  private static final long GROUP_OVERHEAD_BYTES = 64;
+  /**
+   * Estimated bytes of the list of group by values in key.
+   */
+  private static final long VALUE_LIST_BYTES = 32;
+  /**
+   * Estimated bytes of a group by value other than string.
+   */
+  private static final long VALUE_BYTES = 24;
+  /**
+   * Initial number of slots in hash table, which must be power of 2.
+   */
+  private static final int INITIAL_SLOTS = 16;
+
+  /**
+   * State of group by value encoded in key.
+   */
+  private static final byte VALUE = 0;
+  private static final byte NULL = 1;
+  private static final byte MISSING = 2;
+
   @Getter
   private final List<NamedAggregator> aggregatorList;
   @Getter
   private final List<NamedExpression> groupByExprList;
 
-  protected final Map<Key, List<Map.Entry<NamedAggregator, AggregationState>>> groupListMap =
-      new HashMap<>();
+  /**
+   * State column of each aggregator.
+   */
+  private final StateColumn[] columns;
+
+  /**
+   * Estimated bytes of the states of a group.
+   */
+  private final long stateBytes;
+
+  /**
+   * Open addressing hash table with linear probing. Each slot holds group index plus 1, or 0 if
+   * the slot is empty. It's resized to keep load factor under 0.75.
+   */
+  private int[] slots = new int[INITIAL_SLOTS];
+
+  /**
+   * Hash code of the key of each group by group index, which avoids comparing keys of different
+   * hash codes and computing hash code again when resizing table.
+   */
+  private int[] hashes = new int[INITIAL_SLOTS];
+
+  /**
+   * Key of each group by group index, which is also the order groups are created.
+   */
+  private Key[] keys = new Key[INITIAL_SLOTS];
+
+  /**
+   * Number of groups.
+   */
+  private int size = 0;
+
+  /**
+   * Estimated bytes of all groups.
+   */
+  @Getter
+  private long estimatedBytes = 0L;
+
+  /**
+   * Group Constructor.
+   */
+  public Group(List<NamedAggregator> aggregatorList, List<NamedExpression> groupByExprList) {
+    this.aggregatorList = aggregatorList;
+    this.groupByExprList = groupByExprList;
+    this.columns = new StateColumn[aggregatorList.size()];
+    long bytes = 0L;
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = StateColumn.of(aggregatorList.get(i), INITIAL_SLOTS);
+      bytes += columns[i].stateBytes();
+    }
+    this.stateBytes = bytes;
+  }
 
   /**
    * Push the BindingTuple to Group. Two functions will be applied to each BindingTuple to
-   * generate the {@link Key} and {@link AggregationState}
+   * generate the {@link Key} and {@link StateColumn}
    * Key = GroupKey(bindingTuple), State = Aggregator(bindingTuple)
    */
   public void push(ExprValue inputValue) {
-    Key groupKey = new Key(inputValue, groupByExprList);
-    groupListMap.computeIfAbsent(groupKey, k ->
-        aggregatorList.stream()
-            .map(aggregator -> new AbstractMap.SimpleEntry<>(aggregator,
-                aggregator.create()))
-            .collect(Collectors.toList())
-    );
-    groupListMap.computeIfPresent(groupKey, (key, aggregatorList) -> {
-      aggregatorList
-          .forEach(entry -> entry.getKey().iterate(inputValue.bindingTuples(), entry.getValue()));
-      return aggregatorList;
-    });
+    push(groupKey(inputValue), inputValue);
+  }
+
+  /**
+   * Push the BindingTuple to the group of the key. The group is created if absent.
+   */
+  public void push(Key groupKey, ExprValue inputValue) {
+    iterate(findOrCreate(groupKey), inputValue);
   }
 
   /**
-   * Get the list of {@link BindingTuple} for each group.
+   * Push the selected rows of the batch in order until the estimated bytes of groups exceed the
+   * memory limit after a group is created. The group of each row is found first, then each
+   * {@link StateColumn} aggregates all the rows pushed at once.
+   *
+   * @return number of the selected rows pushed
+   */
+  public int push(ColumnBatch batch, long memoryLimit) {
+    int[] groups = new int[batch.size()];
+    int count = 0;
+    while (count < batch.size() && estimatedBytes <= memoryLimit) {
+      groups[count] = findOrCreate(groupKey(batch.selectedRow(count)));
+      count++;
+    }
+    for (StateColumn column : columns) {
+      column.iterate(groups, batch, count);
+    }
+    return count;
+  }
+
+  /**
+   * Push the BindingTuple to the group of the key only if the group exists already.
+   *
+   * @return true if pushed, otherwise false
+   */
+  public boolean pushIfPresent(Key groupKey, ExprValue inputValue) {
+    int slot = probe(groupKey, groupKey.hashCode());
+    if (slots[slot] == 0) {
+      return false;
+    }
+    iterate(slots[slot] - 1, inputValue);
+    return true;
+  }
+
+  /**
+   * Get the list of {@link BindingTuple} for each group in the order groups are created.
    */
   public List<ExprValue> result() {
     ImmutableList.Builder<ExprValue> resultBuilder = new ImmutableList.Builder<>();
-    for (Map.Entry<Key, List<Map.Entry<NamedAggregator, AggregationState>>>
-        entry : groupListMap.entrySet()) {
-      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>(entry.getKey().groupKeyMap());
-      for (Map.Entry<NamedAggregator, AggregationState> stateEntry : entry.getValue()) {
-        map.put(stateEntry.getKey().getName(), stateEntry.getValue().result());
-      }
-      resultBuilder.add(ExprTupleValue.fromExprValueMap(map));
+    for (int group = 0; group < size; group++) {
+      resultBuilder.add(ExprTupleValue.fromExprValueMap(resultMap(group)));
     }
     return resultBuilder.build();
   }
 
+  /**
+   * Number of groups.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Generate the group key of input value, which is encoded in primitive fields if possible.
+   */
+  public Key groupKey(ExprValue inputValue) {
+    if (groupByExprList.size() == 1 && isIntegral(groupByExprList.get(0).type())) {
+      return new LongKey(inputValue.bindingTuples(), groupByExprList);
+    } else if (groupByExprList.size() == 2 && isIntegral(groupByExprList.get(0).type())
+        && isIntegral(groupByExprList.get(1).type())) {
+      return new LongPairKey(inputValue.bindingTuples(), groupByExprList);
+    } else if (groupByExprList.size() == 1 && groupByExprList.get(0).type() == STRING) {
+      return new StringKey(inputValue.bindingTuples(), groupByExprList);
+    }
+    return new ValueListKey(inputValue, groupByExprList);
+  }
+
+  /**
+   * Key of the group.
+   */
+  protected Key key(int group) {
+    return keys[group];
+  }
+
+  /**
+   * Build the map of group key and aggregation result of the group.
+   */
+  protected LinkedHashMap<String, ExprValue> resultMap(int group) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>(keys[group].groupKeyMap());
+    for (int i = 0; i < columns.length; i++) {
+      map.put(aggregatorList.get(i).getName(), columns[i].result(group));
+    }
+    return map;
+  }
+
+  /**
+   * Find the slot of the key, which is either the slot of the group with the same key or the
+   * empty slot where the group should be put.
+   */
+  private int probe(Key key, int hash) {
+    int mask = slots.length - 1;
+    int slot = spread(hash) & mask;
+    while (slots[slot] != 0) {
+      int group = slots[slot] - 1;
+      if (hashes[group] == hash && keys[group].equals(key)) {
+        break;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Mix high bits of hash code into low bits which are used as slot index, the same as HashMap.
+   */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private void resize() {
+    slots = new int[slots.length * 2];
+    int mask = slots.length - 1;
+    for (int group = 0; group < size; group++) {
+      int slot = spread(hashes[group]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = group + 1;
+    }
+  }
+
+  /**
+   * Find the group of the key, which is created if absent.
+   *
+   * @return index of the group
+   */
+  private int findOrCreate(Key key) {
+    int hash = key.hashCode();
+    int slot = probe(key, hash);
+    if (slots[slot] != 0) {
+      return slots[slot] - 1;
+    }
+    int group = create(key, hash);
+    slots[slot] = group + 1;
+    if (size * 4 > slots.length * 3) {
+      resize();
+    }
+    return group;
+  }
+
+  private void iterate(int group, ExprValue inputValue) {
+    BindingTuple tuple = inputValue.bindingTuples();
+    for (StateColumn column : columns) {
+      column.iterate(group, tuple);
+    }
+  }
+
+  /**
+   * Create the group of the key and its aggregation states.
+   *
+   * @return index of the group created
+   */
+  private int create(Key key, int hash) {
+    if (size == keys.length) {
+      int capacity = keys.length * 2;
+      keys = Arrays.copyOf(keys, capacity);
+      hashes = Arrays.copyOf(hashes, capacity);
+      for (StateColumn column : columns) {
+        column.resize(capacity);
+      }
+    }
+    keys[size] = key;
+    hashes[size] = hash;
+    for (StateColumn column : columns) {
+      column.create(size);
+    }
+    estimatedBytes += GROUP_OVERHEAD_BYTES + key.estimatedBytes() + stateBytes;
+    return size++;
+  }
+
+  private static boolean isIntegral(ExprType type) {
+    return type == INTEGER || type == LONG || type == SHORT || type == BYTE;
+  }
+
+  /**
+   * State of the group by value encoded in key.
+   */
+  private static byte state(ExprValue value) {
+    return value.isMissing() ? MISSING : value.isNull() ? NULL : VALUE;
+  }
+
+  /**
+   * Decode the integral group by value of the type from its state and value encoded in key.
+   */
+  private static ExprValue integralValue(ExprType type, byte state, long value) {
+    if (state == MISSING) {
+      return ExprMissingValue.of();
+    } else if (state == NULL) {
+      return ExprNullValue.of();
+    } else if (type == INTEGER) {
+      return ExprValueUtils.integerValue((int) value);
+    } else if (type == LONG) {
+      return ExprValueUtils.longValue(value);
+    } else if (type == SHORT) {
+      return ExprValueUtils.shortValue((short) value);
+    }
+    return ExprValueUtils.byteValue((byte) value);
+  }
+
   /**
    * Group Key.
    */
-  @EqualsAndHashCode
   @VisibleForTesting
-  public static class Key {
+  public abstract static class Key {
+    /**
+     * Return the Map of group field and group field value.
+     */
+    public abstract LinkedHashMap<String, ExprValue> groupKeyMap();
+
+    /**
+     * Estimated bytes of the group by values not in the key object itself.
+     */
+    public abstract long estimatedBytes();
+  }
+
+  /**
+   * Group key of the list of group by values.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  @VisibleForTesting
+  public static class ValueListKey extends Key {
     private final List<ExprValue> groupByValueList;
+    @EqualsAndHashCode.Exclude
     private final List<NamedExpression> groupByExprList;
 
     /**
      * GroupKey constructor.
      */
-    public Key(ExprValue value, List<NamedExpression> groupByExprList) {
-      this.groupByValueList = new ArrayList<>();
+    public ValueListKey(ExprValue value, List<NamedExpression> groupByExprList) {
+      this.groupByValueList = new ArrayList<>(groupByExprList.size());
       this.groupByExprList = groupByExprList;
+      BindingTuple tuple = value.bindingTuples();
       for (Expression groupExpr : groupByExprList) {
-        this.groupByValueList.add(groupExpr.valueOf(value.bindingTuples()));
+        this.groupByValueList.add(groupExpr.valueOf(tuple));
       }
     }
 
-    /**
-     * Return the Map of group field and group field value.
-     */
+    @Override
     public LinkedHashMap<String, ExprValue> groupKeyMap() {
       LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
       for (int i = 0; i < groupByExprList.size(); i++) {
@@ -109,5 +391,117 @@ public class Group {
       }
       return map;
     }
+
+    @Override
+    public long estimatedBytes() {
+      long bytes = VALUE_LIST_BYTES;
+      for (ExprValue value : groupByValueList) {
+        Object rawValue = value.value();
+        bytes += (rawValue instanceof String)
+            ? VALUE_BYTES + 2L * ((String) rawValue).length() : VALUE_BYTES;
+      }
+      return bytes;
+    }
+  }
+
+  /**
+   * Group key of a single integral value encoded in long.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  private static class LongKey extends Key {
+    private final long value;
+    private final byte state;
+    @EqualsAndHashCode.Exclude
+    private final List<NamedExpression> groupByExprList;
+
+    LongKey(BindingTuple tuple, List<NamedExpression> groupByExprList) {
+      ExprValue exprValue = groupByExprList.get(0).valueOf(tuple);
+      this.state = state(exprValue);
+      this.value = (state == VALUE) ? exprValue.longValue() : 0L;
+      this.groupByExprList = groupByExprList;
+    }
+
+    @Override
+    public LinkedHashMap<String, ExprValue> groupKeyMap() {
+      NamedExpression expr = groupByExprList.get(0);
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      map.put(expr.getNameOrAlias(), integralValue(expr.type(), state, value));
+      return map;
+    }
+
+    @Override
+    public long estimatedBytes() {
+      return 0L;
+    }
+  }
+
+  /**
+   * Group key of two integral values encoded in longs.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  private static class LongPairKey extends Key {
+    private final long first;
+    private final long second;
+    private final byte firstState;
+    private final byte secondState;
+    @EqualsAndHashCode.Exclude
+    private final List<NamedExpression> groupByExprList;
+
+    LongPairKey(BindingTuple tuple, List<NamedExpression> groupByExprList) {
+      ExprValue firstValue = groupByExprList.get(0).valueOf(tuple);
+      ExprValue secondValue = groupByExprList.get(1).valueOf(tuple);
+      this.firstState = state(firstValue);
+      this.secondState = state(secondValue);
+      this.first = (firstState == VALUE) ? firstValue.longValue() : 0L;
+      this.second = (secondState == VALUE) ? secondValue.longValue() : 0L;
+      this.groupByExprList = groupByExprList;
+    }
+
+    @Override
+    public LinkedHashMap<String, ExprValue> groupKeyMap() {
+      NamedExpression firstExpr = groupByExprList.get(0);
+      NamedExpression secondExpr = groupByExprList.get(1);
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      map.put(firstExpr.getNameOrAlias(), integralValue(firstExpr.type(), firstState, first));
+      map.put(secondExpr.getNameOrAlias(), integralValue(secondExpr.type(), secondState, second));
+      return map;
+    }
+
+    @Override
+    public long estimatedBytes() {
+      return 0L;
+    }
+  }
+
+  /**
+   * Group key of a single string value.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  private static class StringKey extends Key {
+    private final String value;
+    private final byte state;
+    @EqualsAndHashCode.Exclude
+    private final List<NamedExpression> groupByExprList;
+
+    StringKey(BindingTuple tuple, List<NamedExpression> groupByExprList) {
+      ExprValue exprValue = groupByExprList.get(0).valueOf(tuple);
+      this.state = state(exprValue);
+      this.value = (state == VALUE) ? exprValue.stringValue() : null;
+      this.groupByExprList = groupByExprList;
+    }
+
+    @Override
+    public LinkedHashMap<String, ExprValue> groupKeyMap() {
+      ExprValue exprValue = (state == MISSING) ? ExprMissingValue.of()
+          : (state == NULL) ? ExprNullValue.of() : ExprValueUtils.stringValue(value);
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      map.put(groupByExprList.get(0).getNameOrAlias(), exprValue);
+      return map;
+    }
+
+    @Override
+    public long estimatedBytes() {
+      return (state == VALUE) ? VALUE_BYTES + 2L * value.length() : 0L;
+    }
   }
 }
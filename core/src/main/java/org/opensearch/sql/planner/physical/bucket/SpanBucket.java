@@ -14,11 +14,8 @@ package org.opensearch.sql.planner.physical.bucket;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import java.util.AbstractMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.opensearch.sql.ast.expression.SpanUnit;
@@ -26,7 +23,6 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.NamedExpression;
-import org.opensearch.sql.expression.aggregation.AggregationState;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
 
@@ -46,19 +42,8 @@ public class SpanBucket extends Group {
   }
 
   @Override
-  public void push(ExprValue inputValue) {
-    Key spanKey = new Key(inputValue, groupByExprList, rounding);
-    groupListMap.computeIfAbsent(spanKey, k ->
-        aggregatorList.stream()
-            .map(aggregator -> new AbstractMap.SimpleEntry<>(aggregator,
-                aggregator.create()))
-            .collect(Collectors.toList())
-    );
-    groupListMap.computeIfPresent(spanKey, (key, aggregatorList) -> {
-      aggregatorList
-          .forEach(entry -> entry.getKey().iterate(inputValue.bindingTuples(), entry.getValue()));
-      return aggregatorList;
-    });
+  public Group.Key groupKey(ExprValue inputValue) {
+    return new Key(inputValue, groupByExprList, rounding);
   }
 
   @Override
@@ -66,20 +51,17 @@ public class SpanBucket extends Group {
     ExprValue[] buckets = rounding.createBuckets();
     LinkedHashMap<String, ExprValue> emptyBucketTuple = new LinkedHashMap<>();
     String spanKey = null;
-    for (Map.Entry<Group.Key, List<Map.Entry<NamedAggregator, AggregationState>>>
-        entry : groupListMap.entrySet()) {
-      LinkedHashMap<String, ExprValue> tupleMap = new LinkedHashMap<>(entry.getKey().groupKeyMap());
+    for (int group = 0; group < size(); group++) {
+      LinkedHashMap<String, ExprValue> tupleMap = resultMap(group);
+      Key groupKey = (Key) key(group);
       if (spanKey == null) {
-        spanKey = ((Key) entry.getKey()).namedSpan.getNameOrAlias();
+        spanKey = groupKey.namedSpan.getNameOrAlias();
       }
-      for (Map.Entry<NamedAggregator, AggregationState> stateEntry : entry.getValue()) {
-        tupleMap.put(stateEntry.getKey().getName(), stateEntry.getValue().result());
-        if (emptyBucketTuple.isEmpty()) {
-          entry.getKey().groupKeyMap().keySet().forEach(key -> emptyBucketTuple.put(key, null));
-          emptyBucketTuple.put(stateEntry.getKey().getName(), ExprValueUtils.fromObjectValue(0));
-        }
+      if (emptyBucketTuple.isEmpty() && !aggregatorList.isEmpty()) {
+        groupKey.groupKeyMap().keySet().forEach(key -> emptyBucketTuple.put(key, null));
+        emptyBucketTuple.put(aggregatorList.get(0).getName(), ExprValueUtils.fromObjectValue(0));
       }
-      int index = rounding.locate(((SpanBucket.Key) entry.getKey()).getRoundedValue());
+      int index = rounding.locate(groupKey.getRoundedValue());
       buckets[index] = ExprTupleValue.fromExprValueMap(tupleMap);
     }
     return ImmutableList.copyOf(rounding.fillBuckets(buckets, emptyBucketTuple, spanKey));
@@ -87,7 +69,7 @@ public class SpanBucket extends Group {
 
   @EqualsAndHashCode(callSuper = false)
   @VisibleForTesting
-  public static class Key extends Group.Key {
+  public static class Key extends Group.ValueListKey {
     @Getter
     private final ExprValue roundedValue;
     private final NamedExpression namedSpan;
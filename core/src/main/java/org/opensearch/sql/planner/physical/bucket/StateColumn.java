@@ -0,0 +1,523 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ *  The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ *
+ */
+
+package org.opensearch.sql.planner.physical.bucket;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.Arrays;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.AvgAggregator;
+import org.opensearch.sql.expression.aggregation.CountAggregator;
+import org.opensearch.sql.expression.aggregation.MaxAggregator;
+import org.opensearch.sql.expression.aggregation.MinAggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.aggregation.StdDevAggregator;
+import org.opensearch.sql.expression.aggregation.SumAggregator;
+import org.opensearch.sql.expression.aggregation.VarianceAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
+import org.opensearch.sql.planner.physical.vector.ColumnVector;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Aggregation states of an aggregator for all groups in a {@link Group}, indexed by group.
+ * COUNT, SUM, AVG, VAR_POP, VAR_SAMP, STDDEV_POP, STDDEV_SAMP and MIN, MAX of number are kept in
+ * primitive arrays and computed the same way as the {@link AggregationState} of the aggregator,
+ * so no state object is created for each group. Any other aggregator, for example distinct count,
+ * keeps the state object created by the aggregator for each group.
+ *
+ * <p>The primitive state columns aggregate a batch of rows in a loop over the
+ * {@link ColumnVector} of the argument, if it's a field of INTEGER, LONG or DOUBLE type and the
+ * aggregator has no filter condition.
+ */
+abstract class StateColumn {
+
+  /**
+   * Aggregator of the states, whose argument and condition are evaluated on each row.
+   */
+  protected final Aggregator<AggregationState> aggregator;
+
+  protected StateColumn(Aggregator<AggregationState> aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  /**
+   * Create the state column for the aggregator.
+   */
+  static StateColumn of(NamedAggregator aggregator, int capacity) {
+    Aggregator<AggregationState> delegated = aggregator.getDelegated();
+    ExprType type = aggregator.type();
+    if (delegated instanceof CountAggregator && !aggregator.distinct()) {
+      return new CountColumn(aggregator, capacity);
+    } else if (delegated instanceof SumAggregator) {
+      return new SumColumn(aggregator, capacity);
+    } else if (delegated instanceof AvgAggregator) {
+      return new AvgColumn(aggregator, capacity);
+    } else if ((delegated instanceof MinAggregator || delegated instanceof MaxAggregator)
+        && (type == INTEGER || type == LONG || type == FLOAT || type == DOUBLE)) {
+      return new MinMaxColumn(aggregator, capacity, delegated instanceof MaxAggregator);
+    } else if (delegated instanceof VarianceAggregator || delegated instanceof StdDevAggregator) {
+      return new VarianceColumn(aggregator, capacity);
+    }
+    return new ObjectColumn(aggregator, capacity);
+  }
+
+  /**
+   * Estimated bytes of the state of a group.
+   */
+  abstract long stateBytes();
+
+  /**
+   * Resize the arrays to hold states of the number of groups.
+   */
+  abstract void resize(int capacity);
+
+  /**
+   * Initialize the state of the new group.
+   */
+  void create(int group) {
+  }
+
+  /**
+   * Aggregate the row in the state of the group.
+   */
+  abstract void iterate(int group, BindingTuple tuple);
+
+  /**
+   * Aggregate the first number of selected rows of the batch in the states of their groups.
+   *
+   * @param groups group of each selected row
+   * @param batch  column batch
+   * @param count  number of selected rows to aggregate
+   */
+  void iterate(int[] groups, ColumnBatch batch, int count) {
+    for (int i = 0; i < count; i++) {
+      iterate(groups[i], batch.selectedRow(i).bindingTuples());
+    }
+  }
+
+  abstract ExprValue result(int group);
+
+  /**
+   * State object created by the aggregator.
+   */
+  private static class ObjectColumn extends StateColumn {
+    private AggregationState[] states;
+
+    ObjectColumn(Aggregator<AggregationState> aggregator, int capacity) {
+      super(aggregator);
+      this.states = new AggregationState[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 32;
+    }
+
+    @Override
+    void resize(int capacity) {
+      states = Arrays.copyOf(states, capacity);
+    }
+
+    @Override
+    void create(int group) {
+      states[group] = aggregator.create();
+    }
+
+    @Override
+    void iterate(int group, BindingTuple tuple) {
+      aggregator.iterate(tuple, states[group]);
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return states[group].result();
+    }
+  }
+
+  /**
+   * State column in primitive arrays.
+   */
+  private abstract static class PrimitiveColumn extends StateColumn {
+    /**
+     * Argument read from column vector, or null if the argument is evaluated on each row.
+     */
+    private final ReferenceExpression field;
+
+    PrimitiveColumn(Aggregator<AggregationState> aggregator) {
+      super(aggregator);
+      Expression argument = aggregator.getArguments().get(0);
+      this.field = (argument instanceof ReferenceExpression
+          && ColumnVector.supports(argument.type()) && aggregator.condition() == null)
+          ? (ReferenceExpression) argument : null;
+    }
+
+    /**
+     * Evaluate the argument of the aggregator on the row and add it unless it's null, missing or
+     * filtered out by condition, the same as {@link Aggregator#iterate}.
+     */
+    @Override
+    void iterate(int group, BindingTuple tuple) {
+      ExprValue value = aggregator.getArguments().get(0).valueOf(tuple);
+      if (value.isNull() || value.isMissing() || !aggregator.conditionValue(tuple)) {
+        return;
+      }
+      add(group, value);
+    }
+
+    /**
+     * Add the values of the column vector which are neither null nor missing.
+     */
+    @Override
+    void iterate(int[] groups, ColumnBatch batch, int count) {
+      if (field == null) {
+        super.iterate(groups, batch, count);
+        return;
+      }
+      ColumnVector vector = batch.column(field);
+      boolean[] nulls = vector.nulls();
+      if (vector.isIntegral()) {
+        long[] values = vector.longValues();
+        for (int i = 0; i < count; i++) {
+          int row = batch.selected(i);
+          if (!nulls[row]) {
+            add(groups[i], values[row]);
+          }
+        }
+      } else {
+        double[] values = vector.doubleValues();
+        for (int i = 0; i < count; i++) {
+          int row = batch.selected(i);
+          if (!nulls[row]) {
+            add(groups[i], values[row]);
+          }
+        }
+      }
+    }
+
+    /**
+     * Add the value to the state of the group.
+     */
+    abstract void add(int group, ExprValue value);
+
+    /**
+     * Add the value of INTEGER or LONG type to the state of the group.
+     */
+    void add(int group, long value) {
+      add(group, (double) value);
+    }
+
+    /**
+     * Add the value of FLOAT or DOUBLE type to the state of the group.
+     */
+    abstract void add(int group, double value);
+  }
+
+  /**
+   * Number of values as integer, which wraps around on overflow as CountState.
+   */
+  private static class CountColumn extends PrimitiveColumn {
+    private long[] counts;
+
+    CountColumn(Aggregator<AggregationState> aggregator, int capacity) {
+      super(aggregator);
+      this.counts = new long[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 8;
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+    }
+
+    @Override
+    void add(int group, ExprValue value) {
+      counts[group]++;
+    }
+
+    @Override
+    void add(int group, double value) {
+      counts[group]++;
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return ExprValueUtils.integerValue((int) counts[group]);
+    }
+  }
+
+  /**
+   * Sum accumulated in the precision of its type as SumState. Integral sum is kept in long and
+   * float or double sum in double.
+   */
+  private static class SumColumn extends PrimitiveColumn {
+    private final ExprType type;
+    private long[] counts;
+    private long[] longSums;
+    private double[] doubleSums;
+
+    SumColumn(Aggregator<AggregationState> aggregator, int capacity) {
+      super(aggregator);
+      this.type = aggregator.type();
+      this.counts = new long[capacity];
+      this.longSums = new long[capacity];
+      this.doubleSums = new double[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 24;
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+      longSums = Arrays.copyOf(longSums, capacity);
+      doubleSums = Arrays.copyOf(doubleSums, capacity);
+    }
+
+    @Override
+    void add(int group, ExprValue value) {
+      if (type == INTEGER || type == LONG) {
+        add(group, value.longValue());
+      } else {
+        add(group, (type == FLOAT) ? value.floatValue() : value.doubleValue());
+      }
+    }
+
+    @Override
+    void add(int group, long value) {
+      counts[group]++;
+      if (type == INTEGER) {
+        longSums[group] = (int) longSums[group] + (int) value;
+      } else {
+        longSums[group] += value;
+      }
+    }
+
+    @Override
+    void add(int group, double value) {
+      counts[group]++;
+      if (type == FLOAT) {
+        doubleSums[group] = (float) doubleSums[group] + (float) value;
+      } else {
+        doubleSums[group] += value;
+      }
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (counts[group] == 0) {
+        return ExprNullValue.of();
+      } else if (type == INTEGER) {
+        return ExprValueUtils.integerValue((int) longSums[group]);
+      } else if (type == LONG) {
+        return ExprValueUtils.longValue(longSums[group]);
+      } else if (type == FLOAT) {
+        return ExprValueUtils.floatValue((float) doubleSums[group]);
+      }
+      return ExprValueUtils.doubleValue(doubleSums[group]);
+    }
+  }
+
+  private static class AvgColumn extends PrimitiveColumn {
+    private long[] counts;
+    private double[] totals;
+
+    AvgColumn(Aggregator<AggregationState> aggregator, int capacity) {
+      super(aggregator);
+      this.counts = new long[capacity];
+      this.totals = new double[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 16;
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+      totals = Arrays.copyOf(totals, capacity);
+    }
+
+    @Override
+    void add(int group, ExprValue value) {
+      add(group, value.doubleValue());
+    }
+
+    @Override
+    void add(int group, double value) {
+      counts[group]++;
+      totals[group] += value;
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return counts[group] == 0
+          ? ExprNullValue.of() : ExprValueUtils.doubleValue(totals[group] / counts[group]);
+    }
+  }
+
+  /**
+   * Minimum or maximum number compared the same way as the number value of its type. Integral
+   * number is kept in long and float or double in double.
+   */
+  private static class MinMaxColumn extends PrimitiveColumn {
+    private final ExprType type;
+    private final boolean isMax;
+    private long[] counts;
+    private long[] longValues;
+    private double[] doubleValues;
+
+    MinMaxColumn(Aggregator<AggregationState> aggregator, int capacity, boolean isMax) {
+      super(aggregator);
+      this.type = aggregator.type();
+      this.isMax = isMax;
+      this.counts = new long[capacity];
+      this.longValues = new long[capacity];
+      this.doubleValues = new double[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 24;
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+      longValues = Arrays.copyOf(longValues, capacity);
+      doubleValues = Arrays.copyOf(doubleValues, capacity);
+    }
+
+    @Override
+    void add(int group, ExprValue value) {
+      if (type == INTEGER || type == LONG) {
+        add(group, value.longValue());
+      } else {
+        add(group, (type == FLOAT) ? value.floatValue() : value.doubleValue());
+      }
+    }
+
+    @Override
+    void add(int group, long value) {
+      boolean first = (counts[group]++ == 0);
+      int result = Long.compare(longValues[group], value);
+      if (first || (isMax ? result <= 0 : result >= 0)) {
+        longValues[group] = value;
+      }
+    }
+
+    @Override
+    void add(int group, double value) {
+      boolean first = (counts[group]++ == 0);
+      int result = Double.compare(doubleValues[group], value);
+      if (first || (isMax ? result <= 0 : result >= 0)) {
+        doubleValues[group] = value;
+      }
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (counts[group] == 0) {
+        return ExprNullValue.of();
+      } else if (type == INTEGER) {
+        return ExprValueUtils.integerValue((int) longValues[group]);
+      } else if (type == LONG) {
+        return ExprValueUtils.longValue(longValues[group]);
+      } else if (type == FLOAT) {
+        return ExprValueUtils.floatValue((float) doubleValues[group]);
+      }
+      return ExprValueUtils.doubleValue(doubleValues[group]);
+    }
+  }
+
+  /**
+   * Variance or standard deviation by the first and second moments updated the same way as
+   * the Variance and StandardDeviation of commons-math.
+   */
+  private static class VarianceColumn extends PrimitiveColumn {
+    private final boolean isSample;
+    private final boolean isStdDev;
+    private long[] counts;
+    private double[] means;
+    private double[] moments;
+
+    VarianceColumn(Aggregator<AggregationState> aggregator, int capacity) {
+      super(aggregator);
+      this.isSample = aggregator.getFunctionName().equals(BuiltinFunctionName.VARSAMP.getName())
+          || aggregator.getFunctionName().equals(BuiltinFunctionName.STDDEV_SAMP.getName());
+      this.isStdDev = aggregator.getFunctionName().equals(BuiltinFunctionName.STDDEV_POP.getName())
+          || aggregator.getFunctionName().equals(BuiltinFunctionName.STDDEV_SAMP.getName());
+      this.counts = new long[capacity];
+      this.means = new double[capacity];
+      this.moments = new double[capacity];
+    }
+
+    @Override
+    long stateBytes() {
+      return 24;
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+      means = Arrays.copyOf(means, capacity);
+      moments = Arrays.copyOf(moments, capacity);
+    }
+
+    @Override
+    void add(int group, ExprValue value) {
+      add(group, value.doubleValue());
+    }
+
+    @Override
+    void add(int group, double value) {
+      long count = ++counts[group];
+      double dev = value - means[group];
+      double normalizedDev = dev / count;
+      means[group] += normalizedDev;
+      moments[group] += ((double) count - 1) * dev * normalizedDev;
+    }
+
+    @Override
+    ExprValue result(int group) {
+      long count = counts[group];
+      if (count == 0) {
+        return ExprNullValue.of();
+      }
+      double variance;
+      if (count == 1) {
+        variance = 0.0;
+      } else {
+        variance = isSample ? moments[group] / (count - 1.0) : moments[group] / count;
+      }
+      return ExprValueUtils.doubleValue(isStdDev ? Math.sqrt(variance) : variance);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * Temporary local file that holds intermediate records spilled by an operator when its in-memory
+ * buffer exceeds the budget. A record is a list of {@link ExprValue} encoded by
+ * {@link ExprValueCodec}. Records are written once and read back sequentially. The file is
+ * deleted when closed.
+ */
+public class SpillFile implements AutoCloseable {
+
+  private static final String SUFFIX = ".spill";
+
+  private final Path path;
+
+  private DataOutputStream output;
+
+  private DataInputStream input;
+
+  private SpillFile(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Create a new spill file under the temp directory of JVM.
+   *
+   * @param prefix file name prefix
+   * @return spill file
+   */
+  public static SpillFile create(String prefix) {
+    try {
+      return new SpillFile(Files.createTempFile(prefix, SUFFIX));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create spill file", e);
+    }
+  }
+
+  /**
+   * Append a record to the file.
+   */
+  public void write(List<ExprValue> record) {
+    try {
+      if (output == null) {
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+      }
+      output.writeInt(record.size());
+      for (ExprValue value : record) {
+        ExprValueCodec.write(output, value);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file " + path, e);
+    }
+  }
+
+  /**
+   * Finish writing and iterate records in the order written.
+   *
+   * @return record iterator
+   */
+  public Iterator<List<ExprValue>> read() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+      input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to open spill file " + path, e);
+    }
+    return new Iterator<List<ExprValue>>() {
+      private List<ExprValue> next = readRecord();
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public List<ExprValue> next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        List<ExprValue> current = next;
+        next = readRecord();
+        return current;
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+      }
+      if (input != null) {
+        input.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill file " + path, e);
+    }
+  }
+
+  private List<ExprValue> readRecord() {
+    try {
+      int size;
+      try {
+        size = input.readInt();
+      } catch (EOFException e) {
+        return null;
+      }
+      List<ExprValue> record = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        record.add(ExprValueCodec.read(input));
+      }
+      return record;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read spill file " + path, e);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.physical.vector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+/**
+ * A batch of rows pulled by {@link PhysicalPlan#nextColumnBatch(int)} together with a selection
+ * vector, which is the index of the rows selected in ascending order. An operator like filter
+ * narrows the selection in place rather than copying the rows selected into another batch.
+ *
+ * <p>The values of a field of numeric type are read into a {@link ColumnVector} of primitive
+ * array at the first time the field is accessed, so that the following operators evaluate it in
+ * tight loops over the selected rows without going through the binding tuple of each row.
+ */
+public class ColumnBatch {
+  private final List<ExprValue> rows;
+
+  /**
+   * Index of selected rows, only the first {@link ColumnBatch#size} of which are valid.
+   */
+  private final int[] selection;
+
+  /**
+   * Number of selected rows.
+   */
+  private int size;
+
+  private final Map<ReferenceExpression, ColumnVector> columns = new HashMap<>();
+
+  private ColumnBatch(List<ExprValue> rows) {
+    this.rows = rows;
+    this.size = rows.size();
+    this.selection = new int[size];
+    for (int i = 0; i < size; i++) {
+      selection[i] = i;
+    }
+  }
+
+  /**
+   * Create the batch of the rows which are all selected.
+   */
+  public static ColumnBatch of(List<ExprValue> rows) {
+    return new ColumnBatch(rows);
+  }
+
+  /**
+   * Number of selected rows.
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Number of all rows in the batch, selected or not.
+   */
+  public int capacity() {
+    return rows.size();
+  }
+
+  /**
+   * Index of the i-th selected row.
+   */
+  public int selected(int i) {
+    return selection[i];
+  }
+
+  /**
+   * The i-th selected row.
+   */
+  public ExprValue selectedRow(int i) {
+    return rows.get(selection[i]);
+  }
+
+  /**
+   * Row of the index.
+   */
+  public ExprValue row(int index) {
+    return rows.get(index);
+  }
+
+  /**
+   * Selection vector for the operator to narrow in place. The operator moves the index of rows
+   * still selected to the front and calls {@link ColumnBatch#select(int)} with their number.
+   */
+  public int[] selection() {
+    return selection;
+  }
+
+  /**
+   * Keep only the first number of rows in selection vector.
+   */
+  public void select(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Copy of the selected rows.
+   */
+  public List<ExprValue> selectedRows() {
+    List<ExprValue> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(rows.get(selection[i]));
+    }
+    return result;
+  }
+
+  /**
+   * Column vector of the field, which holds the values of the rows selected when it's read
+   * first. It's only called with the field whose type is supported by {@link ColumnVector}.
+   */
+  public ColumnVector column(ReferenceExpression reference) {
+    return columns.computeIfAbsent(reference, ref -> ColumnVector.of(ref, this));
+  }
+}
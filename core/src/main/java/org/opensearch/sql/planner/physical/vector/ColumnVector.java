@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.physical.vector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+/**
+ * Values of a field of INTEGER, LONG or DOUBLE type in a {@link ColumnBatch}, indexed by row.
+ * INTEGER and LONG values are read by {@link ExprValue#longValue()} into a long array and DOUBLE
+ * values by {@link ExprValue#doubleValue()} into a double array. Null or missing value is marked
+ * in the null array. Only the rows selected when the vector is read are filled.
+ */
+public class ColumnVector {
+  private static final Set<ExprType> SUPPORTED_TYPES = ImmutableSet.of(INTEGER, LONG, DOUBLE);
+
+  private final boolean integral;
+  private final long[] longValues;
+  private final double[] doubleValues;
+  private final boolean[] nulls;
+
+  private ColumnVector(boolean integral, int capacity) {
+    this.integral = integral;
+    this.longValues = integral ? new long[capacity] : null;
+    this.doubleValues = integral ? null : new double[capacity];
+    this.nulls = new boolean[capacity];
+  }
+
+  /**
+   * Whether the values of the type can be read into column vector.
+   */
+  public static boolean supports(ExprType type) {
+    return SUPPORTED_TYPES.contains(type);
+  }
+
+  /**
+   * Read the values of the field from the selected rows of the batch.
+   */
+  static ColumnVector of(ReferenceExpression reference, ColumnBatch batch) {
+    ColumnVector vector = new ColumnVector(reference.type() != DOUBLE, batch.capacity());
+    for (int i = 0; i < batch.size(); i++) {
+      int row = batch.selected(i);
+      ExprValue value = reference.valueOf(batch.row(row).bindingTuples());
+      if (value.isNull() || value.isMissing()) {
+        vector.nulls[row] = true;
+      } else if (vector.integral) {
+        vector.longValues[row] = value.longValue();
+      } else {
+        vector.doubleValues[row] = value.doubleValue();
+      }
+    }
+    return vector;
+  }
+
+  /**
+   * Whether the values are kept in {@link ColumnVector#longValues()} rather than
+   * {@link ColumnVector#doubleValues()}.
+   */
+  public boolean isIntegral() {
+    return integral;
+  }
+
+  public long[] longValues() {
+    return longValues;
+  }
+
+  public double[] doubleValues() {
+    return doubleValues;
+  }
+
+  /**
+   * Whether the value of each row is null or missing.
+   */
+  public boolean[] nulls() {
+    return nulls;
+  }
+}
@@ -28,7 +28,6 @@ package org.opensearch.sql.storage.bindingtuple;
 
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
-import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.ReferenceExpression;
 
@@ -37,7 +36,7 @@ import org.opensearch.sql.expression.ReferenceExpression;
  */
 @RequiredArgsConstructor
 public class LazyBindingTuple extends BindingTuple {
-  private final Supplier<ExprTupleValue> lazyBinding;
+  private final Supplier<ExprValue> lazyBinding;
 
   @Override
   public ExprValue resolve(ReferenceExpression ref) {
@@ -339,6 +339,40 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
     );
   }
 
+  @Test
+  void constant_function_should_be_folded() {
+    assertAnalyzeEqual(
+        DSL.literal(integerValue(3)),
+        function("+", intLiteral(1), function("abs", intLiteral(-2))));
+    assertAnalyzeEqual(
+        dsl.greater(DSL.ref("integer_value", INTEGER), DSL.literal(integerValue(3))),
+        function(">", qualifiedName("integer_value"),
+            function("+", intLiteral(1), intLiteral(2))));
+    assertAnalyzeEqual(
+        DSL.literal("1"),
+        AstDSL.cast(intLiteral(1), stringLiteral("STRING")));
+  }
+
+  @Test
+  void function_should_not_be_folded_if_not_constant_or_deterministic() {
+    assertAnalyzeEqual(
+        dsl.abs(DSL.ref("integer_value", INTEGER)),
+        function("abs", qualifiedName("integer_value")));
+    assertAnalyzeEqual(
+        dsl.rand(),
+        function("rand"));
+  }
+
+  @Test
+  void function_should_not_be_folded_if_evaluation_fails_or_returns_null() {
+    assertAnalyzeEqual(
+        dsl.castInt(DSL.literal("abc")),
+        AstDSL.cast(stringLiteral("abc"), stringLiteral("INT")));
+    assertAnalyzeEqual(
+        dsl.divide(DSL.literal(1), DSL.literal(0)),
+        function("/", intLiteral(1), intLiteral(0)));
+  }
+
   protected Expression analyze(UnresolvedExpression unresolvedExpression) {
     return expressionAnalyzer.analyze(unresolvedExpression, analysisContext);
   }
@@ -28,6 +28,14 @@
 package org.opensearch.sql.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.UNBOUNDED_PRECEDING;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.following;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.preceding;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameType.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameType.ROWS;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
@@ -39,8 +47,12 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -48,7 +60,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.Alias;
+import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.window.WindowDefinition;
@@ -56,6 +71,7 @@ import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -130,6 +146,68 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
             analysisContext));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_add_window_function_to_window_operator_with_same_window_definition() {
+    LogicalPlan plan = analyzeWindow(child, "row_number",
+        ImmutableList.of(AstDSL.qualifiedName("string_value")),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName("integer_value"))));
+    plan = analyzeWindow(plan, "rank",
+        ImmutableList.of(AstDSL.qualifiedName("string_value")),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName("integer_value"))));
+
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test"),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+            ImmutableList.of(
+                DSL.named("row_number", dsl.rowNumber()),
+                DSL.named("rank", dsl.rank())),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of(
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))))),
+        plan);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_add_window_function_to_window_operator_under_other_window_operator() {
+    LogicalPlan plan = analyzeWindow(child, "row_number",
+        ImmutableList.of(AstDSL.qualifiedName("string_value")),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName("integer_value"))));
+    plan = analyzeWindow(plan, "dense_rank", ImmutableList.of(), ImmutableList.of());
+    plan = analyzeWindow(plan, "rank",
+        ImmutableList.of(AstDSL.qualifiedName("string_value")),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName("integer_value"))));
+
+    LogicalPlan expected =
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.window(
+                LogicalPlanDSL.sort(
+                    LogicalPlanDSL.relation("test"),
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+                ImmutableList.of(
+                    DSL.named("row_number", dsl.rowNumber()),
+                    DSL.named("rank", dsl.rank())),
+                new WindowDefinition(
+                    ImmutableList.of(DSL.ref("string_value", STRING)),
+                    ImmutableList.of(
+                        ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))))),
+            DSL.named("dense_rank", dsl.denseRank()),
+            new WindowDefinition(ImmutableList.of(), ImmutableList.of()));
+    assertEquals(expected, plan);
+
+    // Window function with new window definition is still analyzed into a new window operator
+    plan = analyzeWindow(plan, "row_number",
+        ImmutableList.of(AstDSL.qualifiedName("integer_value")), ImmutableList.of());
+    assertEquals(1, ((LogicalWindow) plan).getWindowFunctions().size());
+    assertEquals(expected, plan.getChild().get(0).getChild().get(0));
+  }
+
   @Test
   void can_analyze_sort_options() {
     // Mapping from input option to expected option after analysis
@@ -161,4 +239,78 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
     });
   }
 
+  @Test
+  void can_analyze_frame_definition() {
+    FrameDefinition rowsFrame = new FrameDefinition(ROWS, preceding(6), CURRENT_ROW);
+    assertEquals(rowsFrame, analyzeFrame(rowsFrame, "string_value").getFrame());
+
+    FrameDefinition rangeFrame = new FrameDefinition(RANGE, CURRENT_ROW, following(10));
+    assertEquals(rangeFrame, analyzeFrame(rangeFrame, "integer_value").getFrame());
+
+    FrameDefinition rangeFrameWithoutOffset =
+        new FrameDefinition(RANGE, UNBOUNDED_PRECEDING, UNBOUNDED_FOLLOWING);
+    assertEquals(rangeFrameWithoutOffset,
+        analyzeFrame(rangeFrameWithoutOffset, "string_value", "integer_value").getFrame());
+  }
+
+  @Test
+  void should_fail_if_frame_bounds_invalid() {
+    ImmutableList.of(
+        new FrameDefinition(ROWS, UNBOUNDED_FOLLOWING, UNBOUNDED_FOLLOWING),
+        new FrameDefinition(ROWS, UNBOUNDED_PRECEDING, UNBOUNDED_PRECEDING),
+        new FrameDefinition(ROWS, CURRENT_ROW, preceding(1))
+    ).forEach(frame -> assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(frame, "integer_value")));
+
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new FrameDefinition(ROWS, following(2), following(1)),
+            "integer_value"));
+    assertEquals("Invalid frame with start bound [FOLLOWING] and end bound [FOLLOWING]",
+        exception.getMessage());
+  }
+
+  @Test
+  void should_fail_if_range_frame_with_offset_not_on_single_number_sort_key() {
+    ImmutableList.of(
+        new FrameDefinition(RANGE, preceding(1), CURRENT_ROW),
+        new FrameDefinition(RANGE, CURRENT_ROW, following(1))
+    ).forEach(frame -> {
+      SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+          () -> analyzeFrame(frame, "string_value"));
+      assertEquals("RANGE frame with offset requires exactly one sort key of number type",
+          exception.getMessage());
+    });
+
+    assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new FrameDefinition(RANGE, preceding(1), CURRENT_ROW),
+            "integer_value", "double_value"));
+  }
+
+  private LogicalPlan analyzeWindow(LogicalPlan child,
+                                    String function,
+                                    List<UnresolvedExpression> partitionByList,
+                                    List<Pair<SortOption, UnresolvedExpression>> sortList) {
+    return new WindowExpressionAnalyzer(expressionAnalyzer, child).analyze(
+        AstDSL.alias(
+            function,
+            AstDSL.window(AstDSL.function(function), partitionByList, sortList)),
+        analysisContext);
+  }
+
+  private WindowDefinition analyzeFrame(FrameDefinition frame, String... sortFields) {
+    LogicalWindow window = (LogicalWindow) analyzer.analyze(
+        AstDSL.alias(
+            "sum",
+            AstDSL.window(
+                AstDSL.aggregate("sum", AstDSL.qualifiedName("integer_value")),
+                ImmutableList.of(),
+                Arrays.stream(sortFields)
+                      .<Pair<SortOption, UnresolvedExpression>>map(field -> ImmutablePair.of(
+                          new SortOption(null, null), AstDSL.qualifiedName(field)))
+                      .collect(Collectors.toList()),
+                frame)),
+        analysisContext);
+    return window.getWindowDefinition();
+  }
+
 }
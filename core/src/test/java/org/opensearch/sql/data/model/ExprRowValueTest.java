@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+
+class ExprRowValueTest {
+
+  private final RowSchema schema = RowSchema.of(Arrays.asList("name", "age", "absent"));
+
+  private final ExprRowValue row =
+      new ExprRowValue(schema, new ExprValue[] {stringValue("bob"), integerValue(30), null});
+
+  @Test
+  public void equal_to_tuple_of_present_fields() {
+    ExprValue tuple = ExprValueUtils.tupleValue(ImmutableMap.of("name", "bob", "age", 30));
+    assertEquals(tuple, row);
+    assertEquals(row, tuple);
+    assertEquals(tuple.hashCode(), row.hashCode());
+    assertEquals(row, new ExprRowValue(RowSchema.of(Arrays.asList("name", "age")),
+        new ExprValue[] {stringValue("bob"), integerValue(30)}));
+  }
+
+  @Test
+  public void not_equal_to_fields_in_different_order_or_other_value() {
+    assertNotEquals(ExprValueUtils.tupleValue(ImmutableMap.of("age", 30, "name", "bob")), row);
+    assertNotEquals(row, ExprValueUtils.tupleValue(ImmutableMap.of("age", 30, "name", "bob")));
+    assertNotEquals(row, integerValue(30));
+  }
+
+  @Test
+  public void resolve_field_by_slot() {
+    assertEquals(stringValue("bob"), row.keyValue("name"));
+    assertEquals(stringValue("bob"), row.slotValue(0));
+    assertTrue(row.keyValue("absent").isMissing());
+    assertTrue(row.keyValue("not_in_schema").isMissing());
+    assertEquals(integerValue(30), DSL.ref("age", INTEGER).valueOf(row.bindingTuples()));
+  }
+
+  @Test
+  public void materialize_present_fields_in_schema_order() {
+    assertEquals(STRUCT, row.type());
+    assertEquals(ImmutableMap.of("name", "bob", "age", 30), row.value());
+    assertEquals(ImmutableMap.of("name", stringValue("bob"), "age", integerValue(30)),
+        row.tupleValue());
+    assertEquals("{name:\"bob\",age:30}", row.toString());
+  }
+
+  @Test
+  public void compare_size_of_present_fields() {
+    assertEquals(0,
+        row.compare(ExprValueUtils.tupleValue(ImmutableMap.of("a", 1, "b", 2))));
+  }
+
+  @Test
+  public void copy_values_into_longer_array() {
+    assertArrayEquals(new ExprValue[] {stringValue("bob"), integerValue(30), null, null},
+        row.copyValues(4));
+  }
+
+  @Test
+  public void row_of_wrong_number_of_values_throw_exception() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new ExprRowValue(schema, new ExprValue[0]));
+    assertEquals("expect 3 values in row, but got 0", exception.getMessage());
+  }
+
+  @Test
+  public void schema_of_duplicate_names_throw_exception() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> RowSchema.of(Arrays.asList("name", "name")));
+    assertEquals("Multiple entries with same key: name", exception.getMessage());
+  }
+
+  @Test
+  public void extend_schema_with_new_names() {
+    RowSchema extended = schema.extend(Arrays.asList("age", "city", "city"));
+    assertEquals(4, extended.size());
+    assertEquals("city", extended.name(3));
+    assertEquals(1, extended.indexOf("age"));
+    assertEquals(-1, extended.indexOf("country"));
+    assertEquals(3, schema.extend(Collections.emptyList()).size());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
+
+class ExprValueCodecTest {
+
+  private static Stream<ExprValue> values() {
+    return Stream.of(
+        ExprNullValue.of(),
+        ExprMissingValue.of(),
+        ExprBooleanValue.of(true),
+        new ExprByteValue(1),
+        new ExprShortValue(2),
+        new ExprIntegerValue(3),
+        new ExprLongValue(4L),
+        new ExprFloatValue(5.5f),
+        new ExprDoubleValue(6.6),
+        new ExprStringValue("hello"),
+        new ExprStringValue(Strings.repeat("a", 70000)),
+        new ExprDateValue(LocalDate.of(2020, 8, 17)),
+        new ExprTimeValue(LocalTime.of(1, 2, 3, 4)),
+        new ExprDatetimeValue(LocalDateTime.of(2020, 8, 17, 1, 2, 3, 4)),
+        new ExprTimestampValue(Instant.ofEpochSecond(1597626123L, 5)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("name", "John", "age", 30)),
+        ExprValueUtils.collectionValue(Arrays.asList(1, "a", 2.0)),
+        new ExprIntervalValue(Duration.ofHours(1)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  public void encode_and_decode(ExprValue value) throws IOException {
+    ExprValue decoded = decode(encode(value));
+    assertEquals(value, decoded);
+    assertEquals(value.getClass(), decoded.getClass());
+  }
+
+  @Test
+  public void encode_row_and_decode_as_tuple() throws IOException {
+    ExprValue row = new ExprRowValue(RowSchema.of(Arrays.asList("name", "age")),
+        new ExprValue[] {new ExprStringValue("John"), null});
+    ExprValue decoded = decode(encode(row));
+    assertEquals(row, decoded);
+    assertEquals(ExprTupleValue.class, decoded.getClass());
+  }
+
+  @Test
+  public void decode_multiple_values_in_order() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    ExprValueCodec.write(output, new ExprIntegerValue(1));
+    ExprValueCodec.write(output, new ExprStringValue("a"));
+    output.flush();
+
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(new ExprIntegerValue(1), ExprValueCodec.read(input));
+    assertEquals(new ExprStringValue("a"), ExprValueCodec.read(input));
+  }
+
+  @Test
+  public void decode_unknown_tag_should_throw_exception() {
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> decode(new byte[] {99}));
+    assertEquals("Unknown expression value tag: 99", exception.getMessage());
+  }
+
+  @Test
+  public void encode_and_decode_storage_value_by_registered_codec() throws IOException {
+    ExprValueCodec.register(new StorageStringValueCodec());
+    // Registering codec of same class again is ignored
+    ExprValueCodec.register(new StorageStringValueCodec());
+
+    ExprValue value = new StorageStringValue("hello");
+    byte[] bytes = encode(value);
+    ExprValue decoded = decode(bytes);
+    assertEquals(value, decoded);
+    assertEquals(StorageStringValue.class, decoded.getClass());
+    // Tag, codec id, UTF length and string bytes
+    assertEquals(1 + 1 + 2 + 5, bytes.length);
+  }
+
+  private byte[] encode(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      ExprValueCodec.write(output, value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private ExprValue decode(byte[] bytes) throws IOException {
+    return ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  /**
+   * Value class from storage engine for test.
+   */
+  private static class StorageStringValue extends ExprStringValue {
+    StorageStringValue(String value) {
+      super(value);
+    }
+  }
+
+  private static class StorageStringValueCodec
+      implements ExprValueCodec.StorageValueCodec<StorageStringValue> {
+    @Override
+    public Class<StorageStringValue> valueClass() {
+      return StorageStringValue.class;
+    }
+
+    @Override
+    public void write(DataOutput out, StorageStringValue value) throws IOException {
+      out.writeUTF(value.stringValue());
+    }
+
+    @Override
+    public StorageStringValue read(DataInput in) throws IOException {
+      return new StorageStringValue(in.readUTF());
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+class ExecutionEngineTest {
+
+  private final ExecutionEngine engine = mock(ExecutionEngine.class, CALLS_REAL_METHODS);
+
+  private final PhysicalPlan plan = mock(PhysicalPlan.class);
+
+  private final ExecutionEngine.Schema schema =
+      new ExecutionEngine.Schema(Collections.emptyList());
+
+  @Test
+  public void execute_stream_iterates_rows_collected_by_default() {
+    List<ExprValue> rows = ImmutableList.of(
+        ExprValueUtils.tupleValue(ImmutableMap.of("id", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("id", 2)));
+    doAnswer(invocation -> {
+      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new QueryResponse(schema, rows));
+      return null;
+    }).when(engine).execute(eq(plan), any());
+
+    List<ExprValue> actual = new ArrayList<>();
+    engine.executeStream(plan, new ResponseListener<StreamingQueryResponse>() {
+      @Override
+      public void onResponse(StreamingQueryResponse response) {
+        assertSame(schema, response.getSchema());
+        response.getResults().forEachRemaining(actual::add);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail("Error occurred during execution", e);
+      }
+    });
+    assertEquals(rows, actual);
+  }
+
+  @Test
+  public void execute_stream_passes_failure_by_default() {
+    RuntimeException expected = new RuntimeException("Execution error");
+    doAnswer(invocation -> {
+      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      listener.onFailure(expected);
+      return null;
+    }).when(engine).execute(eq(plan), any());
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    engine.executeStream(plan, new ResponseListener<StreamingQueryResponse>() {
+      @Override
+      public void onResponse(StreamingQueryResponse response) {
+        fail("Expected error didn't happen");
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        actual.set(e);
+      }
+    });
+    assertSame(expected, actual.get());
+  }
+}
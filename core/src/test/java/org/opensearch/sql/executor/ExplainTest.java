@@ -48,6 +48,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -60,6 +61,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
@@ -156,7 +160,8 @@ class ExplainTest extends ExpressionTestBase {
     List<Pair<Sort.SortOption, Expression>> sortList = ImmutableList.of(
         ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
 
-    PhysicalPlan plan = window(tableScan, named(dsl.rank()),
+    PhysicalPlan plan = window(tableScan,
+        ImmutableList.of(named(dsl.rank()), named(dsl.denseRank())),
         new WindowDefinition(partitionByList, sortList));
 
     assertEquals(
@@ -164,7 +169,7 @@ class ExplainTest extends ExpressionTestBase {
             new ExplainResponseNode(
                 "WindowOperator",
                 ImmutableMap.of(
-                    "function", "rank()",
+                    "functions", "[rank(), dense_rank()]",
                     "definition", ImmutableMap.of(
                         "partitionBy", "[state]",
                         "sortList", ImmutableMap.of(
@@ -175,6 +180,33 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_window_with_frame() {
+    List<Pair<Sort.SortOption, Expression>> sortList = ImmutableList.of(
+        ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
+    FrameDefinition frame = new FrameDefinition(
+        FrameType.ROWS, FrameBound.preceding(6), FrameBound.CURRENT_ROW);
+
+    PhysicalPlan plan = window(tableScan, named(dsl.rank()),
+        new WindowDefinition(ImmutableList.of(), sortList, frame));
+
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "WindowOperator",
+                ImmutableMap.of(
+                    "functions", "[rank()]",
+                    "definition", ImmutableMap.of(
+                        "partitionBy", "[]",
+                        "sortList", ImmutableMap.of(
+                            "age", ImmutableMap.of(
+                                "sortOrder", "ASC",
+                                "nullOrder", "NULL_FIRST")),
+                        "frame", "ROWS BETWEEN 6 PRECEDING AND CURRENT ROW")),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_other_operators() {
     ReferenceExpression[] removeList = {ref("state", STRING)};
@@ -247,6 +279,25 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_topN() {
+    PhysicalPlan plan = topN(tableScan, 10, 5, ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TopNOperator",
+                ImmutableMap.of(
+                    "sortList", ImmutableMap.of(
+                        "age", ImmutableMap.of(
+                            "sortOrder", "ASC",
+                            "nullOrder", "NULL_FIRST")),
+                    "limit", 10,
+                    "offset", 5),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan)
+    );
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -52,14 +52,17 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -146,6 +149,34 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals(1990, actualValue.integerValue());
   }
 
+  @Test
+  public void resolve_row_same_as_tuple() {
+    ExprRowValue row = row(tuple(), "name", "project.year", "project", "address",
+        "address.local", "absent");
+    for (String ref : Arrays.asList("name", "project.year", "address.state", "missing_field",
+        "address.local.state", "address.project.year", "absent", "absent.path")) {
+      ReferenceExpression expr = new ReferenceExpression(ref, STRING);
+      assertEquals(expr.resolve(tuple()), expr.resolve(row));
+      assertEquals(expr.resolve(tuple()), expr.resolve(row));
+    }
+  }
+
+  @Test
+  public void resolve_rows_of_different_schemas() {
+    ReferenceExpression expr = ref("name", STRING);
+    assertEquals("bob smith", expr.resolve(row(tuple(), "name")).stringValue());
+    assertEquals("bob smith", expr.resolve(row(tuple(), "address", "name")).stringValue());
+    assertTrue(expr.resolve(row(tuple(), "address")).isMissing());
+  }
+
+  private ExprRowValue row(ExprTupleValue tuple, String... names) {
+    ExprValue[] values = new ExprValue[names.length];
+    for (int i = 0; i < names.length; i++) {
+      values[i] = tuple.tupleValue().get(names[i]);
+    }
+    return new ExprRowValue(RowSchema.of(Arrays.asList(names)), values);
+  }
+
   /**
    * {
    *   "name": "bob smith"
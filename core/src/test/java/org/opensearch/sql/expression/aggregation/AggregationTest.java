@@ -160,4 +160,19 @@ public class AggregationTest extends ExpressionTestBase {
     }
     return state.result();
   }
+
+  /**
+   * Iterate all tuples and then remove the given number of tuples in the same order.
+   */
+  protected ExprValue slidingAggregation(Aggregator aggregator, List<ExprValue> tuples,
+                                         int removed) {
+    AggregationState state = aggregator.createRemovable();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    for (ExprValue tuple : tuples.subList(0, removed)) {
+      aggregator.remove(tuple.bindingTuples(), state);
+    }
+    return state.result();
+  }
 }
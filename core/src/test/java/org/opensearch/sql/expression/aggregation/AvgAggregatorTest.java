@@ -102,4 +102,14 @@ class AvgAggregatorTest extends AggregationTest {
     assertEquals(String.format("avg(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         avgAggregator.toString());
   }
+
+  @Test
+  public void avg_with_removal() {
+    ExprValue result =
+        slidingAggregation(dsl.avg(DSL.ref("integer_value", INTEGER)), tuples, 2);
+    assertEquals(3.5, result.value());
+
+    result = slidingAggregation(dsl.avg(DSL.ref("integer_value", INTEGER)), tuples, 4);
+    assertTrue(result.isNull());
+  }
 }
@@ -27,7 +27,9 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -206,4 +208,24 @@ class CountAggregatorTest extends AggregationTest {
     assertEquals(String.format("count(abs(%s))", DSL.ref("integer_value", INTEGER)),
         countAggregator.toString());
   }
+
+  @Test
+  public void count_with_removal() {
+    ExprValue result =
+        slidingAggregation(dsl.count(DSL.ref("integer_value", INTEGER)), tuples, 3);
+    assertEquals(1, result.value());
+  }
+
+  @Test
+  public void count_with_null_removed() {
+    ExprValue result = slidingAggregation(dsl.count(DSL.ref("double_value", DOUBLE)),
+        tuples_with_null_and_missing, 3);
+    assertEquals(0, result.value());
+  }
+
+  @Test
+  public void distinct_count_is_not_removable() {
+    assertTrue(dsl.count(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertFalse(dsl.distinctCount(DSL.ref("integer_value", INTEGER)).isRemovable());
+  }
 }
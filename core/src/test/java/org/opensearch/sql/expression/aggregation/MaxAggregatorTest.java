@@ -157,4 +157,14 @@ public class MaxAggregatorTest extends AggregationTest {
     assertEquals(String.format("max(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         maxAggregator.toString());
   }
+
+  @Test
+  public void test_max_with_removal() {
+    assertEquals(4,
+        slidingAggregation(dsl.max(DSL.ref("integer_value", INTEGER)), tuples, 1).value());
+    assertEquals(4,
+        slidingAggregation(dsl.max(DSL.ref("integer_value", INTEGER)), tuples, 3).value());
+    assertTrue(
+        slidingAggregation(dsl.max(DSL.ref("integer_value", INTEGER)), tuples, 4).isNull());
+  }
 }
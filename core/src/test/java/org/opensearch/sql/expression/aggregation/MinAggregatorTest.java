@@ -157,4 +157,16 @@ public class MinAggregatorTest extends AggregationTest {
     assertEquals(String.format("min(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         minAggregator.toString());
   }
+
+  @Test
+  public void test_min_with_removal() {
+    assertEquals(1,
+        slidingAggregation(dsl.min(DSL.ref("integer_value", INTEGER)), tuples, 1).value());
+    assertEquals(3,
+        slidingAggregation(dsl.min(DSL.ref("integer_value", INTEGER)), tuples, 2).value());
+    assertEquals(4,
+        slidingAggregation(dsl.min(DSL.ref("integer_value", INTEGER)), tuples, 3).value());
+    assertTrue(
+        slidingAggregation(dsl.min(DSL.ref("integer_value", INTEGER)), tuples, 4).isNull());
+  }
 }
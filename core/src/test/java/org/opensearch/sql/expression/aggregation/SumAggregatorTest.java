@@ -141,4 +141,55 @@ class SumAggregatorTest extends AggregationTest {
     assertEquals(String.format("sum(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         sumAggregator.toString());
   }
+
+  @Test
+  public void sum_with_removal() {
+    assertEquals(7,
+        slidingAggregation(dsl.sum(DSL.ref("integer_value", INTEGER)), tuples, 2).value());
+    assertEquals(7L,
+        slidingAggregation(dsl.sum(DSL.ref("long_value", LONG)), tuples, 2).value());
+    assertEquals(7f,
+        slidingAggregation(dsl.sum(DSL.ref("float_value", FLOAT)), tuples, 2).value());
+    assertEquals(7d,
+        slidingAggregation(dsl.sum(DSL.ref("double_value", DOUBLE)), tuples, 2).value());
+  }
+
+  @Test
+  public void sum_with_all_removed() {
+    ExprValue result =
+        slidingAggregation(dsl.sum(DSL.ref("integer_value", INTEGER)), tuples, 4);
+    assertTrue(result.isNull());
+  }
+
+  @Test
+  public void sum_with_null_and_missing_removed() {
+    ExprValue result = slidingAggregation(dsl.sum(DSL.ref("integer_value", INTEGER)),
+        tuples_with_null_and_missing, 3);
+    assertTrue(result.isNull());
+
+    result = slidingAggregation(dsl.sum(DSL.ref("double_value", DOUBLE)),
+        tuples_with_null_and_missing, 1);
+    assertEquals(4d, result.value());
+  }
+
+  @Test
+  public void filtered_sum_with_removal() {
+    ExprValue result = slidingAggregation(dsl.sum(DSL.ref("integer_value", INTEGER))
+        .condition(dsl.greater(DSL.ref("integer_value", INTEGER), DSL.literal(1))), tuples, 3);
+    assertEquals(4, result.value());
+  }
+
+  @Test
+  public void remove_string_field_expression() {
+    SumAggregator sumAggregator =
+        new SumAggregator(ImmutableList.of(DSL.ref("string_value", STRING)), ExprCoreType.STRING);
+    SumState sumState = sumAggregator.createRemovable();
+    ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+        () -> sumAggregator
+            .remove(
+                ExprValueUtils.tupleValue(ImmutableMap.of("string_value", "m")).bindingTuples(),
+                sumState)
+    );
+    assertEquals("unexpected type [STRING] in sum aggregation", exception.getMessage());
+  }
 }
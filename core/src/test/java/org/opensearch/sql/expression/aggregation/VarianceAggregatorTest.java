@@ -14,6 +14,7 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -166,6 +167,15 @@ public class VarianceAggregatorTest extends AggregationTest {
         avgAggregator.toString());
   }
 
+  @Test
+  public void variance_is_not_removable() {
+    Aggregator aggregator = dsl.varPop(ref("integer_value", INTEGER));
+    assertFalse(aggregator.isRemovable());
+    ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+        () -> slidingAggregation(aggregator, tuples, 1));
+    assertEquals("can't remove value from aggregator: var_pop", exception.getMessage());
+  }
+
   private ExprValue varianceSample(ExprValue value, ExprValue... values) {
     when(expression.valueOf(any())).thenReturn(value, values);
     when(expression.type()).thenReturn(DOUBLE);
@@ -187,4 +197,5 @@ public class VarianceAggregatorTest extends AggregationTest {
     }
     return mockTuples;
   }
+
 }
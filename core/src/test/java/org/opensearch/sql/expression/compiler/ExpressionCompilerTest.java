@@ -0,0 +1,327 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.DOUBLE_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.DOUBLE_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.STRING_TYPE_NULL_VALUE_FILED;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionTestBase;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest extends ExpressionTestBase {
+
+  private final List<Expression> integers = ImmutableList.of(
+      literal(7), literal(-3), literal(0),
+      ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER), ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER));
+
+  private final List<Expression> longs = ImmutableList.of(
+      literal(7L), literal(-3L), literal(0L), ref("long_value", LONG));
+
+  private final List<Expression> doubles = ImmutableList.of(
+      literal(7.5), literal(-3.0), literal(0.0),
+      ref(DOUBLE_TYPE_NULL_VALUE_FIELD, DOUBLE), ref(DOUBLE_TYPE_MISSING_VALUE_FIELD, DOUBLE));
+
+  private final List<Expression> booleans = ImmutableList.of(
+      literal(true), literal(false),
+      ref(BOOL_TYPE_NULL_VALUE_FIELD, BOOLEAN), ref(BOOL_TYPE_MISSING_VALUE_FIELD, BOOLEAN));
+
+  @Test
+  public void compile_arithmetic_of_same_type() {
+    for (BiFunction<Expression, Expression, Expression> function : arithmeticFunctions()) {
+      for (List<Expression> arguments : ImmutableList.of(integers, longs, doubles)) {
+        for (Expression left : arguments) {
+          for (Expression right : arguments) {
+            assertCompiledSameAsInterpreted(function.apply(left, right));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void compile_arithmetic_of_mixed_type() {
+    for (BiFunction<Expression, Expression, Expression> function : arithmeticFunctions()) {
+      for (Expression left : integers) {
+        for (Expression right : doubles) {
+          assertCompiledSameAsInterpreted(function.apply(left, right));
+          assertCompiledSameAsInterpreted(function.apply(right, left));
+        }
+      }
+      for (Expression left : integers) {
+        for (Expression right : longs) {
+          assertCompiledSameAsInterpreted(function.apply(left, right));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void compile_nested_arithmetic() {
+    Expression expression = dsl.multiply(
+        dsl.add(ref("double_value", DOUBLE), dsl.subtract(ref("integer_value", INTEGER),
+            literal(3))),
+        dsl.divide(literal(10.0), dsl.module(literal(7), literal(4))));
+    assertEquals(doubleValue((1.0 + (1 - 3)) * (10.0 / (7 % 4))),
+        ExpressionCompiler.compile(expression).valueOf(valueEnv()));
+    assertCompiledSameAsInterpreted(expression);
+
+    assertCompiledSameAsInterpreted(
+        dsl.add(literal(1L), dsl.module(literal(5), literal(0))));
+    assertCompiledSameAsInterpreted(
+        dsl.add(dsl.divide(literal(5.0), literal(0.0)), literal(1.0)));
+    assertCompiledSameAsInterpreted(
+        dsl.add(dsl.abs(literal(-5)), ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER)));
+  }
+
+  @Test
+  public void compile_arithmetic_overflow_throw_exception() {
+    assertCompiledThrowsSameAsInterpreted(dsl.add(literal(Integer.MAX_VALUE), literal(1)));
+    assertCompiledThrowsSameAsInterpreted(dsl.subtract(literal(Integer.MIN_VALUE), literal(1)));
+    assertCompiledThrowsSameAsInterpreted(dsl.multiply(literal(Integer.MAX_VALUE), literal(2)));
+    assertCompiledThrowsSameAsInterpreted(dsl.add(literal(Long.MAX_VALUE), literal(1L)));
+    assertCompiledThrowsSameAsInterpreted(dsl.subtract(literal(Long.MIN_VALUE), literal(1L)));
+    assertCompiledThrowsSameAsInterpreted(dsl.multiply(literal(Long.MAX_VALUE), literal(2L)));
+    assertCompiledSameAsInterpreted(dsl.divide(literal(Integer.MIN_VALUE), literal(-1)));
+  }
+
+  @Test
+  public void compile_comparison() {
+    for (BiFunction<Expression, Expression, Expression> function : comparisonFunctions()) {
+      for (List<Expression> arguments : ImmutableList.of(integers, longs, doubles)) {
+        for (Expression left : arguments) {
+          for (Expression right : arguments) {
+            assertCompiledSameAsInterpreted(function.apply(left, right));
+          }
+        }
+      }
+      assertCompiledSameAsInterpreted(
+          function.apply(dsl.add(literal(1.0), literal(2)), literal(3.0)));
+      assertCompiledSameAsInterpreted(function.apply(literal(1.0), literal(Double.NaN)));
+    }
+  }
+
+  @Test
+  public void compile_comparison_not_compared_by_primitive() {
+    for (BiFunction<Expression, Expression, Expression> function : comparisonFunctions()) {
+      assertCompiledSameAsInterpreted(function.apply(literal("a"), literal("b")));
+      assertCompiledSameAsInterpreted(
+          function.apply(literal("a"), ref(STRING_TYPE_NULL_VALUE_FILED, STRING)));
+      assertCompiledSameAsInterpreted(function.apply(literal(1), literal(2L)));
+      assertCompiledSameAsInterpreted(function.apply(literal(1f), literal(2f)));
+      assertCompiledSameAsInterpreted(
+          dsl.and(function.apply(literal("a"), literal("b")), literal(true)));
+    }
+  }
+
+  @Test
+  public void compile_logical() {
+    for (Expression left : booleans) {
+      assertCompiledSameAsInterpreted(dsl.not(left));
+      for (Expression right : booleans) {
+        assertCompiledSameAsInterpreted(dsl.and(left, right));
+        assertCompiledSameAsInterpreted(dsl.or(left, right));
+        assertCompiledSameAsInterpreted(dsl.not(dsl.and(left, right)));
+        assertCompiledSameAsInterpreted(dsl.or(dsl.not(left), dsl.and(left, right)));
+      }
+    }
+  }
+
+  @Test
+  public void compile_logical_of_comparison() {
+    Expression expression = dsl.and(
+        dsl.greater(ref("integer_value", INTEGER), literal(0)),
+        dsl.or(
+            dsl.lte(ref(DOUBLE_TYPE_NULL_VALUE_FIELD, DOUBLE), literal(1.0)),
+            dsl.notequal(ref("long_value", LONG), literal(2L))));
+    assertEquals(LITERAL_TRUE, ExpressionCompiler.compile(expression).valueOf(valueEnv()));
+
+    assertEquals(LITERAL_FALSE, ExpressionCompiler.compile(
+        dsl.and(literal(false), dsl.equal(ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER), literal(1))))
+        .valueOf(valueEnv()));
+    assertEquals(LITERAL_MISSING, ExpressionCompiler.compile(
+        dsl.and(literal(true), dsl.equal(ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER), literal(1))))
+        .valueOf(valueEnv()));
+    assertEquals(LITERAL_NULL, ExpressionCompiler.compile(
+        dsl.or(literal(false), dsl.equal(ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER), literal(1))))
+        .valueOf(valueEnv()));
+  }
+
+  @Test
+  public void compile_other_expression_as_interpreter() {
+    assertCompiledSameAsInterpreted(literal(1));
+    assertCompiledSameAsInterpreted(ref("integer_value", INTEGER));
+    assertCompiledSameAsInterpreted(dsl.abs(literal(-1L)));
+    assertCompiledSameAsInterpreted(dsl.add(ref("float_value", FLOAT), literal(1f)));
+    assertEquals(integerValue(3),
+        ExpressionCompiler.compile(dsl.add(literal(1), literal(2))).valueOf(valueEnv()));
+    assertEquals(longValue(3L),
+        ExpressionCompiler.compile(dsl.add(literal(1L), literal(2))).valueOf(valueEnv()));
+  }
+
+  @Test
+  public void compile_predicate_of_comparison() {
+    List<ExprValue> rows = rows();
+    for (BiFunction<Expression, Expression, Expression> function : comparisonFunctions()) {
+      assertFilteredSameAsInterpreted(function.apply(ref("i1", INTEGER), ref("i2", INTEGER)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("i1", INTEGER), literal(2)), rows);
+      assertFilteredSameAsInterpreted(function.apply(literal(2), ref("i1", INTEGER)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("l1", LONG), ref("l2", LONG)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("l1", LONG), literal(2L)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("d1", DOUBLE), ref("d2", DOUBLE)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("d1", DOUBLE), literal(2.5)), rows);
+      assertFilteredSameAsInterpreted(function.apply(literal(2.5), ref("d1", DOUBLE)), rows);
+    }
+  }
+
+  @Test
+  public void compile_predicate_of_other_expression() {
+    List<ExprValue> rows = rows();
+    for (BiFunction<Expression, Expression, Expression> function : comparisonFunctions()) {
+      assertFilteredSameAsInterpreted(function.apply(literal(1), literal(2)), rows);
+      assertFilteredSameAsInterpreted(function.apply(ref("i1", INTEGER), ref("l1", LONG)), rows);
+      assertFilteredSameAsInterpreted(
+          function.apply(dsl.add(ref("i1", INTEGER), literal(1)), ref("i2", INTEGER)), rows);
+      assertFilteredSameAsInterpreted(
+          function.apply(literal(2), dsl.add(ref("i1", INTEGER), literal(1))), rows);
+    }
+    assertFilteredSameAsInterpreted(ref("b", BOOLEAN), rows);
+    assertFilteredSameAsInterpreted(dsl.or(
+        dsl.less(ref("i1", INTEGER), literal(2)), dsl.equal(ref("d2", DOUBLE), literal(1.5))),
+        rows);
+  }
+
+  @Test
+  public void compile_predicate_of_and() {
+    List<ExprValue> rows = rows();
+    assertFilteredSameAsInterpreted(dsl.and(
+        dsl.gte(ref("i1", INTEGER), literal(2)), dsl.less(ref("d1", DOUBLE), ref("d2", DOUBLE))),
+        rows);
+    assertFilteredSameAsInterpreted(dsl.and(
+        dsl.notequal(ref("l1", LONG), ref("l2", LONG)),
+        dsl.and(ref("b", BOOLEAN), dsl.lte(ref("i2", INTEGER), literal(2)))), rows);
+    assertFilteredSameAsInterpreted(dsl.and(
+        dsl.not(ref("b", BOOLEAN)), dsl.equal(ref("i1", INTEGER), ref("i2", INTEGER))), rows);
+  }
+
+  private List<BiFunction<Expression, Expression, Expression>> arithmeticFunctions() {
+    return ImmutableList.of(
+        (left, right) -> dsl.add(left, right),
+        (left, right) -> dsl.subtract(left, right),
+        (left, right) -> dsl.multiply(left, right),
+        (left, right) -> dsl.divide(left, right),
+        (left, right) -> dsl.module(left, right));
+  }
+
+  private List<BiFunction<Expression, Expression, Expression>> comparisonFunctions() {
+    return ImmutableList.of(
+        (left, right) -> dsl.equal(left, right),
+        (left, right) -> dsl.notequal(left, right),
+        (left, right) -> dsl.less(left, right),
+        (left, right) -> dsl.lte(left, right),
+        (left, right) -> dsl.greater(left, right),
+        (left, right) -> dsl.gte(left, right));
+  }
+
+  /**
+   * Rows of each combination of two values out of 1, 2, 3, null and missing.
+   */
+  private List<ExprValue> rows() {
+    List<ExprValue> values = ImmutableList.of(
+        integerValue(1), integerValue(2), integerValue(3), ExprNullValue.of(), LITERAL_MISSING);
+    List<ExprValue> rows = new ArrayList<>();
+    for (ExprValue first : values) {
+      for (ExprValue second : values) {
+        Map<String, ExprValue> row = new LinkedHashMap<>();
+        putNumbers(row, "1", first);
+        putNumbers(row, "2", second);
+        row.put("b", ExprValueUtils.booleanValue(first.equals(second)));
+        rows.add(ExprTupleValue.fromExprValueMap(row));
+      }
+    }
+    return rows;
+  }
+
+  private void putNumbers(Map<String, ExprValue> row, String suffix, ExprValue value) {
+    if (value.isMissing()) {
+      return;
+    } else if (value.isNull()) {
+      row.put("i" + suffix, value);
+      row.put("l" + suffix, value);
+      row.put("d" + suffix, value);
+      return;
+    }
+    row.put("i" + suffix, value);
+    row.put("l" + suffix, longValue(value.longValue()));
+    row.put("d" + suffix, doubleValue(value.integerValue() + 0.5));
+  }
+
+  private void assertFilteredSameAsInterpreted(Expression condition, List<ExprValue> rows) {
+    List<ExprValue> expected = rows.stream().filter(row -> {
+      ExprValue value = condition.valueOf(row.bindingTuples());
+      return !(value.isNull() || value.isMissing()) && value.booleanValue();
+    }).collect(Collectors.toList());
+    ColumnBatch batch = ColumnBatch.of(rows);
+    ExpressionCompiler.compilePredicate(condition).filter(batch);
+    assertEquals(expected, batch.selectedRows(), condition.toString());
+  }
+
+  private void assertCompiledSameAsInterpreted(Expression expression) {
+    ExprValue expected = expression.valueOf(valueEnv());
+    assertEquals(expected, ExpressionCompiler.compile(expression).valueOf(valueEnv()),
+        expression.toString());
+  }
+
+  private void assertCompiledThrowsSameAsInterpreted(Expression expression) {
+    assertThrows(ArithmeticException.class, () -> expression.valueOf(valueEnv()));
+    assertThrows(ArithmeticException.class,
+        () -> ExpressionCompiler.compile(expression).valueOf(valueEnv()));
+  }
+}
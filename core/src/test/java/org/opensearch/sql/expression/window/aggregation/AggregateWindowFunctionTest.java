@@ -28,25 +28,39 @@
 package org.opensearch.sql.expression.window.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 
 /**
  * Aggregate window function test collection.
@@ -88,4 +102,104 @@ class AggregateWindowFunctionTest extends ExpressionTestBase {
     assertEquals(new ExprIntegerValue(60), windowFunction.valueOf(windowFrame));
   }
 
+  @Test
+  void copy_should_aggregate_independently() {
+    PeerRowsWindowFrame windowFrame = mock(PeerRowsWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(dsl.sum(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(
+        fromExprValueMap(ImmutableMap.of("age", new ExprIntegerValue(10)))));
+    assertEquals(new ExprIntegerValue(10), windowFunction.valueOf(windowFrame));
+
+    AggregateWindowFunction copy = windowFunction.copy();
+    assertNotSame(windowFunction, copy);
+    assertEquals(new AggregateWindowFunction(dsl.sum(DSL.ref("age", INTEGER))), copy);
+    assertEquals(new ExprIntegerValue(10), copy.valueOf(windowFrame));
+
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    assertEquals(new ExprIntegerValue(20), windowFunction.valueOf(windowFrame));
+    assertEquals(new ExprIntegerValue(20), copy.valueOf(windowFrame));
+    assertEquals(new ExprIntegerValue(30), windowFunction.valueOf(windowFrame));
+  }
+
+  @Test
+  void should_create_peer_frame_for_default_frame_and_sliding_frame_for_others() {
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(dsl.sum(DSL.ref("age", INTEGER)));
+    List<Expression> partitionByList = ImmutableList.of();
+    List<Pair<SortOption, Expression>> sortList =
+        ImmutableList.of(Pair.of(DEFAULT_ASC, DSL.ref("age", INTEGER)));
+
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(partitionByList, sortList)) instanceof PeerRowsWindowFrame);
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(partitionByList, sortList, FrameDefinition.DEFAULT))
+        instanceof PeerRowsWindowFrame);
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(partitionByList, sortList,
+            new FrameDefinition(FrameType.ROWS, FrameBound.preceding(6), FrameBound.CURRENT_ROW)))
+        instanceof SlidingWindowFrame);
+  }
+
+  @Test
+  void should_add_and_remove_values_incrementally_if_aggregator_removable() {
+    SlidingWindowFrame windowFrame = mock(SlidingWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(dsl.avg(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(10), row(20)));
+    when(windowFrame.removed()).thenReturn(ImmutableList.of());
+    assertEquals(new ExprDoubleValue(15.0), windowFunction.valueOf(windowFrame));
+
+    // Row 30 enters and leaves the frame at the same time
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(30), row(40)));
+    when(windowFrame.removed()).thenReturn(ImmutableList.of(row(10), row(20), row(30)));
+    assertEquals(new ExprDoubleValue(40.0), windowFunction.valueOf(windowFrame));
+  }
+
+  @Test
+  void should_keep_min_value_in_frame_by_monotonic_deque() {
+    SlidingWindowFrame windowFrame = mock(SlidingWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(dsl.min(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(30), row(10), row(20)));
+    when(windowFrame.removed()).thenReturn(ImmutableList.of());
+    assertEquals(new ExprIntegerValue(10), windowFunction.valueOf(windowFrame));
+
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(50)));
+    when(windowFrame.removed()).thenReturn(ImmutableList.of(row(30), row(10)));
+    assertEquals(new ExprIntegerValue(20), windowFunction.valueOf(windowFrame));
+  }
+
+  @Test
+  void should_aggregate_all_rows_in_frame_again_if_aggregator_not_removable() {
+    SlidingWindowFrame windowFrame = mock(SlidingWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(dsl.distinctCount(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(10), row(10)));
+    when(windowFrame.removed()).thenReturn(ImmutableList.of());
+    assertEquals(new ExprIntegerValue(1), windowFunction.valueOf(windowFrame));
+
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(20)));
+    assertEquals(new ExprIntegerValue(2), windowFunction.valueOf(windowFrame));
+
+    when(windowFrame.removed()).thenReturn(ImmutableList.of(row(10)));
+    when(windowFrame.rows()).thenReturn(ImmutableList.of(row(10), row(20), row(30)));
+    assertEquals(new ExprIntegerValue(3), windowFunction.valueOf(windowFrame));
+  }
+
+  private ExprValue row(int age) {
+    return fromExprValueMap(ImmutableMap.of("age", new ExprIntegerValue(age)));
+  }
+
 }
@@ -29,6 +29,7 @@ package org.opensearch.sql.expression.window.frame;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
@@ -132,6 +133,40 @@ class PeerRowsWindowFrameTest {
         windowFrame.next());
   }
 
+  @Test
+  void test_frame_state_unchanged_until_next_row_loaded() {
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10, 100),
+            tuple("WA", 10, 200),
+            tuple("CA", 18, 150)));
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertNull(windowFrame.previous());
+    assertEquals(tuple("WA", 10, 100), windowFrame.current());
+    assertEquals(
+        ImmutableList.of(tuple("WA", 10, 100), tuple("WA", 10, 200)),
+        windowFrame.next());
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(
+        ImmutableList.of(tuple("WA", 10, 100), tuple("WA", 10, 200)),
+        windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 10, 100), windowFrame.previous());
+    assertEquals(tuple("WA", 10, 200), windowFrame.current());
+    assertEquals(ImmutableList.of(), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 10, 200), windowFrame.previous());
+    assertEquals(tuple("CA", 18, 150), windowFrame.current());
+    assertEquals(ImmutableList.of(tuple("CA", 18, 150)), windowFrame.next());
+    assertFalse(windowFrame.hasNext());
+  }
+
   @Test
   void test_two_partitions_with_all_same_peers_in_second_partition() {
     PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.following;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound.preceding;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameType.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameType.ROWS;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlidingWindowFrameTest {
+
+  @Test
+  void test_rows_frame_with_preceding_and_following_in_two_partitions() {
+    SlidingWindowFrame windowFrame = frame(ROWS, preceding(1), following(1));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 30),
+            tuple("CA", 15)));
+
+    // Here we simulate how WindowFrame interacts with WindowOperator which calls load()
+    // and WindowFunction which calls isNewPartition(), next() and removed()
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertNull(windowFrame.previous());
+    assertEquals(tuple("WA", 10), windowFrame.current());
+    assertEquals(ImmutableList.of(tuple("WA", 10), tuple("WA", 20)), windowFrame.next());
+    assertEquals(ImmutableList.of(), windowFrame.removed());
+    assertTrue(windowFrame.hasNext());
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 10), windowFrame.previous());
+    assertEquals(tuple("WA", 20), windowFrame.current());
+    assertEquals(ImmutableList.of(tuple("WA", 30)), windowFrame.next());
+    assertEquals(ImmutableList.of(), windowFrame.removed());
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 30), windowFrame.current());
+    assertEquals(ImmutableList.of(), windowFrame.next());
+    assertEquals(ImmutableList.of(tuple("WA", 10)), windowFrame.removed());
+    assertFalse(windowFrame.hasNext());
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 30), windowFrame.previous());
+    assertEquals(tuple("CA", 15), windowFrame.current());
+    assertEquals(ImmutableList.of(tuple("CA", 15)), windowFrame.next());
+    assertEquals(ImmutableList.of(), windowFrame.removed());
+    assertFalse(windowFrame.hasNext());
+  }
+
+  @Test
+  void test_rows_frame_with_following_only() {
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(tuple("WA", 2), tuple("WA", 3)),
+            ImmutableList.of(tuple("WA", 3), tuple("WA", 4)),
+            ImmutableList.of(tuple("WA", 4)),
+            ImmutableList.of()),
+        slide(frame(ROWS, following(1), following(2)),
+            tuple("WA", 1), tuple("WA", 2), tuple("WA", 3), tuple("WA", 4)));
+  }
+
+  @Test
+  void test_rows_frame_with_preceding_only() {
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(),
+            ImmutableList.of(tuple("WA", 1)),
+            ImmutableList.of(tuple("WA", 1), tuple("WA", 2)),
+            ImmutableList.of(tuple("WA", 2), tuple("WA", 3))),
+        slide(frame(ROWS, preceding(2), preceding(1)),
+            tuple("WA", 1), tuple("WA", 2), tuple("WA", 3), tuple("WA", 4)));
+  }
+
+  @Test
+  void test_rows_frame_larger_than_initial_buffer_size() {
+    ExprValue[] rows = new ExprValue[40];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = tuple("WA", i);
+    }
+
+    List<List<ExprValue>> expected = new ArrayList<>();
+    for (int i = 0; i < rows.length; i++) {
+      expected.add(Arrays.asList(rows).subList(Math.max(0, i - 10), Math.min(40, i + 11)));
+    }
+    assertEquals(expected, slide(frame(ROWS, preceding(10), following(10)), rows));
+  }
+
+  @Test
+  void test_range_frame_with_offset_and_null() {
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(tuple("WA", null), tuple("WA", null)),
+            ImmutableList.of(tuple("WA", null), tuple("WA", null)),
+            ImmutableList.of(tuple("WA", 10)),
+            ImmutableList.of(tuple("WA", 10), tuple("WA", 15), tuple("WA", 15)),
+            ImmutableList.of(tuple("WA", 10), tuple("WA", 15), tuple("WA", 15)),
+            ImmutableList.of(tuple("WA", 30))),
+        slide(frame(RANGE, preceding(10), CURRENT_ROW),
+            tuple("WA", null), tuple("WA", null), tuple("WA", 10),
+            tuple("WA", 15), tuple("WA", 15), tuple("WA", 30)));
+  }
+
+  @Test
+  void test_range_frame_with_offset_and_missing() {
+    ExprValue missing = fromExprValueMap(ImmutableMap.of("state", new ExprStringValue("WA")));
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(missing),
+            ImmutableList.of(tuple("WA", 10))),
+        slide(frame(RANGE, preceding(1), CURRENT_ROW), missing, tuple("WA", 10)));
+  }
+
+  @Test
+  void test_range_frame_with_offset_in_descending_order() {
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(tuple("WA", 30), tuple("WA", 28)),
+            ImmutableList.of(tuple("WA", 28)),
+            ImmutableList.of(tuple("WA", 20), tuple("WA", 16)),
+            ImmutableList.of(tuple("WA", 16))),
+        slide(frame(DEFAULT_DESC, new FrameDefinition(RANGE, CURRENT_ROW, following(5))),
+            tuple("WA", 30), tuple("WA", 28), tuple("WA", 20), tuple("WA", 16)));
+  }
+
+  @Test
+  void test_range_frame_without_offset() {
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(tuple("WA", 10), tuple("WA", 20), tuple("WA", 20), tuple("WA", 30)),
+            ImmutableList.of(tuple("WA", 20), tuple("WA", 20), tuple("WA", 30)),
+            ImmutableList.of(tuple("WA", 20), tuple("WA", 20), tuple("WA", 30)),
+            ImmutableList.of(tuple("WA", 30))),
+        slide(frame(RANGE, CURRENT_ROW, UNBOUNDED_FOLLOWING),
+            tuple("WA", 10), tuple("WA", 20), tuple("WA", 20), tuple("WA", 30)));
+  }
+
+  private SlidingWindowFrame frame(FrameType type, FrameBound start, FrameBound end) {
+    return frame(DEFAULT_ASC, new FrameDefinition(type, start, end));
+  }
+
+  private SlidingWindowFrame frame(SortOption option, FrameDefinition frame) {
+    return new SlidingWindowFrame(
+        new WindowDefinition(
+            ImmutableList.of(DSL.ref("state", STRING)),
+            ImmutableList.of(Pair.of(option, DSL.ref("age", INTEGER))),
+            frame));
+  }
+
+  /**
+   * Simulate how window operator loads all rows into window frame and return rows in frame
+   * of each row. Meanwhile, verify that rows added and removed are consistent with it.
+   */
+  private List<List<ExprValue>> slide(SlidingWindowFrame windowFrame, ExprValue... rows) {
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(Iterators.forArray(rows));
+    List<ExprValue> currentRows = new ArrayList<>();
+    List<List<ExprValue>> frames = new ArrayList<>();
+    Deque<ExprValue> frameRows = new ArrayDeque<>();
+    while (tuples.hasNext() || windowFrame.hasNext()) {
+      windowFrame.load(tuples);
+      if (windowFrame.isNewPartition()) {
+        frameRows.clear();
+      }
+      frameRows.addAll(windowFrame.next());
+      for (ExprValue removed : windowFrame.removed()) {
+        assertEquals(removed, frameRows.pollFirst());
+      }
+      assertEquals(new ArrayList<>(frameRows), windowFrame.rows());
+
+      currentRows.add(windowFrame.current());
+      frames.add(windowFrame.rows());
+    }
+    assertEquals(Arrays.asList(rows), currentRows);
+    return frames;
+  }
+
+  private ExprValue tuple(String state, Integer age) {
+    return fromExprValueMap(ImmutableMap.of(
+        "state", new ExprStringValue(state),
+        "age", (age == null) ? ExprNullValue.of() : new ExprIntegerValue(age)));
+  }
+
+}
@@ -28,6 +28,7 @@
 package org.opensearch.sql.expression.window.ranking;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -50,6 +51,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
 
 /**
@@ -110,6 +112,17 @@ class RankingWindowFunctionTest extends ExpressionTestBase {
     assertEquals(new ExprIntegerValue(1), rowNumber.valueOf(windowFrame1));
   }
 
+  @Test
+  void copy_should_create_new_function_of_same_type() {
+    for (RankingWindowFunction function :
+        ImmutableList.of(dsl.rowNumber(), dsl.rank(), dsl.denseRank())) {
+      WindowFunctionExpression copy = function.copy();
+      assertNotSame(function, copy);
+      assertEquals(function.getClass(), copy.getClass());
+      assertEquals(function, copy);
+    }
+  }
+
   @Test
   void test_row_number() {
     RankingWindowFunction rowNumber = dsl.rowNumber();
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.StorageEngine;
+import org.opensearch.sql.storage.Table;
+
+@ExtendWith(MockitoExtension.class)
+class PlanCacheTest {
+
+  @Mock
+  private StorageEngine storageEngine;
+
+  @Mock
+  private Table table;
+
+  @Mock
+  private LogicalPlanOptimizer optimizer;
+
+  @Mock
+  private PhysicalPlan physicalPlan;
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  private final AtomicInteger analyzeCount = new AtomicInteger();
+
+  private Planner planner;
+
+  @BeforeEach
+  void setUp() {
+    planner = new Planner(storageEngine, optimizer);
+  }
+
+  @Test
+  void should_reuse_optimized_plan_on_cache_hit() {
+    mockTable();
+    PlanCache cache = new PlanCache(10, 1, TimeUnit.MINUTES, ticker);
+
+    assertEquals(physicalPlan, cache.plan("source=test", analyze(relation()), planner));
+    assertEquals(physicalPlan, cache.plan("source=test", analyze(relation()), planner));
+
+    assertEquals(1, analyzeCount.get());
+    verify(optimizer, times(1)).optimize(any());
+    verify(table, times(2)).implement(any());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
+  @Test
+  void should_evict_least_recently_used_plan_if_full() {
+    mockTable();
+    PlanCache cache = new PlanCache(1, 1, TimeUnit.MINUTES, ticker);
+
+    cache.plan("source=test | head 1", analyze(relation()), planner);
+    cache.plan("source=test | head 2", analyze(relation()), planner);
+    cache.plan("source=test | head 1", analyze(relation()), planner);
+
+    assertEquals(3, analyzeCount.get());
+    assertEquals(2, cache.evictionCount());
+  }
+
+  @Test
+  void should_expire_plan_after_time_to_live() {
+    mockTable();
+    PlanCache cache = new PlanCache(10, 1, TimeUnit.MINUTES, ticker);
+
+    cache.plan("source=test", analyze(relation()), planner);
+    ticker.advance(2, TimeUnit.MINUTES);
+    cache.plan("source=test", analyze(relation()), planner);
+
+    assertEquals(2, analyzeCount.get());
+    assertEquals(1, cache.evictionCount());
+  }
+
+  @Test
+  void should_analyze_again_after_invalidation() {
+    mockTable();
+    PlanCache cache = new PlanCache(10, 1, TimeUnit.MINUTES, ticker);
+
+    cache.plan("source=test", analyze(relation()), planner);
+    cache.invalidateAll();
+    cache.plan("source=test", analyze(relation()), planner);
+
+    assertEquals(2, analyzeCount.get());
+    assertEquals(0, cache.evictionCount());
+  }
+
+  @Test
+  void should_not_cache_plan_with_window_function() {
+    mockTable();
+    PlanCache cache = new PlanCache(10, 1, TimeUnit.MINUTES, ticker);
+    LogicalPlan window = new LogicalWindow(
+        relation(),
+        DSL.named("row_number", DSL.ref("row_number", INTEGER)),
+        new WindowDefinition(emptyList(),
+            ImmutableList.of(ImmutablePair.of(SortOption.DEFAULT_ASC, DSL.ref("a", INTEGER)))));
+
+    cache.plan("source=test", analyze(window), planner);
+    cache.plan("source=test", analyze(window), planner);
+
+    assertEquals(2, analyzeCount.get());
+  }
+
+  private void mockTable() {
+    when(storageEngine.getTable(any())).thenReturn(table);
+    when(optimizer.optimize(any())).then(invocation -> invocation.getArgument(0));
+    when(table.optimize(any())).then(invocation -> invocation.getArgument(0));
+    when(table.implement(any())).thenReturn(physicalPlan);
+  }
+
+  private LogicalPlan relation() {
+    return LogicalPlanDSL.relation("test");
+  }
+
+  private Supplier<LogicalPlan> analyze(LogicalPlan plan) {
+    return () -> {
+      analyzeCount.incrementAndGet();
+      return plan;
+    };
+  }
+
+  private static class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+    void advance(long time, TimeUnit unit) {
+      nanos.addAndGet(unit.toNanos(time));
+    }
+  }
+}
@@ -27,9 +27,14 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -487,4 +492,75 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
         ExprValueUtils.tupleValue(ImmutableMap.of("span", 4.5D, "count", 1))));
   }
 
+  @Test
+  public void aggregation_within_memory_limit() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", dsl.sum(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))),
+        10 * 1024);
+    List<ExprValue> result = execute(plan);
+    assertEquals(2, result.size());
+  }
+
+  @Test
+  public void aggregation_spills_groups_exceeding_memory_limit() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Arrays.asList(
+            DSL.named("sum(response)", dsl.sum(DSL.ref("response", INTEGER))),
+            DSL.named("count(response)", dsl.count(DSL.ref("response", INTEGER)))),
+        Arrays.asList(DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("ip", DSL.ref("ip", STRING))),
+        1);
+    List<ExprValue> result = execute(plan);
+    assertEquals(3, result.size());
+    assertThat(result, containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "ip", "209.160.24.63",
+            "sum(response)", 604, "count(response)", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "ip", "112.111.162.4",
+            "sum(response)", 200, "count(response)", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "ip", "74.125.19.106",
+            "sum(response)", 700, "count(response)", 2))
+    ));
+  }
+
+  @Test
+  public void span_aggregation_exceeds_memory_limit() {
+    PhysicalPlan plan = new AggregationOperator(new DateTimeTestScan(),
+        Collections.singletonList(DSL
+            .named("count", dsl.count(DSL.ref("second", TIMESTAMP)))),
+        Collections.singletonList(DSL
+            .named("span", DSL.span(DSL.ref("second", TIMESTAMP), DSL.literal(6 * 1000), "ms"))),
+        1);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> execute(plan));
+    assertEquals(
+        "aggregation of 1 groups exceeds the memory limit of 1 bytes, quit.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void aggregation_consumes_input_batch() {
+    PhysicalPlan input = spy(new TestScan());
+    PhysicalPlan plan = new AggregationOperator(input,
+        Collections.singletonList(DSL.named("count", dsl.count(DSL.ref("response", INTEGER)))),
+        Collections.emptyList());
+    assertThat(execute(plan), contains(ExprValueUtils.tupleValue(ImmutableMap.of("count", 5))));
+
+    verify(input, times(2)).nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+  }
+
+  @Test
+  public void aggregation_of_filtered_column_batch() {
+    PhysicalPlan plan = new AggregationOperator(
+        new FilterOperator(new TestScan(),
+            dsl.notequal(DSL.ref("response", INTEGER), DSL.literal(404))),
+        Arrays.asList(
+            DSL.named("sum", dsl.sum(DSL.ref("response", INTEGER))),
+            DSL.named("avg", dsl.avg(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    assertThat(execute(plan), contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "sum", 400, "avg", 200d)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "sum", 700, "avg", 350d))));
+  }
 }
@@ -29,11 +29,14 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +46,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
+import org.opensearch.sql.planner.physical.DedupeOperator.LongDeduper;
 
 @ExtendWith(MockitoExtension.class)
 class DedupeOperatorTest extends PhysicalPlanTestBase {
@@ -252,9 +256,131 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200))));
   }
 
+  @Test
+  public void dedupe_two_field_with_null_value() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(NULL_MAP))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)));
+
+    assertThat(
+        execute(dedupe(inputPlan, DSL.ref("action", STRING), DSL.ref("region", STRING))),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200))));
+  }
+
+  @Test
+  public void dedupe_string_and_integer_field() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 404)));
+
+    assertThat(
+        execute(dedupe(inputPlan, DSL.ref("region", STRING), DSL.ref("response", INTEGER))),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)),
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 404))));
+  }
+
+  @Test
+  public void dedupe_one_integer_field() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)))
+        .thenReturn(
+            tupleValue(NULL_MAP))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "PUT", "response", 404)));
+
+    assertThat(
+        execute(dedupe(inputPlan, DSL.ref("response", INTEGER))),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)),
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "PUT", "response", 404))));
+  }
+
+  @Test
+  public void dedupe_exceed_memory_limit() {
+    when(inputPlan.hasNext()).thenReturn(true);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-west-2", "action", "GET", "response", 200)));
+
+    // Each distinct region is estimated as 106 bytes
+    PhysicalPlan plan = new DedupeOperator(
+        inputPlan, ImmutableList.of(DSL.ref("region", STRING)), 1, false, false, 200L);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> execute(plan));
+    assertEquals("dedup of 2 distinct keys exceeds the memory limit of 200 bytes, quit.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void dedupe_integer_field_exceed_memory_limit() {
+    when(inputPlan.hasNext()).thenReturn(true);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)));
+
+    // Initial hash table of 16 slots is estimated as 192 bytes
+    PhysicalPlan plan = new DedupeOperator(
+        inputPlan, ImmutableList.of(DSL.ref("response", INTEGER)), 1, false, false, 100L);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> execute(plan));
+    assertEquals("dedup of 1 distinct keys exceeds the memory limit of 100 bytes, quit.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void consecutive_dedupe_not_limited_by_memory() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)))
+        .thenReturn(
+            tupleValue(ImmutableMap.of("region", "us-west-2", "action", "GET", "response", 200)));
+
+    assertThat(
+        execute(new DedupeOperator(
+            inputPlan, ImmutableList.of(DSL.ref("region", STRING)), 1, false, true, 100L)),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200)),
+            tupleValue(ImmutableMap.of("region", "us-west-2", "action", "GET", "response", 200))));
+  }
+
+  @Test
+  public void long_deduper() {
+    LongDeduper deduper = new LongDeduper(Integer.MAX_VALUE);
+    for (long key = -500; key < 500; key++) {
+      assertEquals(1, deduper.seenTimes(key * 1024));
+    }
+    for (long key = -500; key < 500; key++) {
+      assertEquals(2, deduper.seenTimes(key * 1024));
+    }
+    assertEquals(3, deduper.seenTimes(0));
+
+    // Hash table grows to 2048 slots to keep load factor below 0.75
+    assertEquals(1000, deduper.size());
+    assertEquals(2048 * 12, deduper.estimatedBytes());
+  }
+
   @Test
   public void historical_deduper() {
-    Deduper<Integer> deduper = Deduper.historicalDeduper();
+    Deduper<Integer> deduper = Deduper.historicalDeduper(Integer.MAX_VALUE);
 
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
@@ -268,7 +394,7 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
 
   @Test
   public void consecutive_deduper() {
-    Deduper<Integer> deduper = Deduper.consecutiveDeduper();
+    Deduper<Integer> deduper = Deduper.consecutiveDeduper(Integer.MAX_VALUE);
 
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
@@ -279,4 +405,37 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
   }
+
+  @Test
+  public void long_deduper_saturates_seen_times() {
+    LongDeduper deduper = new LongDeduper(2);
+    assertEquals(1, deduper.seenTimes(1L));
+    assertEquals(2, deduper.seenTimes(1L));
+    assertEquals(2, deduper.seenTimes(1L));
+    assertEquals(1, deduper.size());
+  }
+
+  @Test
+  public void deduper_saturates_seen_times() {
+    Deduper<Integer> deduper = Deduper.historicalDeduper(2);
+    assertEquals(1, deduper.seenTimes(1));
+    assertEquals(2, deduper.seenTimes(1));
+    assertEquals(2, deduper.seenTimes(1));
+  }
+
+  @Test
+  public void dedupe_with_max_allowed_duplication() {
+    PhysicalPlan plan = new DedupeOperator(
+        inputPlan, ImmutableList.of(DSL.ref("region", STRING)), Integer.MAX_VALUE, false, false);
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST")));
+
+    assertThat(
+        execute(plan),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET")),
+            tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST"))));
+  }
 }
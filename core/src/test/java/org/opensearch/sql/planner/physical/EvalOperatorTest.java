@@ -30,22 +30,29 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 
 @ExtendWith(MockitoExtension.class)
 class EvalOperatorTest extends PhysicalPlanTestBase {
@@ -73,6 +80,33 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
                     ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)))));
   }
 
+  @Test
+  public void eval_rows_into_slots_of_extended_schema() {
+    RowSchema schema = RowSchema.of(Arrays.asList("distance", "time", "absent"));
+    RowSchema otherSchema = RowSchema.of(Arrays.asList("time", "distance"));
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next()).thenReturn(
+        new ExprRowValue(schema, new ExprValue[] {integerValue(100), integerValue(10), null}),
+        new ExprRowValue(schema, new ExprValue[] {integerValue(60), integerValue(2), null}),
+        new ExprRowValue(otherSchema, new ExprValue[] {integerValue(5), integerValue(20)}));
+
+    PhysicalPlan plan =
+        eval(
+            inputPlan,
+            ImmutablePair.of(
+                DSL.ref("velocity", INTEGER),
+                dsl.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))),
+            ImmutablePair.of(
+                DSL.ref("time", INTEGER),
+                dsl.multiply(DSL.ref("velocity", INTEGER), DSL.literal(2))));
+    assertEquals(
+        Arrays.asList(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 20, "velocity", 10)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 60, "velocity", 30)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("time", 8, "distance", 20, "velocity", 4))),
+        execute(plan));
+  }
+
   @Test
   public void create_multiple_field_using_field_defined_in_input_tuple() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -152,4 +186,14 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_batch() {
+    ImmutablePair<ReferenceExpression, Expression> increment =
+        ImmutablePair.of(DSL.ref("response", INTEGER),
+            dsl.add(DSL.ref("response", INTEGER), DSL.literal(1)));
+    assertEquals(
+        execute(eval(new TestScan(), increment)),
+        executeBatch(eval(new TestScan(), increment), 2));
+  }
 }
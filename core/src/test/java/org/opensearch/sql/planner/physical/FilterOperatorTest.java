@@ -29,10 +29,12 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.LinkedHashMap;
@@ -45,6 +47,8 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
 
 @ExtendWith(MockitoExtension.class)
 class FilterOperatorTest extends PhysicalPlanTestBase {
@@ -88,4 +92,26 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void filterBatchTest() {
+    Expression condition = dsl.notequal(DSL.ref("response", INTEGER), DSL.literal(404));
+    assertEquals(
+        execute(new FilterOperator(new TestScan(), condition)),
+        executeBatch(new FilterOperator(new TestScan(), condition), 2));
+  }
+
+  @Test
+  public void filterColumnBatchTest() {
+    FilterOperator plan = new FilterOperator(
+        new FilterOperator(new TestScan(),
+            dsl.greater(DSL.ref("response", INTEGER), DSL.literal(300))),
+        dsl.equal(DSL.ref("action", STRING), DSL.literal("POST")));
+    plan.open();
+    ColumnBatch batch = plan.nextColumnBatch(1);
+    assertEquals(1, batch.size());
+    assertEquals(inputs.get(4), batch.selectedRow(0));
+    assertTrue(plan.nextColumnBatch(1).isEmpty());
+    plan.close();
+  }
 }
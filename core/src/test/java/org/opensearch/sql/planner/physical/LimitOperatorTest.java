@@ -29,8 +29,14 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
@@ -66,4 +72,41 @@ public class LimitOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void should_not_fetch_input_once_limit_reached() {
+    PhysicalPlan input = mock(PhysicalPlan.class);
+    when(input.hasNext()).thenReturn(true);
+    when(input.next()).thenReturn(ExprValueUtils.integerValue(1));
+
+    PhysicalPlan plan = new LimitOperator(input, 1, 0);
+    plan.open();
+    plan.hasNext();
+    plan.next();
+    assertFalse(plan.hasNext());
+
+    verify(input).hasNext();
+  }
+
+  @Test
+  public void limit_batch() {
+    for (int offset = 0; offset <= 6; offset++) {
+      assertEquals(
+          execute(new LimitOperator(new TestScan(), 3, offset)),
+          executeBatch(new LimitOperator(new TestScan(), 3, offset), 2));
+    }
+  }
+
+  @Test
+  public void should_not_fetch_input_batch_over_limit() {
+    PhysicalPlan input = mock(PhysicalPlan.class);
+    when(input.nextBatch(1)).thenReturn(Collections.singletonList(ExprValueUtils.integerValue(1)));
+
+    PhysicalPlan plan = new LimitOperator(input, 1, 0);
+    plan.open();
+    assertEquals(1, plan.nextBatch(1024).size());
+    assertTrue(plan.nextBatch(1024).isEmpty());
+
+    verify(input).nextBatch(1);
+  }
 }
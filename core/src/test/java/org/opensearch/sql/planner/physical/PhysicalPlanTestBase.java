@@ -26,6 +26,8 @@
 
 package org.opensearch.sql.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Iterator;
@@ -200,6 +202,19 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeBatch(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    List<ExprValue> batch = plan.nextBatch(batchSize);
+    while (!batch.isEmpty()) {
+      assertTrue(batch.size() <= batchSize);
+      builder.addAll(batch);
+      batch = plan.nextBatch(batchSize);
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static class TestScan extends PhysicalPlan {
     private final Iterator<ExprValue> iterator;
 
@@ -31,6 +31,9 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
@@ -39,11 +42,13 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
@@ -71,6 +76,28 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
             hasItems(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")))));
   }
 
+  @Test
+  public void project_rows_of_shared_schema() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 404)));
+    PhysicalPlan plan = project(
+        project(inputPlan,
+            DSL.named("response", DSL.ref("response", INTEGER)),
+            DSL.named("action", DSL.ref("action", STRING))),
+        DSL.named("action", DSL.ref("action", STRING)));
+    List<ExprValue> result = execute(plan);
+
+    assertEquals(
+        Arrays.asList(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"))),
+        result);
+    assertSame(((ExprRowValue) result.get(0)).getSchema(),
+        ((ExprRowValue) result.get(1)).getSchema());
+  }
+
   @Test
   public void project_two_field_follow_the_project_order() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -111,6 +138,29 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                     "action", stringValue("POST"))))));
   }
 
+  @Test
+  public void project_with_alias() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)));
+    PhysicalPlan plan = project(inputPlan,
+        DSL.named("action", DSL.ref("action", STRING), "act"),
+        DSL.named("action", DSL.ref("action", STRING)));
+
+    assertThat(
+        execute(plan),
+        contains(ExprValueUtils.tupleValue(ImmutableMap.of("act", "GET", "action", "GET"))));
+  }
+
+  @Test
+  public void project_duplicate_name_throw_exception() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> project(inputPlan,
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("action", DSL.ref("response", INTEGER))));
+    assertEquals("Multiple entries with same key: action", exception.getMessage());
+  }
+
   @Test
   public void project_schema() {
     PhysicalPlan project = project(inputPlan,
@@ -122,4 +172,15 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
         new ExecutionEngine.Schema.Column("action", "act", STRING)
     ));
   }
+
+  @Test
+  public void project_batch() {
+    assertEquals(
+        execute(project(new TestScan(),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response", DSL.ref("response", INTEGER)))),
+        executeBatch(project(new TestScan(),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response", DSL.ref("response", INTEGER))), 2));
+  }
 }
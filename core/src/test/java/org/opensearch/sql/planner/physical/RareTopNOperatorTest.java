@@ -27,6 +27,7 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -39,6 +40,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.planner.physical.RareTopNOperator.SpaceSaving;
 
 public class RareTopNOperatorTest extends PhysicalPlanTestBase {
 
@@ -114,4 +116,72 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
         ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))
     ));
   }
+
+  @Test
+  public void top_n_with_group_by_sketch() {
+    PhysicalPlan plan = new RareTopNOperator(new TestScan(),
+        CommandType.TOP,
+        1,
+        Collections.singletonList(DSL.ref("response", ExprCoreType.INTEGER)),
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+        2);
+    List<ExprValue> result = execute(plan);
+    assertEquals(2, result.size());
+    assertThat(result, containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 200)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))
+    ));
+  }
+
+  @Test
+  public void rare_not_approximated_by_sketch() {
+    PhysicalPlan plan = new RareTopNOperator(new TestScan(),
+        CommandType.RARE,
+        1,
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+        Collections.emptyList(),
+        1);
+    List<ExprValue> result = execute(plan);
+    assertEquals(1, result.size());
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"))
+    ));
+  }
+
+  @Test
+  public void space_saving_keeps_frequent_items() {
+    SpaceSaving<String> sketch = new SpaceSaving<>(3);
+    sketch.add("a");
+    sketch.add("b");
+    sketch.add("c");
+    sketch.add("a");
+    // replace b which has min count
+    sketch.add("d");
+    // replace c which has min count
+    sketch.add("e");
+    sketch.add("a");
+
+    assertEquals(3, sketch.count("a"));
+    assertEquals(0, sketch.count("b"));
+    assertEquals(0, sketch.count("c"));
+    assertEquals(2, sketch.count("d"));
+    assertEquals(2, sketch.count("e"));
+    assertThat(sketch.top(1), contains("a"));
+    assertThat(sketch.top(3), containsInAnyOrder("a", "d", "e"));
+  }
+
+  @Test
+  public void space_saving_evicts_min_after_existing_items_incremented() {
+    SpaceSaving<String> sketch = new SpaceSaving<>(2);
+    sketch.add("a");
+    sketch.add("a");
+    sketch.add("b");
+    // replace b which has min count instead of a
+    sketch.add("c");
+
+    assertEquals(2, sketch.count("a"));
+    assertEquals(0, sketch.count("b"));
+    assertEquals(2, sketch.count("c"));
+    assertThat(sketch.top(2), containsInAnyOrder("a", "c"));
+  }
 }
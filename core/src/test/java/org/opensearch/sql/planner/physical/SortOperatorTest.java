@@ -36,14 +36,24 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 
 @ExtendWith(MockitoExtension.class)
 class SortOperatorTest extends PhysicalPlanTestBase {
@@ -287,4 +297,73 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         execute(sort(inputPlan,
             Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_with_spill_to_disk() throws IOException {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    assertThat(
+        execute(
+            new SortOperator(
+                inputPlan,
+                Arrays.asList(
+                    Pair.of(SortOption.DEFAULT_DESC, ref("size", INTEGER)),
+                    Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+                2)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 399, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+    assertEquals(0, countSpillFiles());
+  }
+
+  @Test
+  public void sort_with_spill_to_disk_keeps_input_order_of_same_keys() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 404)));
+
+    assertThat(
+        execute(
+            new SortOperator(
+                inputPlan,
+                Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+                1)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 503))));
+  }
+
+  @Test
+  public void estimate_bytes_of_values() {
+    assertEquals(24L, SortOperator.estimatedBytes(ExprValueUtils.integerValue(1)));
+    assertEquals(28L, SortOperator.estimatedBytes(ExprValueUtils.stringValue("ab")));
+    assertEquals(24L, SortOperator.estimatedBytes(ExprValueUtils.nullValue()));
+    assertEquals(72L,
+        SortOperator.estimatedBytes(ExprValueUtils.collectionValue(Arrays.<Object>asList(1, 2))));
+    assertEquals(98L, SortOperator.estimatedBytes(tupleValue(ImmutableMap.of("a", 1))));
+    assertEquals(98L, SortOperator.estimatedBytes(new ExprRowValue(RowSchema.of(
+        Arrays.asList("a", "b")), new ExprValue[] {ExprValueUtils.integerValue(1), null})));
+  }
+
+  private long countSpillFiles() throws IOException {
+    try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith("opensearch-sql-sort-"))
+          .count();
+    }
+  }
 }
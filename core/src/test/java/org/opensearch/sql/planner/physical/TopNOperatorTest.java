@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+
+class TopNOperatorTest extends PhysicalPlanTestBase {
+
+  @Test
+  public void topN_same_as_limit_on_sort() {
+    Pair<SortOption, Expression> byResponse =
+        Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER));
+    Pair<SortOption, Expression> byReferer =
+        Pair.of(SortOption.DEFAULT_ASC, ref("referer", STRING));
+
+    for (int limit = 0; limit <= 6; limit++) {
+      for (int offset = 0; offset <= 6; offset++) {
+        assertEquals(
+            execute(limit(sort(new TestScan(), byResponse, byReferer), limit, offset)),
+            execute(topN(new TestScan(), limit, offset, byResponse, byReferer)),
+            String.format("limit %d offset %d", limit, offset));
+      }
+    }
+  }
+
+  @Test
+  public void topN_keeps_input_order_of_rows_with_same_sort_keys() {
+    assertThat(
+        execute(topN(new TestScan(), 3, 0,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("ip", "209.160.24.63", "action", "GET", "response", 200,
+                "referer", "www.amazon.com")),
+            tupleValue(ImmutableMap.of("ip", "112.111.162.4", "action", "GET", "response", 200,
+                "referer", "www.amazon.com")),
+            tupleValue(ImmutableMap.of("ip", "74.125.19.106", "action", "POST", "response", 200,
+                "referer", "www.google.com"))));
+  }
+
+  @Test
+  public void topN_with_offset() {
+    assertThat(
+        execute(topN(new TestScan(), 1, 1,
+            Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("ip", "209.160.24.63", "action", "GET", "response", 404,
+                "referer", "www.amazon.com"))));
+  }
+
+  @Test
+  public void topN_with_zero_limit() {
+    assertThat(
+        execute(topN(new TestScan(), 0, 0,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+}
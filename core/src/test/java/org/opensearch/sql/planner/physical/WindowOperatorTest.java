@@ -40,7 +40,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -128,20 +127,60 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
-  private WindowOperatorAssertion window(Expression windowFunction) {
-    return new WindowOperatorAssertion(windowFunction);
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_multiple_window_functions_in_one_pass() {
+    window(dsl.rowNumber(), dsl.rank(),
+        new AggregateWindowFunction(dsl.sum(ref("response", INTEGER))))
+        .partitionBy(ref("action", STRING))
+        .sortBy(DEFAULT_ASC, ref("response", INTEGER))
+        .expectNext(ImmutableMap.<String, Object>builder()
+            .putAll(ImmutableMap.of(
+                "ip", "209.160.24.63", "action", "GET", "response", 200,
+                "referer", "www.amazon.com"))
+            .put("row_number()", 1).put("rank()", 1).put("sum(response)", 400)
+            .build())
+        .expectNext(ImmutableMap.<String, Object>builder()
+            .putAll(ImmutableMap.of(
+                "ip", "112.111.162.4", "action", "GET", "response", 200,
+                "referer", "www.amazon.com"))
+            .put("row_number()", 2).put("rank()", 1).put("sum(response)", 400)
+            .build())
+        .expectNext(ImmutableMap.<String, Object>builder()
+            .putAll(ImmutableMap.of(
+                "ip", "209.160.24.63", "action", "GET", "response", 404,
+                "referer", "www.amazon.com"))
+            .put("row_number()", 3).put("rank()", 3).put("sum(response)", 804)
+            .build())
+        .expectNext(ImmutableMap.<String, Object>builder()
+            .putAll(ImmutableMap.of(
+                "ip", "74.125.19.106", "action", "POST", "response", 200,
+                "referer", "www.google.com"))
+            .put("row_number()", 1).put("rank()", 1).put("sum(response)", 200)
+            .build())
+        .expectNext(ImmutableMap.<String, Object>builder()
+            .putAll(ImmutableMap.of(
+                "ip", "74.125.19.106", "action", "POST", "response", 500))
+            .put("row_number()", 2).put("rank()", 2).put("sum(response)", 700)
+            .build())
+        .done();
+  }
+
+  private WindowOperatorAssertion window(Expression... windowFunctions) {
+    return new WindowOperatorAssertion(windowFunctions);
   }
 
-  @RequiredArgsConstructor
   private static class WindowOperatorAssertion {
-    private final NamedExpression windowFunction;
+    private final List<NamedExpression> windowFunctions = new ArrayList<>();
     private final List<Expression> partitionByList = new ArrayList<>();
     private final List<Pair<SortOption, Expression>> sortList = new ArrayList<>();
 
     private WindowOperator windowOperator;
 
-    private WindowOperatorAssertion(Expression windowFunction) {
-      this.windowFunction = DSL.named(windowFunction);
+    private WindowOperatorAssertion(Expression... windowFunctions) {
+      for (Expression windowFunction : windowFunctions) {
+        this.windowFunctions.add(DSL.named(windowFunction));
+      }
     }
 
     WindowOperatorAssertion partitionBy(Expression expr) {
@@ -159,7 +198,7 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         WindowDefinition definition = new WindowDefinition(partitionByList, sortList);
         windowOperator = new WindowOperator(
             new SortOperator(new TestScan(), definition.getAllSortItems()),
-            windowFunction,
+            windowFunctions,
             definition);
         windowOperator.open();
       }
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ *  The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ *
+ */
+
+package org.opensearch.sql.planner.physical.bucket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.AggregationOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlanTestBase;
+import org.opensearch.sql.planner.physical.vector.ColumnBatch;
+
+class GroupTest extends PhysicalPlanTestBase {
+
+  @Test
+  void result_in_created_order_after_resize() {
+    Group group = countBy("num", INTEGER);
+    List<ExprValue> expected = new ArrayList<>();
+    // Hash codes of the keys differ by multiple of 64, so most of them are put in the same slots
+    for (int i = 0; i < 100; i++) {
+      group.push(tupleValue(ImmutableMap.of("num", i * 64)));
+      group.push(tupleValue(ImmutableMap.of("num", i * 64)));
+      expected.add(tupleValue(ImmutableMap.of("num", i * 64, "count", 2)));
+    }
+
+    assertEquals(100, group.size());
+    assertEquals(expected, group.result());
+  }
+
+  @Test
+  void push_different_keys_of_same_hash_code() {
+    Group group = countBy("str", STRING);
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    group.push(tupleValue(ImmutableMap.of("str", "Aa")));
+    group.push(tupleValue(ImmutableMap.of("str", "BB")));
+    group.push(tupleValue(ImmutableMap.of("str", "BB")));
+
+    assertEquals(
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("str", "Aa", "count", 1)),
+            tupleValue(ImmutableMap.of("str", "BB", "count", 2))),
+        group.result());
+  }
+
+  @Test
+  void push_only_if_group_present() {
+    Group group = countBy("str", STRING);
+    ExprValue present = tupleValue(ImmutableMap.of("str", "a"));
+    ExprValue absent = tupleValue(ImmutableMap.of("str", "b"));
+    group.push(present);
+
+    assertTrue(group.pushIfPresent(group.groupKey(present), present));
+    assertFalse(group.pushIfPresent(group.groupKey(absent), absent));
+    assertEquals(
+        Collections.singletonList(tupleValue(ImmutableMap.of("str", "a", "count", 2))),
+        group.result());
+  }
+
+  @Test
+  void group_by_single_integral_value() {
+    for (ExprType type : Arrays.asList(BYTE, SHORT, INTEGER, LONG)) {
+      ExprValue value = integralValue(type, 1);
+      Group group = countBy("num", type);
+      group.push(row("num", value));
+      group.push(row("num", LITERAL_NULL));
+      group.push(row("num", LITERAL_MISSING));
+      group.push(row("num", value));
+
+      assertEquals(
+          Arrays.asList(
+              row("num", value, "count", ExprValueUtils.integerValue(2)),
+              row("num", LITERAL_NULL, "count", ExprValueUtils.integerValue(0)),
+              row("num", LITERAL_MISSING, "count", ExprValueUtils.integerValue(0))),
+          group.result());
+    }
+  }
+
+  @Test
+  void group_by_two_integral_values() {
+    Group group = new Group(
+        Collections.singletonList(DSL.named("count", dsl.count(DSL.ref("a", INTEGER)))),
+        Arrays.asList(DSL.named("a", DSL.ref("a", INTEGER)), DSL.named("b", DSL.ref("b", LONG))));
+    ExprValue one = ExprValueUtils.integerValue(1);
+    ExprValue two = ExprValueUtils.longValue(2L);
+    group.push(row("a", one, "b", two));
+    group.push(row("a", one, "b", LITERAL_NULL));
+    group.push(row("a", LITERAL_MISSING, "b", two));
+    group.push(row("a", one, "b", two));
+
+    assertEquals(
+        Arrays.asList(
+            row("a", one, "b", two, "count", ExprValueUtils.integerValue(2)),
+            row("a", one, "b", LITERAL_NULL, "count", ExprValueUtils.integerValue(1)),
+            row("a", LITERAL_MISSING, "b", two, "count", ExprValueUtils.integerValue(0))),
+        group.result());
+    assertEquals(64L * 3 + 8L * 3, group.getEstimatedBytes());
+  }
+
+  @Test
+  void group_by_string_value_of_null_or_missing() {
+    Group group = countBy("str", STRING);
+    group.push(row("str", ExprValueUtils.stringValue("ab")));
+    group.push(row("str", LITERAL_NULL));
+    group.push(row("str", LITERAL_MISSING));
+
+    assertEquals(
+        Arrays.asList(
+            row("str", ExprValueUtils.stringValue("ab"), "count", ExprValueUtils.integerValue(1)),
+            row("str", LITERAL_NULL, "count", ExprValueUtils.integerValue(0)),
+            row("str", LITERAL_MISSING, "count", ExprValueUtils.integerValue(0))),
+        group.result());
+    assertEquals(64L * 3 + 8L * 3 + 24L + 4L, group.getEstimatedBytes());
+  }
+
+  @Test
+  void group_by_values_of_other_types() {
+    Group group = new Group(
+        Collections.singletonList(DSL.named("count", dsl.count(DSL.ref("d", DOUBLE)))),
+        Collections.singletonList(DSL.named("d", DSL.ref("d", DOUBLE))));
+    group.push(row("d", ExprValueUtils.doubleValue(1.5)));
+    group.push(row("d", ExprValueUtils.doubleValue(1.5)));
+
+    assertEquals(
+        Collections.singletonList(
+            row("d", ExprValueUtils.doubleValue(1.5), "count", ExprValueUtils.integerValue(2))),
+        group.result());
+    assertEquals(64L + 32L + 24L + 8L, group.getEstimatedBytes());
+  }
+
+  @Test
+  void state_columns_aggregate_same_as_aggregators() {
+    List<NamedAggregator> aggregators = aggregators();
+    List<NamedExpression> groupBy =
+        Collections.singletonList(DSL.named("str", DSL.ref("str", STRING)));
+    List<ExprValue> rows = numberRows();
+
+    Group group = new Group(aggregators, groupBy);
+    Map<ExprValue, AggregationState[]> states = new LinkedHashMap<>();
+    for (ExprValue row : rows) {
+      group.push(row);
+      AggregationState[] groupStates = states.computeIfAbsent(
+          DSL.ref("str", STRING).valueOf(row.bindingTuples()), key -> create(aggregators));
+      for (int i = 0; i < aggregators.size(); i++) {
+        aggregators.get(i).iterate(row.bindingTuples(), groupStates[i]);
+      }
+    }
+
+    List<ExprValue> expected = new ArrayList<>();
+    states.forEach((key, groupStates) -> {
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      map.put("str", key);
+      for (int i = 0; i < aggregators.size(); i++) {
+        map.put(aggregators.get(i).getName(), groupStates[i].result());
+      }
+      expected.add(ExprTupleValue.fromExprValueMap(map));
+    });
+    assertEquals(expected, group.result());
+  }
+
+  @Test
+  void push_batch_same_as_rows() {
+    List<NamedAggregator> aggregators = aggregators();
+    List<NamedExpression> groupBy =
+        Collections.singletonList(DSL.named("str", DSL.ref("str", STRING)));
+    List<ExprValue> rows = numberRows();
+    Group group = new Group(aggregators, groupBy);
+    rows.forEach(group::push);
+
+    Group batchGroup = new Group(aggregators, groupBy);
+    assertEquals(rows.size(),
+        batchGroup.push(ColumnBatch.of(rows), AggregationOperator.NO_MEMORY_LIMIT));
+    assertEquals(group.result(), batchGroup.result());
+  }
+
+  @Test
+  void push_selected_rows_of_batch() {
+    Group group = countBy("num", INTEGER);
+    ColumnBatch batch = ColumnBatch.of(Arrays.asList(
+        tupleValue(ImmutableMap.of("num", 1)),
+        tupleValue(ImmutableMap.of("num", 2)),
+        tupleValue(ImmutableMap.of("num", 1))));
+    batch.selection()[1] = 2;
+    batch.select(2);
+    assertEquals(2, group.push(batch, AggregationOperator.NO_MEMORY_LIMIT));
+    assertEquals(Collections.singletonList(tupleValue(ImmutableMap.of("num", 1, "count", 2))),
+        group.result());
+  }
+
+  @Test
+  void push_batch_until_memory_limit_exceeded() {
+    Group group = countBy("num", INTEGER);
+    ColumnBatch batch = ColumnBatch.of(Arrays.asList(
+        tupleValue(ImmutableMap.of("num", 1)),
+        tupleValue(ImmutableMap.of("num", 2)),
+        tupleValue(ImmutableMap.of("num", 3))));
+    assertEquals(1, group.push(batch, 1));
+    assertEquals(0, group.push(batch, 1));
+    assertEquals(Collections.singletonList(tupleValue(ImmutableMap.of("num", 1, "count", 1))),
+        group.result());
+  }
+
+  private List<NamedAggregator> aggregators() {
+    return Arrays.asList(
+        DSL.named("count", dsl.count(DSL.ref("int", INTEGER))),
+        DSL.named("count_if", dsl.count(DSL.ref("int", INTEGER))
+            .condition(dsl.greater(DSL.ref("int", INTEGER), DSL.literal(1)))),
+        DSL.named("distinct_count", dsl.distinctCount(DSL.ref("int", INTEGER))),
+        DSL.named("sum_int", dsl.sum(DSL.ref("int", INTEGER))),
+        DSL.named("sum_long", dsl.sum(DSL.ref("long", LONG))),
+        DSL.named("sum_float", dsl.sum(DSL.ref("float", FLOAT))),
+        DSL.named("sum_double", dsl.sum(DSL.ref("double", DOUBLE))),
+        DSL.named("avg", dsl.avg(DSL.ref("double", DOUBLE))),
+        DSL.named("min_int", dsl.min(DSL.ref("int", INTEGER))),
+        DSL.named("max_int", dsl.max(DSL.ref("int", INTEGER))),
+        DSL.named("min_long", dsl.min(DSL.ref("long", LONG))),
+        DSL.named("max_long", dsl.max(DSL.ref("long", LONG))),
+        DSL.named("min_float", dsl.min(DSL.ref("float", FLOAT))),
+        DSL.named("max_float", dsl.max(DSL.ref("float", FLOAT))),
+        DSL.named("min_double", dsl.min(DSL.ref("double", DOUBLE))),
+        DSL.named("max_double", dsl.max(DSL.ref("double", DOUBLE))),
+        DSL.named("min_str", dsl.min(DSL.ref("str", STRING))),
+        DSL.named("var_samp", dsl.varSamp(DSL.ref("double", DOUBLE))),
+        DSL.named("var_pop", dsl.varPop(DSL.ref("double", DOUBLE))),
+        DSL.named("stddev_samp", dsl.stddevSamp(DSL.ref("double", DOUBLE))),
+        DSL.named("stddev_pop", dsl.stddevPop(DSL.ref("double", DOUBLE))),
+        DSL.named("count_double", dsl.count(DSL.ref("double", DOUBLE))),
+        DSL.named("count_str", dsl.count(DSL.ref("str", STRING))));
+  }
+
+  private List<ExprValue> numberRows() {
+    return Arrays.asList(
+        numbers("a", Integer.MAX_VALUE, Long.MAX_VALUE, Float.MAX_VALUE, 1.5),
+        numbers("a", 1, 1L, -2.5f, -3.25),
+        numbers("a", Integer.MAX_VALUE, Long.MAX_VALUE, Float.MAX_VALUE, 1.5),
+        numbers("b", 3, -4L, 0.5f, 7.0),
+        row("str", ExprValueUtils.stringValue("c"), "int", LITERAL_NULL,
+            "long", LITERAL_MISSING, "float", LITERAL_NULL, "double", LITERAL_MISSING));
+  }
+
+  @SuppressWarnings("unchecked")
+  private AggregationState[] create(List<NamedAggregator> aggregators) {
+    AggregationState[] states = new AggregationState[aggregators.size()];
+    for (int i = 0; i < states.length; i++) {
+      states[i] = ((Aggregator<AggregationState>) aggregators.get(i)).create();
+    }
+    return states;
+  }
+
+  private ExprValue numbers(String str, int i, long l, float f, double d) {
+    return row("str", ExprValueUtils.stringValue(str), "int", ExprValueUtils.integerValue(i),
+        "long", ExprValueUtils.longValue(l), "float", ExprValueUtils.floatValue(f),
+        "double", ExprValueUtils.doubleValue(d));
+  }
+
+  private ExprValue integralValue(ExprType type, int value) {
+    if (type == BYTE) {
+      return ExprValueUtils.byteValue((byte) value);
+    } else if (type == SHORT) {
+      return ExprValueUtils.shortValue((short) value);
+    } else if (type == INTEGER) {
+      return ExprValueUtils.integerValue(value);
+    }
+    return ExprValueUtils.longValue((long) value);
+  }
+
+  private ExprValue row(Object... fieldValues) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    for (int i = 0; i < fieldValues.length; i += 2) {
+      map.put((String) fieldValues[i], (ExprValue) fieldValues[i + 1]);
+    }
+    return ExprTupleValue.fromExprValueMap(map);
+  }
+
+  private Group countBy(String field, ExprType type) {
+    return new Group(
+        Collections.singletonList(DSL.named("count", dsl.count(DSL.ref(field, type)))),
+        Collections.singletonList(DSL.named(field, DSL.ref(field, type))));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.physical.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+class ColumnBatchTest {
+
+  private final List<ExprValue> rows = Arrays.asList(
+      ExprValueUtils.tupleValue(ImmutableMap.of("id", 1, "score", 1.5)),
+      ExprValueUtils.tupleValue(ImmutableMap.of("id", 2)),
+      ExprValueUtils.tupleValue(ImmutableMap.of("id", 3, "score", 3.5)));
+
+  @Test
+  public void select_all_rows_initially() {
+    ColumnBatch batch = ColumnBatch.of(rows);
+    assertEquals(3, batch.size());
+    assertEquals(3, batch.capacity());
+    assertFalse(batch.isEmpty());
+    assertEquals(rows, batch.selectedRows());
+    assertTrue(ColumnBatch.of(Collections.emptyList()).isEmpty());
+  }
+
+  @Test
+  public void narrow_selection_in_place() {
+    ColumnBatch batch = ColumnBatch.of(rows);
+    batch.selection()[0] = 2;
+    batch.select(1);
+    assertEquals(1, batch.size());
+    assertEquals(2, batch.selected(0));
+    assertEquals(rows.get(2), batch.selectedRow(0));
+    assertEquals(rows.get(0), batch.row(0));
+    assertEquals(Collections.singletonList(rows.get(2)), batch.selectedRows());
+  }
+
+  @Test
+  public void read_column_of_selected_rows() {
+    ColumnBatch batch = ColumnBatch.of(rows);
+    batch.selection()[0] = 1;
+    batch.selection()[1] = 2;
+    batch.select(2);
+
+    ReferenceExpression id = DSL.ref("id", INTEGER);
+    ColumnVector ids = batch.column(id);
+    assertTrue(ids.isIntegral());
+    assertNull(ids.doubleValues());
+    assertArrayEquals(new long[] {0L, 2L, 3L}, ids.longValues());
+    assertSame(ids, batch.column(id));
+
+    ColumnVector scores = batch.column(DSL.ref("score", DOUBLE));
+    assertFalse(scores.isIntegral());
+    assertNull(scores.longValues());
+    assertArrayEquals(new double[] {0.0, 0.0, 3.5}, scores.doubleValues());
+    assertArrayEquals(new boolean[] {false, true, false}, scores.nulls());
+  }
+
+  @Test
+  public void supports_integer_long_and_double() {
+    assertTrue(ColumnVector.supports(INTEGER));
+    assertTrue(ColumnVector.supports(LONG));
+    assertTrue(ColumnVector.supports(DOUBLE));
+    assertFalse(ColumnVector.supports(FLOAT));
+    assertFalse(ColumnVector.supports(STRING));
+  }
+}
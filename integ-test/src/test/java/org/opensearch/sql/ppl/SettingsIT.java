@@ -46,19 +46,20 @@ public class SettingsIT extends PPLIntegTestCase {
 
   @Test
   public void testQuerySizeLimit() throws IOException {
-    // Default setting, fetch 200 rows from source
+    // Default setting, fetch 200 rows per page from source
     JSONObject result =
         executeQuery(
             String.format(
                 "search source=%s age>35 | fields firstname", TEST_INDEX_BANK));
     verifyDataRows(result, rows("Hattie"), rows("Elinor"), rows("Virginia"));
 
-    // Fetch 1 rows from source
+    // Fetch 1 row per page from source, all rows are still returned
     setQuerySizeLimit(1);
     result =
         executeQuery(
             String.format(
                 "search source=%s age>35 | fields firstname", TEST_INDEX_BANK));
-    verifyDataRows(result, rows("Hattie"));
+    verifyDataRows(result, rows("Hattie"), rows("Elinor"), rows("Virginia"));
+    resetQuerySizeLimit();
   }
 }
@@ -39,6 +39,8 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.client.Request;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -77,7 +79,8 @@ public class StandaloneIT extends PPLIntegTestCase {
     context.registerBean(StorageEngine.class,
         () -> new OpenSearchStorageEngine(client, defaultSettings()));
     context.registerBean(ExecutionEngine.class, () -> new OpenSearchExecutionEngine(client,
-        new OpenSearchExecutionProtector(new AlwaysHealthyMonitor())));
+        new OpenSearchExecutionProtector(new AlwaysHealthyMonitor(), defaultSettings(), client),
+        new AlwaysHealthyMonitor()));
     context.register(PPLServiceConfig.class);
     context.refresh();
 
@@ -139,8 +142,17 @@ public class StandaloneIT extends PPLIntegTestCase {
 
   private Settings defaultSettings() {
     return new Settings() {
-      private final Map<Key, Integer> defaultSettings = new ImmutableMap.Builder<Key, Integer>()
+      private final Map<Key, Object> defaultSettings = new ImmutableMap.Builder<Key, Object>()
           .put(Key.QUERY_SIZE_LIMIT, 200)
+          .put(Key.QUERY_AGGREGATION_PAGE_SIZE, 1000)
+          .put(Key.QUERY_SORT_SPILL_THRESHOLD, new ByteSizeValue(100, ByteSizeUnit.MB))
+          .put(Key.QUERY_AGGREGATION_MEMORY_LIMIT, new ByteSizeValue(100, ByteSizeUnit.MB))
+          .put(Key.QUERY_DEDUP_MEMORY_LIMIT, new ByteSizeValue(100, ByteSizeUnit.MB))
+          .put(Key.QUERY_SCAN_MAX_SLICES, 1)
+          .put(Key.QUERY_SCAN_PREFETCH_PAGES, 0)
+          .put(Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED, false)
+          .put(Key.QUERY_WINDOW_PARALLELISM, 1)
+          .put(Key.QUERY_TOP_SKETCH_SIZE, 0)
           .build();
 
       @Override
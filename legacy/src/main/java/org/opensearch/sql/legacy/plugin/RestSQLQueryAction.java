@@ -29,16 +29,18 @@ package org.opensearch.sql.legacy.plugin;
 
 import static org.opensearch.rest.RestStatus.INTERNAL_SERVER_ERROR;
 import static org.opensearch.rest.RestStatus.OK;
-import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import java.io.IOException;
-import java.security.PrivilegedExceptionAction;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
-import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
@@ -46,11 +48,9 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
-import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
-import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
@@ -60,9 +60,7 @@ import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
-import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 /**
  * New SQL REST action handler. This will not be registered to OpenSearch unless:
@@ -75,20 +73,17 @@ public class RestSQLQueryAction extends BaseRestHandler {
 
   public static final RestChannelConsumer NOT_SUPPORTED_YET = null;
 
-  private final ClusterService clusterService;
-
   /**
-   * Settings required by been initialization.
+   * SQL service shared by all requests. It is created once on plugin bootstrap.
    */
-  private final Settings pluginSettings;
+  private final SQLService sqlService;
 
   /**
    * Constructor of RestSQLQueryAction.
    */
-  public RestSQLQueryAction(ClusterService clusterService, Settings pluginSettings) {
+  public RestSQLQueryAction(SQLService sqlService) {
     super();
-    this.clusterService = clusterService;
-    this.pluginSettings = pluginSettings;
+    this.sqlService = sqlService;
   }
 
   @Override
@@ -109,22 +104,18 @@ public class RestSQLQueryAction extends BaseRestHandler {
   /**
    * Prepare REST channel consumer for a SQL query request.
    * @param request     SQL request
-   * @param nodeClient  node client
    * @return            channel consumer
    */
-  public RestChannelConsumer prepareRequest(SQLQueryRequest request, NodeClient nodeClient) {
+  public RestChannelConsumer prepareRequest(SQLQueryRequest request) {
     if (!request.isSupported()) {
       return NOT_SUPPORTED_YET;
     }
 
-    SQLService sqlService = createSQLService(nodeClient);
     PhysicalPlan plan;
     try {
       // For now analyzing and planning stage may throw syntax exception as well
       // which hints the fallback to legacy code is necessary here.
-      plan = sqlService.plan(
-                sqlService.analyze(
-                    sqlService.parse(request.getQuery())));
+      plan = sqlService.plan(request.getQuery());
     } catch (SyntaxCheckException e) {
       // When explain, print info log for what unsupported syntax is causing fallback to old engine
       if (request.isExplainRequest()) {
@@ -136,20 +127,7 @@ public class RestSQLQueryAction extends BaseRestHandler {
     if (request.isExplainRequest()) {
       return channel -> sqlService.explain(plan, createExplainResponseListener(channel));
     }
-    return channel -> sqlService.execute(plan, createQueryResponseListener(channel, request));
-  }
-
-  private SQLService createSQLService(NodeClient client) {
-    return doPrivileged(() -> {
-      AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
-      context.registerBean(ClusterService.class, () -> clusterService);
-      context.registerBean(NodeClient.class, () -> client);
-      context.registerBean(Settings.class, () -> pluginSettings);
-      context.register(OpenSearchSQLPluginConfig.class);
-      context.register(SQLServiceConfig.class);
-      context.refresh();
-      return context.getBean(SQLService.class);
-    });
+    return channel -> sqlService.executeStream(plan, createQueryResponseListener(channel, request));
   }
 
   private ResponseListener<ExplainResponse> createExplainResponseListener(RestChannel channel) {
@@ -174,7 +152,8 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createQueryResponseListener(RestChannel channel, SQLQueryRequest request) {
+  private ResponseListener<StreamingQueryResponse> createQueryResponseListener(
+      RestChannel channel, SQLQueryRequest request) {
     Format format = request.format();
     ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
@@ -184,11 +163,16 @@ public class RestSQLQueryAction extends BaseRestHandler {
     } else {
       formatter = new JdbcResponseFormatter(PRETTY);
     }
-    return new ResponseListener<QueryResponse>() {
+    return new ResponseListener<StreamingQueryResponse>() {
       @Override
-      public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK,
-            formatter.format(new QueryResult(response.getSchema(), response.getResults())));
+      public void onResponse(StreamingQueryResponse response) {
+        try {
+          sendResponse(channel, OK, formatter,
+              new QueryResult(response.getSchema(), response.getResults()));
+        } catch (Exception e) {
+          // Rows are pulled from the plan while formatting so execution error may surface here
+          onFailure(e);
+        }
       }
 
       @Override
@@ -200,19 +184,28 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
-    try {
-      return SecurityAccess.doPrivileged(action);
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to perform privileged action", e);
-    }
-  }
-
   private void sendResponse(RestChannel channel, RestStatus status, String content) {
     channel.sendResponse(new BytesRestResponse(
         status, "application/json; charset=UTF-8", content));
   }
 
+  /**
+   * Write formatted rows to the reusable bytes output of REST channel as they are pulled from
+   * the plan, so neither result rows nor formatted string is held in memory. REST channel can
+   * only send a response as a whole, therefore the encoded bytes are still buffered in the
+   * paged output until the last row is written.
+   */
+  private void sendResponse(RestChannel channel, RestStatus status,
+                            ResponseFormatter<QueryResult> formatter, QueryResult result)
+      throws IOException {
+    BytesStreamOutput output = channel.bytesOutput();
+    Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    formatter.format(result, writer);
+    writer.flush();
+    channel.sendResponse(
+        new BytesRestResponse(status, "application/json; charset=UTF-8", output.bytes()));
+  }
+
   private static void logAndPublishMetrics(Exception e) {
     LOG.error("Server side error during query execution", e);
     Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
@@ -46,7 +46,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.Client;
 import org.opensearch.client.node.NodeClient;
-import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.rest.BaseRestHandler;
@@ -81,6 +80,7 @@ import org.opensearch.sql.legacy.rewriter.matchtoterm.VerificationException;
 import org.opensearch.sql.legacy.utils.JsonPrettyFormatter;
 import org.opensearch.sql.legacy.utils.LogUtils;
 import org.opensearch.sql.legacy.utils.QueryDataAnonymizer;
+import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
 public class RestSqlAction extends BaseRestHandler {
@@ -106,11 +106,10 @@ public class RestSqlAction extends BaseRestHandler {
      */
     private final RestSQLQueryAction newSqlQueryHandler;
 
-    public RestSqlAction(Settings settings, ClusterService clusterService,
-                         org.opensearch.sql.common.setting.Settings pluginSettings) {
+    public RestSqlAction(Settings settings, SQLService sqlService) {
         super();
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
-        this.newSqlQueryHandler = new RestSQLQueryAction(clusterService, pluginSettings);
+        this.newSqlQueryHandler = new RestSQLQueryAction(sqlService);
     }
 
     @Override
@@ -169,7 +168,7 @@ public class RestSqlAction extends BaseRestHandler {
             // Route request to new query engine if it's supported already
             SQLQueryRequest newSqlRequest = new SQLQueryRequest(sqlRequest.getJsonContent(),
                 sqlRequest.getSql(), request.path(), request.params());
-            RestChannelConsumer result = newSqlQueryHandler.prepareRequest(newSqlRequest, client);
+            RestChannelConsumer result = newSqlQueryHandler.prepareRequest(newSqlRequest);
             if (result != RestSQLQueryAction.NOT_SUPPORTED_YET) {
                 LOG.info("[{}] Request is handled by new SQL query engine", LogUtils.getRequestId());
                 return result;
@@ -29,7 +29,6 @@ package org.opensearch.sql.legacy.plugin;
 
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
-import static org.mockito.Mockito.when;
 import static org.opensearch.sql.legacy.plugin.RestSQLQueryAction.NOT_SUPPORTED_YET;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.EXPLAIN_API_ENDPOINT;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.QUERY_API_ENDPOINT;
@@ -40,32 +39,32 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.opensearch.client.node.NodeClient;
-import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.util.concurrent.ThreadContext;
-import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.sql.SQLService;
+import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
-import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.sql.storage.StorageEngine;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RestSQLQueryActionTest {
 
   @Mock
-  private ClusterService clusterService;
-
-  private NodeClient nodeClient;
+  private StorageEngine storageEngine;
 
   @Mock
-  private ThreadPool threadPool;
+  private ExecutionEngine executionEngine;
 
-  @Mock
-  private Settings settings;
+  private SQLService sqlService;
 
   @Before
   public void setup() {
-    nodeClient = new NodeClient(org.opensearch.common.settings.Settings.EMPTY, threadPool);
-    when(threadPool.getThreadContext())
-        .thenReturn(new ThreadContext(org.opensearch.common.settings.Settings.EMPTY));
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean(StorageEngine.class, () -> storageEngine);
+    context.registerBean(ExecutionEngine.class, () -> executionEngine);
+    context.register(SQLServiceConfig.class);
+    context.refresh();
+    sqlService = context.getBean(SQLService.class);
   }
 
   @Test
@@ -76,8 +75,8 @@ public class RestSQLQueryActionTest {
         QUERY_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
-    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(sqlService);
+    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request));
   }
 
   @Test
@@ -88,8 +87,8 @@ public class RestSQLQueryActionTest {
         EXPLAIN_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
-    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(sqlService);
+    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request));
   }
 
   @Test
@@ -101,8 +100,8 @@ public class RestSQLQueryActionTest {
         QUERY_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
-    assertSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(sqlService);
+    assertSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request));
   }
 
 }
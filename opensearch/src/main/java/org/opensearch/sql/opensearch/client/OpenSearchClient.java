@@ -29,6 +29,8 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -50,6 +52,14 @@ public interface OpenSearchClient {
    */
   Map<String, IndexMapping> getIndexMappings(String indexExpression);
 
+  /**
+   * Get total number of primary shards of the index(es) according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return number of primary shards
+   */
+  int getIndexShardCount(String indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -58,6 +68,15 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Perform search query in the search request asynchronously without blocking current thread
+   * while waiting for the response.
+   *
+   * @param request  search request
+   * @param listener listener of search response
+   */
+  void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener);
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -72,6 +91,14 @@ public interface OpenSearchClient {
    */
   Map<String, String> meta();
 
+  /**
+   * Get version of the oldest node in the cluster, which is older than current version during
+   * rolling upgrade.
+   *
+   * @return min node version
+   */
+  Version getMinNodeVersion();
+
   /**
    * Clean up resources related to the search request, for example scroll context.
    *
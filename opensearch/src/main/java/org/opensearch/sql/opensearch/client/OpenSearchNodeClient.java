@@ -28,6 +28,8 @@
 package org.opensearch.sql.opensearch.client;
 
 import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -41,6 +43,8 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.ThreadContext;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.client.node.NodeClient;
@@ -50,6 +54,7 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.ImmutableOpenMap;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
@@ -76,6 +81,14 @@ public class OpenSearchNodeClient implements OpenSearchClient {
 
   private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
 
+  /**
+   * Index mappings keyed by metadata version and index expression. Metadata version in the key
+   * guarantees mapping loaded from an outdated cluster state is never returned, and the cluster
+   * state listener clears all entries once metadata changed.
+   */
+  private final Cache<Tuple<Long, String>, Map<String, IndexMapping>> mappingCache =
+      CacheBuilder.newBuilder().maximumSize(100).build();
+
   /**
    * Constructor of ElasticsearchNodeClient.
    */
@@ -84,14 +97,20 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     this.clusterService = clusterService;
     this.client = client;
     this.resolver = new IndexNameExpressionResolver(client.threadPool().getThreadContext());
+
+    clusterService.addListener(event -> {
+      if (event.metadataChanged()) {
+        mappingCache.invalidateAll();
+      }
+    });
   }
 
   /**
    * Get field mappings of index by an index expression. Majority is copied from legacy
    * LocalClusterState.
    *
-   * <p>For simplicity, removed type (deprecated) and field filter in argument list. Also removed
-   * mapping cache, cluster state listener (mainly for performance and debugging).
+   * <p>For simplicity, removed type (deprecated) and field filter in argument list. Parsed
+   * mappings are cached until metadata in cluster state changes.
    *
    * @param indexExpression index name expression
    * @return index mapping(s) in our class to isolate OpenSearch API. IndexNotFoundException is
@@ -101,16 +120,30 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   public Map<String, IndexMapping> getIndexMappings(String indexExpression) {
     try {
       ClusterState state = clusterService.state();
-      String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
-
-      return populateIndexMappings(
-          state.metadata().findMappings(concreteIndices, ALL_TYPES, ALL_FIELDS));
+      Tuple<Long, String> key = new Tuple<>(state.metadata().version(), indexExpression);
+      Map<String, IndexMapping> mappings = mappingCache.getIfPresent(key);
+      if (mappings == null) {
+        String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
+        mappings = populateIndexMappings(
+            state.metadata().findMappings(concreteIndices, ALL_TYPES, ALL_FIELDS));
+        mappingCache.put(key, mappings);
+      }
+      return mappings;
     } catch (IOException e) {
       throw new IllegalStateException(
           "Failed to read mapping in cluster state for index pattern [" + indexExpression + "]", e);
     }
   }
 
+  @Override
+  public int getIndexShardCount(String indexExpression) {
+    ClusterState state = clusterService.state();
+    String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
+    return Arrays.stream(concreteIndices)
+        .mapToInt(index -> state.metadata().index(index).getNumberOfShards())
+        .sum();
+  }
+
   /**
    * TODO: Scroll doesn't work for aggregation. Support aggregation later.
    */
@@ -122,6 +155,18 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     );
   }
 
+  /**
+   * The response is passed to the listener on worker thread rather than the transport thread
+   * which receives it, with the logging context of current thread.
+   */
+  @Override
+  public void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+    request.searchAsync(client::search, client::searchScroll, ActionListener.wrap(
+        response -> schedule(currentContext, () -> listener.onResponse(response)),
+        e -> schedule(currentContext, () -> listener.onFailure(e))));
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -141,6 +186,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Version getMinNodeVersion() {
+    return clusterService.state().nodes().getMinNodeVersion();
+  }
+
   /**
    * Get meta info of the cluster.
    *
@@ -160,9 +210,13 @@ public class OpenSearchNodeClient implements OpenSearchClient {
 
   @Override
   public void schedule(Runnable task) {
+    schedule(ThreadContext.getImmutableContext(), task);
+  }
+
+  private void schedule(Map<String, String> context, Runnable task) {
     ThreadPool threadPool = client.threadPool();
     threadPool.schedule(
-        withCurrentContext(task),
+        withContext(context, task),
         new TimeValue(0),
         SQL_WORKER_THREAD_POOL_NAME
     );
@@ -192,10 +246,9 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   }
 
   /** Copy from LogUtils. */
-  private static Runnable withCurrentContext(final Runnable task) {
-    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+  private static Runnable withContext(final Map<String, String> context, final Runnable task) {
     return () -> {
-      ThreadContext.putAll(currentContext);
+      ThreadContext.putAll(context);
       task.run();
     };
   }
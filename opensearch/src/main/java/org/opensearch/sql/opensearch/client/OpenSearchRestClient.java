@@ -30,6 +30,7 @@ package org.opensearch.sql.opensearch.client;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -37,8 +38,13 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.client.Request;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.GetIndexRequest;
@@ -46,7 +52,10 @@ import org.opensearch.client.indices.GetIndexResponse;
 import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -74,6 +83,32 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public int getIndexShardCount(String indexExpression) {
+    GetSettingsRequest request = new GetSettingsRequest()
+        .indices(indexExpression)
+        .names(IndexMetadata.SETTING_NUMBER_OF_SHARDS);
+    try {
+      GetSettingsResponse response =
+          client.indices().getSettings(request, RequestOptions.DEFAULT);
+      return ImmutableList.copyOf(response.getIndexToSettings().valuesIt()).stream()
+          .mapToInt(settings -> settings.getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1))
+          .sum();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get index settings for " + indexExpression, e);
+    }
+  }
+
+  @Override
+  public void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    request.searchAsync(
+        (req, responseListener) ->
+            client.searchAsync(req, RequestOptions.DEFAULT, responseListener),
+        (req, responseListener) ->
+            client.scrollAsync(req, RequestOptions.DEFAULT, responseListener),
+        listener);
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -137,6 +172,28 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  /**
+   * Versions of all nodes are fetched by nodes info API with response filtered to the version
+   * only, because the high level REST client doesn't support nodes info.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Version getMinNodeVersion() {
+    Request request = new Request("GET", "/_nodes");
+    request.addParameter("filter_path", "nodes.*.version");
+    try (InputStream content =
+             client.getLowLevelClient().performRequest(request).getEntity().getContent()) {
+      Map<String, Object> nodes = (Map<String, Object>) XContentHelper
+          .convertToMap(XContentType.JSON.xContent(), content, false).get("nodes");
+      return nodes.values().stream()
+          .map(node -> Version.fromString((String) ((Map<String, Object>) node).get("version")))
+          .reduce(Version::min)
+          .orElse(Version.CURRENT);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get node versions", e);
+    }
+  }
+
   @Override
   public void cleanup(OpenSearchRequest request) {
     request.clean(scrollId -> {
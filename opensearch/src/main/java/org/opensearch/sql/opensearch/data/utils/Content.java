@@ -35,7 +35,8 @@ import org.apache.commons.lang3.tuple.Pair;
  * Regardless the underling data format, the {@link Content} define the data in abstract manner.
  * which could be parsed by ElasticsearchExprValueFactory.
  * There are two major use cases:
- * 1. Represent the JSON data retrieve from OpenSearch search response.
+ * 1. Represent the field value retrieve from OpenSearch search response, either from doc values
+ *    or from value parsed in source.
  * 2. Represent the Object data extract from the OpenSearch aggregation response.
  */
 public interface Content {
@@ -77,14 +77,18 @@ public class ObjectContent implements Content {
     return parseNumberValue(value, Double::valueOf, Number::doubleValue);
   }
 
+  /**
+   * Number or boolean value is also converted to string, since it is allowed in source of
+   * string field.
+   */
   @Override
   public String stringValue() {
-    return (String) value;
+    return (value instanceof String) ? (String) value : String.valueOf(value);
   }
 
   @Override
   public Boolean booleanValue() {
-    return (Boolean) value;
+    return (value instanceof String) ? Boolean.valueOf((String) value) : (Boolean) value;
   }
 
   @Override
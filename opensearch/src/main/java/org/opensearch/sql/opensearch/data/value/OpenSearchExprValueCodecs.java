@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.data.value;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.data.utils.ExprValueCodec.StorageValueCodec;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprGeoPointValue.GeoPoint;
+
+/**
+ * Codecs of OpenSearch value classes which are registered to {@link ExprValueCodec}, so values
+ * spilled to disk are encoded by their payload rather than Java serialization. The codecs are
+ * always registered in the same order because the order decides the ID of each codec.
+ */
+@UtilityClass
+public class OpenSearchExprValueCodecs {
+
+  /**
+   * Register codecs of all OpenSearch value classes. Registering again has no effect.
+   */
+  public static void register() {
+    ExprValueCodec.register(new StringValueCodec<>(
+        OpenSearchExprTextValue.class, OpenSearchExprTextValue::new, ExprValue::stringValue));
+    ExprValueCodec.register(new StringValueCodec<>(
+        OpenSearchExprTextKeywordValue.class, OpenSearchExprTextKeywordValue::new,
+        ExprValue::stringValue));
+    ExprValueCodec.register(new StringValueCodec<>(
+        OpenSearchExprIpValue.class, OpenSearchExprIpValue::new,
+        value -> (String) value.value()));
+    ExprValueCodec.register(new StringValueCodec<>(
+        OpenSearchExprBinaryValue.class, OpenSearchExprBinaryValue::new,
+        value -> (String) value.value()));
+    ExprValueCodec.register(new GeoPointValueCodec());
+  }
+
+  /**
+   * Codec of value class which consists of a single string.
+   */
+  @RequiredArgsConstructor
+  private static class StringValueCodec<T extends ExprValue> implements StorageValueCodec<T> {
+    private final Class<T> valueClass;
+    private final Function<String, T> constructor;
+    private final Function<T, String> payload;
+
+    @Override
+    public Class<T> valueClass() {
+      return valueClass;
+    }
+
+    @Override
+    public void write(DataOutput out, T value) throws IOException {
+      byte[] bytes = payload.apply(value).getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    @Override
+    public T read(DataInput in) throws IOException {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      return constructor.apply(new String(bytes, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static class GeoPointValueCodec
+      implements StorageValueCodec<OpenSearchExprGeoPointValue> {
+    @Override
+    public Class<OpenSearchExprGeoPointValue> valueClass() {
+      return OpenSearchExprGeoPointValue.class;
+    }
+
+    @Override
+    public void write(DataOutput out, OpenSearchExprGeoPointValue value) throws IOException {
+      GeoPoint geoPoint = (GeoPoint) value.value();
+      out.writeDouble(geoPoint.getLat());
+      out.writeDouble(geoPoint.getLon());
+    }
+
+    @Override
+    public OpenSearchExprGeoPointValue read(DataInput in) throws IOException {
+      double lat = in.readDouble();
+      return new OpenSearchExprGeoPointValue(lat, in.readDouble());
+    }
+  }
+}
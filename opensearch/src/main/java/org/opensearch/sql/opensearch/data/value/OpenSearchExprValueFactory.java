@@ -51,9 +51,9 @@ import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.
 import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.STRICT_DATE_OPTIONAL_TIME_FORMATTER;
 import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -65,7 +65,17 @@ import java.util.Map;
 import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.time.DateFormatters;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentParser.Token;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -76,28 +86,38 @@ import org.opensearch.sql.data.model.ExprFloatValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprLongValue;
 import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprShortValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.utils.Content;
 import org.opensearch.sql.opensearch.data.utils.ObjectContent;
-import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 /**
  * Construct ExprValue from OpenSearch response.
  */
 public class OpenSearchExprValueFactory {
+  static {
+    // OpenSearch values are all constructed by this factory, so register codecs before any
+    OpenSearchExprValueCodecs.register();
+  }
+
   /**
    * The Mapping of Field and ExprType.
    */
-  @Setter
   private Map<String, ExprType> typeMapping;
 
+  /**
+   * Schema of all fields in the mapping, which is shared by all rows constructed from source.
+   */
+  private RowSchema rowSchema;
+
   @Getter
   @Setter
   private OpenSearchAggregationResponseParser parser;
@@ -111,8 +131,6 @@ public class OpenSearchExprValueFactory {
 
   private static final String TOP_PATH = "";
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
   private final Map<ExprType, Function<Content, ExprValue>> typeActionMap =
       new ImmutableMap.Builder<ExprType, Function<Content, ExprValue>>()
           .put(INTEGER, c -> new ExprIntegerValue(c.intValue()))
@@ -140,7 +158,15 @@ public class OpenSearchExprValueFactory {
    */
   public OpenSearchExprValueFactory(
       Map<String, ExprType> typeMapping) {
+    setTypeMapping(typeMapping);
+  }
+
+  /**
+   * Set the mapping of field and type, which is done at plan time before any value constructed.
+   */
+  public void setTypeMapping(Map<String, ExprType> typeMapping) {
     this.typeMapping = typeMapping;
+    this.rowSchema = RowSchema.of(typeMapping.keySet());
   }
 
   /**
@@ -150,12 +176,49 @@ public class OpenSearchExprValueFactory {
    * "INTEGER"} {"employ.state", "STRING"}
    */
   public ExprValue construct(String jsonString) {
-    try {
-      return parse(new OpenSearchJsonContent(OBJECT_MAPPER.readTree(jsonString)), TOP_PATH,
-          STRUCT);
-    } catch (JsonProcessingException e) {
-      throw new IllegalStateException(String.format("invalid json: %s.", jsonString), e);
+    return construct(new BytesArray(jsonString));
+  }
+
+  /**
+   * Construct ExprValue from source of search hit. The source is parsed by streaming parser
+   * directly from its bytes without building any intermediate string or JSON tree. The fields
+   * in source are put into a row by their slot in the schema of mapping.
+   */
+  public ExprValue construct(BytesReference source) {
+    try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+        DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source, XContentType.JSON)) {
+      parser.nextToken();
+      return parseRow(parser);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  /**
+   * Construct ExprValue from doc value fields of search hit. Field in object is put into struct
+   * by its path as what it is in source. Only the first value is taken if multiple values in
+   * doc values, which are sorted rather than in the order in source. That's why doc value
+   * fields are only used when enabled by plugins.query.scan.docvalue_fields.enabled setting.
+   */
+  @SuppressWarnings("unchecked")
+  public ExprValue construct(Map<String, DocumentField> fields) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (DocumentField field : fields.values()) {
+      // Skip metadata field, such as _routing, returned together in hit fields
+      if (!typeMapping.containsKey(field.getName()) || field.getValues().isEmpty()) {
+        continue;
+      }
+
+      Map<String, Object> parent = values;
+      String[] paths = field.getName().split("\\.");
+      for (int i = 0; i < paths.length - 1; i++) {
+        parent = (Map<String, Object>) parent.computeIfAbsent(
+            paths[i], path -> new LinkedHashMap<String, Object>());
+      }
+      parent.put(paths[paths.length - 1], field.getValue());
     }
+    return parse(new ObjectContent(values), TOP_PATH, STRUCT);
   }
 
   /**
@@ -247,6 +310,132 @@ public class OpenSearchExprValueFactory {
     return new ExprCollectionValue(result);
   }
 
+  /**
+   * Parse the value at current token of the parser. The parser is left at the last token of
+   * the value once parsed.
+   */
+  private ExprValue parse(XContentParser parser, String field, ExprType type) throws IOException {
+    Token token = parser.currentToken();
+    if (token == Token.START_ARRAY) {
+      return (type == ARRAY) ? parseArray(parser, field) : parseFirstElement(parser, field, type);
+    } else if (token == null || token == Token.VALUE_NULL) {
+      return ExprNullValue.of();
+    }
+
+    if (type == STRUCT) {
+      return parseStruct(parser, field);
+    } else if (type == ARRAY) {
+      return new ExprCollectionValue(ImmutableList.of(parse(parser, field, STRUCT)));
+    } else if (type == OPENSEARCH_GEO_POINT) {
+      return parseGeoPoint(parser);
+    } else {
+      Object value = (token == Token.START_OBJECT) ? parser.map() : parser.objectText();
+      return parse(new ObjectContent(value), field, type);
+    }
+  }
+
+  private ExprValue parseStruct(XContentParser parser, String prefix) throws IOException {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    if (parser.currentToken() != Token.START_OBJECT) {
+      return new ExprTupleValue(result);
+    }
+
+    while (parser.nextToken() != Token.END_OBJECT) {
+      String name = parser.currentName();
+      String field = makeField(prefix, name);
+      parser.nextToken();
+      result.put(name, parse(parser, field, type(field)));
+    }
+    return new ExprTupleValue(result);
+  }
+
+  /**
+   * Parse the top level object into row. Every field found has its slot in the schema, because
+   * exception is thrown for any field not in mapping.
+   */
+  private ExprValue parseRow(XContentParser parser) throws IOException {
+    if (parser.currentToken() != Token.START_OBJECT) {
+      return parse(parser, TOP_PATH, STRUCT);
+    }
+
+    ExprValue[] values = new ExprValue[rowSchema.size()];
+    while (parser.nextToken() != Token.END_OBJECT) {
+      String field = parser.currentName();
+      parser.nextToken();
+      ExprValue value = parse(parser, field, type(field));
+      values[rowSchema.indexOf(field)] = value;
+    }
+    return new ExprRowValue(rowSchema, values);
+  }
+
+  private ExprValue parseArray(XContentParser parser, String prefix) throws IOException {
+    List<ExprValue> result = new ArrayList<>();
+    while (parser.nextToken() != Token.END_ARRAY) {
+      result.add(parse(parser, prefix, STRUCT));
+    }
+    return result.isEmpty() ? ExprNullValue.of() : new ExprCollectionValue(result);
+  }
+
+  /**
+   * Return the first element if is OpenSearch Array and skip the rest.
+   * https://www.elastic.co/guide/en/elasticsearch/reference/current/array.html.
+   */
+  private ExprValue parseFirstElement(XContentParser parser, String field, ExprType type)
+      throws IOException {
+    if (parser.nextToken() == Token.END_ARRAY) {
+      return ExprNullValue.of();
+    }
+
+    ExprValue result = parse(parser, field, type);
+    while (parser.nextToken() != Token.END_ARRAY) {
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  private ExprValue parseGeoPoint(XContentParser parser) throws IOException {
+    if (parser.currentToken() == Token.VALUE_STRING) {
+      Pair<Double, Double> geoValue = new ObjectContent(parser.text()).geoValue();
+      return new OpenSearchExprGeoPointValue(geoValue.getLeft(), geoValue.getRight());
+    }
+
+    Double lat = null;
+    Double lon = null;
+    if (parser.currentToken() == Token.START_OBJECT) {
+      while (parser.nextToken() != Token.END_OBJECT) {
+        String name = parser.currentName();
+        parser.nextToken();
+        if ("lat".equals(name)) {
+          lat = parseCoordinate(parser, "latitude");
+        } else if ("lon".equals(name)) {
+          lon = parseCoordinate(parser, "longitude");
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+
+    if (lat == null || lon == null) {
+      throw new IllegalStateException(
+          "geo point must in format of {\"lat\": number, \"lon\": number}");
+    }
+    return new OpenSearchExprGeoPointValue(lat, lon);
+  }
+
+  private Double parseCoordinate(XContentParser parser, String name) throws IOException {
+    try {
+      if (parser.currentToken() == Token.VALUE_NUMBER) {
+        return parser.doubleValue();
+      } else if (parser.currentToken() == Token.VALUE_STRING) {
+        return Double.valueOf(parser.text());
+      }
+    } catch (NumberFormatException e) {
+      // fall through to throw exception below
+    }
+    throw new IllegalStateException(
+        String.format("%s must be number value, but got value: %s", name, parser.text()));
+  }
+
   private String makeField(String path, String field) {
     return path.equalsIgnoreCase(TOP_PATH) ? field : String.join(".", path, field);
   }
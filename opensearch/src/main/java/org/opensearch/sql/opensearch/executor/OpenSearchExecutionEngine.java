@@ -27,17 +27,31 @@
 
 package org.opensearch.sql.opensearch.executor;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.DedupeOperator;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.planner.physical.RemoveOperator;
+import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch execution engine implementation. */
@@ -48,17 +62,36 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
 
   private final ExecutionProtector executionProtector;
 
+  /**
+   * Resource monitor checked before each page fetched asynchronously.
+   */
+  private final ResourceMonitor resourceMonitor;
+
+  /**
+   * Execute the plan on worker thread. If the plan streams rows from a single index scan, it is
+   * driven by callbacks of async search so that no worker thread is blocked while waiting for
+   * search response. Otherwise, the plan is pulled to the end on one worker thread.
+   */
   @Override
   public void execute(PhysicalPlan physicalPlan, ResponseListener<QueryResponse> listener) {
     PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    OpenSearchIndexScan scan = plan.accept(new StreamingScanFinder(), null);
+    if (scan != null) {
+      scan.enableAsyncFetch();
+      client.schedule(new AsyncExecution(physicalPlan, plan, scan, resourceMonitor, listener)::start);
+      return;
+    }
+
     client.schedule(
         () -> {
           try {
             List<ExprValue> result = new ArrayList<>();
             plan.open();
 
-            while (plan.hasNext()) {
-              result.add(plan.next());
+            List<ExprValue> batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+            while (!batch.isEmpty()) {
+              result.addAll(batch);
+              batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
             }
 
             QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
@@ -71,6 +104,48 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
         });
   }
 
+  /**
+   * Execute the plan on worker thread and pull rows batch by batch while the listener consumes
+   * them, so no row is held by the engine once it's consumed. The index scan is always fetched
+   * synchronously, because the rows are pulled by the listener on the same worker thread.
+   */
+  @Override
+  public void executeStream(PhysicalPlan physicalPlan,
+                            ResponseListener<StreamingQueryResponse> listener) {
+    PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    client.schedule(
+        () -> {
+          StreamingQueryResponse response;
+          try {
+            plan.open();
+            response = new StreamingQueryResponse(physicalPlan.schema(), rows(plan));
+          } catch (Exception e) {
+            listener.onFailure(e);
+            plan.close();
+            return;
+          }
+
+          try {
+            listener.onResponse(response);
+          } finally {
+            plan.close();
+          }
+        });
+  }
+
+  /**
+   * Iterate the rows of the plan by pulling a batch at a time.
+   */
+  private static Iterator<ExprValue> rows(PhysicalPlan plan) {
+    return Iterators.concat(new AbstractIterator<Iterator<ExprValue>>() {
+      @Override
+      protected Iterator<ExprValue> computeNext() {
+        List<ExprValue> batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+        return batch.isEmpty() ? endOfData() : batch.iterator();
+      }
+    });
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(() -> {
@@ -91,4 +166,108 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     });
   }
 
+  /**
+   * Execution of plan which pulls rows until the index scan is suspended, then resumes on
+   * worker thread once next batch of the scan is fetched asynchronously. No thread is held by
+   * the execution in between. Because all rows are returned in a single response, the rows
+   * pulled are held until the end the same as in sync execution. Resource is checked before
+   * fetching each page so that the execution fails rather than keeps accumulating rows once
+   * memory is not enough.
+   */
+  @RequiredArgsConstructor
+  private static class AsyncExecution {
+    private final PhysicalPlan physicalPlan;
+    private final PhysicalPlan plan;
+    private final OpenSearchIndexScan scan;
+    private final ResourceMonitor resourceMonitor;
+    private final ResponseListener<QueryResponse> listener;
+    private final List<ExprValue> result = new ArrayList<>();
+
+    void start() {
+      try {
+        plan.open();
+      } catch (Exception e) {
+        fail(e);
+        return;
+      }
+      resume();
+    }
+
+    private void resume() {
+      try {
+        List<ExprValue> batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+        while (!batch.isEmpty()) {
+          result.addAll(batch);
+          batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+        }
+
+        if (scan.isSuspended()) {
+          if (!resourceMonitor.isHealthy()) {
+            throw new IllegalStateException("resource is not enough to fetch next page, quit.");
+          }
+          scan.fetchNextBatchAsync(ActionListener.wrap(response -> resume(), this::fail));
+          return;
+        }
+        listener.onResponse(new QueryResponse(physicalPlan.schema(), result));
+      } catch (Exception e) {
+        listener.onFailure(e);
+      }
+      plan.close();
+    }
+
+    private void fail(Exception e) {
+      listener.onFailure(e);
+      plan.close();
+    }
+  }
+
+  /**
+   * Find the index scan if the plan only consists of operators that stream rows from it one by
+   * one, which can be suspended and resumed at any row. Operators that consume input in open(),
+   * such as sort, aggregation and limit with offset, are not the case and null is returned.
+   */
+  private static class StreamingScanFinder
+      extends PhysicalPlanNodeVisitor<OpenSearchIndexScan, Object> {
+
+    @Override
+    public OpenSearchIndexScan visitTableScan(TableScanOperator node, Object context) {
+      return (node instanceof OpenSearchIndexScan) ? (OpenSearchIndexScan) node : null;
+    }
+
+    @Override
+    public OpenSearchIndexScan visitProject(ProjectOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitFilter(FilterOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitEval(EvalOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitRename(RenameOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitRemove(RemoveOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitDedupe(DedupeOperator node, Object context) {
+      return node.getInput().accept(this, context);
+    }
+
+    @Override
+    public OpenSearchIndexScan visitLimit(LimitOperator node, Object context) {
+      return (node.getOffset() == 0) ? node.getInput().accept(this, context) : null;
+    }
+  }
+
 }
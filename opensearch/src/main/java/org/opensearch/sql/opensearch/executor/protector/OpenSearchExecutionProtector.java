@@ -29,7 +29,12 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.planner.physical.ParallelWindowOperator;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
@@ -41,6 +46,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -56,6 +62,16 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
    */
   private final ResourceMonitor resourceMonitor;
 
+  /**
+   * Settings for memory bounded operators.
+   */
+  private final Settings settings;
+
+  /**
+   * OpenSearch client to schedule tasks of parallel operators.
+   */
+  private final OpenSearchClient client;
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
@@ -65,16 +81,25 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
   }
 
+  /**
+   * Limit the estimated memory of aggregation groups.
+   */
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
+    ByteSizeValue memoryLimit =
+        settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_MEMORY_LIMIT);
     return new AggregationOperator(visitInput(node.getInput(), context), node.getAggregatorList(),
-        node.getGroupByExprList());
+        node.getGroupByExprList(), memoryLimit.getBytes());
   }
 
+  /**
+   * Bound the counters of top by sketch size if set.
+   */
   @Override
   public PhysicalPlan visitRareTopN(RareTopNOperator node, Object context) {
+    Integer sketchSize = settings.getSettingValue(Settings.Key.QUERY_TOP_SKETCH_SIZE);
     return new RareTopNOperator(visitInput(node.getInput(), context), node.getCommandType(),
-        node.getNoOfResults(), node.getFieldExprList(), node.getGroupByExprList());
+        node.getNoOfResults(), node.getFieldExprList(), node.getGroupByExprList(), sketchSize);
   }
 
   @Override
@@ -105,29 +130,58 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new EvalOperator(visitInput(node.getInput(), context), node.getExpressionList());
   }
 
+  /**
+   * Limit the estimated memory of distinct keys seen.
+   */
   @Override
   public PhysicalPlan visitDedupe(DedupeOperator node, Object context) {
+    ByteSizeValue memoryLimit = settings.getSettingValue(Settings.Key.QUERY_DEDUP_MEMORY_LIMIT);
     return new DedupeOperator(visitInput(node.getInput(), context), node.getDedupeList(),
-        node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive());
+        node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive(),
+        memoryLimit.getBytes());
   }
 
+  /**
+   * Evaluate partitions in parallel if enabled. Because each parallel task sorts its own rows,
+   * the sort operator generated for the window definition is replaced if any.
+   */
   @Override
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
+    WindowDefinition windowDefinition = node.getWindowDefinition();
+    if (!windowDefinition.getPartitionByList().isEmpty()) {
+      int parallelism = settings.getSettingValue(Settings.Key.QUERY_WINDOW_PARALLELISM);
+      if (parallelism > 1) {
+        ByteSizeValue spillThreshold =
+            settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD);
+        return new ParallelWindowOperator(
+            doProtect(visitInput(removeSortForWindow(node.getInput(), windowDefinition), context)),
+            node.getWindowFunctions(),
+            windowDefinition,
+            client,
+            parallelism,
+            spillThreshold.getBytes());
+      }
+    }
+
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
   /**
-   * Decorate with {@link ResourceMonitorPlan}.
+   * Decorate with {@link ResourceMonitorPlan} and spill sorted rows to disk once they exceed
+   * the spill threshold.
    */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
+    ByteSizeValue spillThreshold =
+        settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD);
     return doProtect(
         new SortOperator(
             visitInput(node.getInput(), context),
-            node.getSortList()));
+            node.getSortList(),
+            spillThreshold.getBytes()));
   }
 
   /**
@@ -147,6 +201,19 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getOffset());
   }
 
+  /**
+   * Decorate with {@link ResourceMonitorPlan}.
+   */
+  @Override
+  public PhysicalPlan visitTopN(TopNOperator node, Object context) {
+    return doProtect(
+        new TopNOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            node.getLimit(),
+            node.getOffset()));
+  }
+
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
@@ -155,6 +222,14 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     }
   }
 
+  private PhysicalPlan removeSortForWindow(PhysicalPlan input, WindowDefinition windowDefinition) {
+    if (input instanceof SortOperator
+        && ((SortOperator) input).getSortList().equals(windowDefinition.getAllSortItems())) {
+      return ((SortOperator) input).getInput();
+    }
+    return input;
+  }
+
   private PhysicalPlan doProtect(PhysicalPlan node) {
     if (isProtected(node)) {
       return node;
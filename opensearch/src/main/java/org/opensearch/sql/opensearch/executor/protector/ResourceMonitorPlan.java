@@ -104,4 +104,16 @@ public class ResourceMonitorPlan extends PhysicalPlan {
     }
     return delegate.next();
   }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    boolean shouldCheck = (nextCallCount + maxSize) / NUMBER_OF_NEXT_CALL_TO_CHECK
+        != nextCallCount / NUMBER_OF_NEXT_CALL_TO_CHECK;
+    if (shouldCheck && !this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next row, quit.");
+    }
+    List<ExprValue> batch = delegate.nextBatch(maxSize);
+    nextCallCount += batch.size();
+    return batch;
+  }
 }
@@ -30,9 +30,12 @@ package org.opensearch.sql.opensearch.mapping;
 import static java.util.Collections.emptyMap;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.ToString;
 import org.opensearch.cluster.metadata.MappingMetadata;
@@ -44,15 +47,41 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 @ToString
 public class IndexMapping {
 
+  /**
+   * Field types whose doc value is the same as the value in source. Date is excluded because
+   * of its format, and half_float and scaled_float because of the precision lost.
+   */
+  private static final Set<String> DOC_VALUE_TYPES = ImmutableSet.of(
+      "byte", "short", "integer", "long", "float", "double", "boolean", "keyword");
+
+  /**
+   * Mapping parameters which make doc value different from source or missing.
+   */
+  private static final Set<String> DOC_VALUE_EXCLUDED_PARAMS = ImmutableSet.of(
+      "ignore_above", "ignore_malformed", "normalizer", "null_value");
+
   /** Field mappings from field name to field type in OpenSearch date type system. */
   private final Map<String, String> fieldMappings;
 
+  /** Fields whose value can be fetched from doc values instead of source. */
+  private final Set<String> docValueFields;
+
   public IndexMapping(Map<String, String> fieldMappings) {
+    this(fieldMappings, ImmutableSet.of());
+  }
+
+  public IndexMapping(Map<String, String> fieldMappings, Set<String> docValueFields) {
     this.fieldMappings = fieldMappings;
+    this.docValueFields = docValueFields;
   }
 
+  /**
+   * Constructor of IndexMapping from index mapping metadata.
+   */
   public IndexMapping(MappingMetadata metaData) {
-    this.fieldMappings = flatMappings(metaData.getSourceAsMap());
+    Map<String, Object> indexMapping = metaData.getSourceAsMap();
+    this.fieldMappings = flatMappings(indexMapping);
+    this.docValueFields = flatDocValueFields(indexMapping);
   }
 
   /**
@@ -86,6 +115,17 @@ public class IndexMapping {
         .collect(Collectors.toMap(Map.Entry::getKey, e -> transform.apply(e.getValue())));
   }
 
+  /**
+   * Is the field value the same in doc values as in source, so it can be fetched by
+   * docvalue_fields without parsing source.
+   *
+   * @param fieldName field name
+   * @return true if field value can be fetched from doc values
+   */
+  public boolean hasDocValues(String fieldName) {
+    return docValueFields.contains(fieldName);
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, String> flatMappings(Map<String, Object> indexMapping) {
     ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<>();
@@ -93,31 +133,59 @@ public class IndexMapping {
     flatMappings(
         ((Map<String, Object>) indexMapping.getOrDefault("properties", emptyMap())),
         "",
-        builder::put);
+        (fieldName, mapping) -> {
+          if (isMultiField(mapping)) {
+            builder.put(fieldName, "text_keyword");
+          } else {
+            builder.put(fieldName, (String) mapping.getOrDefault("type", "object"));
+          }
+        },
+        mapping -> true);
+    return builder.build();
+  }
+
+  /**
+   * Field under nested field is excluded because its doc values are in separate documents.
+   */
+  @SuppressWarnings("unchecked")
+  private Set<String> flatDocValueFields(Map<String, Object> indexMapping) {
+    ImmutableSet.Builder<String> builder = new ImmutableSet.Builder<>();
+    flatMappings(
+        ((Map<String, Object>) indexMapping.getOrDefault("properties", emptyMap())),
+        "",
+        (fieldName, mapping) -> {
+          if (isDocValueField(mapping)) {
+            builder.add(fieldName);
+          }
+        },
+        mapping -> !"nested".equals(mapping.get("type")));
     return builder.build();
   }
 
   @SuppressWarnings("unchecked")
-  private void flatMappings(
-      Map<String, Object> mappings, String path, BiConsumer<String, String> func) {
+  private void flatMappings(Map<String, Object> mappings, String path,
+                            BiConsumer<String, Map<String, Object>> func,
+                            Predicate<Map<String, Object>> visitProperties) {
     mappings.forEach(
         (fieldName, mappingObject) -> {
           Map<String, Object> mapping = (Map<String, Object>) mappingObject;
           String fullFieldName = path.isEmpty() ? fieldName : path + "." + fieldName;
+          func.accept(fullFieldName, mapping);
 
-          if (isMultiField(mapping)) {
-            func.accept(fullFieldName, "text_keyword");
-          } else {
-            String type = (String) mapping.getOrDefault("type", "object");
-            func.accept(fullFieldName, type);
-          }
-
-          if (mapping.containsKey("properties")) { // Nested field
-            flatMappings((Map<String, Object>) mapping.get("properties"), fullFieldName, func);
+          if (mapping.containsKey("properties") && visitProperties.test(mapping)) {
+            flatMappings((Map<String, Object>) mapping.get("properties"), fullFieldName, func,
+                visitProperties);
           }
         });
   }
 
+  private boolean isDocValueField(Map<String, Object> mapping) {
+    return !isMultiField(mapping)
+        && DOC_VALUE_TYPES.contains(mapping.get("type"))
+        && !"false".equals(String.valueOf(mapping.get("doc_values")))
+        && DOC_VALUE_EXCLUDED_PARAMS.stream().noneMatch(mapping::containsKey);
+  }
+
   private boolean isMultiField(Map<String, Object> mapping) {
     return mapping.containsKey("fields");
   }
@@ -77,6 +77,12 @@ public class OpenSearchLogicalIndexAgg extends LogicalPlan {
   @Setter
   private List<Pair<Sort.SortOption, Expression>> sortList;
 
+  /**
+   * Maximum number of buckets required by the limit above.
+   */
+  @Setter
+  private Integer limit;
+
   /**
    * ElasticsearchLogicalIndexAgg Constructor.
    */
@@ -86,13 +92,15 @@ public class OpenSearchLogicalIndexAgg extends LogicalPlan {
       Expression filter,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByList,
-      List<Pair<Sort.SortOption, Expression>> sortList) {
+      List<Pair<Sort.SortOption, Expression>> sortList,
+      Integer limit) {
     super(ImmutableList.of());
     this.relationName = relationName;
     this.filter = filter;
     this.aggregatorList = aggregatorList;
     this.groupByList = groupByList;
     this.sortList = sortList;
+    this.limit = limit;
   }
 
   @Override
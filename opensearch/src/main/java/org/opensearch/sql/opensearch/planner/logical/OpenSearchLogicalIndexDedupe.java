@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Logical Index Scan Dedupe Operation which keeps the first document of each distinct value of
+ * the dedupe field, and drops the documents without value of the field.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class OpenSearchLogicalIndexDedupe extends LogicalPlan {
+
+  private final String relationName;
+
+  /**
+   * Filter Condition.
+   */
+  private final Expression filter;
+
+  /**
+   * Dedupe Field.
+   */
+  private final ReferenceExpression dedupeField;
+
+  /**
+   * OpenSearchLogicalIndexDedupe Constructor.
+   */
+  @Builder
+  public OpenSearchLogicalIndexDedupe(
+      String relationName,
+      Expression filter,
+      ReferenceExpression dedupeField) {
+    super(ImmutableList.of());
+    this.relationName = relationName;
+    this.filter = filter;
+    this.dedupeField = dedupeField;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
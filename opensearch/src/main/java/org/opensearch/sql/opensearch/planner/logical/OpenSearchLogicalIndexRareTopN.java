@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Logical Index Scan Rare and TopN Operation which finds the field values by document count in
+ * each group.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class OpenSearchLogicalIndexRareTopN extends LogicalPlan {
+
+  private final String relationName;
+
+  /**
+   * Filter Condition.
+   */
+  private final Expression filter;
+
+  /**
+   * Rare or TopN.
+   */
+  private final CommandType commandType;
+
+  /**
+   * Number of field values returned for each group.
+   */
+  private final Integer noOfResults;
+
+  /**
+   * Field.
+   */
+  private final ReferenceExpression field;
+
+  /**
+   * Group List.
+   */
+  private final List<ReferenceExpression> groupByList;
+
+  /**
+   * OpenSearchLogicalIndexRareTopN Constructor.
+   */
+  @Builder
+  public OpenSearchLogicalIndexRareTopN(
+      String relationName,
+      Expression filter,
+      CommandType commandType,
+      Integer noOfResults,
+      ReferenceExpression field,
+      List<ReferenceExpression> groupByList) {
+    super(ImmutableList.of());
+    this.relationName = relationName;
+    this.filter = filter;
+    this.commandType = commandType;
+    this.noOfResults = noOfResults;
+    this.field = field;
+    this.groupByList = groupByList;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
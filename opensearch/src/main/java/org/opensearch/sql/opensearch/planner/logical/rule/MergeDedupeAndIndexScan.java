@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexDedupe;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Dedupe -- IndexScan to IndexScanDedupe. Only index scan with filter only is merged,
+ * because the first document of each value depends on the sort, and limit applies before dedupe.
+ */
+public class MergeDedupeAndIndexScan implements Rule<LogicalDedupe> {
+
+  private final Capture<OpenSearchLogicalIndexScan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalDedupe> pattern;
+
+  /**
+   * Constructor of MergeDedupeAndIndexScan.
+   */
+  public MergeDedupeAndIndexScan() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalDedupe.class).matching(OptimizationRuleUtils::dedupeByFieldOnly)
+        .with(source().matching(typeOf(OpenSearchLogicalIndexScan.class)
+            .matching(indexScan -> indexScan.getSortList() == null
+                && !indexScan.hasLimit()
+                && !indexScan.hasProjects())
+            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalDedupe dedupe,
+                           Captures captures) {
+    OpenSearchLogicalIndexScan indexScan = captures.get(capture);
+    return OpenSearchLogicalIndexDedupe
+        .builder()
+        .relationName(indexScan.getRelationName())
+        .filter(indexScan.getFilter())
+        .dedupeField((ReferenceExpression) dedupe.getDedupeList().get(0))
+        .build();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexDedupe;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Dedupe -- Relation to IndexScanDedupe.
+ */
+public class MergeDedupeAndRelation implements Rule<LogicalDedupe> {
+
+  private final Capture<LogicalRelation> relationCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalDedupe> pattern;
+
+  /**
+   * Constructor of MergeDedupeAndRelation.
+   */
+  public MergeDedupeAndRelation() {
+    this.relationCapture = Capture.newCapture();
+    this.pattern = typeOf(LogicalDedupe.class).matching(OptimizationRuleUtils::dedupeByFieldOnly)
+        .with(source().matching(typeOf(LogicalRelation.class).capturedAs(relationCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalDedupe dedupe,
+                           Captures captures) {
+    LogicalRelation relation = captures.get(relationCapture);
+    return OpenSearchLogicalIndexDedupe
+        .builder()
+        .relationName(relation.getRelationName())
+        .dedupeField((ReferenceExpression) dedupe.getDedupeList().get(0))
+        .build();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Limit -- IndexScanAggregation to Limit -- IndexScanAggregation with bucket limit.
+ * The limit operator is kept because the offset and limit are still applied on the buckets
+ * returned, the bucket limit only stops fetching more bucket pages than required.
+ */
+@Getter
+public class MergeLimitAndIndexAgg implements Rule<LogicalLimit> {
+
+  private final Capture<OpenSearchLogicalIndexAgg> indexAggCapture;
+
+  @Accessors(fluent = true)
+  private final Pattern<LogicalLimit> pattern;
+
+  /**
+   * Constructor of MergeLimitAndIndexAgg.
+   */
+  public MergeLimitAndIndexAgg() {
+    this.indexAggCapture = Capture.newCapture();
+    this.pattern = typeOf(LogicalLimit.class)
+        .with(source().matching(typeOf(OpenSearchLogicalIndexAgg.class)
+            .matching(indexAgg -> indexAgg.getLimit() == null)
+            .capturedAs(indexAggCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit plan, Captures captures) {
+    OpenSearchLogicalIndexAgg indexAgg = captures.get(indexAggCapture);
+    return new LogicalLimit(
+        OpenSearchLogicalIndexAgg.builder()
+            .relationName(indexAgg.getRelationName())
+            .filter(indexAgg.getFilter())
+            .aggregatorList(indexAgg.getAggregatorList())
+            .groupByList(indexAgg.getGroupByList())
+            .sortList(indexAgg.getSortList())
+            .limit(plan.getLimit() + plan.getOffset())
+            .build(),
+        plan.getLimit(),
+        plan.getOffset());
+  }
+}
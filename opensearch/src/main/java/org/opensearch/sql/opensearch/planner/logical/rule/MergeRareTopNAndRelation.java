@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge RareTopN -- Relation to IndexScanRareTopN.
+ */
+public class MergeRareTopNAndRelation implements Rule<LogicalRareTopN> {
+
+  private final Capture<LogicalRelation> relationCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalRareTopN> pattern;
+
+  /**
+   * Constructor of MergeRareTopNAndRelation.
+   */
+  public MergeRareTopNAndRelation() {
+    this.relationCapture = Capture.newCapture();
+    this.pattern = typeOf(LogicalRareTopN.class)
+        .matching(OptimizationRuleUtils::topByFieldsOnly)
+        .with(source().matching(typeOf(LogicalRelation.class).capturedAs(relationCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalRareTopN rareTopN,
+                           Captures captures) {
+    LogicalRelation relation = captures.get(relationCapture);
+    return OptimizationRuleUtils.indexRareTopN(rareTopN)
+        .relationName(relation.getRelationName())
+        .build();
+  }
+}
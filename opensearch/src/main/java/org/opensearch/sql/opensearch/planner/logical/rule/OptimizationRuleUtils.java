@@ -28,15 +28,22 @@
 
 package org.opensearch.sql.opensearch.planner.logical.rule;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 @UtilityClass
@@ -68,6 +75,55 @@ public class OptimizationRuleUtils {
         .reduce(true, Boolean::logicalAnd);
   }
 
+  /**
+   * Is the dedupe by single field which keeps only the first row of each value and drops the rows
+   * without value in non-consecutive mode.
+   *
+   * @param logicalDedupe LogicalDedupe.
+   * @return true if the dedupe can be pushed down, otherwise false.
+   */
+  public static boolean dedupeByFieldOnly(LogicalDedupe logicalDedupe) {
+    return logicalDedupe.getDedupeList().size() == 1
+        && logicalDedupe.getDedupeList().get(0) instanceof ReferenceExpression
+        && logicalDedupe.getAllowedDuplication() == 1
+        && !logicalDedupe.getKeepEmpty()
+        && !logicalDedupe.getConsecutive();
+  }
+
+  /**
+   * Is the top by single field and group by fields only. Boolean field is excluded because its
+   * terms bucket key is number. Rare is excluded because terms aggregation ordered by ascending
+   * count has unbounded error across shards.
+   *
+   * @param logicalRareTopN LogicalRareTopN.
+   * @return true if the top can be pushed down, otherwise false.
+   */
+  public static boolean topByFieldsOnly(LogicalRareTopN logicalRareTopN) {
+    return CommandType.TOP.equals(logicalRareTopN.getCommandType())
+        && logicalRareTopN.getFieldList().size() == 1
+        && logicalRareTopN.getFieldList().get(0) instanceof ReferenceExpression
+        && !BOOLEAN.equals(logicalRareTopN.getFieldList().get(0).type())
+        && logicalRareTopN.getGroupByList().stream()
+            .allMatch(expr -> expr instanceof ReferenceExpression);
+  }
+
+  /**
+   * Build OpenSearchLogicalIndexRareTopN from the fields of LogicalRareTopN.
+   *
+   * @param logicalRareTopN LogicalRareTopN matched by {@link #topByFieldsOnly}.
+   * @return builder without relation name and filter.
+   */
+  public static OpenSearchLogicalIndexRareTopN.OpenSearchLogicalIndexRareTopNBuilder
+      indexRareTopN(LogicalRareTopN logicalRareTopN) {
+    return OpenSearchLogicalIndexRareTopN.builder()
+        .commandType(logicalRareTopN.getCommandType())
+        .noOfResults(logicalRareTopN.getNoOfResults())
+        .field((ReferenceExpression) logicalRareTopN.getFieldList().get(0))
+        .groupByList(logicalRareTopN.getGroupByList().stream()
+            .map(expr -> (ReferenceExpression) expr)
+            .collect(Collectors.toList()));
+  }
+
   /**
    * Find reference expression from expression.
    * @param expressions a list of expression.
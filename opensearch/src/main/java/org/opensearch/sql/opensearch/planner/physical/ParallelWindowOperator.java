@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.WindowFunctionExpression;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+import org.opensearch.sql.planner.physical.WindowOperator;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Window operator that evaluates partitions in parallel on worker thread pool. Input rows are
+ * distributed to tasks by hash of partition key, so all rows of a partition go to the same task.
+ * Once the estimated bytes of rows distributed but not spilled reach the spill threshold, the rows
+ * of each task are spilled to its own temporary file. Each task sorts its rows by the sort items
+ * of the window definition, with spilling to disk as {@link SortOperator}, and evaluates them by
+ * its own copy of the window functions because window functions keep state across rows.
+ *
+ * <p>The output of all tasks is merged by the same sort items, which is the same order as
+ * evaluated serially because rows with the same partition key are always in the same task.
+ * As in {@link org.opensearch.sql.opensearch.storage.SlicedScrollFetcher}, the consumer runs the
+ * tasks not picked up by worker threads yet by itself rather than waiting for them.
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ParallelWindowOperator extends WindowOperator {
+
+  private static final String SPILL_FILE_PREFIX = "opensearch-sql-window-";
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final OpenSearchClient client;
+
+  /**
+   * Max number of tasks evaluating partitions in parallel.
+   */
+  @Getter
+  private final int parallelism;
+
+  /**
+   * Max estimated bytes of rows buffered in memory by distribution, and by the sort of all tasks.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private final long spillThreshold;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Sorter sorter;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final List<Task> tasks = new ArrayList<>();
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private Iterator<ExprValue> iterator;
+
+  /**
+   * Constructor of ParallelWindowOperator.
+   *
+   * @param input            child operator
+   * @param windowFunctions  window functions with the same window definition
+   * @param windowDefinition window definition with non-empty partition by list
+   * @param client           OpenSearch client to schedule tasks
+   * @param parallelism      max number of tasks which must be greater than 0
+   * @param spillThreshold   max estimated bytes of rows buffered in memory before spilling
+   */
+  public ParallelWindowOperator(PhysicalPlan input,
+                                List<NamedExpression> windowFunctions,
+                                WindowDefinition windowDefinition,
+                                OpenSearchClient client,
+                                int parallelism,
+                                long spillThreshold) {
+    super(input, windowFunctions, windowDefinition);
+    this.client = client;
+    this.parallelism = parallelism;
+    this.spillThreshold = spillThreshold;
+    this.sorter = Sorter.of(windowDefinition.getAllSortItems());
+  }
+
+  /**
+   * Distribute all input rows to tasks and schedule the tasks on worker thread pool.
+   */
+  @Override
+  public void open() {
+    super.open();
+    distribute();
+    tasks.forEach(task -> client.schedule(task::runIfPending));
+  }
+
+  @Override
+  public boolean hasNext() {
+    return output().hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return output().next();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    tasks.forEach(Task::close);
+    tasks.clear();
+  }
+
+  private void distribute() {
+    for (int i = 0; i < parallelism; i++) {
+      tasks.add(new Task());
+    }
+
+    PhysicalPlan input = getInput();
+    long bufferedBytes = 0L;
+    while (input.hasNext()) {
+      ExprValue row = input.next();
+      tasks.get(Math.floorMod(partitionKeys(row).hashCode(), parallelism)).add(row);
+      bufferedBytes += SortOperator.estimatedBytes(row);
+      if (bufferedBytes >= spillThreshold) {
+        tasks.forEach(Task::spill);
+        bufferedBytes = 0L;
+      }
+    }
+  }
+
+  /**
+   * Wait for all tasks to sort their rows, run by consumer if not picked up by worker threads
+   * yet, and merge the output of tasks by sort keys.
+   */
+  private Iterator<ExprValue> output() {
+    if (iterator == null) {
+      tasks.forEach(Task::runIfPending);
+      List<Iterator<Entry>> outputs = new ArrayList<>(tasks.size());
+      for (Task task : tasks) {
+        outputs.add(Iterators.transform(task.get(), row -> new Entry(sorter.keys(row), row)));
+      }
+      iterator = Iterators.transform(
+          Iterators.mergeSorted(outputs, (e1, e2) -> sorter.compareKeys(e1.keys, e2.keys)),
+          Entry::getRow);
+    }
+    return iterator;
+  }
+
+  private List<ExprValue> partitionKeys(ExprValue row) {
+    return getWindowDefinition().getPartitionByList().stream()
+        .map(expr -> expr.valueOf(row.bindingTuples()))
+        .collect(Collectors.toList());
+  }
+
+  private List<NamedExpression> copyWindowFunctions() {
+    return getWindowFunctions().stream()
+        .map(func -> new NamedExpression(func.getName(),
+            ((WindowFunctionExpression) func.getDelegated()).copy(), func.getAlias()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Task that sorts the rows distributed to it and evaluates window functions on them.
+   */
+  private class Task {
+    private final List<ExprValue> buffer = new ArrayList<>();
+
+    /**
+     * Rows spilled before the rows in buffer, or null if never spilled.
+     */
+    private SpillFile spillFile;
+
+    /**
+     * Indicate the task is not run by either worker thread or consumer yet.
+     */
+    private final AtomicBoolean pending = new AtomicBoolean(true);
+
+    private final CompletableFuture<Iterator<ExprValue>> result = new CompletableFuture<>();
+
+    private SortOperator sort;
+
+    void add(ExprValue row) {
+      buffer.add(row);
+    }
+
+    void spill() {
+      if (buffer.isEmpty()) {
+        return;
+      }
+      if (spillFile == null) {
+        spillFile = SpillFile.create(SPILL_FILE_PREFIX);
+      }
+      buffer.forEach(row -> spillFile.write(Collections.singletonList(row)));
+      buffer.clear();
+    }
+
+    void runIfPending() {
+      if (!pending.compareAndSet(true, false)) {
+        return;
+      }
+
+      try {
+        result.complete(evaluate());
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+      }
+    }
+
+    Iterator<ExprValue> get() {
+      try {
+        return result.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(
+            "Interrupted while waiting for window partitions evaluated", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException("Failed to evaluate window partitions", e.getCause());
+      }
+    }
+
+    /**
+     * Release spill files after the task is done if it's ever run.
+     */
+    void close() {
+      if (!pending.compareAndSet(true, false)) {
+        result.exceptionally(e -> null).join();
+      }
+      if (sort != null) {
+        sort.close();
+      }
+      if (spillFile != null) {
+        spillFile.close();
+      }
+    }
+
+    /**
+     * Sort all rows in open and evaluate window functions lazily as the output is merged.
+     */
+    private Iterator<ExprValue> evaluate() {
+      Iterator<ExprValue> rows = buffer.iterator();
+      if (spillFile != null) {
+        rows = Iterators.concat(
+            Iterators.transform(spillFile.read(), record -> record.get(0)), rows);
+      }
+      sort = new SortOperator(new Rows(rows), getWindowDefinition().getAllSortItems(),
+          Math.max(spillThreshold / parallelism, 1L));
+      sort.open();
+      return new WindowOperator(sort, copyWindowFunctions(), getWindowDefinition());
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final List<ExprValue> keys;
+    private final ExprValue row;
+  }
+
+  /**
+   * Rows distributed to a task as input of its sort operator.
+   */
+  @RequiredArgsConstructor
+  static class Rows extends TableScanOperator {
+    private final Iterator<ExprValue> rows;
+
+    @Override
+    public boolean hasNext() {
+      return rows.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return rows.next();
+    }
+
+    @Override
+    public String explain() {
+      return "Rows";
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch composite aggregation request which pages through all the buckets by after_key
+ * returned in previous page. This has to be stateful because it needs to:
+ *
+ * <p>1) Take over the search source builder with the composite aggregation pushed down. 2)
+ * Maintain the after key and the number of buckets fetched between calls to client search method.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchCompositeAggregationRequest implements OpenSearchRequest {
+
+  /**
+   * Index name.
+   */
+  private final String indexName;
+
+  /**
+   * Search request source builder.
+   */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /**
+   * Composite aggregation builder in source builder.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final CompositeAggregationBuilder compositeBuilder;
+
+  /**
+   * OpenSearchExprValueFactory.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /**
+   * Maximum number of buckets fetched by each page.
+   */
+  private final int pageSize;
+
+  /**
+   * Maximum number of buckets required, for example by the limit above aggregation. Null means
+   * all buckets are required.
+   */
+  @Setter
+  @ToString.Exclude
+  private Integer bucketLimit;
+
+  /**
+   * Number of buckets fetched so far.
+   */
+  @ToString.Exclude
+  private int fetchedSize = 0;
+
+  /**
+   * Indicate all pages already fetched.
+   */
+  private boolean searchDone = false;
+
+  /**
+   * Constructor of OpenSearchCompositeAggregationRequest.
+   */
+  public OpenSearchCompositeAggregationRequest(String indexName,
+                                               SearchSourceBuilder sourceBuilder,
+                                               CompositeAggregationBuilder compositeBuilder,
+                                               int pageSize,
+                                               OpenSearchExprValueFactory factory) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.compositeBuilder = compositeBuilder;
+    this.pageSize = pageSize;
+    this.exprValueFactory = factory;
+    compositeBuilder.size(pageSize);
+  }
+
+  @Override
+  public OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
+                                   Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (!prepareNextPage()) {
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory);
+    }
+
+    SearchResponse openSearchResponse = searchAction.apply(searchRequest());
+    advance(openSearchResponse.getAggregations());
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory);
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (!prepareNextPage()) {
+      listener.onResponse(new OpenSearchResponse(SearchHits.empty(), exprValueFactory));
+      return;
+    }
+
+    searchAction.accept(searchRequest(), ActionListener.map(listener, response -> {
+      advance(response.getAggregations());
+      return new OpenSearchResponse(response, exprValueFactory);
+    }));
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    // do nothing.
+  }
+
+  /**
+   * Generate OpenSearch search request for current page.
+   *
+   * @return search request
+   */
+  public SearchRequest searchRequest() {
+    return new SearchRequest()
+        .indices(indexName)
+        .source(sourceBuilder);
+  }
+
+  /**
+   * Set size of next page.
+   *
+   * @return false if no more page to fetch
+   */
+  private boolean prepareNextPage() {
+    int size = nextPageSize();
+    if (searchDone || size <= 0) {
+      searchDone = true;
+      return false;
+    }
+    compositeBuilder.size(size);
+    return true;
+  }
+
+  private void advance(Aggregations aggregations) {
+    CompositeAggregation composite =
+        (aggregations == null) ? null : aggregations.get(compositeBuilder.getName());
+    int bucketCount = (composite == null) ? 0 : composite.getBuckets().size();
+    fetchedSize += bucketCount;
+
+    Map<String, Object> afterKey = (composite == null) ? null : composite.afterKey();
+    if (afterKey == null || bucketCount < compositeBuilder.size()
+        || (bucketLimit != null && fetchedSize >= bucketLimit)) {
+      searchDone = true;
+    } else {
+      compositeBuilder.aggregateAfter(afterKey);
+    }
+  }
+
+  private int nextPageSize() {
+    return (bucketLimit == null) ? pageSize : Math.min(pageSize, bucketLimit - fetchedSize);
+  }
+}
@@ -29,11 +29,13 @@
 package org.opensearch.sql.opensearch.request;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -106,6 +108,20 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     }
   }
 
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (searchDone) {
+      listener.onResponse(new OpenSearchResponse(SearchHits.empty(), exprValueFactory));
+    } else {
+      searchDone = true;
+      searchAction.accept(searchRequest(), ActionListener.map(listener,
+          response -> new OpenSearchResponse(response, exprValueFactory)));
+    }
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     //do nothing.
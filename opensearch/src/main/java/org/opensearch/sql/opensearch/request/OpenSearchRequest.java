@@ -28,8 +28,10 @@
 
 package org.opensearch.sql.opensearch.request;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -52,6 +54,19 @@ public interface OpenSearchRequest {
   OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
                             Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Apply the search action or scroll action on request based on context asynchronously, which
+   * is the non-blocking version of {@link #search(Function, Function)}. Request state is updated
+   * before the response is passed to the listener.
+   *
+   * @param searchAction async search action.
+   * @param scrollAction async scroll search action.
+   * @param listener     listener of response.
+   */
+  void searchAsync(BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+                   BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+                   ActionListener<OpenSearchResponse> listener);
+
   /**
    * Apply the cleanAction on request.
    *
@@ -28,13 +28,14 @@
 package org.opensearch.sql.opensearch.request;
 
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -50,7 +51,6 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * Maintain scroll ID between calls to client search method
  */
 @EqualsAndHashCode
-@RequiredArgsConstructor
 @Getter
 @ToString
 public class OpenSearchScrollRequest implements OpenSearchRequest {
@@ -73,8 +73,22 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
   @Setter private String scrollId;
 
   /** Search request source builder. */
-  private final SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+  private final SearchSourceBuilder sourceBuilder;
 
+  public OpenSearchScrollRequest(String indexName, OpenSearchExprValueFactory exprValueFactory) {
+    this(indexName, new SearchSourceBuilder(), exprValueFactory);
+  }
+
+  /**
+   * Constructor of OpenSearchScrollRequest with search source built already, for example, a
+   * slice of sliced scroll.
+   */
+  public OpenSearchScrollRequest(String indexName, SearchSourceBuilder sourceBuilder,
+                                 OpenSearchExprValueFactory exprValueFactory) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+  }
 
   @Override
   public OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
@@ -90,6 +104,22 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     return new OpenSearchResponse(openSearchResponse, exprValueFactory);
   }
 
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    ActionListener<SearchResponse> responseListener = ActionListener.map(listener, response -> {
+      setScrollId(response.getScrollId());
+      return new OpenSearchResponse(response, exprValueFactory);
+    });
+    if (isScrollStarted()) {
+      scrollAction.accept(scrollRequest(), responseListener);
+    } else {
+      searchAction.accept(searchRequest(), responseListener);
+    }
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     try {
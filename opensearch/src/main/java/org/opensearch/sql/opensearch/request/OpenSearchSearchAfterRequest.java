@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch search request which pages through the entire result by search_after on the sort
+ * values of last hit in previous page. Compared with scroll, no search context is kept open on
+ * OpenSearch side between pages. This has to be stateful because it needs to:
+ *
+ * <p>1) Accumulate search source builder when visiting logical plan to push down operation. 2)
+ * Maintain the sort values of last hit and the number of hits fetched between calls to client
+ * search method.
+ *
+ * <p>Point-in-time is not available in current OpenSearch version, so the pages are not read from
+ * a consistent snapshot. Without sort pushed down, hits are sorted by _doc only which is cheap
+ * because no field data is loaded. A sort pushed down may have duplicate values that
+ * search_after would skip, so it is suffixed by _id as tie breaker. Note that sorting on _id
+ * loads its field data into heap on each data node.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchSearchAfterRequest implements OpenSearchRequest {
+
+  /**
+   * Default query timeout in minutes.
+   */
+  public static final TimeValue DEFAULT_QUERY_TIMEOUT = TimeValue.timeValueMinutes(1L);
+
+  /**
+   * Tie breaker field appended to sort pushed down to make its sort values unique.
+   */
+  public static final String TIE_BREAKER_FIELD = "_id";
+
+  /**
+   * Index name.
+   */
+  private final String indexName;
+
+  /**
+   * Search request source builder.
+   */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /**
+   * OpenSearchExprValueFactory.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /**
+   * Maximum number of hits fetched by each page.
+   */
+  private final int pageSize;
+
+  /**
+   * Total number of hits to fetch which is the size pushed down. -1 means no limit.
+   */
+  @ToString.Exclude
+  private int limit = -1;
+
+  /**
+   * Number of hits fetched so far.
+   */
+  @ToString.Exclude
+  private int fetchedSize = 0;
+
+  /**
+   * Sort values of last hit in previous page.
+   */
+  @ToString.Exclude
+  private Object[] searchAfter;
+
+  /**
+   * Indicate the first page already requested.
+   */
+  @ToString.Exclude
+  private boolean searchStarted = false;
+
+  /**
+   * Indicate all pages already fetched.
+   */
+  private boolean searchDone = false;
+
+  /**
+   * Constructor of OpenSearchSearchAfterRequest.
+   */
+  public OpenSearchSearchAfterRequest(String indexName, int pageSize,
+                                      OpenSearchExprValueFactory factory) {
+    this.indexName = indexName;
+    this.pageSize = pageSize;
+    this.sourceBuilder = new SearchSourceBuilder();
+    sourceBuilder.timeout(DEFAULT_QUERY_TIMEOUT);
+    this.exprValueFactory = factory;
+  }
+
+  @Override
+  public OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
+                                   Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (searchDone) {
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory);
+    }
+
+    prepareNextPage();
+    SearchResponse openSearchResponse = searchAction.apply(searchRequest());
+    advance(openSearchResponse.getHits().getHits());
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory);
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (searchDone) {
+      listener.onResponse(new OpenSearchResponse(SearchHits.empty(), exprValueFactory));
+      return;
+    }
+
+    prepareNextPage();
+    searchAction.accept(searchRequest(), ActionListener.map(listener, response -> {
+      advance(response.getHits().getHits());
+      return new OpenSearchResponse(response, exprValueFactory);
+    }));
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    // No search context kept on OpenSearch side, only drop the page state here
+    searchAfter = null;
+  }
+
+  /**
+   * Generate OpenSearch search request for current page.
+   *
+   * @return search request
+   */
+  @VisibleForTesting
+  protected SearchRequest searchRequest() {
+    return new SearchRequest()
+        .indices(indexName)
+        .source(sourceBuilder);
+  }
+
+  private void prepareNextPage() {
+    if (searchStarted) {
+      sourceBuilder.from(0).size(nextPageSize()).searchAfter(searchAfter);
+    } else {
+      startSearch();
+    }
+  }
+
+  /**
+   * Prepare the first page. Limit and offset pushed down are taken over from source builder
+   * because size and from of each page are managed by this request from now on. Size 0 means
+   * aggregation only or empty limit, in which case a single request is enough.
+   */
+  private void startSearch() {
+    searchStarted = true;
+    limit = sourceBuilder.size();
+    if (limit == 0) {
+      return;
+    }
+
+    if (sourceBuilder.sorts() == null) {
+      sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+    } else {
+      sourceBuilder.sort(TIE_BREAKER_FIELD, ASC);
+    }
+    sourceBuilder.size(nextPageSize());
+  }
+
+  private void advance(SearchHit[] hits) {
+    int hitCount = (hits == null) ? 0 : hits.length;
+    fetchedSize += hitCount;
+
+    if (hitCount == 0 || hitCount < sourceBuilder.size() || fetchedSize == limit) {
+      searchDone = true;
+      searchAfter = null;
+    } else {
+      searchAfter = hits[hitCount - 1].getSortValues();
+    }
+  }
+
+  private int nextPageSize() {
+    return (limit < 0) ? pageSize : Math.min(pageSize, limit - fetchedSize);
+  }
+}
@@ -32,12 +32,17 @@ import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -88,6 +93,15 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
           .put("binary", OpenSearchDataType.OPENSEARCH_BINARY)
           .build();
 
+  /**
+   * Field types converted from index mappings. Key is the mapping map returned by client and
+   * compared by identity, because node client returns the same instance from its mapping cache
+   * until metadata in cluster state changes. An entry is removed once its mapping is evicted
+   * from the client cache and garbage collected.
+   */
+  private static final Cache<Map<String, IndexMapping>, Map<String, ExprType>> FIELD_TYPES_CACHE =
+      CacheBuilder.newBuilder().weakKeys().build();
+
   /**
    * OpenSearch client connection.
    */
@@ -117,20 +131,53 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
   }
 
   /**
-   * Get the mapping of field and type.
+   * Get the mapping of field and type. The result is cached as long as the client returns the
+   * same index mappings.
    *
    * @return mapping of field and type.
    */
   public Map<String, ExprType> getFieldTypes() {
-    Map<String, ExprType> fieldTypes = new HashMap<>();
     Map<String, IndexMapping> indexMappings = client.getIndexMappings(indexName);
+    Map<String, ExprType> fieldTypes = FIELD_TYPES_CACHE.getIfPresent(indexMappings);
+    if (fieldTypes == null) {
+      fieldTypes = getFieldTypes(indexMappings);
+      FIELD_TYPES_CACHE.put(indexMappings, fieldTypes);
+    }
+    return fieldTypes;
+  }
+
+  private Map<String, ExprType> getFieldTypes(Map<String, IndexMapping> indexMappings) {
+    Map<String, ExprType> fieldTypes = new HashMap<>();
     for (IndexMapping indexMapping : indexMappings.values()) {
       fieldTypes
           .putAll(indexMapping.getAllFieldTypes(this::transformESTypeToExprType).entrySet().stream()
               .filter(entry -> !ExprCoreType.UNKNOWN.equals(entry.getValue()))
               .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
     }
-    return fieldTypes;
+    return Collections.unmodifiableMap(fieldTypes);
+  }
+
+  /**
+   * Get the fields whose value can be fetched from doc values. If index name matches more than
+   * one index, the field must have doc values in all of them.
+   *
+   * @return fields with doc values
+   */
+  public Set<String> getDocValueFields() {
+    Set<String> docValueFields = new HashSet<>();
+    Set<String> sourceOnlyFields = new HashSet<>();
+    Map<String, IndexMapping> indexMappings = client.getIndexMappings(indexName);
+    for (IndexMapping indexMapping : indexMappings.values()) {
+      for (String field : indexMapping.getAllFieldTypes(type -> type).keySet()) {
+        if (indexMapping.hasDocValues(field)) {
+          docValueFields.add(field);
+        } else {
+          sourceOnlyFields.add(field);
+        }
+      }
+    }
+    docValueFields.removeAll(sourceOnlyFields);
+    return docValueFields;
   }
 
   private ExprType transformESTypeToExprType(String openSearchType) {
@@ -34,11 +34,14 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 
 /**
  * OpenSearch search response.
@@ -98,12 +101,20 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
 
   /**
    * Make response iterable without need to return internal data structure explicitly.
+   * Search hit is constructed from its source if fetched, otherwise from its doc value fields.
+   * Search hits in top hits aggregation are constructed in the same way.
    *
    * @return search hit iterator
    */
   public Iterator<ExprValue> iterator() {
     if (isAggregationResponse()) {
-      return exprValueFactory.getParser().parse(aggregations).stream().map(entry -> {
+      OpenSearchAggregationResponseParser parser = exprValueFactory.getParser();
+      if (parser instanceof TopHitsParser) {
+        return ((TopHitsParser) parser).parseHits(aggregations).stream()
+            .map(this::construct)
+            .iterator();
+      }
+      return parser.parse(aggregations).stream().map(entry -> {
         ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
         for (Map.Entry<String, Object> value : entry.entrySet()) {
           builder.put(value.getKey(), exprValueFactory.construct(value.getKey(), value.getValue()));
@@ -112,7 +123,14 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
       }).iterator();
     } else {
       return Arrays.stream(hits.getHits())
-          .map(hit -> (ExprValue) exprValueFactory.construct(hit.getSourceAsString())).iterator();
+          .map(this::construct)
+          .iterator();
     }
   }
+
+  private ExprValue construct(SearchHit hit) {
+    return hit.hasSource()
+        ? exprValueFactory.construct(hit.getSourceRef())
+        : exprValueFactory.construct(hit.getFields());
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.missing.Missing;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+
+/**
+ * Parse the terms aggregation of rare and top, which is nested in each composite aggregation
+ * bucket if grouped. Each terms bucket is returned as a row of group keys and field value.
+ * Documents without value of the field are counted by the missing aggregation next to terms,
+ * which is ranked among the terms buckets as null value the same as in-memory rare and top.
+ */
+@RequiredArgsConstructor
+public class RareTopNParser implements OpenSearchAggregationResponseParser {
+
+  /**
+   * Name of field.
+   */
+  private final String fieldName;
+
+  /**
+   * Name of terms aggregation.
+   */
+  private final String termsName;
+
+  /**
+   * Name of missing aggregation.
+   */
+  private final String missingName;
+
+  /**
+   * Rare or TopN.
+   */
+  private final CommandType commandType;
+
+  /**
+   * Number of field values returned for each group.
+   */
+  private final int noOfResults;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    CompositeAggregation composite = aggregations.get("composite_buckets");
+    if (composite != null) {
+      return composite.getBuckets().stream()
+          .flatMap(bucket -> parse(bucket.getKey(), bucket.getAggregations()).stream())
+          .collect(Collectors.toList());
+    }
+    return parse(Collections.emptyMap(), aggregations);
+  }
+
+  private List<Map<String, Object>> parse(Map<String, Object> groups,
+                                          Aggregations aggregations) {
+    Terms terms = aggregations.get(termsName);
+    Missing missing = aggregations.get(missingName);
+    long missingCount = (missing == null) ? 0 : missing.getDocCount();
+
+    List<Map<String, Object>> rows = new ArrayList<>();
+    boolean missingRanked = (missingCount == 0);
+    for (Terms.Bucket bucket : terms.getBuckets()) {
+      if (!missingRanked && ranksBefore(missingCount, bucket.getDocCount())) {
+        rows.add(row(groups, null));
+        missingRanked = true;
+      }
+      rows.add(row(groups, bucket.getKey()));
+    }
+    if (!missingRanked) {
+      rows.add(row(groups, null));
+    }
+    return rows.subList(0, Math.min(rows.size(), noOfResults));
+  }
+
+  private boolean ranksBefore(long missingCount, long docCount) {
+    return CommandType.TOP.equals(commandType) ? missingCount > docCount : missingCount < docCount;
+  }
+
+  private Map<String, Object> row(Map<String, Object> groups, Object value) {
+    Map<String, Object> row = new LinkedHashMap<>(groups);
+    row.put(fieldName, value);
+    return row;
+  }
+}
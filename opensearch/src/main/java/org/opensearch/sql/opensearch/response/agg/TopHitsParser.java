@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.metrics.TopHits;
+
+/**
+ * Parse the documents in top hits aggregation of each composite aggregation bucket. The documents
+ * are returned as rows instead of bucket key and metrics.
+ */
+@RequiredArgsConstructor
+public class TopHitsParser implements OpenSearchAggregationResponseParser {
+
+  /**
+   * Name of top hits aggregation.
+   */
+  private final String name;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    return parseHits(aggregations).stream()
+        .map(SearchHit::getSourceAsMap)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Get the documents in top hits aggregation of all buckets in bucket order.
+   *
+   * @param aggregations Aggregations.
+   * @return search hits.
+   */
+  public List<SearchHit> parseHits(Aggregations aggregations) {
+    return ((CompositeAggregation) aggregations.asList().get(0)).getBuckets().stream()
+        .flatMap(bucket -> Arrays.stream(
+            ((TopHits) bucket.getAggregations().get(name)).getHits().getHits()))
+        .collect(Collectors.toList());
+  }
+}
@@ -106,6 +106,69 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_AGGREGATION_PAGE_SIZE_SETTING = Setting.intSetting(
+      Key.QUERY_AGGREGATION_PAGE_SIZE.getKeyValue(),
+      1000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SORT_SPILL_THRESHOLD_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_SORT_SPILL_THRESHOLD.getKeyValue(),
+          "10%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_AGGREGATION_MEMORY_LIMIT.getKeyValue(),
+          "10%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_DEDUP_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_DEDUP_MEMORY_LIMIT.getKeyValue(),
+          "10%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_MAX_SLICES_SETTING = Setting.intSetting(
+      Key.QUERY_SCAN_MAX_SLICES.getKeyValue(),
+      1,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_PAGES_SETTING = Setting.intSetting(
+      Key.QUERY_SCAN_PREFETCH_PAGES.getKeyValue(),
+      0,
+      0,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_DOCVALUE_FIELDS_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_WINDOW_PARALLELISM_SETTING = Setting.intSetting(
+      Key.QUERY_WINDOW_PARALLELISM.getKeyValue(),
+      1,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_TOP_SKETCH_SIZE_SETTING = Setting.intSetting(
+      Key.QUERY_TOP_SKETCH_SIZE.getKeyValue(),
+      0,
+      0,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING = Setting.longSetting(
       Key.METRICS_ROLLING_WINDOW.getKeyValue(),
       LegacyOpenDistroSettings.METRICS_ROLLING_WINDOW_SETTING,
@@ -141,6 +204,26 @@ public class OpenSearchSettings extends Settings {
         QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_MEMORY_LIMIT));
     register(settingBuilder, clusterSettings, Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING, new Updater(Key.QUERY_SIZE_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_AGGREGATION_PAGE_SIZE,
+        QUERY_AGGREGATION_PAGE_SIZE_SETTING, new Updater(Key.QUERY_AGGREGATION_PAGE_SIZE));
+    register(settingBuilder, clusterSettings, Key.QUERY_SORT_SPILL_THRESHOLD,
+        QUERY_SORT_SPILL_THRESHOLD_SETTING, new Updater(Key.QUERY_SORT_SPILL_THRESHOLD));
+    register(settingBuilder, clusterSettings, Key.QUERY_AGGREGATION_MEMORY_LIMIT,
+        QUERY_AGGREGATION_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_MEMORY_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_DEDUP_MEMORY_LIMIT,
+        QUERY_DEDUP_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_DEDUP_MEMORY_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_MAX_SLICES,
+        QUERY_SCAN_MAX_SLICES_SETTING, new Updater(Key.QUERY_SCAN_MAX_SLICES));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_PREFETCH_PAGES,
+        QUERY_SCAN_PREFETCH_PAGES_SETTING, new Updater(Key.QUERY_SCAN_PREFETCH_PAGES));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED,
+        QUERY_SCAN_DOCVALUE_FIELDS_ENABLED_SETTING,
+        new Updater(Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED));
+    register(settingBuilder, clusterSettings, Key.QUERY_WINDOW_PARALLELISM,
+        QUERY_WINDOW_PARALLELISM_SETTING, new Updater(Key.QUERY_WINDOW_PARALLELISM));
+    register(settingBuilder, clusterSettings, Key.QUERY_TOP_SKETCH_SIZE,
+        QUERY_TOP_SKETCH_SIZE_SETTING, new Updater(Key.QUERY_TOP_SKETCH_SIZE));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_WINDOW,
         METRICS_ROLLING_WINDOW_SETTING, new Updater(Key.METRICS_ROLLING_WINDOW));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_INTERVAL,
@@ -194,6 +277,15 @@ public class OpenSearchSettings extends Settings {
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_AGGREGATION_PAGE_SIZE_SETTING)
+        .add(QUERY_SORT_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_AGGREGATION_MEMORY_LIMIT_SETTING)
+        .add(QUERY_DEDUP_MEMORY_LIMIT_SETTING)
+        .add(QUERY_SCAN_MAX_SLICES_SETTING)
+        .add(QUERY_SCAN_PREFETCH_PAGES_SETTING)
+        .add(QUERY_SCAN_DOCVALUE_FIELDS_ENABLED_SETTING)
+        .add(QUERY_WINDOW_PARALLELISM_SETTING)
+        .add(QUERY_TOP_SKETCH_SIZE_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .build();
@@ -28,11 +28,16 @@
 package org.opensearch.sql.opensearch.storage;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.Version;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.sql.common.setting.Settings;
@@ -41,6 +46,8 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexDedupe;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalPlanOptimizerFactory;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
@@ -48,7 +55,9 @@ import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseP
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalRelation;
@@ -72,6 +81,11 @@ public class OpenSearchIndex implements Table {
    */
   private Map<String, ExprType> cachedFieldTypes = null;
 
+  /**
+   * The cached fields with doc values in index.
+   */
+  private Set<String> cachedDocValueFields = null;
+
   /*
    * TODO: Assume indexName doesn't have wildcard.
    *  Need to either handle field name conflicts
@@ -85,6 +99,35 @@ public class OpenSearchIndex implements Table {
     return cachedFieldTypes;
   }
 
+  /**
+   * Get fields whose value can be fetched from doc values instead of source. Doc values of a
+   * multi-valued field are sorted and deduplicated, which is different from the array in source,
+   * and the mapping doesn't tell whether a field is single-valued. So no field is returned
+   * unless doc value fields is enabled explicitly by setting.
+   */
+  public Set<String> getDocValueFields() {
+    if (!(Boolean) settings.getSettingValue(Settings.Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED)) {
+      return Collections.emptySet();
+    }
+    if (cachedDocValueFields == null) {
+      cachedDocValueFields =
+          new OpenSearchDescribeIndexRequest(client, indexName).getDocValueFields();
+    }
+    return cachedDocValueFields;
+  }
+
+  /**
+   * Get serializer of expressions in script pushed down. Data nodes not upgraded yet during
+   * rolling upgrade can't decode the compact format, so JDK serialization is used until all
+   * nodes are on current version.
+   */
+  public ExpressionSerializer getExpressionSerializer() {
+    if (client.getMinNodeVersion().before(Version.CURRENT)) {
+      return new DefaultExpressionSerializer();
+    }
+    return new CompactExpressionSerializer();
+  }
+
   /**
    * TODO: Push down operations to index scan operator as much as possible in future.
    */
@@ -98,7 +141,9 @@ public class OpenSearchIndex implements Table {
      * aggregation, filter, will accumulate (push down) OpenSearch query and aggregation DSL on
      * index scan.
      */
-    return plan.accept(new OpenSearchDefaultImplementor(indexScan), indexScan);
+    return plan.accept(
+        new OpenSearchDefaultImplementor(indexScan, this::getDocValueFields,
+            Suppliers.memoize(this::getExpressionSerializer)), indexScan);
   }
 
   @Override
@@ -112,12 +157,30 @@ public class OpenSearchIndex implements Table {
       extends DefaultImplementor<OpenSearchIndexScan> {
     private final OpenSearchIndexScan indexScan;
 
+    /**
+     * Fields with doc values which is only loaded if projects pushed down.
+     */
+    private final Supplier<Set<String>> docValueFields;
+
+    /**
+     * Serializer of expressions in script which is only resolved if any script pushed down.
+     */
+    private final Supplier<ExpressionSerializer> serializer;
+
+    public OpenSearchDefaultImplementor(OpenSearchIndexScan indexScan) {
+      this(indexScan, Collections::emptySet, CompactExpressionSerializer::new);
+    }
+
     @Override
     public PhysicalPlan visitNode(LogicalPlan plan, OpenSearchIndexScan context) {
       if (plan instanceof OpenSearchLogicalIndexScan) {
         return visitIndexScan((OpenSearchLogicalIndexScan) plan, context);
       } else if (plan instanceof OpenSearchLogicalIndexAgg) {
         return visitIndexAggregation((OpenSearchLogicalIndexAgg) plan, context);
+      } else if (plan instanceof OpenSearchLogicalIndexDedupe) {
+        return visitIndexDedupe((OpenSearchLogicalIndexDedupe) plan, context);
+      } else if (plan instanceof OpenSearchLogicalIndexRareTopN) {
+        return visitIndexRareTopN((OpenSearchLogicalIndexRareTopN) plan, context);
       } else {
         throw new IllegalStateException(StringUtils.format("unexpected plan node type %s",
             plan.getClass()));
@@ -137,7 +200,7 @@ public class OpenSearchIndex implements Table {
       }
 
       if (null != node.getFilter()) {
-        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(new DefaultExpressionSerializer());
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer.get());
         QueryBuilder query = queryBuilder.build(node.getFilter());
         context.pushDown(query);
       }
@@ -147,7 +210,7 @@ public class OpenSearchIndex implements Table {
       }
 
       if (node.hasProjects()) {
-        context.pushDownProjects(node.getProjectList());
+        context.pushDownProjects(node.getProjectList(), docValueFields.get());
       }
       return indexScan;
     }
@@ -158,23 +221,55 @@ public class OpenSearchIndex implements Table {
     public PhysicalPlan visitIndexAggregation(OpenSearchLogicalIndexAgg node,
                                               OpenSearchIndexScan context) {
       if (node.getFilter() != null) {
-        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(
-            new DefaultExpressionSerializer());
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer.get());
         QueryBuilder query = queryBuilder.build(node.getFilter());
         context.pushDown(query);
       }
-      AggregationQueryBuilder builder =
-          new AggregationQueryBuilder(new DefaultExpressionSerializer());
+      AggregationQueryBuilder builder = new AggregationQueryBuilder(serializer.get());
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
           builder.buildAggregationBuilder(node.getAggregatorList(),
               node.getGroupByList(), node.getSortList());
       context.pushDownAggregation(aggregationBuilder);
+      if (node.getLimit() != null) {
+        context.pushDownBucketLimit(node.getLimit());
+      }
       context.pushTypeMapping(
           builder.buildTypeMapping(node.getAggregatorList(),
               node.getGroupByList()));
       return indexScan;
     }
 
+    /**
+     * Implement OpenSearchLogicalIndexDedupe.
+     */
+    public PhysicalPlan visitIndexDedupe(OpenSearchLogicalIndexDedupe node,
+                                         OpenSearchIndexScan context) {
+      if (node.getFilter() != null) {
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer.get());
+        QueryBuilder query = queryBuilder.build(node.getFilter());
+        context.pushDown(query);
+      }
+      AggregationQueryBuilder builder = new AggregationQueryBuilder(serializer.get());
+      context.pushDownAggregation(builder.buildDedupeAggregationBuilder(node.getDedupeField()));
+      return indexScan;
+    }
+
+    /**
+     * Implement OpenSearchLogicalIndexRareTopN.
+     */
+    public PhysicalPlan visitIndexRareTopN(OpenSearchLogicalIndexRareTopN node,
+                                           OpenSearchIndexScan context) {
+      if (node.getFilter() != null) {
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer.get());
+        QueryBuilder query = queryBuilder.build(node.getFilter());
+        context.pushDown(query);
+      }
+      AggregationQueryBuilder builder = new AggregationQueryBuilder(serializer.get());
+      context.pushDownAggregation(builder.buildRareTopNAggregationBuilder(node.getCommandType(),
+          node.getNoOfResults(), node.getField(), node.getGroupByList()));
+      return indexScan;
+    }
+
     @Override
     public PhysicalPlan visitRelation(LogicalRelation node, OpenSearchIndexScan context) {
       return indexScan;
@@ -30,8 +30,7 @@ package org.opensearch.sql.opensearch.storage;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 
-import com.google.common.collect.Iterables;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -41,11 +40,14 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
@@ -53,8 +55,9 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
-import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeAggregationRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSearchAfterRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -69,43 +72,118 @@ public class OpenSearchIndexScan extends TableScanOperator {
   /** OpenSearch client. */
   private final OpenSearchClient client;
 
-  /** Search request. */
+  /** Settings. */
+  private final Settings settings;
+
+  /** Index name. */
+  private final String indexName;
+
+  /** Search request. Replaced by composite aggregation request if pushed down. */
   @EqualsAndHashCode.Include
   @Getter
   @ToString.Include
-  private final OpenSearchRequest request;
+  private OpenSearchRequest request;
 
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Indicate no more batch is available from OpenSearch. */
+  private boolean isFetchDone = false;
+
+  /** Fetcher of slices if the scan is split into slices fetched concurrently. */
+  private SlicedScrollFetcher slicedFetcher;
+
+  /** Fetcher that fetches next pages ahead while current page is being consumed. */
+  private PagePrefetcher prefetcher;
+
+  /** Fetch pages by {@link #fetchNextBatchAsync(ActionListener)} instead of in hasNext(). */
+  private boolean asyncFetch = false;
+
   /**
-   * Todo.
+   * Indicate hasNext() returned false because current batch is consumed up in async fetch mode,
+   * rather than no more batch.
+   */
+  @Getter
+  private boolean suspended = false;
+
+  /**
+   * Constructor of OpenSearchIndexScan. The query size limit setting is used as the page size
+   * of the search_after request which pages through the entire result.
    */
   public OpenSearchIndexScan(OpenSearchClient client,
                              Settings settings, String indexName,
                              OpenSearchExprValueFactory exprValueFactory) {
     this.client = client;
-    this.request = new OpenSearchQueryRequest(indexName,
+    this.settings = settings;
+    this.indexName = indexName;
+    this.request = new OpenSearchSearchAfterRequest(indexName,
             settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT), exprValueFactory);
   }
 
+  /**
+   * Enable async fetch mode where the scan never blocks on search. Once current batch is consumed,
+   * hasNext() returns false and the scan is suspended until next batch is fetched by
+   * {@link #fetchNextBatchAsync(ActionListener)}. It has to be enabled before open(). Async fetch
+   * only applies to a scan which is neither split into slices nor prefetching pages, because
+   * those fetch on worker threads already. Otherwise, the scan is never suspended and its rows
+   * are pulled as in sync mode.
+   */
+  public void enableAsyncFetch() {
+    asyncFetch = true;
+  }
+
   @Override
   public void open() {
     super.open();
 
-    // For now pull all results immediately once open
-    List<OpenSearchResponse> responses = new ArrayList<>();
-    OpenSearchResponse response = client.search(request);
-    while (!response.isEmpty()) {
-      responses.add(response);
-      response = client.search(request);
+    int sliceCount = sliceCount();
+    if (sliceCount > 1) {
+      OpenSearchSearchAfterRequest searchAfterRequest = (OpenSearchSearchAfterRequest) request;
+      SearchSourceBuilder source = searchAfterRequest.getSourceBuilder().size(
+          searchAfterRequest.getPageSize());
+      if (source.sorts() == null) {
+        source.sort(DOC_FIELD_NAME, ASC);
+      }
+      slicedFetcher = new SlicedScrollFetcher(client, indexName, source, sliceCount,
+          request.getExprValueFactory());
+      slicedFetcher.open();
+      iterator = slicedFetcher;
+      isFetchDone = true;
+      return;
     }
-    iterator = Iterables.concat(responses.toArray(new OpenSearchResponse[0])).iterator();
+
+    int prefetchPages = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES);
+    if (prefetchPages > 0) {
+      prefetcher = new PagePrefetcher(client, request, prefetchPages);
+      prefetcher.open();
+      iterator = prefetcher;
+      isFetchDone = true;
+      return;
+    }
+
+    if (asyncFetch) {
+      // Even the first batch is fetched asynchronously
+      iterator = Collections.emptyIterator();
+      return;
+    }
+
+    // Only the first batch is fetched here, the rest is pulled lazily by hasNext()
+    fetchNextBatch();
   }
 
   @Override
   public boolean hasNext() {
-    return iterator.hasNext();
+    while (!iterator.hasNext()) {
+      if (isFetchDone) {
+        return false;
+      }
+      if (asyncFetch) {
+        suspended = true;
+        return false;
+      }
+      fetchNextBatch();
+    }
+    return true;
   }
 
   @Override
@@ -148,6 +226,24 @@ public class OpenSearchIndexScan extends TableScanOperator {
     aggregationBuilder.getLeft().forEach(builder -> source.aggregation(builder));
     source.size(0);
     request.getExprValueFactory().setParser(aggregationBuilder.getRight());
+
+    List<AggregationBuilder> builders = aggregationBuilder.getLeft();
+    if (builders.size() == 1 && builders.get(0) instanceof CompositeAggregationBuilder) {
+      request = new OpenSearchCompositeAggregationRequest(indexName, source,
+          (CompositeAggregationBuilder) builders.get(0),
+          settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE),
+          request.getExprValueFactory());
+    }
+  }
+
+  /**
+   * Push down the maximum number of buckets required by the limit above aggregation, so that
+   * composite aggregation stops paging once enough buckets fetched.
+   */
+  public void pushDownBucketLimit(Integer bucketLimit) {
+    if (request instanceof OpenSearchCompositeAggregationRequest) {
+      ((OpenSearchCompositeAggregationRequest) request).setBucketLimit(bucketLimit);
+    }
   }
 
   /**
@@ -171,13 +267,23 @@ public class OpenSearchIndexScan extends TableScanOperator {
   }
 
   /**
-   * Push down project list to DSL requets.
+   * Push down project list to DSL requets. If all the fields projected have doc values, they are
+   * fetched by docvalue_fields without loading and parsing source. Otherwise, source is filtered
+   * to include the projected fields only.
+   *
+   * @param projects       fields projected
+   * @param docValueFields fields whose value can be fetched from doc values
    */
-  public void pushDownProjects(Set<ReferenceExpression> projects) {
+  public void pushDownProjects(Set<ReferenceExpression> projects, Set<String> docValueFields) {
     SearchSourceBuilder sourceBuilder = request.getSourceBuilder();
     final Set<String> projectsSet =
         projects.stream().map(ReferenceExpression::getAttr).collect(Collectors.toSet());
-    sourceBuilder.fetchSource(projectsSet.toArray(new String[0]), new String[0]);
+    if (docValueFields.containsAll(projectsSet)) {
+      sourceBuilder.fetchSource(false);
+      projectsSet.forEach(sourceBuilder::docValueField);
+    } else {
+      sourceBuilder.fetchSource(projectsSet.toArray(new String[0]), new String[0]);
+    }
   }
 
   public void pushTypeMapping(Map<String, ExprType> typeMapping) {
@@ -188,7 +294,69 @@ public class OpenSearchIndexScan extends TableScanOperator {
   public void close() {
     super.close();
 
-    client.cleanup(request);
+    if (slicedFetcher != null) {
+      slicedFetcher.close();
+    }
+    if (prefetcher != null) {
+      // Request being fetched by prefetcher is cleaned up once the fetch completes
+      prefetcher.close();
+    } else {
+      client.cleanup(request);
+    }
+  }
+
+  /**
+   * Number of slices to split the scan into, which is the smaller one of max slices setting and
+   * number of shards. Only scan without limit is split, which excludes aggregation as well
+   * because it sets size 0. Scan with sort pushed down is not split either because rows of
+   * slices are merged in no particular order.
+   */
+  private int sliceCount() {
+    int maxSlices = settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES);
+    SearchSourceBuilder source = request.getSourceBuilder();
+    if (maxSlices <= 1
+        || !(request instanceof OpenSearchSearchAfterRequest)
+        || source.size() >= 0
+        || isSortPushedDown(source)) {
+      return 1;
+    }
+    return Math.min(maxSlices, client.getIndexShardCount(indexName));
+  }
+
+  private boolean isSortPushedDown(SearchSourceBuilder source) {
+    return source.sorts() != null && source.sorts().stream().anyMatch(
+        sort -> !(sort instanceof FieldSortBuilder
+            && DOC_FIELD_NAME.equals(((FieldSortBuilder) sort).getFieldName())));
+  }
+
+  /**
+   * Fetch next batch from OpenSearch and replace the current one so that at most one batch
+   * is held in memory at a time.
+   */
+  private void fetchNextBatch() {
+    replaceBatch(client.search(request));
+  }
+
+  /**
+   * Fetch next batch asynchronously and resume the scan suspended.
+   *
+   * @param listener listener notified once next batch is ready to consume
+   */
+  public void fetchNextBatchAsync(ActionListener<Void> listener) {
+    suspended = false;
+    client.searchAsync(request, ActionListener.map(listener, response -> {
+      replaceBatch(response);
+      return null;
+    }));
+  }
+
+  private void replaceBatch(OpenSearchResponse response) {
+    if (response.isEmpty()) {
+      isFetchDone = true;
+      iterator = Collections.emptyIterator();
+    } else {
+      iterator = response.iterator();
+    }
   }
 
   private boolean isBoolFilterQuery(QueryBuilder current) {
@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.action.ActionListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetcher that pipelines paging of a search request by fetching next pages asynchronously while
+ * the current page is being consumed. The fetched pages are buffered in a bounded queue, so at
+ * most the given number of pages are fetched ahead of the page being consumed.
+ *
+ * <p>Each page request depends on the previous response (search after values, scroll ID or
+ * after key), so the pages are fetched one after another and never concurrently. Fetching stops
+ * once the queue is full, and resumes when the consumer takes a page. No thread is blocked by
+ * a fetch in flight except the consumer waiting for a page.
+ */
+public class PagePrefetcher implements Iterator<ExprValue>, AutoCloseable {
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest request;
+
+  /**
+   * Pages fetched but not consumed yet.
+   */
+  private final BlockingQueue<Page> pages;
+
+  /**
+   * Indicate next page is being fetched.
+   */
+  private boolean fetching = false;
+
+  /**
+   * Indicate last page or a failure is fetched and thus no more page to fetch.
+   */
+  private boolean exhausted = false;
+
+  private boolean closed = false;
+
+  /**
+   * Indicate last page is taken by consumer.
+   */
+  private boolean done = false;
+
+  /**
+   * Rows of current page.
+   */
+  private Iterator<ExprValue> current = Collections.emptyIterator();
+
+  /**
+   * Constructor of PagePrefetcher.
+   *
+   * @param client        OpenSearch client
+   * @param request       paging request
+   * @param prefetchPages max number of pages fetched ahead which must be greater than 0
+   */
+  public PagePrefetcher(OpenSearchClient client, OpenSearchRequest request, int prefetchPages) {
+    this.client = client;
+    this.request = request;
+    this.pages = new ArrayBlockingQueue<>(prefetchPages);
+  }
+
+  /**
+   * Start fetching the first page.
+   */
+  public void open() {
+    fetchIfIdle();
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (done) {
+        return false;
+      }
+
+      Page page = nextPage();
+      if (page.response.isEmpty()) {
+        done = true;
+      } else {
+        current = page.response.iterator();
+        fetchIfIdle();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ExprValue next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /**
+   * Discard the pages not consumed and clean up the request. If a fetch is in flight, close
+   * returns without waiting for it, and the request is cleaned up once the fetch completes
+   * instead with its response ignored.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    pages.clear();
+    if (!fetching) {
+      client.cleanup(request);
+    }
+  }
+
+  private Page nextPage() {
+    Page page;
+    try {
+      page = pages.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for page fetched", e);
+    }
+
+    if (page.failure != null) {
+      done = true;
+      throw page.failure;
+    }
+    return page;
+  }
+
+  /**
+   * Fetch next page unless closed, exhausted, a fetch is in flight or the queue has no room
+   * for one more page.
+   */
+  private void fetchIfIdle() {
+    synchronized (this) {
+      if (closed || fetching || exhausted || pages.remainingCapacity() == 0) {
+        return;
+      }
+      fetching = true;
+    }
+
+    try {
+      client.searchAsync(request, ActionListener.wrap(
+          response -> onPage(new Page(response, null)),
+          e -> onPage(new Page(null, (e instanceof RuntimeException) ? (RuntimeException) e
+              : new IllegalStateException("Failed to fetch page", e)))));
+    } catch (RuntimeException e) {
+      onPage(new Page(null, e));
+    }
+  }
+
+  /**
+   * Queue the page fetched and fetch the page after it if there is room, or clean up the
+   * request on behalf of close() if closed while fetching.
+   */
+  private void onPage(Page page) {
+    synchronized (this) {
+      fetching = false;
+      if (closed) {
+        client.cleanup(request);
+        return;
+      }
+
+      pages.add(page);
+      exhausted = (page.failure != null) || page.response.isEmpty();
+    }
+    fetchIfIdle();
+  }
+
+  @RequiredArgsConstructor
+  private static class Page {
+    private final OpenSearchResponse response;
+    private final RuntimeException failure;
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetcher that splits a scan into slices of sliced scroll and fetches the slices concurrently
+ * on worker thread pool. Pages fetched are merged into a bounded queue in the order they arrive,
+ * so rows of different slices are interleaved in no particular order.
+ *
+ * <p>Each slice has at most one page either being fetched or waiting in the queue. The next page
+ * of a slice is not requested until its current page is taken by the consumer, so the queue never
+ * holds more pages than slices. If no page is ready and a slice fetch is still waiting for a
+ * worker thread, the consumer fetches it by itself rather than blocking on a thread pool that may
+ * be occupied by the consumer itself.
+ */
+public class SlicedScrollFetcher implements Iterator<ExprValue>, AutoCloseable {
+
+  private final OpenSearchClient client;
+
+  private final List<Slice> slices;
+
+  /**
+   * Pages fetched but not consumed yet.
+   */
+  private final BlockingQueue<Page> pages;
+
+  /**
+   * Number of slices not fully fetched.
+   */
+  private int remaining;
+
+  /**
+   * Rows of current page.
+   */
+  private Iterator<ExprValue> current = Collections.emptyIterator();
+
+  /**
+   * Constructor of SlicedScrollFetcher.
+   *
+   * @param client        OpenSearch client
+   * @param indexName     index name
+   * @param sourceBuilder search source which is copied for each slice
+   * @param sliceCount    number of slices which must be greater than 1
+   * @param factory       value factory to construct search hits
+   */
+  public SlicedScrollFetcher(OpenSearchClient client, String indexName,
+                             SearchSourceBuilder sourceBuilder, int sliceCount,
+                             OpenSearchExprValueFactory factory) {
+    this.client = client;
+    this.slices = new ArrayList<>(sliceCount);
+    for (int id = 0; id < sliceCount; id++) {
+      slices.add(new Slice(new OpenSearchScrollRequest(indexName,
+          sourceBuilder.copyWithNewSlice(new SliceBuilder(id, sliceCount)),
+          factory)));
+    }
+    this.pages = new ArrayBlockingQueue<>(sliceCount);
+    this.remaining = sliceCount;
+  }
+
+  /**
+   * Schedule the first page of all slices.
+   */
+  public void open() {
+    slices.forEach(Slice::schedule);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (remaining == 0) {
+        return false;
+      }
+
+      Page page = nextPage();
+      if (page.response.isEmpty()) {
+        remaining--;
+      } else {
+        current = page.response.iterator();
+        page.slice.schedule();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ExprValue next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /**
+   * Cancel the pending fetches and clean up scroll context of all slices.
+   */
+  @Override
+  public void close() {
+    slices.forEach(Slice::close);
+  }
+
+  private Page nextPage() {
+    Page page = pages.poll();
+    if (page == null) {
+      // Only wait if all slices not done are being fetched by worker threads
+      page = slices.stream().anyMatch(Slice::fetchIfPending) ? pages.poll() : takePage();
+    }
+
+    if (page.failure != null) {
+      throw page.failure;
+    }
+    return page;
+  }
+
+  private Page takePage() {
+    try {
+      return pages.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for slices fetched", e);
+    }
+  }
+
+  /**
+   * Slice of sliced scroll which fetches one page each time scheduled.
+   */
+  @RequiredArgsConstructor
+  private class Slice {
+    private final OpenSearchScrollRequest request;
+
+    /**
+     * Indicate next page is scheduled but not fetched yet.
+     */
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private boolean closed = false;
+
+    void schedule() {
+      pending.set(true);
+      client.schedule(this::fetchIfPending);
+    }
+
+    /**
+     * Fetch next page if scheduled and not fetched by either worker thread or consumer yet.
+     *
+     * @return true if fetched by current thread
+     */
+    synchronized boolean fetchIfPending() {
+      if (closed || !pending.compareAndSet(true, false)) {
+        return false;
+      }
+
+      try {
+        pages.add(new Page(this, client.search(request), null));
+      } catch (RuntimeException e) {
+        pages.add(new Page(this, null, e));
+      }
+      return true;
+    }
+
+    synchronized void close() {
+      closed = true;
+      client.cleanup(request);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Page {
+    private final Slice slice;
+    private final OpenSearchResponse response;
+    private final RuntimeException failure;
+  }
+}
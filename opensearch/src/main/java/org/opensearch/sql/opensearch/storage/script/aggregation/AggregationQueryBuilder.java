@@ -28,9 +28,12 @@
 
 package org.opensearch.sql.opensearch.storage.script.aggregation;
 
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -43,9 +46,15 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.NamedExpression;
@@ -56,7 +65,10 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.response.agg.SpanAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
+import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.MetricAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.SpanAggregationBuilder;
@@ -74,6 +86,29 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
    */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
+  /**
+   * Name of top hits aggregation which fetches the first document of each dedupe bucket.
+   */
+  public static final String DEDUPE_TOP_HITS = "dedupe_top_hits";
+
+  /**
+   * Name of terms aggregation which counts the field values of rare and top.
+   */
+  public static final String RARE_TOP_N_TERMS = "rare_top_n_terms";
+
+  /**
+   * Name of missing aggregation which counts documents without the field of rare and top.
+   */
+  public static final String RARE_TOP_N_MISSING = "rare_top_n_missing";
+
+  /**
+   * Min number of candidate terms collected by each shard for rare and top. Terms aggregation
+   * only returns top terms of each shard, so the count of a term which isn't a candidate on some
+   * shard is underestimated. A shard size much greater than the default (size * 1.5 + 10)
+   * makes such miss much less likely on multi-shard index at the cost of a little more memory.
+   */
+  public static final int RARE_TOP_N_MIN_SHARD_SIZE = 1000;
+
   /**
    * Bucket Aggregation builder.
    */
@@ -139,6 +174,61 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     }
   }
 
+  /**
+   * Build composite aggregation by the dedupe field, which fetches the first document of each
+   * bucket in index order by top hits aggregation. Documents without value of the field are not
+   * in any bucket.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildDedupeAggregationBuilder(ReferenceExpression dedupeField) {
+    List<CompositeValuesSourceBuilder<?>> sources = bucketBuilder.build(Collections.singletonList(
+        Pair.of(DSL.named(dedupeField.getAttr(), dedupeField), SortOrder.ASC)));
+    sources.forEach(source -> source.missingBucket(false));
+    return Pair.of(
+        Collections.singletonList(
+            AggregationBuilders.composite("composite_buckets", sources)
+                .subAggregation(AggregationBuilders.topHits(DEDUPE_TOP_HITS)
+                    .size(1)
+                    .sort(DOC_FIELD_NAME, SortOrder.ASC))
+                .size(AGGREGATION_BUCKET_SIZE)),
+        new TopHitsParser(DEDUPE_TOP_HITS));
+  }
+
+  /**
+   * Build terms aggregation by the field ordered by document count along with missing
+   * aggregation which counts documents without value of the field. Both are nested in
+   * composite aggregation by the group fields if any.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildRareTopNAggregationBuilder(CommandType commandType, int noOfResults,
+                                      ReferenceExpression field,
+                                      List<ReferenceExpression> groupByList) {
+    TermsAggregationBuilder terms = AggregationBuilders.terms(RARE_TOP_N_TERMS)
+        .field(ScriptUtils.convertTextToKeyword(field.getAttr(), field.type()))
+        .size(noOfResults)
+        .shardSize(Math.max(noOfResults * 10, RARE_TOP_N_MIN_SHARD_SIZE))
+        .order(BucketOrder.count(CommandType.RARE.equals(commandType)));
+    MissingAggregationBuilder missing = AggregationBuilders.missing(RARE_TOP_N_MISSING)
+        .field(ScriptUtils.convertTextToKeyword(field.getAttr(), field.type()));
+    RareTopNParser parser = new RareTopNParser(
+        field.getAttr(), RARE_TOP_N_TERMS, RARE_TOP_N_MISSING, commandType, noOfResults);
+    if (groupByList.isEmpty()) {
+      return Pair.of(Arrays.asList(terms, missing), parser);
+    }
+    return Pair.of(
+        Collections.singletonList(
+            AggregationBuilders.composite(
+                    "composite_buckets",
+                    bucketBuilder.build(
+                        groupByList.stream()
+                            .map(group -> Pair.of(DSL.named(group.getAttr(), group), SortOrder.ASC))
+                            .collect(Collectors.toList())))
+                .subAggregation(terms)
+                .subAggregation(missing)
+                .size(AGGREGATION_BUCKET_SIZE)),
+        parser);
+  }
+
   /**
    * Build ElasticsearchExprValueFactory.
    */
@@ -36,7 +36,6 @@ import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
@@ -64,13 +63,10 @@ public class ExpressionAggregationScript extends AggregationScript {
 
   @Override
   public Object execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).value();
+    return expressionScript.execute(this::getDoc, this::convertResult).value();
   }
 
-  private ExprValue evaluateExpression(Expression expression, Environment<Expression,
-                                       ExprValue> valueEnv) {
-    ExprValue result = expression.valueOf(valueEnv);
-
+  private ExprValue convertResult(Expression expression, ExprValue result) {
     // The missing value is treated as null value in doc_value, so we can't distinguish with them.
     if (result.isNull()) {
       return ExprNullValue.of();
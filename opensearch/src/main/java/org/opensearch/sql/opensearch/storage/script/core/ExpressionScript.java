@@ -29,25 +29,36 @@
 package org.opensearch.sql.opensearch.storage.script.core;
 
 import static java.util.stream.Collectors.toMap;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
@@ -55,15 +66,30 @@ import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 /**
  * Expression script executor that executes the expression on each document
  * and determine if the document is supposed to be filtered out or not.
+ *
+ * <p>Script instance is created per segment and executed on its documents one by one. Each
+ * distinct field referenced is bound to a slot once when created. For each document, only the
+ * field values in the slots are refreshed, and the same value environment is reused to look up
+ * the slot of reference by identity. The value of numeric field is updated in place by its
+ * primitive doc value, and the value of date field is constructed from its doc value directly.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
 
+  private static final Set<ExprType> NUMBER_TYPES =
+      ImmutableSet.of(BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE);
+
   /**
    * Expression to execute.
    */
   private final Expression expression;
 
+  /**
+   * Compiled expression evaluated on each document.
+   */
+  @EqualsAndHashCode.Exclude
+  private final CompiledExpression compiledExpression;
+
   /**
    * ElasticsearchExprValueFactory.
    */
@@ -71,79 +97,157 @@ public class ExpressionScript {
   private final OpenSearchExprValueFactory valueFactory;
 
   /**
-   * Reference Fields.
+   * Distinct reference fields, each of which is a slot.
+   */
+  @EqualsAndHashCode.Exclude
+  private final List<ReferenceExpression> fields;
+
+  /**
+   * Doc value name of the field in each slot.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String[] docValueNames;
+
+  /**
+   * Slot of each reference instance in the expression.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Map<Expression, Integer> slots;
+
+  /**
+   * Field values of current document in each slot.
+   */
+  @EqualsAndHashCode.Exclude
+  private final ExprValue[] values;
+
+  /**
+   * Mutable value of numeric field in each slot, or null if the field is not numeric.
+   */
+  @EqualsAndHashCode.Exclude
+  private final MutableNumberValue[] numberValues;
+
+  /**
+   * Value environment reused across documents.
    */
   @EqualsAndHashCode.Exclude
-  private final Set<ReferenceExpression> fields;
+  private final Environment<Expression, ExprValue> valueEnv;
 
   /**
    * Expression constructor.
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
-    this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
-        extractFields(expression));
+    this.compiledExpression = ExpressionCompiler.compile(expression);
+    this.slots = new IdentityHashMap<>();
+    this.fields = AccessController.doPrivileged(
+        (PrivilegedAction<List<ReferenceExpression>>) () -> extractFields(expression, slots));
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.docValueNames = fields.stream().map(this::getDocValueName).toArray(String[]::new);
+    this.values = new ExprValue[fields.size()];
+    this.numberValues = fields.stream()
+        .map(field -> NUMBER_TYPES.contains(field.type())
+            ? new MutableNumberValue(field.type()) : null)
+        .toArray(MutableNumberValue[]::new);
+    this.valueEnv = ref -> {
+      Integer slot = slots.get(ref);
+      return (slot == null) ? null : values[slot];
+    };
   }
 
   /**
    * Evaluate on the doc generate by the doc provider.
    * @param docProvider doc provider.
-   * @param evaluator evaluator
+   * @param resultHandler handler that checks or converts the expression and its value
    * @return
    */
   public ExprValue execute(Supplier<Map<String, ScriptDocValues<?>>> docProvider,
-                         BiFunction<Expression,
-                             Environment<Expression,
-                                 ExprValue>, ExprValue> evaluator) {
+                         BiFunction<Expression, ExprValue, ExprValue> resultHandler) {
     return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
-      Environment<Expression, ExprValue> valueEnv =
-          buildValueEnv(fields, valueFactory, docProvider);
-      ExprValue result = evaluator.apply(expression, valueEnv);
-      return result;
+      loadValues(docProvider.get());
+      return resultHandler.apply(expression, compiledExpression.valueOf(valueEnv));
     });
   }
 
-  private Set<ReferenceExpression> extractFields(Expression expr) {
-    Set<ReferenceExpression> fields = new HashSet<>();
-    expr.accept(new ExpressionNodeVisitor<Object, Set<ReferenceExpression>>() {
+  private List<ReferenceExpression> extractFields(Expression expr,
+                                                  Map<Expression, Integer> slots) {
+    Map<ReferenceExpression, Integer> distinctSlots = new HashMap<>();
+    List<ReferenceExpression> fields = new ArrayList<>();
+    expr.accept(new ExpressionNodeVisitor<Object, Object>() {
       @Override
-      public Object visitReference(ReferenceExpression node, Set<ReferenceExpression> context) {
-        context.add(node);
+      public Object visitReference(ReferenceExpression node, Object context) {
+        Integer slot = distinctSlots.get(node);
+        if (slot == null) {
+          slot = fields.size();
+          distinctSlots.put(node, slot);
+          fields.add(node);
+        }
+        slots.put(node, slot);
         return null;
       }
-    }, fields);
+    }, null);
     return fields;
   }
 
-  private OpenSearchExprValueFactory buildValueFactory(Set<ReferenceExpression> fields) {
+  private OpenSearchExprValueFactory buildValueFactory(List<ReferenceExpression> fields) {
     Map<String, ExprType> typeEnv = fields.stream()
         .collect(toMap(
             ReferenceExpression::getAttr,
-            ReferenceExpression::type));
+            ReferenceExpression::type,
+            (type1, type2) -> type1));
     return new OpenSearchExprValueFactory(typeEnv);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields, OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
+  private void loadValues(Map<String, ScriptDocValues<?>> doc) {
+    for (int slot = 0; slot < values.length; slot++) {
+      ReferenceExpression field = fields.get(slot);
+      ScriptDocValues<?> docValue = doc.get(docValueNames[slot]);
+      ExprValue value = getNumericDocValue(numberValues[slot], docValue);
+      if (value == null) {
+        value = getDateDocValue(field, docValue);
+      }
+      if (value == null) {
+        value = valueFactory.construct(field.getAttr(), getDocValue(field, docValue));
+      }
+      values[slot] = value;
+    }
+  }
 
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue = valueFactory.construct(fieldName, getDocValue(field, docProvider));
-      valueEnv.put(field, exprValue);
+  /**
+   * Fast path that updates the mutable value in slot by primitive doc value without boxing it
+   * and converting by value factory.
+   * @return numeric value or null if not numeric doc value and field
+   */
+  private ExprValue getNumericDocValue(MutableNumberValue numberValue,
+                                       ScriptDocValues<?> docValue) {
+    if (numberValue == null || docValue == null || docValue.isEmpty()) {
+      return null;
+    }
+    if (numberValue.isIntegral() && docValue instanceof ScriptDocValues.Longs) {
+      numberValue.setLong(((ScriptDocValues.Longs) docValue).getValue());
+      return numberValue;
+    } else if (!numberValue.isIntegral() && docValue instanceof ScriptDocValues.Doubles) {
+      numberValue.setDouble(((ScriptDocValues.Doubles) docValue).getValue());
+      return numberValue;
+    }
+    return null;
+  }
+
+  /**
+   * Fast path that constructs timestamp value from date doc value without converting by value
+   * factory.
+   * @return timestamp value or null if not date doc value and timestamp field
+   */
+  private ExprValue getDateDocValue(ReferenceExpression field, ScriptDocValues<?> docValue) {
+    if (field.type() == TIMESTAMP && docValue instanceof ScriptDocValues.Dates
+        && !docValue.isEmpty()) {
+      return new ExprTimestampValue(((ScriptDocValues.Dates) docValue).getValue().toInstant());
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
+    return null;
   }
 
-  private Object getDocValue(ReferenceExpression field,
-                             Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = getDocValueName(field);
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
+  private Object getDocValue(ReferenceExpression field, ScriptDocValues<?> docValue) {
     if (docValue == null || docValue.isEmpty()) {
       return null; // No way to differentiate null and missing from doc value
     }
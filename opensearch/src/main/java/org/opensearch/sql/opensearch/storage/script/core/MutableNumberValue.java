@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.AbstractExprValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Number value of a field slot in {@link ExpressionScript}, which is updated in place by the
+ * primitive doc value of each document instead of allocating a new value. It behaves the same as
+ * the number value of its type, for example ExprIntegerValue for INTEGER. Because it's mutable,
+ * it must not be held by anything across documents.
+ */
+class MutableNumberValue extends AbstractExprValue {
+
+  private final ExprType type;
+
+  /**
+   * Whether the value is set by long doc value, otherwise by double doc value.
+   */
+  @Getter
+  private final boolean integral;
+
+  private long longValue;
+
+  private double doubleValue;
+
+  MutableNumberValue(ExprType type) {
+    this.type = type;
+    this.integral = (type == INTEGER || type == LONG || type == SHORT || type == BYTE);
+  }
+
+  /**
+   * Set by long doc value which is narrowed to the integral type.
+   */
+  void setLong(long value) {
+    if (type == INTEGER) {
+      longValue = (int) value;
+    } else if (type == SHORT) {
+      longValue = (short) value;
+    } else if (type == BYTE) {
+      longValue = (byte) value;
+    } else {
+      longValue = value;
+    }
+  }
+
+  /**
+   * Set by double doc value which is narrowed to float for FLOAT type.
+   */
+  void setDouble(double value) {
+    doubleValue = (type == FLOAT) ? (float) value : value;
+  }
+
+  @Override
+  public Object value() {
+    return number();
+  }
+
+  @Override
+  public ExprType type() {
+    return type;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return true;
+  }
+
+  @Override
+  public Byte byteValue() {
+    return integral ? (byte) longValue : (byte) doubleValue;
+  }
+
+  @Override
+  public Short shortValue() {
+    return integral ? (short) longValue : (short) doubleValue;
+  }
+
+  @Override
+  public Integer integerValue() {
+    return integral ? (int) longValue : (int) doubleValue;
+  }
+
+  @Override
+  public Long longValue() {
+    return integral ? longValue : (long) doubleValue;
+  }
+
+  @Override
+  public Float floatValue() {
+    return integral ? (float) longValue : (float) doubleValue;
+  }
+
+  @Override
+  public Double doubleValue() {
+    return integral ? (double) longValue : doubleValue;
+  }
+
+  @Override
+  public int compare(ExprValue other) {
+    if (type == INTEGER) {
+      return Integer.compare(integerValue(), other.integerValue());
+    } else if (type == LONG) {
+      return Long.compare(longValue, other.longValue());
+    } else if (type == SHORT) {
+      return Short.compare(shortValue(), other.shortValue());
+    } else if (type == BYTE) {
+      return Byte.compare(byteValue(), other.byteValue());
+    } else if (type == FLOAT) {
+      return Float.compare(floatValue(), other.floatValue());
+    }
+    return Double.compare(doubleValue, other.doubleValue());
+  }
+
+  @Override
+  public boolean equal(ExprValue other) {
+    return compare(other) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return number().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return number().toString();
+  }
+
+  private Number number() {
+    if (type == INTEGER) {
+      return (int) longValue;
+    } else if (type == LONG) {
+      return longValue;
+    } else if (type == SHORT) {
+      return (short) longValue;
+    } else if (type == BYTE) {
+      return (byte) longValue;
+    } else if (type == FLOAT) {
+      return (float) doubleValue;
+    }
+    return doubleValue;
+  }
+}
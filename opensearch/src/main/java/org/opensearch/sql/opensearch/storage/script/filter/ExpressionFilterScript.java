@@ -36,7 +36,6 @@ import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
@@ -61,12 +60,10 @@ class ExpressionFilterScript extends FilterScript {
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return expressionScript.execute(this::getDoc, this::checkResult).booleanValue();
   }
 
-  private ExprValue evaluateExpression(Expression expression,
-                                       Environment<Expression, ExprValue> valueEnv) {
-    ExprValue result = expression.valueOf(valueEnv);
+  private ExprValue checkResult(Expression expression, ExprValue result) {
     if (result.isNull()) {
       return ExprBooleanValue.of(false);
     }
@@ -40,9 +40,11 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.ScriptQueryBuilder;
 import org.opensearch.script.Script;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.LuceneQuery;
@@ -107,6 +109,18 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
     }
   }
 
+  /**
+   * Condition folded into a constant matches either all or none of the documents.
+   */
+  @Override
+  public QueryBuilder visitLiteral(LiteralExpression node, Object context) {
+    ExprValue value = node.valueOf(null);
+    if (!value.isNull() && !value.isMissing() && value.booleanValue()) {
+      return QueryBuilders.matchAllQuery();
+    }
+    return QueryBuilders.boolQuery().mustNot(QueryBuilders.matchAllQuery());
+  }
+
   private BoolQueryBuilder buildBoolQuery(FunctionExpression node,
                                           Object context,
                                           BiFunction<BoolQueryBuilder, QueryBuilder,
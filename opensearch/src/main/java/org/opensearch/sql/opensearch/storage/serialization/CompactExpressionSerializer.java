@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import com.google.common.base.Suppliers;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedArgumentExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+/**
+ * Serializer that encodes expression tree in a compact binary format instead of JDK
+ * serialization. Function is written as its name and arguments only, and resolved again against
+ * {@link BuiltinFunctionRepository} when decoded, so none of the function implementation state
+ * is shipped. The code of the same expression is always the same which makes script cache on
+ * data node work. Code by {@link DefaultExpressionSerializer} is still accepted when decoded.
+ * The other way around doesn't work, so nodes on previous version can't decode this format and
+ * the JDK serialization is still used during rolling upgrade.
+ *
+ * <p>The code is Base64 of a version byte followed by the tree in pre-order. Each node starts
+ * with a tag byte:
+ * reference: attribute name and type.
+ * literal: value encoded by {@link ExprValueCodec}.
+ * function: function name, number of arguments and the arguments.
+ * case: number of WHEN clauses, condition and result of each clause, and optional default.
+ * named argument: argument name and value.
+ * other expression: JDK serialized bytes, as fallback for expression not listed above.
+ */
+public class CompactExpressionSerializer implements ExpressionSerializer {
+
+  private static final byte VERSION = 1;
+
+  private static final byte REFERENCE = 0;
+  private static final byte LITERAL = 1;
+  private static final byte FUNCTION = 2;
+  private static final byte CASE = 3;
+  private static final byte NAMED_ARGUMENT = 4;
+  private static final byte SERIALIZED = 5;
+
+  private static final byte CORE_TYPE = 0;
+  private static final byte OPENSEARCH_TYPE = 1;
+
+  /**
+   * Magic number at the beginning of JDK serialization stream.
+   */
+  private static final byte[] JDK_STREAM_MAGIC = {(byte) 0xAC, (byte) 0xED};
+
+  /**
+   * Function repository shared by serializers created without one, which is built only once
+   * when any such serializer first decodes.
+   */
+  private static final Supplier<BuiltinFunctionRepository> DEFAULT_REPOSITORY =
+      Suppliers.memoize(() -> new ExpressionConfig().functionRepository());
+
+  private final Supplier<BuiltinFunctionRepository> repository;
+
+  private final DefaultExpressionSerializer fallback = new DefaultExpressionSerializer();
+
+  public CompactExpressionSerializer() {
+    this.repository = DEFAULT_REPOSITORY;
+  }
+
+  public CompactExpressionSerializer(BuiltinFunctionRepository repository) {
+    this.repository = () -> repository;
+  }
+
+  @Override
+  public String serialize(Expression expr) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(bytes);
+      output.writeByte(VERSION);
+      write(output, expr);
+      output.flush();
+      return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize expression: " + expr, e);
+    }
+  }
+
+  @Override
+  public Expression deserialize(String code) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getDecoder().decode(code);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+    if (bytes.length >= 2 && bytes[0] == JDK_STREAM_MAGIC[0] && bytes[1] == JDK_STREAM_MAGIC[1]) {
+      return fallback.deserialize(code);
+    }
+
+    try {
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+      byte version = input.readByte();
+      if (version != VERSION) {
+        throw new IllegalStateException("Unsupported expression code version: " + version);
+      }
+      return read(input);
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+  }
+
+  private void write(DataOutput output, Expression expr) throws IOException {
+    if (expr instanceof ReferenceExpression) {
+      output.writeByte(REFERENCE);
+      writeString(output, ((ReferenceExpression) expr).getAttr());
+      writeType(output, expr.type());
+    } else if (expr instanceof LiteralExpression) {
+      output.writeByte(LITERAL);
+      ExprValueCodec.write(output, expr.valueOf(null));
+    } else if (expr instanceof CaseClause) {
+      CaseClause caseClause = (CaseClause) expr;
+      output.writeByte(CASE);
+      output.writeInt(caseClause.getWhenClauses().size());
+      for (WhenClause when : caseClause.getWhenClauses()) {
+        write(output, when.getCondition());
+        write(output, when.getResult());
+      }
+      output.writeBoolean(caseClause.getDefaultResult() != null);
+      if (caseClause.getDefaultResult() != null) {
+        write(output, caseClause.getDefaultResult());
+      }
+    } else if (expr instanceof NamedArgumentExpression) {
+      NamedArgumentExpression namedArg = (NamedArgumentExpression) expr;
+      output.writeByte(NAMED_ARGUMENT);
+      writeString(output, namedArg.getArgName());
+      write(output, namedArg.getValue());
+    } else if (expr instanceof FunctionExpression && !(expr instanceof WhenClause)) {
+      FunctionExpression function = (FunctionExpression) expr;
+      output.writeByte(FUNCTION);
+      writeString(output, function.getFunctionName().getFunctionName());
+      output.writeInt(function.getArguments().size());
+      for (Expression arg : function.getArguments()) {
+        write(output, arg);
+      }
+    } else {
+      output.writeByte(SERIALIZED);
+      writeString(output, fallback.serialize(expr));
+    }
+  }
+
+  private Expression read(DataInput input) throws IOException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case REFERENCE:
+        String attr = readString(input);
+        return new ReferenceExpression(attr, readType(input));
+      case LITERAL:
+        return new LiteralExpression(ExprValueCodec.read(input));
+      case CASE:
+        int whenSize = input.readInt();
+        List<WhenClause> whens = new ArrayList<>(whenSize);
+        for (int i = 0; i < whenSize; i++) {
+          Expression condition = read(input);
+          whens.add(new WhenClause(condition, read(input)));
+        }
+        Expression defaultResult = input.readBoolean() ? read(input) : null;
+        return new CaseClause(whens, defaultResult);
+      case NAMED_ARGUMENT:
+        String argName = readString(input);
+        return new NamedArgumentExpression(argName, read(input));
+      case FUNCTION:
+        FunctionName functionName = FunctionName.of(readString(input));
+        int argSize = input.readInt();
+        List<Expression> arguments = new ArrayList<>(argSize);
+        for (int i = 0; i < argSize; i++) {
+          arguments.add(read(input));
+        }
+        return (Expression) repository.get().compile(functionName, arguments);
+      case SERIALIZED:
+        return fallback.deserialize(readString(input));
+      default:
+        throw new IllegalStateException("Unknown expression tag: " + tag);
+    }
+  }
+
+  private void writeType(DataOutput output, ExprType type) throws IOException {
+    if (type instanceof ExprCoreType) {
+      output.writeByte(CORE_TYPE);
+    } else if (type instanceof OpenSearchDataType) {
+      output.writeByte(OPENSEARCH_TYPE);
+    } else {
+      throw new IllegalStateException("Unsupported expression type: " + type);
+    }
+    writeString(output, ((Enum<?>) type).name());
+  }
+
+  private ExprType readType(DataInput input) throws IOException {
+    byte tag = input.readByte();
+    String name = readString(input);
+    switch (tag) {
+      case CORE_TYPE:
+        return ExprCoreType.valueOf(name);
+      case OPENSEARCH_TYPE:
+        return OpenSearchDataType.valueOf(name);
+      default:
+        throw new IllegalStateException("Unknown expression type tag: " + tag);
+    }
+  }
+
+  private void writeString(DataOutput output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private String readString(DataInput input) throws IOException {
+    byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
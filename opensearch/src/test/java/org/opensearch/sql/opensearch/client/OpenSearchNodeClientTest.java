@@ -36,6 +36,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
@@ -45,8 +46,10 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.io.Resources;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -54,23 +57,34 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.ImmutableOpenMap;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.DeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
@@ -84,6 +98,7 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.threadpool.ThreadPool;
@@ -108,6 +123,9 @@ class OpenSearchNodeClientTest {
   @Mock
   private GetIndexResponse indexResponse;
 
+  @Mock
+  private ActionListener<OpenSearchResponse> listener;
+
   private ExprTupleValue exprTupleValue = ExprTupleValue.fromExprValueMap(ImmutableMap.of("id",
       new ExprIntegerValue(1)));
 
@@ -154,6 +172,27 @@ class OpenSearchNodeClientTest {
     assertEquals(0, indexMapping.size());
   }
 
+  @Test
+  public void getIndexMappingsFromCacheUntilMetadataChanged() throws IOException {
+    String indexName = "test";
+    ClusterService clusterService = mockClusterService(indexName, "");
+    OpenSearchNodeClient client = new OpenSearchNodeClient(clusterService, nodeClient);
+    ArgumentCaptor<ClusterStateListener> listener =
+        ArgumentCaptor.forClass(ClusterStateListener.class);
+    verify(clusterService).addListener(listener.capture());
+
+    client.getIndexMappings(indexName);
+    client.getIndexMappings(indexName);
+    Metadata metadata = clusterService.state().metadata();
+    verify(metadata, times(1)).findMappings(any(), any(), any());
+
+    ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+    when(event.metadataChanged()).thenReturn(true);
+    listener.getValue().clusterChanged(event);
+    client.getIndexMappings(indexName);
+    verify(metadata, times(2)).findMappings(any(), any(), any());
+  }
+
   @Test
   public void getIndexMappingsWithIOException() {
     String indexName = "test";
@@ -172,6 +211,44 @@ class OpenSearchNodeClientTest {
   }
 
   /** Jacoco enforce this constant lambda be tested. */
+  @Test
+  void getIndexShardCount() {
+    IndexMetadata indexMetadata = IndexMetadata.builder("test")
+        .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+        .numberOfShards(3)
+        .numberOfReplicas(0)
+        .build();
+    IndexAbstraction indexAbstraction = mock(IndexAbstraction.class);
+    when(indexAbstraction.getIndices()).thenReturn(Collections.singletonList(indexMetadata));
+
+    ClusterService clusterService = mock(ClusterService.class);
+    ClusterState clusterState = mock(ClusterState.class);
+    Metadata metadata = mock(Metadata.class);
+    when(clusterService.state()).thenReturn(clusterState);
+    when(clusterState.metadata()).thenReturn(metadata);
+    when(metadata.getIndicesLookup())
+        .thenReturn(ImmutableSortedMap.of("test", indexAbstraction));
+    when(metadata.index("test")).thenReturn(indexMetadata);
+
+    OpenSearchNodeClient client = new OpenSearchNodeClient(clusterService, nodeClient);
+    assertEquals(3, client.getIndexShardCount("test"));
+  }
+
+  @Test
+  void getMinNodeVersion() {
+    ClusterService clusterService = mock(ClusterService.class);
+    ClusterState clusterState = mock(ClusterState.class);
+    when(clusterService.state()).thenReturn(clusterState);
+    TransportAddress address = new TransportAddress(InetAddress.getLoopbackAddress(), 9300);
+    when(clusterState.nodes()).thenReturn(DiscoveryNodes.builder()
+        .add(new DiscoveryNode("old", address, Version.V_1_0_0))
+        .add(new DiscoveryNode("new", address, Version.CURRENT))
+        .build());
+
+    OpenSearchNodeClient client = new OpenSearchNodeClient(clusterService, nodeClient);
+    assertEquals(Version.V_1_0_0, client.getMinNodeVersion());
+  }
+
   @Test
   public void testAllFieldsPredicate() {
     assertTrue(OpenSearchNodeClient.ALL_FIELDS.apply("any_index").test("any_field"));
@@ -192,8 +269,10 @@ class OpenSearchNodeClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    BytesReference source = new BytesArray("{\"id\": 1}");
+    when(searchHit.hasSource()).thenReturn(true);
+    when(searchHit.getSourceRef()).thenReturn(source);
+    when(factory.construct(source)).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -216,6 +295,42 @@ class OpenSearchNodeClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void searchAsync() {
+    ThreadPool threadPool = mock(ThreadPool.class);
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+    doAnswer(
+        invocation -> {
+          Runnable task = invocation.getArgument(0);
+          task.run();
+          return null;
+        })
+        .when(threadPool)
+        .schedule(any(), any(), any());
+
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    Exception failure = new IllegalStateException("search failed");
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    doAnswer(
+        invocation -> {
+          ActionListener<OpenSearchResponse> responseListener = invocation.getArgument(2);
+          responseListener.onResponse(response);
+          responseListener.onFailure(failure);
+          return null;
+        })
+        .when(request)
+        .searchAsync(any(), any(), any());
+
+    OpenSearchNodeClient client =
+        new OpenSearchNodeClient(mock(ClusterService.class), nodeClient);
+    client.searchAsync(request, listener);
+
+    // Both response and failure are passed to listener on worker thread
+    verify(threadPool, times(2)).schedule(any(), any(), any());
+    verify(listener).onResponse(response);
+    verify(listener).onFailure(failure);
+  }
+
   @Test
   void schedule() {
     ThreadPool threadPool = mock(ThreadPool.class);
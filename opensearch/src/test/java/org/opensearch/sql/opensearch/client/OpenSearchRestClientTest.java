@@ -33,8 +33,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
@@ -48,15 +50,26 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsResponse;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.Request;
 import org.opensearch.client.RequestOptions;
+import org.opensearch.client.Response;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.GetIndexResponse;
@@ -64,6 +77,9 @@ import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.DeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
@@ -98,6 +114,9 @@ class OpenSearchRestClientTest {
   @Mock
   private GetIndexResponse getIndexResponse;
 
+  @Mock
+  private ActionListener<OpenSearchResponse> listener;
+
   private ExprTupleValue exprTupleValue = ExprTupleValue.fromExprValueMap(ImmutableMap.of("id",
       new ExprIntegerValue(1)));
 
@@ -149,6 +168,25 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMappings("test"));
   }
 
+  @Test
+  void getIndexShardCount() throws IOException {
+    ImmutableOpenMap.Builder<String, Settings> indexToSettings = ImmutableOpenMap.builder();
+    indexToSettings.put("test1",
+        Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 3).build());
+    indexToSettings.put("test2", Settings.EMPTY);
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(new GetSettingsResponse(indexToSettings.build(), ImmutableOpenMap.of()));
+
+    assertEquals(4, client.getIndexShardCount("test*"));
+  }
+
+  @Test
+  void getIndexShardCountWithIOException() throws IOException {
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.getIndexShardCount("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
@@ -161,8 +199,10 @@ class OpenSearchRestClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    BytesReference source = new BytesArray("{\"id\": 1}");
+    when(searchHit.hasSource()).thenReturn(true);
+    when(searchHit.getSourceRef()).thenReturn(source);
+    when(factory.construct(source)).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -185,6 +225,28 @@ class OpenSearchRestClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void searchAsync() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    Answer<Void> respond = invocation -> {
+      ActionListener<SearchResponse> responseListener = invocation.getArgument(2);
+      responseListener.onResponse(searchResponse);
+      return null;
+    };
+    doAnswer(respond).when(restClient).searchAsync(any(SearchRequest.class), any(), any());
+    doAnswer(respond).when(restClient).scrollAsync(any(SearchScrollRequest.class), any(), any());
+
+    // First page by search and second page by scroll
+    OpenSearchScrollRequest request = new OpenSearchScrollRequest("test", factory);
+    client.searchAsync(request, listener);
+    client.searchAsync(request, listener);
+
+    verify(restClient).searchAsync(any(SearchRequest.class), any(), any());
+    verify(restClient).scrollAsync(any(SearchScrollRequest.class), any(), any());
+    verify(listener, times(2)).onResponse(any());
+  }
+
   @Test
   void searchWithIOException() throws IOException {
     when(restClient.search(any(), any())).thenThrow(new IOException());
@@ -280,6 +342,26 @@ class OpenSearchRestClientTest {
     assertEquals("opensearch", meta.get(META_CLUSTER_NAME));
   }
 
+  @Test
+  void getMinNodeVersion() throws IOException {
+    Response response = mock(Response.class);
+    when(response.getEntity()).thenReturn(new StringEntity(
+        "{\"nodes\":{\"old\":{\"version\":\"1.0.0\"},\"new\":{\"version\":\""
+            + Version.CURRENT + "\"}}}",
+        ContentType.APPLICATION_JSON));
+    when(restClient.getLowLevelClient().performRequest(any(Request.class))).thenReturn(response);
+
+    assertEquals(Version.V_1_0_0, client.getMinNodeVersion());
+  }
+
+  @Test
+  void getMinNodeVersionWithIOException() throws IOException {
+    when(restClient.getLowLevelClient().performRequest(any(Request.class)))
+        .thenThrow(new IOException());
+
+    assertThrows(IllegalStateException.class, () -> client.getMinNodeVersion());
+  }
+
   @Test
   void metaWithIOException() throws IOException {
     when(restClient.cluster().getSettings(any(), any(RequestOptions.class)))
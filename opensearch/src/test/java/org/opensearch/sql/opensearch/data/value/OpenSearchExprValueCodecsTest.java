@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.data.value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+class OpenSearchExprValueCodecsTest {
+
+  @BeforeAll
+  static void registerCodecs() {
+    OpenSearchExprValueCodecs.register();
+  }
+
+  private static Stream<ExprValue> values() {
+    return Stream.of(
+        new OpenSearchExprTextValue("hello world"),
+        new OpenSearchExprTextKeywordValue("hello"),
+        new OpenSearchExprIpValue("192.168.0.1"),
+        new OpenSearchExprBinaryValue("U29tZSBiaW5hcnkgYmxvYg=="),
+        new OpenSearchExprGeoPointValue(47.5, -122.3));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  void encodeAndDecodeWithoutJavaSerialization(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      ExprValueCodec.write(output, value);
+    }
+    // Java serialization takes hundreds of bytes for class descriptor only
+    assertTrue(bytes.size() < 40);
+
+    ExprValue decoded = ExprValueCodec.read(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(value, decoded);
+    assertEquals(value.getClass(), decoded.getClass());
+  }
+}
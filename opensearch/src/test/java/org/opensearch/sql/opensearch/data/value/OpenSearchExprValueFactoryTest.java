@@ -68,15 +68,18 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
-import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.expression.ReferenceExpression;
 
 class OpenSearchExprValueFactoryTest {
 
@@ -113,12 +116,27 @@ class OpenSearchExprValueFactoryTest {
   public void constructNullValue() {
     assertEquals(nullValue(), tupleValue("{\"intV\":null}").get("intV"));
     assertEquals(nullValue(), constructFromObject("intV",  null));
-    assertTrue(new OpenSearchJsonContent(null).isNull());
+    assertEquals(nullValue(), exprValueFactory.construct(""));
+  }
+
+  @Test
+  public void constructRowFromSource() {
+    ExprValue row = exprValueFactory.construct("{\"structV\":{\"id\":1},\"intV\":2}");
+
+    assertTrue(row instanceof ExprRowValue);
+    assertEquals(
+        ImmutableMap.of(
+            "intV", integerValue(2),
+            "structV", ExprValueUtils.tupleValue(ImmutableMap.of("id", 1))),
+        row.tupleValue());
+    assertEquals(integerValue(1), new ReferenceExpression("structV.id", INTEGER).resolve(row));
+    assertEquals(integerValue(2), new ReferenceExpression("intV", INTEGER).resolve(row));
   }
 
   @Test
   public void constructNullArrayValue() {
     assertEquals(nullValue(), tupleValue("{\"intV\":[]}").get("intV"));
+    assertEquals(nullValue(), tupleValue("{\"arrayV\":[]}").get("arrayV"));
   }
 
   @Test
@@ -172,10 +190,18 @@ class OpenSearchExprValueFactoryTest {
     assertEquals(stringValue("text"), constructFromObject("stringV", "text"));
   }
 
+  @Test
+  public void constructStringFromNumber() {
+    assertEquals(stringValue("123"), tupleValue("{\"stringV\":123}").get("stringV"));
+    assertEquals(stringValue("123"), constructFromObject("stringV", 123));
+  }
+
   @Test
   public void constructBoolean() {
     assertEquals(booleanValue(true), tupleValue("{\"boolV\":true}").get("boolV"));
     assertEquals(booleanValue(true), constructFromObject("boolV", true));
+    assertEquals(booleanValue(true), tupleValue("{\"boolV\":\"true\"}").get("boolV"));
+    assertEquals(booleanValue(false), constructFromObject("boolV", "false"));
   }
 
   @Test
@@ -264,6 +290,14 @@ class OpenSearchExprValueFactoryTest {
             }))),
         constructFromObject("arrayV", ImmutableList.of(
             ImmutableMap.of("info", "zz", "author", "au"))));
+    assertEquals(
+        new ExprCollectionValue(ImmutableList.of(new ExprTupleValue(
+            new LinkedHashMap<String, ExprValue>() {
+              {
+                put("info", stringValue("zz"));
+              }
+            }))),
+        tupleValue("{\"arrayV\":{\"info\":\"zz\"}}").get("arrayV"));
   }
 
   @Test
@@ -286,6 +320,9 @@ class OpenSearchExprValueFactoryTest {
               }
             }),
         constructFromObject("structV", ImmutableMap.of("id", 1, "state", "WA")));
+    assertEquals(
+        new ExprTupleValue(new LinkedHashMap<>()),
+        tupleValue("{\"structV\":1}").get("structV"));
   }
 
   @Test
@@ -300,6 +337,11 @@ class OpenSearchExprValueFactoryTest {
         tupleValue("{\"geoV\":{\"lat\":42.60355556,\"lon\":-97.25263889}}").get("geoV"));
     assertEquals(new OpenSearchExprGeoPointValue(42.60355556, -97.25263889),
         tupleValue("{\"geoV\":{\"lat\":\"42.60355556\",\"lon\":\"-97.25263889\"}}").get("geoV"));
+    assertEquals(new OpenSearchExprGeoPointValue(42.60355556, -97.25263889),
+        tupleValue("{\"geoV\":{\"lat\":42.60355556,\"lon\":-97.25263889,\"z\":[1]}}")
+            .get("geoV"));
+    assertEquals(new OpenSearchExprGeoPointValue(42.60355556, -97.25263889),
+        tupleValue("{\"geoV\":\"42.60355556,-97.25263889\"}").get("geoV"));
     assertEquals(new OpenSearchExprGeoPointValue(42.60355556, -97.25263889),
         constructFromObject("geoV", "42.60355556,-97.25263889"));
   }
@@ -333,6 +375,11 @@ class OpenSearchExprValueFactoryTest {
         assertThrows(IllegalStateException.class,
             () -> tupleValue("{\"geoV\":{\"lat\":42.60355556,\"lon\":false}}").get("geoV"));
     assertEquals("longitude must be number value, but got value: false", exception.getMessage());
+
+    exception =
+        assertThrows(IllegalStateException.class,
+            () -> tupleValue("{\"geoV\":{\"lat\":\"north\",\"lon\":1}}").get("geoV"));
+    assertEquals("latitude must be number value, but got value: north", exception.getMessage());
   }
 
   @Test
@@ -358,6 +405,40 @@ class OpenSearchExprValueFactoryTest {
         .get("structV"));
   }
 
+  @Test
+  public void constructFromDocValueFields() {
+    Map<String, DocumentField> fields = new LinkedHashMap<>();
+    fields.put("intV", new DocumentField("intV", ImmutableList.of(2, 1)));
+    fields.put("structV.id", new DocumentField("structV.id", ImmutableList.of(1L)));
+    fields.put("structV.state", new DocumentField("structV.state", ImmutableList.of("WA")));
+    fields.put("stringV", new DocumentField("stringV", ImmutableList.of()));
+    fields.put("_routing", new DocumentField("_routing", ImmutableList.of("1")));
+
+    assertEquals(
+        new ExprTupleValue(
+            new LinkedHashMap<String, ExprValue>() {
+              {
+                put("intV", integerValue(2));
+                put("structV", new ExprTupleValue(
+                    new LinkedHashMap<String, ExprValue>() {
+                      {
+                        put("id", integerValue(1));
+                        put("state", stringValue("WA"));
+                      }
+                    }));
+              }
+            }),
+        exprValueFactory.construct(fields));
+  }
+
+  @Test
+  public void constructMultiValuedFromDocValueFields() {
+    // Doc values are sorted, so the first value is not the first one in source array
+    assertEquals(integerValue(2), tupleValue("{\"intV\":[2,1]}").get("intV"));
+    assertEquals(integerValue(1), exprValueFactory.construct(ImmutableMap.of(
+        "intV", new DocumentField("intV", ImmutableList.of(1, 2)))).tupleValue().get("intV"));
+  }
+
   @Test
   public void constructFromInvalidJsonThrowException() {
     IllegalStateException exception =
@@ -30,36 +30,63 @@ package org.opensearch.sql.opensearch.executor;
 import static com.google.common.collect.ImmutableMap.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SCAN_MAX_SLICES;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SCAN_PREFETCH_PAGES;
 import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SIZE_LIMIT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -71,6 +98,8 @@ class OpenSearchExecutionEngineTest {
 
   @Mock private OpenSearchExecutionProtector protector;
 
+  @Mock private ResourceMonitor resourceMonitor;
+
   @Mock private static ExecutionEngine.Schema schema;
 
   @BeforeEach
@@ -94,7 +123,7 @@ class OpenSearchExecutionEngineTest {
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
     when(protector.protect(plan)).thenReturn(plan);
 
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
     List<ExprValue> actual = new ArrayList<>();
     executor.execute(
         plan,
@@ -119,10 +148,10 @@ class OpenSearchExecutionEngineTest {
   void executeWithFailure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
-    when(plan.hasNext()).thenThrow(expected);
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
     when(protector.protect(plan)).thenReturn(plan);
 
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
     AtomicReference<Exception> actual = new AtomicReference<>();
     executor.execute(
         plan,
@@ -141,9 +170,202 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void executeStreamSuccessfully() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, resourceMonitor);
+    List<ExprValue> actual = new ArrayList<>();
+    executor.executeStream(
+        plan,
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse response) {
+            assertTrue(plan.hasOpen);
+            assertEquals(schema, response.getSchema());
+            response.getResults().forEachRemaining(actual::add);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(expected, actual);
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void executeStreamWithOpenFailure() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    RuntimeException expected = new RuntimeException("Open error");
+    doThrow(expected).when(plan).open();
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, resourceMonitor);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.executeStream(
+        plan,
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+    assertEquals(expected, actual.get());
+    verify(plan).close();
+  }
+
+  @Test
+  void executeStreamWithNextBatchFailure() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    RuntimeException expected = new RuntimeException("Execution error");
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, resourceMonitor);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.executeStream(
+        plan,
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse response) {
+            actual.set(assertThrows(RuntimeException.class, response.getResults()::hasNext));
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Failure of pulling rows is thrown to the consumer", e);
+          }
+        });
+    assertEquals(expected, actual.get());
+    verify(plan).close();
+  }
+
+  @Test
+  void executeStreamingPlanByAsyncFetch() {
+    OpenSearchIndexScan scan = indexScan();
+    mockAsyncSearch(
+        Arrays.asList(tupleValue(of("name", "John", "age", 20))),
+        Arrays.asList(
+            tupleValue(of("name", "Allen", "age", 30)), tupleValue(of("name", "John", "age", 40))));
+    PhysicalPlan plan =
+        project(
+            limit(
+                dedupe(
+                    remove(
+                        rename(
+                            eval(
+                                filter(scan, literal(true)),
+                                ImmutablePair.of(ref("age2", INTEGER), ref("age", INTEGER))),
+                            ImmutableMap.of(ref("age2", INTEGER), ref("age3", INTEGER))),
+                        ref("age3", INTEGER)),
+                    ref("name", STRING)),
+                10, 0),
+            named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+
+    assertEquals(
+        Arrays.asList(tupleValue(of("name", "John")), tupleValue(of("name", "Allen"))),
+        executeAndGetResults(plan));
+    verify(client, times(3)).searchAsync(any(), any());
+    verify(resourceMonitor, times(3)).isHealthy();
+    verify(client, never()).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void executeBlockingPlanWithoutAsyncFetch() {
+    OpenSearchIndexScan scan = indexScan();
+    OpenSearchResponse empty = mock(OpenSearchResponse.class);
+    when(empty.isEmpty()).thenReturn(true);
+    when(client.search(any())).thenReturn(empty);
+
+    // Limit with offset skips rows in open() and thus cannot be suspended
+    PhysicalPlan plan = project(limit(scan, 10, 1), named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+
+    assertEquals(Collections.emptyList(), executeAndGetResults(plan));
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  @Test
+  void executeWithAsyncFetchFailure() {
+    OpenSearchIndexScan scan = indexScan();
+    RuntimeException expected = new RuntimeException("Search error");
+    doAnswer(invocation -> {
+      ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+      listener.onFailure(expected);
+      return null;
+    }).when(client).searchAsync(any(), any());
+    PhysicalPlan plan = filter(scan, literal(true));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+
+    assertEquals(expected, executeAndGetFailure(plan));
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void executeWithInsufficientResourceInAsyncFetch() {
+    OpenSearchIndexScan scan = indexScan();
+    mockAsyncSearch(
+        Arrays.asList(tupleValue(of("name", "John", "age", 20))),
+        Arrays.asList(tupleValue(of("name", "Allen", "age", 30))));
+    PhysicalPlan plan = filter(scan, literal(true));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resourceMonitor.isHealthy()).thenReturn(true, false);
+
+    Exception actual = executeAndGetFailure(plan);
+    assertTrue(actual instanceof IllegalStateException);
+    assertEquals("resource is not enough to fetch next page, quit.", actual.getMessage());
+    verify(client, times(1)).searchAsync(any(), any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void executeWithOpenFailureInAsyncFetch() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    OpenSearchIndexScan scan = mock(OpenSearchIndexScan.class);
+    when(plan.accept(any(), any())).thenReturn(scan);
+    RuntimeException expected = new RuntimeException("Open error");
+    doThrow(expected).when(plan).open();
+    when(protector.protect(plan)).thenReturn(plan);
+
+    assertEquals(expected, executeAndGetFailure(plan));
+    verify(scan).enableAsyncFetch();
+    verify(plan).close();
+  }
+
+  @Test
+  void executeWithNextBatchFailureInAsyncFetch() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(plan.accept(any(), any())).thenReturn(mock(OpenSearchIndexScan.class));
+    RuntimeException expected = new RuntimeException("Execution error");
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
+    when(protector.protect(plan)).thenReturn(plan);
+
+    assertEquals(expected, executeAndGetFailure(plan));
+    verify(plan).close();
+  }
+
   @Test
   void explainSuccessfully() {
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
     Settings settings = mock(Settings.class);
     when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
     PhysicalPlan plan = new OpenSearchIndexScan(mock(OpenSearchClient.class),
@@ -167,7 +389,7 @@ class OpenSearchExecutionEngineTest {
 
   @Test
   void explainWithFailure() {
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
     PhysicalPlan plan = mock(PhysicalPlan.class);
     when(plan.accept(any(), any())).thenThrow(IllegalStateException.class);
 
@@ -187,6 +409,73 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  private OpenSearchIndexScan indexScan() {
+    Settings settings = mock(Settings.class);
+    when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
+    lenient().when(settings.getSettingValue(QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    lenient().when(settings.getSettingValue(QUERY_SCAN_PREFETCH_PAGES)).thenReturn(0);
+    return new OpenSearchIndexScan(client, settings, "test",
+        mock(OpenSearchExprValueFactory.class));
+  }
+
+  /**
+   * Mock async search response of each page followed by an empty page.
+   */
+  @SafeVarargs
+  private final void mockAsyncSearch(List<ExprValue>... pages) {
+    Iterator<List<ExprValue>> pageIt = Arrays.asList(pages).iterator();
+    doAnswer(invocation -> {
+      OpenSearchResponse response = mock(OpenSearchResponse.class);
+      if (pageIt.hasNext()) {
+        when(response.isEmpty()).thenReturn(false);
+        when(response.iterator()).thenReturn(pageIt.next().iterator());
+      } else {
+        when(response.isEmpty()).thenReturn(true);
+      }
+      ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(response);
+      return null;
+    }).when(client).searchAsync(any(), any());
+  }
+
+  private List<ExprValue> executeAndGetResults(PhysicalPlan plan) {
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
+    List<ExprValue> actual = new ArrayList<>();
+    executor.execute(
+        plan,
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            actual.addAll(response.getResults());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+    return actual;
+  }
+
+  private Exception executeAndGetFailure(PhysicalPlan plan) {
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector, resourceMonitor);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+    return actual.get();
+  }
+
   @RequiredArgsConstructor
   private static class FakePhysicalPlan extends TableScanOperator {
     private final Iterator<ExprValue> it;
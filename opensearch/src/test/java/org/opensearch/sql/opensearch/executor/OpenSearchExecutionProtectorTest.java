@@ -56,6 +56,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
@@ -74,6 +76,7 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
+import org.opensearch.sql.opensearch.planner.physical.ParallelWindowOperator;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -98,12 +101,19 @@ class OpenSearchExecutionProtectorTest {
 
   @BeforeEach
   public void setup() {
-    executionProtector = new OpenSearchExecutionProtector(resourceMonitor);
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor, settings, client);
   }
 
   @Test
   public void testProtectIndexScan() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    when(settings.getSettingValue(Settings.Key.QUERY_TOP_SKETCH_SIZE)).thenReturn(0);
 
     String indexName = "test";
     NamedExpression include = named("age", ref("age", INTEGER));
@@ -190,6 +200,8 @@ class OpenSearchExecutionProtectorTest {
   @SuppressWarnings("unchecked")
   @Test
   public void testProtectSortForWindowOperator() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
     NamedExpression rank = named(mock(RankFunction.class));
     Pair<Sort.SortOption, Expression> sortItem =
         ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
@@ -235,6 +247,8 @@ class OpenSearchExecutionProtectorTest {
   @SuppressWarnings("unchecked")
   @Test
   public void testNotProtectWindowOperatorInputIfAlreadyProtected() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
     Pair<Sort.SortOption, Expression> sortItem =
         ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
@@ -258,6 +272,136 @@ class OpenSearchExecutionProtectorTest {
                 windowDefinition)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testEvaluatePartitionedWindowInParallelAndRemoveSortForWindow() {
+    when(settings.getSettingValue(Settings.Key.QUERY_WINDOW_PARALLELISM)).thenReturn(4);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    NamedExpression rank = named(mock(RankFunction.class));
+    Pair<Sort.SortOption, Expression> partitionItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("name", STRING));
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+    WindowDefinition windowDefinition =
+        new WindowDefinition(ImmutableList.of(DSL.ref("name", STRING)),
+            ImmutableList.of(sortItem));
+
+    assertEquals(
+        new ParallelWindowOperator(
+            resourceMonitor(
+                values(emptyList())),
+            ImmutableList.of(rank),
+            windowDefinition,
+            client,
+            4,
+            1024 * 1024),
+        executionProtector.protect(
+            window(
+                sort(
+                    values(emptyList()),
+                    partitionItem,
+                    sortItem),
+                rank,
+                windowDefinition)));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testEvaluatePartitionedWindowInParallelWithOtherSort() {
+    when(settings.getSettingValue(Settings.Key.QUERY_WINDOW_PARALLELISM)).thenReturn(4);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    NamedExpression rank = named(mock(RankFunction.class));
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+    WindowDefinition windowDefinition =
+        new WindowDefinition(ImmutableList.of(DSL.ref("name", STRING)),
+            ImmutableList.of(sortItem));
+
+    assertEquals(
+        new ParallelWindowOperator(
+            resourceMonitor(
+                sort(
+                    values(emptyList()),
+                    sortItem)),
+            ImmutableList.of(rank),
+            windowDefinition,
+            client,
+            4,
+            1024 * 1024),
+        executionProtector.protect(
+            window(
+                sort(
+                    values(emptyList()),
+                    sortItem),
+                rank,
+                windowDefinition)));
+  }
+
+  @Test
+  public void testEvaluatePartitionedWindowInParallelWithoutSortInput() {
+    when(settings.getSettingValue(Settings.Key.QUERY_WINDOW_PARALLELISM)).thenReturn(4);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+    NamedExpression rank = named(mock(RankFunction.class));
+    WindowDefinition windowDefinition =
+        new WindowDefinition(ImmutableList.of(DSL.ref("name", STRING)), emptyList());
+
+    assertEquals(
+        new ParallelWindowOperator(
+            resourceMonitor(
+                values()),
+            ImmutableList.of(rank),
+            windowDefinition,
+            client,
+            4,
+            1024 * 1024),
+        executionProtector.protect(
+            window(
+                values(),
+                rank,
+                windowDefinition)));
+  }
+
+  @Test
+  public void testNotEvaluatePartitionedWindowInParallelIfDisabled() {
+    when(settings.getSettingValue(Settings.Key.QUERY_WINDOW_PARALLELISM)).thenReturn(1);
+    NamedExpression rank = named(mock(RankFunction.class));
+    WindowDefinition windowDefinition =
+        new WindowDefinition(ImmutableList.of(DSL.ref("name", STRING)), emptyList());
+
+    assertEquals(
+        window(
+            resourceMonitor(
+                values()),
+            rank,
+            windowDefinition),
+        executionProtector.protect(
+            window(
+                values(),
+                rank,
+                windowDefinition)));
+  }
+
+  @Test
+  public void testProtectTopN() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(
+            PhysicalPlanDSL.topN(
+                values(emptyList()),
+                10, 5,
+                sortItem)),
+        executionProtector.protect(
+            PhysicalPlanDSL.topN(
+                values(emptyList()),
+                10, 5,
+                sortItem)));
+  }
+
   @Test
   public void testWithoutProtection() {
     Expression filterExpr = literal(ExprBooleanValue.of(true));
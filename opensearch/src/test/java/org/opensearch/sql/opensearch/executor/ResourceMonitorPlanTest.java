@@ -30,10 +30,13 @@ package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 
+import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -106,6 +109,27 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    when(plan.nextBatch(600)).thenReturn(Collections.nCopies(600, integerValue(1)));
+
+    monitorPlan.nextBatch(600);
+    verify(resourceMonitor, never()).isHealthy();
+    monitorPlan.nextBatch(600);
+    verify(resourceMonitor, times(1)).isHealthy();
+    verify(plan, times(2)).nextBatch(600);
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(1000));
+    assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
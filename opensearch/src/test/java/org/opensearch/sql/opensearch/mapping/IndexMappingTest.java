@@ -32,11 +32,14 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.metadata.MappingMetadata;
 
 class IndexMappingTest {
 
@@ -55,4 +58,37 @@ class IndexMappingTest {
         fieldTypes,
         allOf(aMapWithSize(2), hasEntry("name", "our_type"), hasEntry("age", "our_type")));
   }
+
+  @Test
+  public void hasDocValues() {
+    Map<String, Object> mapping = ImmutableMap.of(
+        "properties", ImmutableMap.builder()
+            .put("age", ImmutableMap.of("type", "integer"))
+            .put("name", ImmutableMap.of("type", "keyword"))
+            .put("title", ImmutableMap.of("type", "text"))
+            .put("city", ImmutableMap.of("type", "text", "fields",
+                ImmutableMap.of("keyword", ImmutableMap.of("type", "keyword"))))
+            .put("tag", ImmutableMap.of("type", "keyword", "ignore_above", 256))
+            .put("balance", ImmutableMap.of("type", "double", "doc_values", false))
+            .put("birthday", ImmutableMap.of("type", "date"))
+            .put("employer", ImmutableMap.of("properties",
+                ImmutableMap.of("id", ImmutableMap.of("type", "long"))))
+            .put("projects", ImmutableMap.of("type", "nested", "properties",
+                ImmutableMap.of("id", ImmutableMap.of("type", "long"))))
+            .build());
+    IndexMapping indexMapping = new IndexMapping(new MappingMetadata("_doc", mapping));
+
+    assertTrue(indexMapping.hasDocValues("age"));
+    assertTrue(indexMapping.hasDocValues("name"));
+    assertTrue(indexMapping.hasDocValues("employer.id"));
+    assertFalse(indexMapping.hasDocValues("title"));
+    assertFalse(indexMapping.hasDocValues("city"));
+    assertFalse(indexMapping.hasDocValues("tag"));
+    assertFalse(indexMapping.hasDocValues("balance"));
+    assertFalse(indexMapping.hasDocValues("birthday"));
+    assertFalse(indexMapping.hasDocValues("employer"));
+    assertFalse(indexMapping.hasDocValues("projects.id"));
+    assertEquals("long", indexMapping.getFieldType("projects.id"));
+    assertEquals("text_keyword", indexMapping.getFieldType("city"));
+  }
 }
@@ -30,18 +30,23 @@ package org.opensearch.sql.opensearch.planner.logical;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.opensearch.utils.Utils.indexDedupe;
+import static org.opensearch.sql.opensearch.utils.Utils.indexRareTopN;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScan;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScanAgg;
 import static org.opensearch.sql.opensearch.utils.Utils.noProjects;
 import static org.opensearch.sql.opensearch.utils.Utils.projects;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
@@ -50,6 +55,7 @@ import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.config.ExpressionConfig;
@@ -112,6 +118,37 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  /**
+   * SELECT avg(intV) FROM schema GROUP BY string_value LIMIT 10 OFFSET 5.
+   */
+  @Test
+  void limit_merge_with_index_agg() {
+    assertEquals(
+        limit(
+            OpenSearchLogicalIndexAgg.builder()
+                .relationName("schema")
+                .aggregatorList(ImmutableList
+                    .of(DSL.named("AVG(intV)",
+                        dsl.avg(DSL.ref("intV", INTEGER)))))
+                .groupByList(ImmutableList.of(DSL.named("longV",
+                    dsl.abs(DSL.ref("longV", LONG)))))
+                .limit(15)
+                .build(),
+            10, 5),
+        optimize(
+            limit(
+                aggregation(
+                    relation("schema"),
+                    ImmutableList
+                        .of(DSL.named("AVG(intV)",
+                            dsl.avg(DSL.ref("intV", INTEGER)))),
+                    ImmutableList.of(DSL.named("longV",
+                        dsl.abs(DSL.ref("longV", LONG))))),
+                10, 5)
+        )
+    );
+  }
+
   /**
    * SELECT avg(intV) FROM schema WHERE intV = 1 GROUP BY string_value.
    */
@@ -587,6 +624,231 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  /**
+   * source=schema | dedup stringV.
+   */
+  @Test
+  void dedupe_merge_relation() {
+    assertEquals(
+        indexDedupe("schema", null, DSL.ref("stringV", STRING)),
+        optimize(
+            dedupe(
+                relation("schema"),
+                DSL.ref("stringV", STRING)
+            )
+        )
+    );
+  }
+
+  /**
+   * source=schema | where intV = 1 | dedup stringV.
+   */
+  @Test
+  void dedupe_merge_filter_relation() {
+    assertEquals(
+        indexDedupe("schema",
+            dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))),
+            DSL.ref("stringV", STRING)),
+        optimize(
+            dedupe(
+                filter(
+                    relation("schema"),
+                    dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+                ),
+                DSL.ref("stringV", STRING)
+            )
+        )
+    );
+  }
+
+  @Test
+  void dedupe_cant_merge_relation_with_multiple_fields() {
+    LogicalPlan plan = dedupe(
+        relation("schema"),
+        DSL.ref("stringV", STRING),
+        DSL.ref("intV", INTEGER));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void dedupe_cant_merge_relation_with_expression() {
+    LogicalPlan plan = dedupe(
+        relation("schema"),
+        dsl.abs(DSL.ref("intV", INTEGER)));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void dedupe_cant_merge_relation_with_options() {
+    LogicalPlan allowedDuplication =
+        dedupe(relation("schema"), 2, false, false, DSL.ref("stringV", STRING));
+    assertEquals(allowedDuplication, optimize(allowedDuplication));
+
+    LogicalPlan keepEmpty =
+        dedupe(relation("schema"), 1, true, false, DSL.ref("stringV", STRING));
+    assertEquals(keepEmpty, optimize(keepEmpty));
+
+    LogicalPlan consecutive =
+        dedupe(relation("schema"), 1, false, true, DSL.ref("stringV", STRING));
+    assertEquals(consecutive, optimize(consecutive));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_sort() {
+    LogicalPlan plan = dedupe(
+        indexScan("schema",
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_limit() {
+    LogicalPlan plan = dedupe(
+        indexScan("schema", 10, 0, noProjects()),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_project() {
+    LogicalPlan plan = dedupe(
+        indexScan("schema", projects(DSL.ref("stringV", STRING))),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * source=schema | top 5 stringV by intV.
+   */
+  @Test
+  void top_merge_relation() {
+    assertEquals(
+        indexRareTopN("schema", null, CommandType.TOP, 5, DSL.ref("stringV", STRING),
+            ImmutableList.of(DSL.ref("intV", INTEGER))),
+        optimize(
+            rareTopN(
+                relation("schema"),
+                CommandType.TOP,
+                5,
+                ImmutableList.of(DSL.ref("intV", INTEGER)),
+                DSL.ref("stringV", STRING)
+            )
+        )
+    );
+  }
+
+  /**
+   * source=schema | where intV = 1 | top stringV.
+   */
+  @Test
+  void top_merge_filter_relation() {
+    assertEquals(
+        indexRareTopN("schema",
+            dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))),
+            CommandType.TOP, 10, DSL.ref("stringV", STRING), ImmutableList.of()),
+        optimize(
+            rareTopN(
+                filter(
+                    relation("schema"),
+                    dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+                ),
+                CommandType.TOP,
+                ImmutableList.of(),
+                DSL.ref("stringV", STRING)
+            )
+        )
+    );
+  }
+
+  @Test
+  void top_merge_index_scan_with_sort() {
+    assertEquals(
+        indexRareTopN("schema", null, CommandType.TOP, 10, DSL.ref("stringV", STRING),
+            ImmutableList.of()),
+        optimize(
+            rareTopN(
+                indexScan("schema",
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+                CommandType.TOP,
+                ImmutableList.of(),
+                DSL.ref("stringV", STRING)
+            )
+        )
+    );
+  }
+
+  @Test
+  void rare_cant_merge_relation() {
+    LogicalPlan plan = rareTopN(
+        relation("schema"),
+        CommandType.RARE,
+        ImmutableList.of(),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_relation_with_multiple_fields() {
+    LogicalPlan plan = rareTopN(
+        relation("schema"),
+        CommandType.TOP,
+        ImmutableList.of(),
+        DSL.ref("stringV", STRING),
+        DSL.ref("intV", INTEGER));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_relation_with_expression() {
+    LogicalPlan plan = rareTopN(
+        relation("schema"),
+        CommandType.TOP,
+        ImmutableList.of(),
+        dsl.abs(DSL.ref("intV", INTEGER)));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_relation_with_boolean_field() {
+    LogicalPlan plan = rareTopN(
+        relation("schema"),
+        CommandType.TOP,
+        ImmutableList.of(),
+        DSL.ref("boolV", BOOLEAN));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_relation_with_group_by_expression() {
+    LogicalPlan plan = rareTopN(
+        relation("schema"),
+        CommandType.TOP,
+        ImmutableList.of(dsl.abs(DSL.ref("intV", INTEGER))),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_index_scan_with_limit() {
+    LogicalPlan plan = rareTopN(
+        indexScan("schema", 10, 0, noProjects()),
+        CommandType.TOP,
+        ImmutableList.of(),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void top_cant_merge_index_scan_with_project() {
+    LogicalPlan plan = rareTopN(
+        indexScan("schema", projects(DSL.ref("stringV", STRING))),
+        CommandType.TOP,
+        ImmutableList.of(),
+        DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = OpenSearchLogicalPlanOptimizerFactory.create();
     final LogicalPlan optimize = optimizer.optimize(plan);
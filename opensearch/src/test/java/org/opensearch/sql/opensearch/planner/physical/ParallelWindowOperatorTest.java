@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.planner.physical.ParallelWindowOperator.Rows;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.WindowOperator;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelWindowOperatorTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final WindowDefinition windowDefinition = new WindowDefinition(
+      ImmutableList.of(ref("state", STRING)),
+      ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, ref("age", INTEGER))));
+
+  private final List<ExprValue> rows = Arrays.asList(
+      row("WA", 30), row("CA", 20), row("NY", 25), row("WA", 40), row("TX", 30),
+      row("CA", 20), row("NY", 35), row("WA", 30), row("CA", 50), row("TX", 10),
+      row("WY", 20));
+
+  @Mock
+  private OpenSearchClient client;
+
+  /**
+   * Tasks scheduled but not run by worker thread pool.
+   */
+  private final List<Runnable> tasks = new ArrayList<>();
+
+  @Test
+  void evaluatePartitionsByWorkers() {
+    runByWorkers();
+
+    assertEquals(evaluateSerially(), drain(parallelWindow(4, SortOperator.NO_SPILL)));
+  }
+
+  @Test
+  void evaluatePartitionsByConsumerIfNoWorkerAvailable() {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+
+    List<ExprValue> expected = evaluateSerially();
+    ParallelWindowOperator operator = parallelWindow(3, SortOperator.NO_SPILL);
+    operator.open();
+    assertEquals(3, tasks.size());
+    assertTrue(operator.hasNext());
+
+    // Tasks run by worker threads late do nothing because the partitions are sorted already
+    tasks.forEach(Runnable::run);
+    List<ExprValue> actual = new ArrayList<>();
+    operator.forEachRemaining(actual::add);
+    operator.close();
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void evaluateAllPartitionsInSingleTask() {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+
+    assertEquals(evaluateSerially(), drain(parallelWindow(1, SortOperator.NO_SPILL)));
+    assertEquals(1, tasks.size());
+  }
+
+  @Test
+  void evaluatePartitionsWithSpillToDisk() throws IOException {
+    runByWorkers();
+
+    // Every row is spilled when distributed and sorted
+    assertEquals(evaluateSerially(), drain(parallelWindow(2, 1)));
+    assertEquals(0, countSpillFiles());
+  }
+
+  @Test
+  void closeWithoutEvaluatingPartitions() throws IOException {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+
+    ParallelWindowOperator operator = parallelWindow(2, 1);
+    operator.open();
+    assertTrue(countSpillFiles() > 0);
+    operator.close();
+    assertEquals(0, countSpillFiles());
+
+    // Tasks run by worker threads after closed do nothing
+    tasks.forEach(Runnable::run);
+    assertEquals(0, countSpillFiles());
+  }
+
+  @Test
+  void closeAfterPartitionsSortedByWorkers() throws IOException {
+    runByWorkers();
+
+    ParallelWindowOperator operator = parallelWindow(2, 1);
+    operator.open();
+    operator.close();
+    assertEquals(0, countSpillFiles());
+  }
+
+  @Test
+  void throwFailureOfPartitionSort() {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+
+    ParallelWindowOperator operator = parallelWindow(sortBy(new FailingExpression(
+        new IllegalStateException("sort key failed"))), 2);
+    operator.open();
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, operator::hasNext);
+    assertEquals("sort key failed", exception.getMessage());
+    operator.close();
+  }
+
+  @Test
+  void wrapErrorOfPartitionSort() {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+
+    AssertionError error = new AssertionError("sort key failed");
+    ParallelWindowOperator operator = parallelWindow(sortBy(new FailingExpression(error)), 2);
+    operator.open();
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, operator::hasNext);
+    assertEquals("Failed to evaluate window partitions", exception.getMessage());
+    assertEquals(error, exception.getCause());
+    operator.close();
+  }
+
+  @Test
+  void interruptedWhileWaitingForPartitionsSorted() {
+    ExecutorService worker = Executors.newSingleThreadExecutor();
+    BlockingExpression.started = new CountDownLatch(1);
+    BlockingExpression.released = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      worker.execute(invocation.getArgument(0));
+      BlockingExpression.started.await();
+      Thread.currentThread().interrupt();
+      return null;
+    }).when(client).schedule(any());
+
+    // Single task being run by worker already so that consumer has nothing to run
+    try {
+      ParallelWindowOperator operator = parallelWindow(sortBy(new BlockingExpression()), 1);
+      operator.open();
+      IllegalStateException exception =
+          assertThrows(IllegalStateException.class, operator::hasNext);
+      assertEquals("Interrupted while waiting for window partitions evaluated",
+          exception.getMessage());
+      assertTrue(Thread.interrupted());
+    } finally {
+      BlockingExpression.released.countDown();
+      worker.shutdownNow();
+    }
+  }
+
+  @Test
+  void explainRows() {
+    assertEquals("Rows", new Rows(rows.iterator()).explain());
+  }
+
+  private void runByWorkers() {
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(client).schedule(any());
+  }
+
+  private List<ExprValue> evaluateSerially() {
+    return drain(new WindowOperator(
+        new SortOperator(new Rows(rows.iterator()), windowDefinition.getAllSortItems()),
+        windowFunctions(),
+        windowDefinition));
+  }
+
+  private ParallelWindowOperator parallelWindow(int parallelism, long spillThreshold) {
+    return new ParallelWindowOperator(new Rows(rows.iterator()), windowFunctions(),
+        windowDefinition, client, parallelism, spillThreshold);
+  }
+
+  private ParallelWindowOperator parallelWindow(WindowDefinition definition, int parallelism) {
+    return new ParallelWindowOperator(new Rows(rows.iterator()),
+        ImmutableList.of(named("rank", dsl.rank())), definition, client, parallelism,
+        SortOperator.NO_SPILL);
+  }
+
+  private WindowDefinition sortBy(Expression sortKey) {
+    return new WindowDefinition(ImmutableList.of(ref("state", STRING)),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_ASC, sortKey)));
+  }
+
+  private List<NamedExpression> windowFunctions() {
+    return ImmutableList.of(
+        named("rank", dsl.rank()),
+        named("sum", new AggregateWindowFunction(dsl.sum(ref("age", INTEGER)))));
+  }
+
+  private List<ExprValue> drain(PhysicalPlan plan) {
+    List<ExprValue> results = new ArrayList<>();
+    plan.open();
+    plan.forEachRemaining(results::add);
+    plan.close();
+    return results;
+  }
+
+  private long countSpillFiles() throws IOException {
+    try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith("opensearch-sql-window-")
+              || file.getFileName().toString().startsWith("opensearch-sql-sort-"))
+          .count();
+    }
+  }
+
+  private static ExprValue row(String state, int age) {
+    return tupleValue(ImmutableMap.of("state", state, "age", age));
+  }
+
+  /**
+   * Sort key that fails on evaluation.
+   */
+  private static class FailingExpression extends TestExpression {
+    private final Throwable failure;
+
+    FailingExpression(Throwable failure) {
+      this.failure = failure;
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      throw (RuntimeException) failure;
+    }
+  }
+
+  /**
+   * Sort key that blocks until released.
+   */
+  private static class BlockingExpression extends TestExpression {
+    private static CountDownLatch started;
+    private static CountDownLatch released;
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      started.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return ExprValueUtils.integerValue(0);
+    }
+  }
+
+  private abstract static class TestExpression implements Expression {
+    @Override
+    public ExprType type() {
+      return INTEGER;
+    }
+
+    @Override
+    public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+      return visitor.visitNode(this, context);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchCompositeAggregationRequestTest {
+
+  @Mock
+  private Function<SearchRequest, SearchResponse> searchAction;
+
+  @Mock
+  private Function<SearchScrollRequest, SearchResponse> scrollAction;
+
+  @Mock
+  private BiConsumer<SearchRequest, ActionListener<SearchResponse>> asyncSearchAction;
+
+  @Mock
+  private BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> asyncScrollAction;
+
+  @Mock
+  private Consumer<String> cleanAction;
+
+  @Mock
+  private SearchResponse searchResponse;
+
+  @Mock
+  private CompositeAggregation compositeAggregation;
+
+  @Mock
+  private CompositeAggregation.Bucket bucket;
+
+  @Mock
+  private OpenSearchExprValueFactory factory;
+
+  private CompositeAggregationBuilder compositeBuilder;
+
+  private OpenSearchCompositeAggregationRequest request;
+
+  @BeforeEach
+  void setUp() {
+    compositeBuilder = new CompositeAggregationBuilder("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")));
+    SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+        .size(0)
+        .aggregation(compositeBuilder);
+    request = new OpenSearchCompositeAggregationRequest(
+        "test", sourceBuilder, compositeBuilder, 2, factory);
+  }
+
+  @Test
+  void pageSizeAppliedToCompositeAggregation() {
+    assertEquals(2, compositeBuilder.size());
+  }
+
+  @Test
+  void searchNextPageAfterKey() {
+    Map<String, Object> afterKey = ImmutableMap.of("name", "John");
+    mockCompositeResponse();
+    doReturn(buckets(2)).doReturn(buckets(1)).when(compositeAggregation).getBuckets();
+    when(compositeAggregation.afterKey()).thenReturn(afterKey);
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+    assertFalse(response.isEmpty());
+    assertFalse(request.isSearchDone());
+
+    request.search(searchAction, scrollAction);
+    assertEquals(
+        new CompositeAggregationBuilder("composite_buckets",
+            Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")))
+            .size(2)
+            .aggregateAfter(afterKey),
+        compositeBuilder);
+    assertTrue(request.isSearchDone());
+
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void stopPagingOnceBucketLimitReached() {
+    request.setBucketLimit(3);
+    mockCompositeResponse();
+    doReturn(buckets(2)).doReturn(buckets(1)).when(compositeAggregation).getBuckets();
+    when(compositeAggregation.afterKey()).thenReturn(ImmutableMap.of("name", "John"));
+
+    request.search(searchAction, scrollAction);
+    request.search(searchAction, scrollAction);
+    assertEquals(1, compositeBuilder.size());
+    assertTrue(request.isSearchDone());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void searchNothingIfBucketLimitIsZero() {
+    request.setBucketLimit(0);
+
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.isSearchDone());
+    verify(searchAction, never()).apply(any());
+  }
+
+  @Test
+  void searchAsyncNextPageAfterKey() {
+    mockAsyncSearchResponse();
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations())
+        .thenReturn(new Aggregations(Arrays.asList(compositeAggregation)));
+    when(compositeAggregation.getName()).thenReturn("composite_buckets");
+    doReturn(buckets(2)).doReturn(buckets(1)).when(compositeAggregation).getBuckets();
+    when(compositeAggregation.afterKey()).thenReturn(ImmutableMap.of("name", "John"));
+
+    assertFalse(searchAsync().isEmpty());
+    assertFalse(request.isSearchDone());
+    searchAsync();
+    assertTrue(request.isSearchDone());
+
+    assertTrue(searchAsync().isEmpty());
+    verify(asyncSearchAction, times(2)).accept(any(), any());
+  }
+
+  @Test
+  void clean() {
+    request.clean(cleanAction);
+    verify(cleanAction, never()).accept(any());
+  }
+
+  private void mockCompositeResponse() {
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations())
+        .thenReturn(new Aggregations(Arrays.asList(compositeAggregation)));
+    when(compositeAggregation.getName()).thenReturn("composite_buckets");
+  }
+
+  private List<CompositeAggregation.Bucket> buckets(int count) {
+    return Collections.nCopies(count, bucket);
+  }
+
+  private void mockAsyncSearchResponse() {
+    doAnswer(invocation -> {
+      ActionListener<SearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(searchResponse);
+      return null;
+    }).when(asyncSearchAction).accept(any(), any());
+  }
+
+  private OpenSearchResponse searchAsync() {
+    AtomicReference<OpenSearchResponse> response = new AtomicReference<>();
+    request.searchAsync(asyncSearchAction, asyncScrollAction,
+        ActionListener.wrap(response::set, e -> fail(e)));
+    return response.get();
+  }
+}
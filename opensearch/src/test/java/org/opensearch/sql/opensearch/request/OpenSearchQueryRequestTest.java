@@ -31,18 +31,23 @@ package org.opensearch.sql.opensearch.request;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -62,6 +67,12 @@ public class OpenSearchQueryRequestTest {
   @Mock
   private Function<SearchScrollRequest, SearchResponse> scrollAction;
 
+  @Mock
+  private BiConsumer<SearchRequest, ActionListener<SearchResponse>> asyncSearchAction;
+
+  @Mock
+  private BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> asyncScrollAction;
+
   @Mock
   private Consumer<String> cleanAction;
 
@@ -93,6 +104,18 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void searchAsync() {
+    mockAsyncSearchResponse();
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+
+    assertFalse(searchAsync().isEmpty());
+    assertTrue(searchAsync().isEmpty());
+    verify(asyncSearchAction, times(1)).accept(any(), any());
+    verify(asyncScrollAction, never()).accept(any(), any());
+  }
+
   @Test
   void clean() {
     request.clean(cleanAction);
@@ -113,4 +136,19 @@ public class OpenSearchQueryRequestTest {
                 .query(QueryBuilders.termQuery("name", "John"))),
         request.searchRequest());
   }
+
+  private void mockAsyncSearchResponse() {
+    doAnswer(invocation -> {
+      ActionListener<SearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(searchResponse);
+      return null;
+    }).when(asyncSearchAction).accept(any(), any());
+  }
+
+  private OpenSearchResponse searchAsync() {
+    AtomicReference<OpenSearchResponse> response = new AtomicReference<>();
+    request.searchAsync(asyncSearchAction, asyncScrollAction,
+        ActionListener.wrap(response::set, e -> fail(e)));
+    return response.get();
+  }
 }
@@ -30,16 +30,27 @@ package org.opensearch.sql.opensearch.request;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.function.BiConsumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchScrollRequestTest {
@@ -47,6 +58,18 @@ class OpenSearchScrollRequestTest {
   @Mock
   private OpenSearchExprValueFactory factory;
 
+  @Mock
+  private BiConsumer<SearchRequest, ActionListener<SearchResponse>> asyncSearchAction;
+
+  @Mock
+  private BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> asyncScrollAction;
+
+  @Mock
+  private ActionListener<OpenSearchResponse> listener;
+
+  @Mock
+  private SearchResponse searchResponse;
+
   private final OpenSearchScrollRequest request =
       new OpenSearchScrollRequest("test", factory);
 
@@ -62,6 +85,27 @@ class OpenSearchScrollRequestTest {
         request.searchRequest());
   }
 
+  @Test
+  void searchAsyncThenScrollAsync() {
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    Answer<Void> respond = invocation -> {
+      ActionListener<SearchResponse> responseListener = invocation.getArgument(1);
+      responseListener.onResponse(searchResponse);
+      return null;
+    };
+    doAnswer(respond).when(asyncSearchAction).accept(any(), any());
+    doAnswer(respond).when(asyncScrollAction).accept(any(), any());
+
+    request.searchAsync(asyncSearchAction, asyncScrollAction, listener);
+    assertEquals("scroll123", request.getScrollId());
+    verify(asyncScrollAction, never()).accept(any(), any());
+
+    request.searchAsync(asyncSearchAction, asyncScrollAction, listener);
+    verify(asyncSearchAction, times(1)).accept(any(), any());
+    verify(asyncScrollAction, times(1)).accept(any(), any());
+    verify(listener, times(2)).onResponse(any());
+  }
+
   @Test
   void isScrollStarted() {
     assertFalse(request.isScrollStarted());
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.opensearch.request.OpenSearchSearchAfterRequest.TIE_BREAKER_FIELD;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchSearchAfterRequestTest {
+
+  @Mock
+  private Function<SearchRequest, SearchResponse> searchAction;
+
+  @Mock
+  private Function<SearchScrollRequest, SearchResponse> scrollAction;
+
+  @Mock
+  private BiConsumer<SearchRequest, ActionListener<SearchResponse>> asyncSearchAction;
+
+  @Mock
+  private BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> asyncScrollAction;
+
+  @Mock
+  private Consumer<String> cleanAction;
+
+  @Mock
+  private SearchResponse searchResponse;
+
+  @Mock
+  private SearchHits searchHits;
+
+  @Mock
+  private SearchHit searchHit;
+
+  @Mock
+  private OpenSearchExprValueFactory factory;
+
+  private final OpenSearchSearchAfterRequest request =
+      new OpenSearchSearchAfterRequest("test", 2, factory);
+
+  @Test
+  void searchFirstPage() {
+    request.getSourceBuilder().query(QueryBuilders.termQuery("name", "John"));
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit, searchHit});
+    when(searchHit.getSortValues()).thenReturn(new Object[] {1, "abc"});
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+    assertFalse(response.isEmpty());
+    assertFalse(request.isSearchDone());
+    assertArrayEquals(new Object[] {1, "abc"}, request.getSearchAfter());
+    assertEquals(
+        new SearchRequest()
+            .indices("test")
+            .source(new SearchSourceBuilder()
+                .timeout(OpenSearchSearchAfterRequest.DEFAULT_QUERY_TIMEOUT)
+                .size(2)
+                .query(QueryBuilders.termQuery("name", "John"))
+                .sort(DOC_FIELD_NAME, ASC)),
+        request.searchRequest());
+  }
+
+  @Test
+  void searchAfterLastHitOfPreviousPage() {
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits())
+        .thenReturn(new SearchHit[] {searchHit, searchHit})
+        .thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new Object[] {1, "abc"});
+
+    request.search(searchAction, scrollAction);
+    request.search(searchAction, scrollAction);
+    assertArrayEquals(new Object[] {1, "abc"}, request.getSourceBuilder().searchAfter());
+    assertTrue(request.isSearchDone());
+
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void searchWithPushedDownSortAndLimit() {
+    request.getSourceBuilder()
+        .sort(SortBuilders.fieldSort("age"))
+        .from(1)
+        .size(3);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits())
+        .thenReturn(new SearchHit[] {searchHit, searchHit})
+        .thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new Object[] {30, "abc"});
+
+    request.search(searchAction, scrollAction);
+    assertEquals(1, request.getSourceBuilder().from());
+    assertEquals(2, request.getSourceBuilder().size());
+    assertEquals(
+        Arrays.asList(SortBuilders.fieldSort("age"), SortBuilders.fieldSort(TIE_BREAKER_FIELD)),
+        request.getSourceBuilder().sorts());
+
+    request.search(searchAction, scrollAction);
+    assertEquals(0, request.getSourceBuilder().from());
+    assertEquals(1, request.getSourceBuilder().size());
+    assertTrue(request.isSearchDone());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void searchAggregationOnlyOnce() {
+    request.getSourceBuilder().size(0);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[0]);
+
+    request.search(searchAction, scrollAction);
+    assertTrue(request.isSearchDone());
+    assertNull(request.getSourceBuilder().sorts());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
+  @Test
+  void searchAsyncAfterLastHitOfPreviousPage() {
+    mockAsyncSearchResponse();
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits())
+        .thenReturn(new SearchHit[] {searchHit, searchHit})
+        .thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new Object[] {1, "abc"});
+
+    assertFalse(searchAsync().isEmpty());
+    assertFalse(request.isSearchDone());
+    assertFalse(searchAsync().isEmpty());
+    assertArrayEquals(new Object[] {1, "abc"}, request.getSourceBuilder().searchAfter());
+    assertTrue(request.isSearchDone());
+
+    assertTrue(searchAsync().isEmpty());
+    verify(asyncSearchAction, times(2)).accept(any(), any());
+  }
+
+  @Test
+  void clean() {
+    request.clean(cleanAction);
+    verify(cleanAction, never()).accept(any());
+    assertNull(request.getSearchAfter());
+  }
+
+  private void mockAsyncSearchResponse() {
+    doAnswer(invocation -> {
+      ActionListener<SearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(searchResponse);
+      return null;
+    }).when(asyncSearchAction).accept(any(), any());
+  }
+
+  private OpenSearchResponse searchAsync() {
+    AtomicReference<OpenSearchResponse> response = new AtomicReference<>();
+    request.searchAsync(asyncSearchAction, asyncScrollAction,
+        ActionListener.wrap(response::set, e -> fail(e)));
+    return response.get();
+  }
+}
@@ -30,13 +30,17 @@ package org.opensearch.sql.opensearch.request.system;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -97,4 +101,40 @@ class OpenSearchDescribeIndexRequestTest {
     assertEquals(1, fieldTypes.size());
     assertThat(fieldTypes, hasEntry("name", STRING));
   }
+
+  @Test
+  void cacheFieldTypesUntilMappingsChanged() {
+    Map<String, IndexMapping> mappings =
+        ImmutableMap.of("test", new IndexMapping(ImmutableMap.of("name", "keyword")));
+    Map<String, IndexMapping> newMappings =
+        ImmutableMap.of("test", new IndexMapping(ImmutableMap.of("name", "keyword")));
+    when(client.getIndexMappings("index")).thenReturn(mappings, mappings, newMappings);
+
+    OpenSearchDescribeIndexRequest request = new OpenSearchDescribeIndexRequest(client, "index");
+    Map<String, ExprType> fieldTypes = request.getFieldTypes();
+    assertSame(fieldTypes, request.getFieldTypes());
+
+    Map<String, ExprType> newFieldTypes = request.getFieldTypes();
+    assertNotSame(fieldTypes, newFieldTypes);
+    assertEquals(fieldTypes, newFieldTypes);
+  }
+
+  @Test
+  void getDocValueFieldsInAllIndices() {
+    when(client.getIndexMappings("index*"))
+        .thenReturn(
+            ImmutableMap.of(
+                "index1",
+                new IndexMapping(
+                    ImmutableMap.of("name", "keyword", "age", "integer", "city", "keyword"),
+                    ImmutableSet.of("name", "age", "city")),
+                "index2",
+                new IndexMapping(
+                    ImmutableMap.of("name", "keyword", "age", "text"),
+                    ImmutableSet.of("name"))));
+
+    assertThat(
+        new OpenSearchDescribeIndexRequest(client, "index*").getDocValueFields(),
+        containsInAnyOrder("name", "city"));
+  }
 }
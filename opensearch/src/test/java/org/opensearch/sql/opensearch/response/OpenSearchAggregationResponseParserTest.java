@@ -38,19 +38,24 @@ import static org.opensearch.sql.opensearch.response.AggregationResponseUtils.fr
 import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanValue;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.SpanAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class OpenSearchAggregationResponseParserTest {
@@ -361,10 +366,240 @@ class OpenSearchAggregationResponseParserTest {
         entry("count", 1089D, "timespan", "2021-08-01T00:00Z")));
   }
 
+  @Test
+  void parse_top_hits_of_buckets() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"after_key\": {\n"
+        + "      \"type\": \"sale\"\n"
+        + "    },\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"type\": \"cost\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 2,\n"
+        + "        \"top_hits#dedupe_top_hits\": {\n"
+        + "          \"hits\": {\n"
+        + "            \"total\": {\"value\": 2, \"relation\": \"eq\"},\n"
+        + "            \"max_score\": null,\n"
+        + "            \"hits\": [\n"
+        + "              {\n"
+        + "                \"_index\": \"accounts\",\n"
+        + "                \"_id\": \"1\",\n"
+        + "                \"_source\": {\"type\": \"cost\", \"age\": 20}\n"
+        + "              }\n"
+        + "            ]\n"
+        + "          }\n"
+        + "        }\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"type\": \"sale\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 1,\n"
+        + "        \"top_hits#dedupe_top_hits\": {\n"
+        + "          \"hits\": {\n"
+        + "            \"total\": {\"value\": 1, \"relation\": \"eq\"},\n"
+        + "            \"max_score\": null,\n"
+        + "            \"hits\": [\n"
+        + "              {\n"
+        + "                \"_index\": \"accounts\",\n"
+        + "                \"_id\": \"3\",\n"
+        + "                \"_source\": {\"type\": \"sale\", \"age\": 30}\n"
+        + "              }\n"
+        + "            ]\n"
+        + "          }\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser = new TopHitsParser("dedupe_top_hits");
+    assertThat(parse(parser, response), contains(
+        entry("type", "cost", "age", 20),
+        entry("type", "sale", "age", 30)));
+  }
+
+  @Test
+  void parse_top_terms() {
+    String response = "{\n"
+        + "  \"sterms#rare_top_n_terms\": {\n"
+        + "    \"doc_count_error_upper_bound\": 0,\n"
+        + "    \"sum_other_doc_count\": 1,\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": \"sale\",\n"
+        + "        \"doc_count\": 3\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": \"cost\",\n"
+        + "        \"doc_count\": 2\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNParser("type", "rare_top_n_terms", "rare_top_n_missing", CommandType.TOP, 2);
+    assertThat(parse(parser, response), contains(
+        entry("type", "sale"),
+        entry("type", "cost")));
+  }
+
+  @Test
+  void parse_top_terms_of_buckets() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"after_key\": {\n"
+        + "      \"region\": \"us\"\n"
+        + "    },\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"eu\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 3,\n"
+        + "        \"lterms#rare_top_n_terms\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 0,\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": 200,\n"
+        + "              \"doc_count\": 2\n"
+        + "            },\n"
+        + "            {\n"
+        + "              \"key\": 404,\n"
+        + "              \"doc_count\": 1\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        }\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"us\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 1,\n"
+        + "        \"lterms#rare_top_n_terms\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 0,\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": 500,\n"
+        + "              \"doc_count\": 1\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNParser(
+            "response", "rare_top_n_terms", "rare_top_n_missing", CommandType.TOP, 10);
+    assertThat(parse(parser, response), contains(
+        entry("region", "eu", "response", 200L),
+        entry("region", "eu", "response", 404L),
+        entry("region", "us", "response", 500L)));
+  }
+
+  @Test
+  void parse_top_terms_with_missing_ranked_by_count() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"eu\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 6,\n"
+        + "        \"lterms#rare_top_n_terms\": {\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": 200,\n"
+        + "              \"doc_count\": 3\n"
+        + "            },\n"
+        + "            {\n"
+        + "              \"key\": 404,\n"
+        + "              \"doc_count\": 1\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        },\n"
+        + "        \"missing#rare_top_n_missing\": {\n"
+        + "          \"doc_count\": 2\n"
+        + "        }\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"us\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 2,\n"
+        + "        \"lterms#rare_top_n_terms\": {\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": 500,\n"
+        + "              \"doc_count\": 1\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        },\n"
+        + "        \"missing#rare_top_n_missing\": {\n"
+        + "          \"doc_count\": 1\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNParser(
+            "response", "rare_top_n_terms", "rare_top_n_missing", CommandType.TOP, 2);
+    assertThat(parse(parser, response), contains(
+        entry("region", "eu", "response", 200L),
+        nullEntry("region", "eu", "response"),
+        entry("region", "us", "response", 500L),
+        nullEntry("region", "us", "response")));
+  }
+
+  @Test
+  void parse_rare_terms_with_missing_ranked_by_count() {
+    String response = "{\n"
+        + "  \"sterms#rare_top_n_terms\": {\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": \"cost\",\n"
+        + "        \"doc_count\": 1\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": \"sale\",\n"
+        + "        \"doc_count\": 3\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  },\n"
+        + "  \"missing#rare_top_n_missing\": {\n"
+        + "    \"doc_count\": 2\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNParser("type", "rare_top_n_terms", "rare_top_n_missing", CommandType.RARE, 3);
+    assertThat(parse(parser, response), contains(
+        entry("type", "cost"),
+        nullEntry("type"),
+        entry("type", "sale")));
+  }
+
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
     return parser.parse(fromJson(json));
   }
 
+  private Map<String, Object> nullEntry(String name) {
+    return Collections.singletonMap(name, null);
+  }
+
+  private Map<String, Object> nullEntry(String name, Object value, String nullName) {
+    Map<String, Object> entry = new LinkedHashMap<>();
+    entry.put(name, value);
+    entry.put(nullName, null);
+    return entry;
+  }
+
   public Map<String, Object> entry(String name, Object value) {
     return ImmutableMap.of(name, value);
   }
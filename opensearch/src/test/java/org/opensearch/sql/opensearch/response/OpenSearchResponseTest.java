@@ -36,14 +36,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.Map;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
@@ -52,6 +57,7 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchResponseTest {
@@ -74,6 +80,9 @@ class OpenSearchResponseTest {
   @Mock
   private OpenSearchAggregationResponseParser parser;
 
+  @Mock
+  private TopHitsParser topHitsParser;
+
   private ExprTupleValue exprTupleValue1 = ExprTupleValue.fromExprValueMap(ImmutableMap.of("id1",
       new ExprIntegerValue(1)));
 
@@ -114,9 +123,15 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
-    when(factory.construct(any())).thenReturn(exprTupleValue1).thenReturn(exprTupleValue2);
+    BytesReference source = new BytesArray("{\"id1\": 1}");
+    Map<String, DocumentField> fields =
+        ImmutableMap.of("id2", new DocumentField("id2", ImmutableList.of(2)));
+    when(searchHit1.hasSource()).thenReturn(true);
+    when(searchHit1.getSourceRef()).thenReturn(source);
+    when(searchHit2.hasSource()).thenReturn(false);
+    when(searchHit2.getFields()).thenReturn(fields);
+    when(factory.construct(source)).thenReturn(exprTupleValue1);
+    when(factory.construct(fields)).thenReturn(exprTupleValue2);
 
     int i = 0;
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory)) {
@@ -169,4 +184,32 @@ class OpenSearchResponseTest {
       i++;
     }
   }
+
+  @Test
+  void top_hits_aggregation_iterator() {
+    BytesReference source = new BytesArray("{\"id1\": 1}");
+    Map<String, DocumentField> fields =
+        ImmutableMap.of("id2", new DocumentField("id2", ImmutableList.of(2)));
+    when(searchHit1.hasSource()).thenReturn(true);
+    when(searchHit1.getSourceRef()).thenReturn(source);
+    when(searchHit2.hasSource()).thenReturn(false);
+    when(searchHit2.getFields()).thenReturn(fields);
+    when(factory.construct(source)).thenReturn(exprTupleValue1);
+    when(factory.construct(fields)).thenReturn(exprTupleValue2);
+    when(topHitsParser.parseHits(aggregations)).thenReturn(Arrays.asList(searchHit1, searchHit2));
+    when(searchResponse.getAggregations()).thenReturn(aggregations);
+    when(factory.getParser()).thenReturn(topHitsParser);
+
+    int i = 0;
+    for (ExprValue hit : new OpenSearchResponse(searchResponse, factory)) {
+      if (i == 0) {
+        assertEquals(exprTupleValue1, hit);
+      } else if (i == 1) {
+        assertEquals(exprTupleValue2, hit);
+      } else {
+        fail("More search hits returned than expected");
+      }
+      i++;
+    }
+  }
 }
@@ -27,12 +27,18 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
@@ -40,7 +46,15 @@ import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,18 +62,24 @@ import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
-import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSearchAfterRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexScanTest {
@@ -70,12 +90,18 @@ class OpenSearchIndexScanTest {
   @Mock
   private Settings settings;
 
+  @Mock
+  private ActionListener<Void> fetchListener;
+
   private OpenSearchExprValueFactory exprValueFactory = new OpenSearchExprValueFactory(
       ImmutableMap.of("name", STRING, "department", STRING));
 
   @BeforeEach
   void setup() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    // Not read by scan which is sliced or has limit pushed down
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(0);
   }
 
   @Test
@@ -113,6 +139,238 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void fetchNextBatchLazily() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT")},
+        new ExprValue[]{employee(2, "Smith", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+      verify(client, times(1)).search(any());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      verify(client, times(1)).search(any());
+
+      assertTrue(indexScan.hasNext());
+      verify(client, times(2)).search(any());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+    }
+    verify(client, times(2)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void queryAllResultsWithPrefetch() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    mockAsyncResponse(
+        new ExprValue[]{employee(1, "John", "IT")},
+        new ExprValue[]{employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+
+      // First 2 pages fetched ahead on open
+      verify(client, times(2)).searchAsync(any(), any());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(4)).searchAsync(any(), any());
+    verify(client, never()).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void fetchNextBatchAsyncIfSuspended() {
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(page.isEmpty()).thenReturn(false);
+    when(page.iterator()).thenReturn(Arrays.asList(employee(1, "John", "IT")).iterator());
+    OpenSearchResponse empty = mock(OpenSearchResponse.class);
+    when(empty.isEmpty()).thenReturn(true);
+    Iterator<OpenSearchResponse> responses = Arrays.asList(page, empty).iterator();
+    doAnswer(invocation -> {
+      ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(responses.next());
+      return null;
+    }).when(client).searchAsync(any(), any());
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.enableAsyncFetch();
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+      assertTrue(indexScan.isSuspended());
+
+      indexScan.fetchNextBatchAsync(fetchListener);
+      assertFalse(indexScan.isSuspended());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+      assertTrue(indexScan.isSuspended());
+
+      // No more batch rather than suspended after empty response
+      indexScan.fetchNextBatchAsync(fetchListener);
+      assertFalse(indexScan.hasNext());
+      assertFalse(indexScan.isSuspended());
+    }
+    verify(fetchListener, times(2)).onResponse(null);
+    verify(client, never()).search(any());
+  }
+
+  @Test
+  void queryInSlicesWithoutSuspendIfAsyncFetchEnabled() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(4);
+    when(client.getIndexShardCount("employees")).thenReturn(2);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(client).schedule(any());
+    mockSliceResponse(
+        new ExprValue[]{employee(1, "John", "IT")},
+        new ExprValue[]{employee(2, "Smith", "HR")});
+
+    List<ExprValue> actual = new ArrayList<>();
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.enableAsyncFetch();
+      indexScan.open();
+      indexScan.forEachRemaining(actual::add);
+      assertFalse(indexScan.isSuspended());
+    }
+
+    assertThat(actual, containsInAnyOrder(
+        employee(1, "John", "IT"), employee(2, "Smith", "HR")));
+    verify(client, times(4)).search(any());
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  @Test
+  void queryWithPrefetchWithoutSuspendIfAsyncFetchEnabled() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(1);
+    mockAsyncResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.enableAsyncFetch();
+      indexScan.open();
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+      assertFalse(indexScan.isSuspended());
+    }
+    verify(client, never()).search(any());
+  }
+
+  @Test
+  void queryAllResultsInSlices() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(4);
+    when(client.getIndexShardCount("employees")).thenReturn(2);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(client).schedule(any());
+    mockSliceResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    List<ExprValue> actual = new ArrayList<>();
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+      indexScan.forEachRemaining(actual::add);
+    }
+
+    assertThat(actual, containsInAnyOrder(
+        employee(1, "John", "IT"), employee(2, "Smith", "HR"), employee(3, "Allen", "IT")));
+    verify(client, times(4)).search(any());
+    verify(client, times(3)).cleanup(any());
+  }
+
+  @Test
+  void queryInSlicesWithFilterPushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(4);
+    when(client.getIndexShardCount("employees")).thenReturn(2);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(client).schedule(any());
+    mockSliceResponse(new ExprValue[]{employee(1, "John", "IT")}, new ExprValue[]{});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.pushDown(QueryBuilders.termQuery("name", "John"));
+      indexScan.open();
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+    }
+  }
+
+  @Test
+  void queryWithoutSlicesIfSingleShard() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(4);
+    when(client.getIndexShardCount("employees")).thenReturn(1);
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+    }
+    verify(client, never()).schedule(any());
+  }
+
+  @Test
+  void queryWithoutSlicesIfLimitPushedDown() {
+    assertNotSliced(indexScan -> indexScan.pushDownLimit(10, 0));
+  }
+
+  @Test
+  void queryWithoutSlicesIfSortPushedDown() {
+    assertNotSliced(indexScan -> indexScan.pushDownSort(
+        Collections.singletonList(SortBuilders.fieldSort("name"))));
+  }
+
+  @Test
+  void queryWithoutSlicesIfSortByScorePushedDown() {
+    assertNotSliced(indexScan -> indexScan.pushDownSort(
+        Collections.singletonList(SortBuilders.scoreSort())));
+  }
+
+  @Test
+  void queryWithoutSlicesIfAggregationPushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(100);
+    assertNotSliced(indexScan -> indexScan.pushDownAggregation(Pair.of(
+        Collections.singletonList(AggregationBuilders.composite("composite_buckets",
+            Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")))),
+        mock(OpenSearchAggregationResponseParser.class))));
+  }
+
+  private void assertNotSliced(Consumer<OpenSearchIndexScan> pushDown) {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(4);
+    mockResponse();
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      pushDown.accept(indexScan);
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).getIndexShardCount(any());
+    verify(client, never()).schedule(any());
+  }
+
   @Test
   void pushDownFilters() {
     assertThat()
@@ -157,7 +415,7 @@ class OpenSearchIndexScanTest {
     }
 
     PushDownAssertion shouldQuery(QueryBuilder expected) {
-      OpenSearchRequest request = new OpenSearchQueryRequest("test", 200, factory);
+      OpenSearchRequest request = new OpenSearchSearchAfterRequest("test", 200, factory);
       request.getSourceBuilder()
              .query(expected)
              .sort(DOC_FIELD_NAME, ASC);
@@ -168,29 +426,67 @@ class OpenSearchIndexScanTest {
   }
 
   private void mockResponse(ExprValue[]... searchHitBatches) {
-    when(client.search(any()))
-        .thenAnswer(
-            new Answer<OpenSearchResponse>() {
-              private int batchNum;
-
-              @Override
-              public OpenSearchResponse answer(InvocationOnMock invocation) {
-                OpenSearchResponse response = mock(OpenSearchResponse.class);
-                int totalBatch = searchHitBatches.length;
-                if (batchNum < totalBatch) {
-                  when(response.isEmpty()).thenReturn(false);
-                  ExprValue[] searchHit = searchHitBatches[batchNum];
-                  when(response.iterator()).thenReturn(Arrays.asList(searchHit).iterator());
-                } else if (batchNum == totalBatch) {
-                  when(response.isEmpty()).thenReturn(true);
-                } else {
-                  fail("Search request after empty response returned already");
-                }
-
-                batchNum++;
-                return response;
-              }
-            });
+    when(client.search(any())).thenAnswer(responses(searchHitBatches));
+  }
+
+  /**
+   * Mock async search which returns the response on the calling thread.
+   */
+  private void mockAsyncResponse(ExprValue[]... searchHitBatches) {
+    Answer<OpenSearchResponse> responses = responses(searchHitBatches);
+    doAnswer(invocation -> {
+      ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(responses.answer(invocation));
+      return null;
+    }).when(client).searchAsync(any(), any());
+  }
+
+  private Answer<OpenSearchResponse> responses(ExprValue[]... searchHitBatches) {
+    return new Answer<OpenSearchResponse>() {
+      private int batchNum;
+
+      @Override
+      public OpenSearchResponse answer(InvocationOnMock invocation) {
+        OpenSearchResponse response = mock(OpenSearchResponse.class);
+        int totalBatch = searchHitBatches.length;
+        if (batchNum < totalBatch) {
+          when(response.isEmpty()).thenReturn(false);
+          ExprValue[] searchHit = searchHitBatches[batchNum];
+          when(response.iterator()).thenReturn(Arrays.asList(searchHit).iterator());
+        } else if (batchNum == totalBatch) {
+          when(response.isEmpty()).thenReturn(true);
+        } else {
+          fail("Search request after empty response returned already");
+        }
+
+        batchNum++;
+        return response;
+      }
+    };
+  }
+
+  /**
+   * Mock response of each slice which returns the hits given in a single page.
+   */
+  private void mockSliceResponse(ExprValue[]... hitsOfSlices) {
+    Map<Integer, Boolean> fetched = new HashMap<>();
+    when(client.search(any())).thenAnswer(invocation -> {
+      OpenSearchScrollRequest request = invocation.getArgument(0);
+      assertEquals(200, request.getSourceBuilder().size());
+      assertEquals(SortBuilders.fieldSort(DOC_FIELD_NAME).order(ASC),
+          request.getSourceBuilder().sorts().get(0));
+
+      int sliceId = request.getSourceBuilder().slice().getId();
+      ExprValue[] hits = hitsOfSlices[sliceId];
+      OpenSearchResponse response = mock(OpenSearchResponse.class);
+      if (fetched.put(sliceId, true) == null && hits.length > 0) {
+        when(response.isEmpty()).thenReturn(false);
+        when(response.iterator()).thenReturn(Arrays.asList(hits).iterator());
+      } else {
+        when(response.isEmpty()).thenReturn(true);
+      }
+      return response;
+    });
   }
 
   protected ExprValue employee(int docId, String name, String department) {
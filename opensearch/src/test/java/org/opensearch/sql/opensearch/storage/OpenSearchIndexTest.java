@@ -31,10 +31,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -42,6 +47,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.opensearch.utils.Utils.indexDedupe;
+import static org.opensearch.sql.opensearch.utils.Utils.indexRareTopN;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScan;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScanAgg;
 import static org.opensearch.sql.opensearch.utils.Utils.noProjects;
@@ -57,16 +64,22 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FieldAndFormat;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -83,6 +96,9 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeAggregationRequest;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.AggregationOperator;
@@ -91,6 +107,7 @@ import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
 import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.storage.Table;
 
 @ExtendWith(MockitoExtension.class)
@@ -107,6 +124,11 @@ class OpenSearchIndexTest {
   @Mock
   private Settings settings;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(client.getMinNodeVersion()).thenReturn(Version.CURRENT);
+  }
+
   @Test
   void getFieldTypes() {
     when(client.getIndexMappings("test"))
@@ -281,6 +303,7 @@ class OpenSearchIndexTest {
   @Test
   void shouldImplLogicalIndexScanAgg() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
 
     ReferenceExpression field = ref("name", STRING);
     Expression filterExpr = dsl.equal(field, literal("John"));
@@ -312,6 +335,85 @@ class OpenSearchIndexTest {
             aggregators,
             groupByExprs));
     assertTrue(plan instanceof OpenSearchIndexScan);
+    assertTrue(((OpenSearchIndexScan) plan).getRequest()
+        instanceof OpenSearchCompositeAggregationRequest);
+  }
+
+  @Test
+  void shouldImplLogicalIndexDedupe() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+
+    ReferenceExpression field = ref("name", STRING);
+    Expression filterExpr = dsl.equal(ref("age", INTEGER), literal(30));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+
+    // IndexDedupe without Filter
+    PhysicalPlan plan = index.implement(indexDedupe(indexName, null, field));
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertTrue(((OpenSearchIndexScan) plan).getRequest()
+        instanceof OpenSearchCompositeAggregationRequest);
+
+    // IndexDedupe with Filter
+    plan = index.implement(indexDedupe(indexName, filterExpr, field));
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertTrue(((OpenSearchIndexScan) plan).getRequest()
+        instanceof OpenSearchCompositeAggregationRequest);
+  }
+
+  @Test
+  void shouldImplLogicalIndexRareTopN() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+
+    ReferenceExpression field = ref("name", STRING);
+    Expression filterExpr = dsl.equal(ref("age", INTEGER), literal(30));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+
+    // IndexRareTopN without group and filter
+    PhysicalPlan plan = index.implement(
+        indexRareTopN(indexName, null, CommandType.TOP, 10, field, Arrays.asList()));
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertFalse(((OpenSearchIndexScan) plan).getRequest()
+        instanceof OpenSearchCompositeAggregationRequest);
+
+    // IndexRareTopN with group and filter
+    plan = index.implement(
+        indexRareTopN(indexName, filterExpr, CommandType.TOP, 10, field,
+            Arrays.asList(ref("age", INTEGER))));
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertTrue(((OpenSearchIndexScan) plan).getRequest()
+        instanceof OpenSearchCompositeAggregationRequest);
+  }
+
+  @Test
+  void shouldPushDownBucketLimitOfIndexScanAgg() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+
+    List<NamedExpression> groupByExprs = Arrays.asList(named("age", ref("age", INTEGER)));
+    List<NamedAggregator> aggregators =
+        Arrays.asList(named("avg(age)", new AvgAggregator(Arrays.asList(ref("age", INTEGER)),
+            DOUBLE)));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    PhysicalPlan plan = index.implement(index.optimize(
+        limit(
+            aggregation(
+                relation(indexName),
+                aggregators,
+                groupByExprs),
+            10, 5)));
+
+    assertTrue(plan instanceof LimitOperator);
+    OpenSearchIndexScan indexScan = (OpenSearchIndexScan) plan.getChild().get(0);
+    assertEquals(15, ((OpenSearchCompositeAggregationRequest) indexScan.getRequest())
+        .getBucketLimit());
   }
 
   @Test
@@ -426,12 +528,14 @@ class OpenSearchIndexTest {
     ));
 
     assertTrue(plan instanceof ProjectOperator);
-    assertTrue(((ProjectOperator) plan).getInput() instanceof LimitOperator);
+    assertTrue(((ProjectOperator) plan).getInput() instanceof TopNOperator);
   }
 
   @Test
   void shouldPushDownProjects() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED))
+        .thenReturn(false);
 
     String indexName = "test";
     OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
@@ -450,5 +554,50 @@ class OpenSearchIndexTest {
             .getSourceBuilder().fetchSource();
     assertThat(fetchSource.includes(), arrayContaining("intV"));
     assertThat(fetchSource.excludes(), emptyArray());
+    // Field may be multi-valued, so mapping is not even loaded for doc values by default
+    verify(client, never()).getIndexMappings(indexName);
+  }
+
+  @Test
+  void shouldPushDownProjectsWithDocValues() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOCVALUE_FIELDS_ENABLED))
+        .thenReturn(true);
+    when(client.getIndexMappings("test"))
+        .thenReturn(
+            ImmutableMap.of(
+                "test",
+                new IndexMapping(
+                    ImmutableMap.of("intV", "integer", "name", "keyword"),
+                    ImmutableSet.of("intV", "name"))));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    PhysicalPlan plan = index.implement(
+        project(
+            indexScan(
+                indexName, projects(ref("intV", INTEGER))
+            ),
+            named("i", ref("intV", INTEGER))));
+
+    final SearchSourceBuilder sourceBuilder =
+        ((OpenSearchIndexScan) ((ProjectOperator) plan).getInput()).getRequest()
+            .getSourceBuilder();
+    assertFalse(sourceBuilder.fetchSource().fetchSource());
+    assertThat(sourceBuilder.docValueFields(), contains(new FieldAndFormat("intV", null)));
+    assertEquals(ImmutableSet.of("intV", "name"), index.getDocValueFields());
+  }
+
+  @Test
+  void useCompactExpressionSerializerIfAllNodesUpgraded() {
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, "test");
+    assertTrue(index.getExpressionSerializer() instanceof CompactExpressionSerializer);
+  }
+
+  @Test
+  void useJdkExpressionSerializerDuringRollingUpgrade() {
+    when(client.getMinNodeVersion()).thenReturn(Version.V_1_0_0);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, "test");
+    assertTrue(index.getExpressionSerializer() instanceof DefaultExpressionSerializer);
   }
 }
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class PagePrefetcherTest {
+
+  @Mock
+  private OpenSearchClient client;
+
+  @Mock
+  private OpenSearchRequest request;
+
+  /**
+   * Listeners of fetches in flight.
+   */
+  private final List<ActionListener<OpenSearchResponse>> listeners = new ArrayList<>();
+
+  @Test
+  void fetchPagesAhead() {
+    mockPages(
+        new ExprValue[]{integerValue(1)},
+        new ExprValue[]{integerValue(2), integerValue(3)});
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 2)) {
+      prefetcher.open();
+      verify(client, times(2)).searchAsync(eq(request), any());
+
+      List<ExprValue> actual = new ArrayList<>();
+      prefetcher.forEachRemaining(actual::add);
+      assertEquals(Arrays.asList(integerValue(1), integerValue(2), integerValue(3)), actual);
+      assertThrows(NoSuchElementException.class, prefetcher::next);
+    }
+    verify(client, times(3)).searchAsync(eq(request), any());
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void stopFetchingIfQueueFull() {
+    captureListeners();
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1);
+    prefetcher.open();
+    complete(response(integerValue(1)));
+    verify(client, times(1)).searchAsync(eq(request), any());
+
+    // Next page is fetched once the page in queue is taken
+    assertTrue(prefetcher.hasNext());
+    assertEquals(1, listeners.size());
+    assertEquals(integerValue(1), prefetcher.next());
+
+    complete(response(integerValue(2)));
+    assertTrue(prefetcher.hasNext());
+    assertEquals(integerValue(2), prefetcher.next());
+    complete(response());
+    assertFalse(prefetcher.hasNext());
+    verify(client, times(3)).searchAsync(eq(request), any());
+
+    prefetcher.close();
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void doNotFetchAgainIfNextPageBeingFetched() {
+    captureListeners();
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 2)) {
+      prefetcher.open();
+      complete(response(integerValue(1)));
+      assertEquals(1, listeners.size());
+
+      assertTrue(prefetcher.hasNext());
+      assertEquals(integerValue(1), prefetcher.next());
+      verify(client, times(2)).searchAsync(eq(request), any());
+
+      complete(response());
+      assertFalse(prefetcher.hasNext());
+    }
+  }
+
+  @Test
+  void interruptedWhileWaitingForPage() {
+    captureListeners();
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1)) {
+      prefetcher.open();
+      Thread.currentThread().interrupt();
+      IllegalStateException exception =
+          assertThrows(IllegalStateException.class, prefetcher::hasNext);
+      assertEquals("Interrupted while waiting for page fetched", exception.getMessage());
+      assertTrue(Thread.interrupted());
+    }
+  }
+
+  @Test
+  void throwFailureOfPageFetch() {
+    captureListeners();
+    RuntimeException failure = new IllegalStateException("search failed");
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1)) {
+      prefetcher.open();
+      listeners.remove(0).onFailure(failure);
+      assertSame(failure, assertThrows(IllegalStateException.class, prefetcher::hasNext));
+      assertFalse(prefetcher.hasNext());
+    }
+    verify(client, times(1)).searchAsync(eq(request), any());
+  }
+
+  @Test
+  void wrapCheckedFailureOfPageFetch() {
+    captureListeners();
+    IOException failure = new IOException("connection closed");
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1)) {
+      prefetcher.open();
+      listeners.remove(0).onFailure(failure);
+      IllegalStateException exception =
+          assertThrows(IllegalStateException.class, prefetcher::hasNext);
+      assertEquals("Failed to fetch page", exception.getMessage());
+      assertSame(failure, exception.getCause());
+    }
+  }
+
+  @Test
+  void throwFailureOfSubmittingPageFetch() {
+    RuntimeException failure = new IllegalStateException("rejected");
+    doThrow(failure).when(client).searchAsync(eq(request), any());
+
+    try (PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1)) {
+      prefetcher.open();
+      assertSame(failure, assertThrows(IllegalStateException.class, prefetcher::hasNext));
+    }
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void skipFetchAfterClosed() {
+    PagePrefetcher prefetcher = new PagePrefetcher(client, request, 1);
+    prefetcher.close();
+    prefetcher.open();
+
+    verify(client, never()).searchAsync(any(), any());
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void closeWithoutWaitingForFetchInFlight() {
+    captureListeners();
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, request, 2);
+    prefetcher.open();
+    prefetcher.close();
+    verify(client, never()).cleanup(any());
+
+    // Response of the fetch in flight is ignored and the request is cleaned up by fetcher
+    complete(mock(OpenSearchResponse.class));
+    verify(client, times(1)).cleanup(request);
+    verify(client, times(1)).searchAsync(eq(request), any());
+    assertTrue(listeners.isEmpty());
+  }
+
+  private void captureListeners() {
+    doAnswer(invocation -> listeners.add(invocation.getArgument(1)))
+        .when(client).searchAsync(eq(request), any());
+  }
+
+  private void complete(OpenSearchResponse response) {
+    listeners.remove(0).onResponse(response);
+  }
+
+  /**
+   * Mock pages followed by an empty page which are returned on the calling thread.
+   */
+  private void mockPages(ExprValue[]... pages) {
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    for (ExprValue[] page : pages) {
+      responses.add(response(page));
+    }
+    OpenSearchResponse empty = response();
+    doAnswer(invocation -> {
+      ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+      listener.onResponse(responses.isEmpty() ? empty : responses.remove(0));
+      return null;
+    }).when(client).searchAsync(eq(request), any());
+  }
+
+  private OpenSearchResponse response(ExprValue... rows) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(rows.length == 0);
+    if (rows.length > 0) {
+      when(response.iterator()).thenReturn(Arrays.asList(rows).iterator());
+    }
+    return response;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SlicedScrollFetcherTest {
+
+  @Mock
+  private OpenSearchClient client;
+
+  @Mock
+  private OpenSearchExprValueFactory factory;
+
+  /**
+   * Tasks scheduled but not run by worker thread pool.
+   */
+  private final List<Runnable> tasks = new ArrayList<>();
+
+  @Test
+  void fetchAllSlicesByConsumerIfNoWorkerAvailable() {
+    captureScheduledTasks();
+    mockSlices(
+        new ExprValue[][]{{integerValue(1), integerValue(2)}, {integerValue(3)}},
+        new ExprValue[][]{{integerValue(4)}});
+
+    SlicedScrollFetcher fetcher = fetcher(2);
+    fetcher.open();
+    assertEquals(2, tasks.size());
+    verify(client, never()).search(any());
+
+    List<ExprValue> actual = new ArrayList<>();
+    fetcher.forEachRemaining(actual::add);
+    assertThat(actual,
+        containsInAnyOrder(integerValue(1), integerValue(2), integerValue(3), integerValue(4)));
+    assertThrows(NoSuchElementException.class, fetcher::next);
+
+    // Tasks run by worker threads late do nothing because the pages are fetched already
+    tasks.forEach(Runnable::run);
+    verify(client, times(5)).search(any());
+
+    fetcher.close();
+    verify(client, times(2)).cleanup(any());
+  }
+
+  @Test
+  void fetchAllSlicesByWorkers() {
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(client).schedule(any());
+    mockSlices(
+        new ExprValue[][]{{integerValue(1)}},
+        new ExprValue[][]{{integerValue(2)}, {integerValue(3)}},
+        new ExprValue[][]{});
+
+    try (SlicedScrollFetcher fetcher = fetcher(3)) {
+      fetcher.open();
+      List<ExprValue> actual = new ArrayList<>();
+      fetcher.forEachRemaining(actual::add);
+      assertThat(actual, containsInAnyOrder(integerValue(1), integerValue(2), integerValue(3)));
+    }
+    verify(client, times(6)).search(any());
+    verify(client, times(3)).cleanup(any());
+  }
+
+  @Test
+  void waitForPageBeingFetchedByWorker() throws InterruptedException {
+    ExecutorService worker = Executors.newFixedThreadPool(2);
+    CountDownLatch fetchStarted = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      worker.execute(invocation.getArgument(0));
+      return null;
+    }).when(client).schedule(any());
+    OpenSearchResponse response = response(integerValue(1));
+    when(client.search(any())).thenAnswer(invocation -> {
+      fetchStarted.countDown();
+      Thread.sleep(200);
+      return response;
+    });
+
+    // All slices being fetched by workers already so that consumer has nothing to fetch by itself
+    try (SlicedScrollFetcher fetcher = fetcher(2)) {
+      fetcher.open();
+      fetchStarted.await();
+      assertTrue(fetcher.hasNext());
+      assertEquals(integerValue(1), fetcher.next());
+    } finally {
+      worker.shutdownNow();
+    }
+  }
+
+  @Test
+  void interruptedWhileWaitingForPage() throws InterruptedException {
+    ExecutorService worker = Executors.newFixedThreadPool(2);
+    CountDownLatch fetchStarted = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      worker.execute(invocation.getArgument(0));
+      return null;
+    }).when(client).schedule(any());
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(client.search(any())).thenAnswer(invocation -> {
+      fetchStarted.countDown();
+      Thread.sleep(200);
+      return response;
+    });
+
+    // All slices being fetched by workers already so that consumer has nothing to fetch by itself
+    try (SlicedScrollFetcher fetcher = fetcher(2)) {
+      fetcher.open();
+      fetchStarted.await();
+      Thread.currentThread().interrupt();
+      IllegalStateException exception =
+          assertThrows(IllegalStateException.class, fetcher::hasNext);
+      assertEquals("Interrupted while waiting for slices fetched", exception.getMessage());
+      assertTrue(Thread.interrupted());
+    } finally {
+      worker.shutdownNow();
+    }
+  }
+
+  @Test
+  void throwFailureOfSliceFetch() {
+    captureScheduledTasks();
+    RuntimeException failure = new IllegalStateException("search failed");
+    when(client.search(any())).thenThrow(failure);
+
+    try (SlicedScrollFetcher fetcher = fetcher(2)) {
+      fetcher.open();
+      assertSame(failure, assertThrows(IllegalStateException.class, fetcher::hasNext));
+    }
+  }
+
+  @Test
+  void skipPendingFetchesAfterClosed() {
+    captureScheduledTasks();
+
+    SlicedScrollFetcher fetcher = fetcher(2);
+    fetcher.open();
+    fetcher.close();
+    tasks.forEach(Runnable::run);
+
+    verify(client, never()).search(any());
+    verify(client, times(2)).cleanup(any());
+  }
+
+  @Test
+  void eachSliceShouldSearchItsOwnSlice() {
+    captureScheduledTasks();
+    List<Integer> sliceIds = new ArrayList<>();
+    OpenSearchResponse empty = response();
+    when(client.search(any())).thenAnswer(invocation -> {
+      OpenSearchScrollRequest request = invocation.getArgument(0);
+      assertEquals("test", request.getIndexName());
+      assertEquals(100, request.getSourceBuilder().size());
+      assertEquals(3, request.getSourceBuilder().slice().getMax());
+      sliceIds.add(request.getSourceBuilder().slice().getId());
+      return empty;
+    });
+
+    try (SlicedScrollFetcher fetcher = fetcher(3)) {
+      fetcher.open();
+      assertFalse(fetcher.hasNext());
+    }
+    assertThat(sliceIds, containsInAnyOrder(0, 1, 2));
+  }
+
+  private SlicedScrollFetcher fetcher(int sliceCount) {
+    return new SlicedScrollFetcher(
+        client, "test", new SearchSourceBuilder().size(100), sliceCount, factory);
+  }
+
+  private void captureScheduledTasks() {
+    doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(client).schedule(any());
+  }
+
+  /**
+   * Mock pages of each slice followed by an empty page.
+   */
+  private void mockSlices(ExprValue[][]... pagesOfSlices) {
+    Map<Integer, Integer> fetchedPages = new HashMap<>();
+    when(client.search(any())).thenAnswer(invocation -> {
+      OpenSearchScrollRequest request = invocation.getArgument(0);
+      int sliceId = request.getSourceBuilder().slice().getId();
+      int pageNum = fetchedPages.merge(sliceId, 1, Integer::sum) - 1;
+      ExprValue[][] pages = pagesOfSlices[sliceId];
+      return (pageNum < pages.length) ? response(pages[pageNum]) : response();
+    });
+  }
+
+  private OpenSearchResponse response(ExprValue... rows) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(rows.length == 0);
+    if (rows.length > 0) {
+      when(response.iterator()).thenReturn(Arrays.asList(rows).iterator());
+    }
+    return response;
+  }
+}
@@ -31,6 +31,7 @@ package org.opensearch.sql.opensearch.storage.script.aggregation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -46,6 +47,7 @@ import static org.opensearch.sql.opensearch.utils.Utils.avg;
 import static org.opensearch.sql.opensearch.utils.Utils.group;
 import static org.opensearch.sql.opensearch.utils.Utils.sort;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -62,6 +64,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
@@ -71,6 +75,9 @@ import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.CountAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -447,6 +454,79 @@ class AggregationQueryBuilderTest {
             Arrays.asList(named(span(ref("age", INTEGER), literal(10), "")))));
   }
 
+  @Test
+  @SneakyThrows
+  void should_build_dedupe_aggregation() {
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> dedupe =
+        queryBuilder.buildDedupeAggregationBuilder(ref("name", STRING));
+    assertTrue(dedupe.getRight() instanceof TopHitsParser);
+
+    JsonNode query = new ObjectMapper().readTree(dedupe.getLeft().get(0).toString())
+        .get("composite_buckets");
+    assertEquals(
+        "{\"name\":{\"terms\":{\"field\":\"name\",\"missing_bucket\":false,"
+            + "\"order\":\"asc\"}}}",
+        query.get("composite").get("sources").get(0).toString());
+    JsonNode topHits = query.get("aggregations").get("dedupe_top_hits").get("top_hits");
+    assertEquals(1, topHits.get("size").asInt());
+    assertEquals("[{\"_doc\":{\"order\":\"asc\"}}]", topHits.get("sort").toString());
+  }
+
+  @Test
+  @SneakyThrows
+  void should_build_top_terms_aggregation() {
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> top =
+        queryBuilder.buildRareTopNAggregationBuilder(CommandType.TOP, 5,
+            ref("name", OPENSEARCH_TEXT_KEYWORD), Collections.emptyList());
+    assertTrue(top.getRight() instanceof RareTopNParser);
+
+    JsonNode terms = new ObjectMapper().readTree(top.getLeft().get(0).toString())
+        .get("rare_top_n_terms").get("terms");
+    assertEquals("name.keyword", terms.get("field").asText());
+    assertEquals(5, terms.get("size").asInt());
+    assertEquals(1000, terms.get("shard_size").asInt());
+    assertEquals("desc", terms.findValue("_count").asText());
+
+    JsonNode missing = new ObjectMapper().readTree(top.getLeft().get(1).toString())
+        .get("rare_top_n_missing").get("missing");
+    assertEquals("name.keyword", missing.get("field").asText());
+  }
+
+  @Test
+  @SneakyThrows
+  void should_build_rare_terms_aggregation_by_group() {
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> rare =
+        queryBuilder.buildRareTopNAggregationBuilder(CommandType.RARE, 10,
+            ref("age", INTEGER), Arrays.asList(ref("name", STRING)));
+    assertTrue(rare.getRight() instanceof RareTopNParser);
+
+    JsonNode query = new ObjectMapper().readTree(rare.getLeft().get(0).toString())
+        .get("composite_buckets");
+    assertEquals(
+        "{\"name\":{\"terms\":{\"field\":\"name\",\"missing_bucket\":true,"
+            + "\"order\":\"asc\"}}}",
+        query.get("composite").get("sources").get(0).toString());
+    JsonNode terms = query.get("aggregations").get("rare_top_n_terms").get("terms");
+    assertEquals("age", terms.get("field").asText());
+    assertEquals(10, terms.get("size").asInt());
+    assertEquals(1000, terms.get("shard_size").asInt());
+    assertEquals("asc", terms.findValue("_count").asText());
+    assertEquals("age",
+        query.get("aggregations").get("rare_top_n_missing").get("missing").get("field").asText());
+  }
+
+  @Test
+  @SneakyThrows
+  void should_build_top_terms_aggregation_with_shard_size_greater_than_size() {
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> top =
+        queryBuilder.buildRareTopNAggregationBuilder(CommandType.TOP, 500,
+            ref("age", INTEGER), Collections.emptyList());
+
+    JsonNode terms = new ObjectMapper().readTree(top.getLeft().get(0).toString())
+        .get("rare_top_n_terms").get("terms");
+    assertEquals(5000, terms.get("shard_size").asInt());
+  }
+
   @SneakyThrows
   private String buildQuery(List<NamedAggregator> namedAggregatorList,
                             List<NamedExpression> groupByList) {
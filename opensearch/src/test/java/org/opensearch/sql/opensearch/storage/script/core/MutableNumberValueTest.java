@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+class MutableNumberValueTest {
+
+  private static Stream<Arguments> values() {
+    return Stream.of(
+        Arguments.of(longValue(INTEGER, (1L << 32) + 5), new ExprIntegerValue(5)),
+        Arguments.of(longValue(LONG, 10L), new ExprLongValue(10L)),
+        Arguments.of(longValue(SHORT, (1L << 16) + 7), new ExprShortValue(7)),
+        Arguments.of(longValue(BYTE, (1L << 8) + 3), new ExprByteValue(3)),
+        Arguments.of(doubleValue(FLOAT, 1.1D), new ExprFloatValue(1.1F)),
+        Arguments.of(doubleValue(DOUBLE, 2.5D), new ExprDoubleValue(2.5D)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  void behaveSameAsNumberValueOfSameType(MutableNumberValue value, ExprValue expected) {
+    assertEquals(expected.type(), value.type());
+    assertEquals(expected.value(), value.value());
+    assertEquals(expected.toString(), value.toString());
+    assertEquals(expected.hashCode(), value.hashCode());
+    assertTrue(value.isNumber());
+    assertEquals(expected.byteValue(), value.byteValue());
+    assertEquals(expected.shortValue(), value.shortValue());
+    assertEquals(expected.integerValue(), value.integerValue());
+    assertEquals(expected.longValue(), value.longValue());
+    assertEquals(expected.floatValue(), value.floatValue());
+    assertEquals(expected.doubleValue(), value.doubleValue());
+    assertEquals(0, value.compareTo(expected));
+    assertEquals(value, expected);
+    assertEquals(expected, value);
+    assertTrue(value.compareTo(new ExprByteValue(100)) < 0);
+  }
+
+  private static MutableNumberValue longValue(ExprType type, long value) {
+    MutableNumberValue numberValue = new MutableNumberValue(type);
+    numberValue.setLong(value);
+    return numberValue;
+  }
+
+  private static MutableNumberValue doubleValue(ExprType type, double value) {
+    MutableNumberValue numberValue = new MutableNumberValue(type);
+    numberValue.setDouble(value);
+    return numberValue;
+  }
+}
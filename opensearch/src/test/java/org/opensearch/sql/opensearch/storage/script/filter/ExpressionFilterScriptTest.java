@@ -33,9 +33,11 @@ import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -45,11 +47,13 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -58,6 +62,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
@@ -107,6 +112,87 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_with_long_doc_values() throws IOException {
+    SortedNumericDocValues numericDocValues = mock(SortedNumericDocValues.class);
+    when(numericDocValues.advanceExact(anyInt())).thenReturn(true);
+    when(numericDocValues.docValueCount()).thenReturn(1);
+    when(numericDocValues.nextValue()).thenReturn(30L);
+    ScriptDocValues.Longs longs = new ScriptDocValues.Longs(numericDocValues);
+    longs.setNextDocId(0);
+
+    assertThat()
+        .docValues("age", longs)
+        .filterBy(
+            dsl.greater(ref("age", INTEGER), literal(20)))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_double_doc_values() throws IOException {
+    SortedNumericDoubleValues numericDocValues = mock(SortedNumericDoubleValues.class);
+    when(numericDocValues.advanceExact(anyInt())).thenReturn(true);
+    when(numericDocValues.docValueCount()).thenReturn(1);
+    when(numericDocValues.nextValue()).thenReturn(100.5D);
+    ScriptDocValues.Doubles doubles = new ScriptDocValues.Doubles(numericDocValues);
+    doubles.setNextDocId(0);
+
+    assertThat()
+        .docValues("balance", doubles)
+        .filterBy(
+            dsl.greater(ref("balance", DOUBLE), literal(100.0D)))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_empty_numeric_doc_value() {
+    assertThat()
+        .docValues("age", emptyList())
+        .filterBy(dsl.isnull(ref("age", INTEGER)))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_date_doc_values() throws IOException {
+    SortedNumericDocValues numericDocValues = mock(SortedNumericDocValues.class);
+    when(numericDocValues.advanceExact(anyInt())).thenReturn(true);
+    when(numericDocValues.docValueCount()).thenReturn(1);
+    when(numericDocValues.nextValue())
+        .thenReturn(ZonedDateTime.parse("2020-08-04T10:00:00Z").toInstant().toEpochMilli());
+    ScriptDocValues.Dates dates = new ScriptDocValues.Dates(numericDocValues, false);
+    dates.setNextDocId(0);
+
+    ExprTimestampValue ts = new ExprTimestampValue("2020-08-04 10:00:00");
+    assertThat()
+        .docValues("birthday", dates)
+        .filterBy(dsl.equal(ref("birthday", TIMESTAMP), new LiteralExpression(ts)))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_empty_date_doc_values() throws IOException {
+    SortedNumericDocValues numericDocValues = mock(SortedNumericDocValues.class);
+    when(numericDocValues.advanceExact(anyInt())).thenReturn(false);
+    ScriptDocValues.Dates dates = new ScriptDocValues.Dates(numericDocValues, false);
+    dates.setNextDocId(0);
+
+    assertThat()
+        .docValues("birthday", dates)
+        .filterBy(dsl.isnull(ref("birthday", TIMESTAMP)))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_same_field_referenced_more_than_once() {
+    assertThat()
+        .docValues("age", 30L)
+        .filterBy(
+            dsl.and(
+                dsl.greater(ref("age", INTEGER), literal(20)),
+                dsl.less(ref("age", INTEGER), literal(40))))
+        .shouldMatch();
+  }
+
   @Test
   void can_execute_expression_with_text_keyword_field() {
     assertThat()
@@ -198,6 +284,14 @@ class ExpressionFilterScriptTest {
       return this;
     }
 
+    ExprScriptAssertion docValues(String name, ScriptDocValues<?> docValues) {
+      LeafDocLookup leafDocLookup = mockLeafDocLookup(ImmutableMap.of(name, docValues));
+
+      when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+      when(leafLookup.doc()).thenReturn(leafDocLookup);
+      return this;
+    }
+
     ExprScriptAssertion docValues(String name1, Object value1,
                                   String name2, Object value2) {
       LeafDocLookup leafDocLookup = mockLeafDocLookup(
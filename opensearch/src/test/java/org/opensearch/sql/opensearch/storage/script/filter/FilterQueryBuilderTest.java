@@ -128,6 +128,36 @@ class FilterQueryBuilderTest {
                 ref("name", STRING), literal("%John_"))));
   }
 
+  @Test
+  void should_build_match_all_query_for_true_literal() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(literal(true)));
+  }
+
+  @Test
+  void should_build_match_none_query_for_false_literal() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"must_not\" : [\n"
+            + "      {\n"
+            + "        \"match_all\" : {\n"
+            + "          \"boost\" : 1.0\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(literal(false)));
+  }
+
   @Test
   void should_build_script_query_for_unsupported_lucene_query() {
     mockToStringSerializer();
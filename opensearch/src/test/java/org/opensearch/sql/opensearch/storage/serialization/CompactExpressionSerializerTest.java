@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompactExpressionSerializerTest {
+
+  /**
+   * Initialize function repository manually to avoid dependency on Spring container.
+   */
+  private final BuiltinFunctionRepository repository =
+      new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(repository);
+
+  private final ExpressionSerializer serializer = new CompactExpressionSerializer(repository);
+
+  @Test
+  public void can_serialize_and_deserialize_literals() {
+    assertRoundTrip(literal(10));
+    assertRoundTrip(literal("hello"));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_references() {
+    assertRoundTrip(ref("name", STRING));
+    assertRoundTrip(ref("address.city", OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_predicates() {
+    assertRoundTrip(dsl.or(literal(true), dsl.less(ref("age", INTEGER), literal(2))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions() {
+    assertRoundTrip(dsl.abs(ref("balance", DOUBLE)));
+    assertRoundTrip(dsl.add(ref("age", INTEGER), dsl.abs(literal(-1))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_case_clause() {
+    assertRoundTrip(new CaseClause(
+        ImmutableList.of(
+            new WhenClause(dsl.equal(ref("age", INTEGER), literal(30)), literal("Thirty"))),
+        literal("Other")));
+    assertRoundTrip(new CaseClause(
+        ImmutableList.of(
+            new WhenClause(dsl.equal(ref("age", INTEGER), literal(30)), literal("Thirty"))),
+        null));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_named_arguments() {
+    assertRoundTrip(dsl.namedArgument("query", literal("hello")));
+  }
+
+  @Test
+  public void same_expression_should_produce_same_code() {
+    assertEquals(
+        serializer.serialize(dsl.abs(dsl.add(ref("age", INTEGER), literal(1)))),
+        serializer.serialize(dsl.abs(dsl.add(ref("age", INTEGER), literal(1)))));
+  }
+
+  @Test
+  public void code_should_be_more_compact_than_jdk_serialization() {
+    Expression expr = dsl.abs(dsl.add(ref("age", INTEGER), literal(1)));
+    assertTrue(serializer.serialize(expr).length()
+        < new DefaultExpressionSerializer().serialize(expr).length());
+  }
+
+  @Test
+  public void can_deserialize_code_of_jdk_serialization() {
+    Expression original = dsl.less(ref("age", INTEGER), literal(2));
+    Expression actual =
+        serializer.deserialize(new DefaultExpressionSerializer().serialize(original));
+    assertEquals(original, actual);
+  }
+
+  @Test
+  public void cannot_serialize_illegal_expression() {
+    Expression illegalExpr = new Expression() {
+      private final Object object = new Object(); // non-serializable
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return null;
+      }
+
+      @Override
+      public ExprType type() {
+        return null;
+      }
+
+      @Override
+      public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+        return null;
+      }
+    };
+    assertThrows(IllegalStateException.class, () -> serializer.serialize(illegalExpr));
+  }
+
+  @Test
+  public void cannot_deserialize_illegal_expression_code() {
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+  }
+
+  @Test
+  public void cannot_deserialize_code_of_unknown_version() {
+    String code = Base64.getEncoder().encodeToString(new byte[] {99, 1});
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> serializer.deserialize(code));
+    assertEquals("Unsupported expression code version: 99", exception.getMessage());
+  }
+
+  private void assertRoundTrip(Expression original) {
+    assertEquals(original, serializer.deserialize(serializer.serialize(original)));
+  }
+
+}
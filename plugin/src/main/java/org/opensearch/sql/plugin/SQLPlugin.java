@@ -27,6 +27,8 @@
 package org.opensearch.sql.plugin;
 
 import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 import org.opensearch.client.Client;
+import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
@@ -58,20 +61,29 @@ import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
+import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.planner.PlanCache;
+import org.opensearch.sql.plugin.rest.OpenSearchPluginConfig;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
 import org.opensearch.sql.plugin.rest.RestQuerySettingsAction;
+import org.opensearch.sql.ppl.PPLService;
+import org.opensearch.sql.ppl.config.PPLServiceConfig;
+import org.opensearch.sql.sql.SQLService;
+import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
@@ -82,6 +94,13 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
    */
   private org.opensearch.sql.common.setting.Settings pluginSettings;
 
+  /**
+   * Query services are stateless and shared by all REST requests.
+   */
+  private SQLService sqlService;
+
+  private PPLService pplService;
+
   public String name() {
     return "sql";
   }
@@ -99,13 +118,17 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
                                            Supplier<DiscoveryNodes> nodesInCluster) {
     Objects.requireNonNull(clusterService, "Cluster service is required");
     Objects.requireNonNull(pluginSettings, "Cluster settings is required");
+    Objects.requireNonNull(sqlService, "SQL service is required");
+    Objects.requireNonNull(pplService, "PPL service is required");
 
     LocalClusterState.state().setResolver(indexNameExpressionResolver);
     Metrics.getInstance().registerDefaultMetrics();
+    registerPlanCacheMetrics("", sqlService.getPlanCache());
+    registerPlanCacheMetrics("ppl_", pplService.getPlanCache());
 
     return Arrays.asList(
-        new RestPPLQueryAction(restController, clusterService, pluginSettings, settings),
-        new RestSqlAction(settings, clusterService, pluginSettings),
+        new RestPPLQueryAction(restController, pplService, pluginSettings, settings),
+        new RestSqlAction(settings, sqlService),
         new RestSqlStatsAction(settings, restController),
         new RestPPLStatsAction(settings, restController),
         new RestQuerySettingsAction(settings, restController)
@@ -130,6 +153,18 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
 
+    AnnotationConfigApplicationContext context = createServiceContext((NodeClient) client);
+    this.sqlService = context.getBean(SQLService.class);
+    this.pplService = context.getBean(PPLService.class);
+
+    // Analyzed plan depends on index mapping which may change along with metadata
+    clusterService.addListener(event -> {
+      if (event.metadataChanged()) {
+        sqlService.getPlanCache().invalidateAll();
+        pplService.getPlanCache().invalidateAll();
+      }
+    });
+
     return super
         .createComponents(client, clusterService, threadPool, resourceWatcherService, scriptService,
             contentRegistry, environment, nodeEnvironment, namedWriteableRegistry,
@@ -157,9 +192,46 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         .build();
   }
 
+  /**
+   * Build the query engine object graph once on plugin bootstrap. Spring context initialization
+   * is reflection heavy and all the beans are stateless singletons, so REST handlers share the
+   * services instead of creating a new context for each request.
+   */
+  private AnnotationConfigApplicationContext createServiceContext(NodeClient client) {
+    return doPrivileged(() -> {
+      AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+      context.registerBean(ClusterService.class, () -> clusterService);
+      context.registerBean(NodeClient.class, () -> client);
+      context.registerBean(org.opensearch.sql.common.setting.Settings.class, () -> pluginSettings);
+      context.register(OpenSearchPluginConfig.class);
+      context.register(SQLServiceConfig.class);
+      context.register(PPLServiceConfig.class);
+      context.refresh();
+      return context;
+    });
+  }
+
+  private void registerPlanCacheMetrics(String prefix, PlanCache planCache) {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(prefix + "plan_cache_hit_count", planCache::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(prefix + "plan_cache_miss_count", planCache::missCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(prefix + "plan_cache_eviction_count", planCache::evictionCount));
+  }
+
+  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
+    try {
+      return SecurityAccess.doPrivileged(action);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to perform privileged action", e);
+    }
+  }
+
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    return new ExpressionScriptEngine(new CompactExpressionSerializer());
   }
 
 }
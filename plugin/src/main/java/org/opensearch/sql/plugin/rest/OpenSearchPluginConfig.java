@@ -73,7 +73,7 @@ public class OpenSearchPluginConfig {
 
   @Bean
   public ExecutionEngine executionEngine() {
-    return new OpenSearchExecutionEngine(client(), protector());
+    return new OpenSearchExecutionEngine(client(), protector(), resourceMonitor());
   }
 
   @Bean
@@ -83,6 +83,6 @@ public class OpenSearchPluginConfig {
 
   @Bean
   public ExecutionProtector protector() {
-    return new OpenSearchExecutionProtector(resourceMonitor());
+    return new OpenSearchExecutionProtector(resourceMonitor(), settings, client());
   }
 }
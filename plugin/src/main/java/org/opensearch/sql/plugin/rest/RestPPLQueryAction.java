@@ -34,7 +34,9 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import java.io.IOException;
-import java.security.PrivilegedExceptionAction;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -43,7 +45,7 @@ import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
-import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -59,14 +61,12 @@ import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.exception.QueryEngineException;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
-import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.opensearch.response.error.ErrorMessageFactory;
-import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.plugin.request.PPLQueryRequestFactory;
 import org.opensearch.sql.ppl.PPLService;
-import org.opensearch.sql.ppl.config.PPLServiceConfig;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
@@ -76,7 +76,6 @@ import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.VisualizationResponseFormatter;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 public class RestPPLQueryAction extends BaseRestHandler {
   public static final String QUERY_API_ENDPOINT = "/_plugins/_ppl";
@@ -87,26 +86,20 @@ public class RestPPLQueryAction extends BaseRestHandler {
   private static final Logger LOG = LogManager.getLogger();
 
   /**
-   * Cluster service required by bean initialization.
+   * PPL service shared by all requests. It is created once on plugin bootstrap.
    */
-  private final ClusterService clusterService;
-
-  /**
-   * Settings required by been initialization.
-   */
-  private final Settings pluginSettings;
+  private final PPLService pplService;
 
   private final Supplier<Boolean> pplEnabled;
 
   /**
    * Constructor of RestPPLQueryAction.
    */
-  public RestPPLQueryAction(RestController restController, ClusterService clusterService,
+  public RestPPLQueryAction(RestController restController, PPLService pplService,
                             Settings pluginSettings,
                             org.opensearch.common.settings.Settings clusterSettings) {
     super();
-    this.clusterService = clusterService;
-    this.pluginSettings = pluginSettings;
+    this.pplService = pplService;
     this.pplEnabled =
         () -> MULTI_ALLOW_EXPLICIT_INDEX.get(clusterSettings)
             && (Boolean) pluginSettings.getSettingValue(Settings.Key.PPL_ENABLED);
@@ -153,38 +146,12 @@ public class RestPPLQueryAction extends BaseRestHandler {
       ), BAD_REQUEST);
     }
 
-    PPLService pplService = createPPLService(nodeClient);
     PPLQueryRequest pplRequest = PPLQueryRequestFactory.getPPLRequest(request);
 
     if (pplRequest.isExplainRequest()) {
       return channel -> pplService.explain(pplRequest, createExplainResponseListener(channel));
     }
-    return channel -> pplService.execute(pplRequest, createListener(channel, pplRequest));
-  }
-
-  /**
-   * Ideally, the AnnotationConfigApplicationContext should be shared across Plugin. By default,
-   * spring construct all the bean as singleton. Currently, there are no better solution to
-   * create the bean in protocol scope. The limitations are
-   * alt-1, add annotation for bean @Scope(value = SCOPE_PROTOTYPE, proxyMode = TARGET_CLASS), it
-   * works by add the proxy,
-   * but when running in OpenSearch, all the operation need security permission whic is hard
-   * to control.
-   * alt-2, using ObjectFactory with @Autowired, it also works, but require add to all the
-   * configuration.
-   * We will revisit the current solution if any major issue found.
-   */
-  private PPLService createPPLService(NodeClient client) {
-    return doPrivileged(() -> {
-      AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
-      context.registerBean(ClusterService.class, () -> clusterService);
-      context.registerBean(NodeClient.class, () -> client);
-      context.registerBean(Settings.class, () -> pluginSettings);
-      context.register(OpenSearchPluginConfig.class);
-      context.register(PPLServiceConfig.class);
-      context.refresh();
-      return context.getBean(PPLService.class);
-    });
+    return channel -> pplService.executeStream(pplRequest, createListener(channel, pplRequest));
   }
 
   /**
@@ -214,8 +181,8 @@ public class RestPPLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createListener(RestChannel channel,
-                                                         PPLQueryRequest pplRequest) {
+  private ResponseListener<StreamingQueryResponse> createListener(RestChannel channel,
+                                                                  PPLQueryRequest pplRequest) {
     Format format = pplRequest.format();
     ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
@@ -227,11 +194,16 @@ public class RestPPLQueryAction extends BaseRestHandler {
     } else {
       formatter = new SimpleJsonResponseFormatter(PRETTY);
     }
-    return new ResponseListener<QueryResponse>() {
+    return new ResponseListener<StreamingQueryResponse>() {
       @Override
-      public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK, formatter.format(new QueryResult(response.getSchema(),
-            response.getResults())));
+      public void onResponse(StreamingQueryResponse response) {
+        try {
+          sendResponse(channel, OK, formatter,
+              new QueryResult(response.getSchema(), response.getResults()));
+        } catch (Exception e) {
+          // Rows are pulled from the plan while formatting so execution error may surface here
+          onFailure(e);
+        }
       }
 
       @Override
@@ -248,19 +220,28 @@ public class RestPPLQueryAction extends BaseRestHandler {
     };
   }
 
-  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
-    try {
-      return SecurityAccess.doPrivileged(action);
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to perform privileged action", e);
-    }
-  }
-
   private void sendResponse(RestChannel channel, RestStatus status, String content) {
     channel.sendResponse(
         new BytesRestResponse(status, "application/json; charset=UTF-8", content));
   }
 
+  /**
+   * Write formatted rows to the reusable bytes output of REST channel as they are pulled from
+   * the plan, so neither result rows nor formatted string is held in memory. REST channel can
+   * only send a response as a whole, therefore the encoded bytes are still buffered in the
+   * paged output until the last row is written.
+   */
+  private void sendResponse(RestChannel channel, RestStatus status,
+                            ResponseFormatter<QueryResult> formatter, QueryResult result)
+      throws IOException {
+    BytesStreamOutput output = channel.bytesOutput();
+    Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    formatter.format(result, writer);
+    writer.flush();
+    channel.sendResponse(
+        new BytesRestResponse(status, "application/json; charset=UTF-8", output.bytes()));
+  }
+
   private void reportError(final RestChannel channel, final Exception e, final RestStatus status) {
     channel.sendResponse(new BytesRestResponse(status,
         ErrorMessageFactory.createErrorMessage(e, status.getStatus()).toString()));
@@ -28,6 +28,7 @@ package org.opensearch.sql.ppl;
 
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.logging.log4j.LogManager;
@@ -39,8 +40,10 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.LogUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.PlanCache;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -65,6 +68,9 @@ public class PPLService {
 
   private final BuiltinFunctionRepository repository;
 
+  @Getter
+  private final PlanCache planCache;
+
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
   private static final Logger LOG = LogManager.getLogger();
@@ -83,6 +89,22 @@ public class PPLService {
     }
   }
 
+  /**
+   * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to consume the rows
+   * streamed from the plan.
+   *
+   * @param request  {@link PPLQueryRequest}
+   * @param listener {@link ResponseListener}
+   */
+  public void executeStream(PPLQueryRequest request,
+                            ResponseListener<StreamingQueryResponse> listener) {
+    try {
+      executionEngine.executeStream(plan(request), listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /**
    * Explain the query in {@link PPLQueryRequest} using {@link ResponseListener} to
    * get and format explain response.
@@ -106,13 +128,13 @@ public class PPLService {
 
     LOG.info("[{}] Incoming request {}", LogUtils.getRequestId(), anonymizer.anonymizeData(ast));
 
-    // 2.Analyze abstract syntax to generate logical plan
-    LogicalPlan logicalPlan = analyzer.analyze(UnresolvedPlanHelper.addSelectAll(ast),
-        new AnalysisContext());
+    // 2.Analyze and optimize only if the plan of same query is not cached
+    return planCache.plan(request.getRequest(), () -> analyze(ast),
+        new Planner(storageEngine, LogicalPlanOptimizer.create(new DSL(repository))));
+  }
 
-    // 3.Generate optimal physical plan from logical plan
-    return new Planner(storageEngine, LogicalPlanOptimizer.create(new DSL(repository)))
-        .plan(logicalPlan);
+  private LogicalPlan analyze(UnresolvedPlan ast) {
+    return analyzer.analyze(UnresolvedPlanHelper.addSelectAll(ast), new AnalysisContext());
   }
 
 }
@@ -31,6 +31,7 @@ import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.PlanCache;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.storage.StorageEngine;
@@ -52,7 +53,7 @@ public class PPLServiceConfig {
   @Autowired
   private BuiltinFunctionRepository functionRepository;
 
-  @Bean
+  @Bean(name = "pplAnalyzer")
   public Analyzer analyzer() {
     return new Analyzer(new ExpressionAnalyzer(functionRepository), storageEngine);
   }
@@ -60,7 +61,7 @@ public class PPLServiceConfig {
   @Bean
   public PPLService pplService() {
     return new PPLService(new PPLSyntaxParser(), analyzer(), storageEngine, executionEngine,
-        functionRepository);
+        functionRepository, new PlanCache());
   }
 
 }
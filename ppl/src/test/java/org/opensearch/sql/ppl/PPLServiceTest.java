@@ -44,6 +44,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.ppl.config.PPLServiceConfig;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
@@ -131,6 +132,43 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testExecuteStreamShouldPass() {
+    doAnswer(invocation -> {
+      ResponseListener<StreamingQueryResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new StreamingQueryResponse(schema, Collections.emptyIterator()));
+      return null;
+    }).when(executionEngine).executeStream(any(), any());
+
+    pplService.executeStream(new PPLQueryRequest("search source=t a=1", null, null),
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse pplQueryResponse) {
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        });
+  }
+
+  @Test
+  public void testExecuteStreamWithIllegalQueryShouldBeCaughtByHandler() {
+    pplService.executeStream(new PPLQueryRequest("search", null, null),
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse pplQueryResponse) {
+            Assert.fail();
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+
+          }
+        });
+  }
+
   @Test
   public void testExplainShouldPass() {
     doAnswer(invocation -> {
@@ -27,12 +27,14 @@
 
 package org.opensearch.sql.protocol.response;
 
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -40,25 +42,50 @@ import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 
 /**
  * Query response that encapsulates query results and isolate {@link ExprValue}
- * related from formatter implementation.
+ * related from formatter implementation. The results are either collected already or streamed
+ * from the plan, in which case each row is converted only when it's iterated and the results can
+ * only be iterated once.
  */
-@RequiredArgsConstructor
 public class QueryResult implements Iterable<Object[]> {
 
   @Getter
   private final ExecutionEngine.Schema schema;
 
   /**
-   * Results which are collection of expression.
+   * Results which are collection of expression, or null if streamed and not collected yet.
    */
-  private final Collection<ExprValue> exprValues;
+  private Collection<ExprValue> exprValues;
 
+  /**
+   * Results streamed from the plan, or null if collected already.
+   */
+  private Iterator<ExprValue> stream;
+
+  public QueryResult(ExecutionEngine.Schema schema, Collection<ExprValue> exprValues) {
+    this.schema = schema;
+    this.exprValues = exprValues;
+  }
+
+  /**
+   * Query result whose rows are pulled from the iterator while formatted.
+   */
+  public QueryResult(ExecutionEngine.Schema schema, Iterator<ExprValue> stream) {
+    this.schema = schema;
+    this.stream = stream;
+  }
 
   /**
-   * size of results.
+   * size of results. Streamed results are collected at the first call, so formatter writing rows
+   * incrementally counts the rows while writing instead.
    * @return size of results
    */
   public int size() {
+    if (exprValues == null) {
+      List<ExprValue> collected = new ArrayList<>();
+      stream.forEachRemaining(collected::add);
+      exprValues = collected;
+      stream = null;
+    }
     return exprValues.size();
   }
 
@@ -78,12 +105,9 @@ public class QueryResult implements Iterable<Object[]> {
 
   @Override
   public Iterator<Object[]> iterator() {
-    // Any chance to avoid copy for json response generation?
-    return exprValues.stream()
-        .map(ExprValueUtils::getTupleValue)
-        .map(Map::values)
-        .map(this::convertExprValuesToValues)
-        .iterator();
+    Iterator<ExprValue> values = (exprValues != null) ? exprValues.iterator() : stream;
+    return Iterators.transform(values,
+        value -> convertExprValuesToValues(ExprValueUtils.getTupleValue(value).values()));
   }
 
   private String getColumnName(Column column) {
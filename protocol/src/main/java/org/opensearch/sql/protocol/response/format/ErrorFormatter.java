@@ -28,6 +28,8 @@ package org.opensearch.sql.protocol.response.format;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.Getter;
@@ -71,6 +73,28 @@ public class ErrorFormatter {
         (PrivilegedAction<String>) () -> PRETTY_PRINT_GSON.toJson(jsonObject));
   }
 
+  /**
+   * Util method to create JSON writer that writes JSON in the same way as
+   * {@link #prettyJsonify(Object)} or {@link #compactJsonify(Object)}.
+   */
+  public static JsonWriter newJsonWriter(Writer writer, boolean pretty) {
+    JsonWriter jsonWriter = new JsonWriter(writer);
+    if (pretty) {
+      jsonWriter.setIndent("  "); // Same indent as Gson pretty printing
+    }
+    return jsonWriter;
+  }
+
+  /**
+   * Util method to write object as JSON value to the JSON writer.
+   */
+  public static void jsonify(Object jsonObject, JsonWriter writer) {
+    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+      GSON.toJson(jsonObject, jsonObject.getClass(), writer);
+      return null;
+    });
+  }
+
   @RequiredArgsConstructor
   @Getter
   public static class JsonError {
@@ -28,6 +28,8 @@ package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -56,6 +58,11 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     return result.getFlat();
   }
 
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    new FlatResult(response, sanitize).writeFlat(writer);
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
@@ -79,14 +86,27 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       return String.join(INTERLINE_SEPARATOR, headersAndData);
     }
 
+    /**
+     * Write the same content as {@link #getFlat()} line by line.
+     */
+    public void writeFlat(Writer writer) throws IOException {
+      writer.write(getHeaderLine(response, sanitize));
+      for (Object[] row : response) {
+        writer.write(INTERLINE_SEPARATOR);
+        writer.write(getDataLine(row));
+      }
+      writer.flush();
+    }
+
     private String getHeaderLine(QueryResult response, boolean sanitize) {
       List<String> headers = getHeaders(response, sanitize);
       return String.join(INLINE_SEPARATOR, headers);
     }
 
     private List<String> getDataLines(QueryResult response, boolean sanitize) {
-      List<List<String>> data = getData(response, sanitize);
-      return data.stream().map(v -> String.join(INLINE_SEPARATOR, v)).collect(Collectors.toList());
+      List<String> dataLines = new ArrayList<>();
+      response.iterator().forEachRemaining(row -> dataLines.add(getDataLine(row)));
+      return dataLines;
     }
 
     private List<String> getHeaders(QueryResult response, boolean sanitize) {
@@ -96,53 +116,33 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       return sanitizeHeaders(result);
     }
 
-    private List<List<String>> getData(QueryResult response, boolean sanitize) {
-      ImmutableList.Builder<List<String>> dataLines = new ImmutableList.Builder<>();
-      response.iterator().forEachRemaining(row -> {
-        ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
-        // replace null values with empty string
-        Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
-        dataLines.add(line.build());
-      });
-      List<List<String>> result = dataLines.build();
-      return sanitizeData(result);
+    private String getDataLine(Object[] row) {
+      ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
+      // replace null values with empty string
+      Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
+      return String.join(INLINE_SEPARATOR, sanitizeLine(line.build()));
     }
 
     /**
      * Sanitize headers because OpenSearch allows special character present in field names.
      */
     private List<String> sanitizeHeaders(List<String> headers) {
+      return sanitizeLine(headers);
+    }
+
+    private List<String> sanitizeLine(List<String> line) {
       if (sanitize) {
-        return headers.stream()
+        return line.stream()
                 .map(this::sanitizeCell)
                 .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
                 .collect(Collectors.toList());
       } else {
-        return headers.stream()
+        return line.stream()
                 .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
                 .collect(Collectors.toList());
       }
     }
 
-    private List<List<String>> sanitizeData(List<List<String>> lines) {
-      List<List<String>> result = new ArrayList<>();
-      if (sanitize) {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(this::sanitizeCell)
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      } else {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      }
-      return result;
-    }
-
     private String sanitizeCell(String cell) {
       if (isStartWithSensitiveChar(cell)) {
         return "'" + cell;
@@ -27,6 +27,10 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -67,6 +71,26 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return json.build();
   }
 
+  /**
+   * Write the same JSON as {@link #format(QueryResult)} row by row. Total and size are
+   * written after data rows so that they're counted while writing.
+   */
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    List<Column> schema = new ArrayList<>();
+    response.getSchema().getColumns().forEach(col -> schema.add(fetchColumn(col)));
+
+    JsonWriter json = jsonWriter(writer);
+    json.beginObject().name("schema");
+    ErrorFormatter.jsonify(schema, json);
+    long size = writeDataRows(response, json);
+    json.name("total").value(size)
+        .name("size").value(size)
+        .name("status").value(200)
+        .endObject()
+        .flush();
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
@@ -29,10 +29,14 @@ package org.opensearch.sql.protocol.response.format;
 
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.compactFormat;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.compactJsonify;
+import static org.opensearch.sql.protocol.response.format.ErrorFormatter.newJsonWriter;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyFormat;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.RequiredArgsConstructor;
@@ -80,4 +84,30 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return AccessController.doPrivileged((PrivilegedAction<String>) () ->
         (style == PRETTY) ? prettyJsonify(jsonObject) : compactJsonify(jsonObject));
   }
+
+  /**
+   * Create JSON writer in the same style as {@link #jsonify(Object)}.
+   */
+  protected JsonWriter jsonWriter(Writer writer) {
+    return newJsonWriter(writer, style == PRETTY);
+  }
+
+  /**
+   * Write data rows one by one to the JSON writer so that the rows are never all converted
+   * in memory at the same time.
+   *
+   * @param rows   data rows
+   * @param writer JSON writer
+   * @return number of rows written
+   */
+  protected long writeDataRows(Iterable<Object[]> rows, JsonWriter writer) throws IOException {
+    long count = 0;
+    writer.name("datarows").beginArray();
+    for (Object[] row : rows) {
+      ErrorFormatter.jsonify(row, writer);
+      count++;
+    }
+    writer.endArray();
+    return count;
+  }
 }
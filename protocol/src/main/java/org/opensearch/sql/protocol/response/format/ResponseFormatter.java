@@ -27,6 +27,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Response formatter to format response to different formats.
  */
@@ -40,6 +43,19 @@ public interface ResponseFormatter<R> {
    */
   String format(R response);
 
+  /**
+   * Format response and write it to the writer incrementally, so the formatted content
+   * is not required to be built in memory as a whole. By default, it is formatted into
+   * string first and then written at once.
+   *
+   * @param response response
+   * @param writer   writer that formatted content is written to
+   * @throws IOException if failed to write
+   */
+  default void format(R response, Writer writer) throws IOException {
+    writer.write(format(response));
+  }
+
   /**
    * Format an exception into string.
    *
@@ -27,6 +27,10 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -73,6 +77,25 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return json.build();
   }
 
+  /**
+   * Write the same JSON as {@link #format(QueryResult)} row by row. Total and size are
+   * written after data rows so that they're counted while writing.
+   */
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    List<Column> schema = new ArrayList<>();
+    response.columnNameTypes().forEach((name, type) -> schema.add(new Column(name, type)));
+
+    JsonWriter json = jsonWriter(writer);
+    json.beginObject().name("schema");
+    ErrorFormatter.jsonify(schema, json);
+    long size = writeDataRows(response, json);
+    json.name("total").value(size)
+        .name("size").value(size)
+        .endObject()
+        .flush();
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -29,6 +29,8 @@ package org.opensearch.sql.protocol.response;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -38,7 +40,10 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 
 class QueryResultTest {
@@ -136,4 +141,34 @@ class QueryResultTest {
     }
   }
 
+  @Test
+  void iterateStreamedResultOnce() {
+    List<ExprValue> values = Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+        tupleValue(ImmutableMap.of("name", "Allen", "age", 30)));
+    Iterator<ExprValue> stream = values.iterator();
+    QueryResult response = new QueryResult(schema, stream);
+
+    Iterator<Object[]> rows = response.iterator();
+    assertArrayEquals(new Object[] {"John", 20}, rows.next());
+    assertTrue(stream.hasNext());
+    assertArrayEquals(new Object[] {"Allen", 30}, rows.next());
+    assertFalse(rows.hasNext());
+    assertFalse(response.iterator().hasNext());
+  }
+
+  @Test
+  void sizeOfStreamedResult() {
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+        tupleValue(ImmutableMap.of("name", "Allen", "age", 30))).iterator());
+
+    assertEquals(2, response.size());
+    assertEquals(2, response.size());
+    int count = 0;
+    for (Object[] objects : response) {
+      count++;
+    }
+    assertEquals(2, count);
+  }
 }
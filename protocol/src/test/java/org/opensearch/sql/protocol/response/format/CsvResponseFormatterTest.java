@@ -36,6 +36,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -97,6 +99,20 @@ public class CsvResponseFormatterTest {
     assertEquals(expected, formatter.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("=city", null, STRING),
+        new ExecutionEngine.Schema.Column("age", null, INTEGER)));
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("=city", "Seattle, WA", "age", 20)),
+        tupleValue(ImmutableMap.of("=city", "@Seattle", "age", 30))));
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals("'=city,age\n\"Seattle, WA\",20\n'@Seattle,30", writer.toString());
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
   @Test
   void quoteIfRequired() {
     ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
@@ -41,17 +41,22 @@ import static org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.protocol.response.QueryResult;
 
@@ -124,6 +129,44 @@ class JdbcResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void format_response_to_writer() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            new Schema(ImmutableList.of(
+                new Column("name", "n", STRING),
+                new Column("location", null, STRUCT),
+                new Column("age", null, INTEGER))),
+            Arrays.asList(
+                tupleValue(ImmutableMap.of(
+                    "name", "John", "location", ImmutableMap.of("x", "1"), "age", 20)),
+                ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+                    "name", stringValue("Allen"), "location", LITERAL_NULL,
+                    "age", LITERAL_MISSING))));
+
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+
+    JdbcResponseFormatter prettyFormatter = new JdbcResponseFormatter(PRETTY);
+    writer = new StringWriter();
+    prettyFormatter.format(response, writer);
+    assertEquals(prettyFormatter.format(response), writer.toString());
+  }
+
+  @Test
+  void format_streamed_response_to_writer() throws IOException {
+    Schema schema = new Schema(ImmutableList.of(
+        new Column("name", null, STRING), new Column("age", null, INTEGER)));
+    List<ExprValue> values = Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+        tupleValue(ImmutableMap.of("name", "Allen", "age", 30)));
+
+    StringWriter writer = new StringWriter();
+    formatter.format(new QueryResult(schema, values.iterator()), writer);
+    assertEquals(formatter.format(new QueryResult(schema, values)), writer.toString());
+  }
+
   @Test
   void format_client_error_response_due_to_syntax_exception() {
     assertJsonEquals(
@@ -36,6 +36,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -96,6 +98,19 @@ public class RawResponseFormatterTest {
     assertEquals(expected, rawFormater.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("city", null, STRING)));
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("city", "=Seattle")),
+        tupleValue(ImmutableMap.of("city", "Seattle|WA"))));
+    StringWriter writer = new StringWriter();
+    rawFormater.format(response, writer);
+    assertEquals("city\n=Seattle\n\"Seattle|WA\"", writer.toString());
+    assertEquals(rawFormater.format(response), writer.toString());
+  }
+
   @Test
   void quoteIfRequired() {
     ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
@@ -38,7 +38,10 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -103,6 +106,34 @@ class SimpleJsonResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("firstname", "John", "age", 20)),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of("firstname", stringValue("Smith"), "age", LITERAL_MISSING))));
+
+    // Should be exactly the same as formatted in string in both styles
+    for (SimpleJsonResponseFormatter formatter : Arrays.asList(
+        new SimpleJsonResponseFormatter(COMPACT), new SimpleJsonResponseFormatter(PRETTY))) {
+      StringWriter writer = new StringWriter();
+      formatter.format(response, writer);
+      assertEquals(formatter.format(response), writer.toString());
+    }
+  }
+
+  @Test
+  void formatResponseToWriterWithoutRows() throws IOException {
+    QueryResult response = new QueryResult(schema, Collections.emptyList());
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(PRETTY);
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
   @Test
   void formatResponseSchemaWithAlias() {
     ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
@@ -22,6 +22,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
@@ -57,6 +59,19 @@ public class VisualizationResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    QueryResult response = new QueryResult(
+        new ExecutionEngine.Schema(ImmutableList.of(
+            new ExecutionEngine.Schema.Column("name", "name", STRING))),
+        ImmutableList.of(tupleValue(ImmutableMap.of("name", "John"))));
+
+    // Formatted in string and then written at once by default
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
   @Test
   void formatResponseWithNull() {
     QueryResult response =
@@ -69,4 +69,5 @@ keywordsCanBeId
     | COUNT | SUM | AVG | MAX | MIN
     | TIMESTAMP | DATE | TIME | DAYOFWEEK
     | FIRST | LAST
+    | CURRENT | ROW | ROWS | PRECEDING | FOLLOWING | UNBOUNDED
     ;
\ No newline at end of file
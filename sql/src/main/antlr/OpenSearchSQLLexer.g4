@@ -63,6 +63,7 @@ BY:                                 'BY';
 CASE:                               'CASE';
 CAST:                               'CAST';
 CROSS:                              'CROSS';
+CURRENT:                            'CURRENT';
 COLUMNS:                            'COLUMNS';
 DATETIME:                           'DATETIME';
 DELETE:                             'DELETE';
@@ -74,6 +75,7 @@ ELSE:                               'ELSE';
 EXISTS:                             'EXISTS';
 FALSE:                              'FALSE';
 FLOAT:                              'FLOAT';
+FOLLOWING:                          'FOLLOWING';
 FIRST:                              'FIRST';
 FROM:                               'FROM';
 GROUP:                              'GROUP';
@@ -101,14 +103,18 @@ ORDER:                              'ORDER';
 OUTER:                              'OUTER';
 OVER:                               'OVER';
 PARTITION:                          'PARTITION';
+PRECEDING:                          'PRECEDING';
 REGEXP:                             'REGEXP';
 RIGHT:                              'RIGHT';
+ROW:                                'ROW';
+ROWS:                               'ROWS';
 SELECT:                             'SELECT';
 SHOW:                               'SHOW';
 STRING:                             'STRING';
 THEN:                               'THEN';
 TRUE:                               'TRUE';
 UNION:                              'UNION';
+UNBOUNDED:                          'UNBOUNDED';
 USING:                              'USING';
 WHEN:                               'WHEN';
 WHERE:                              'WHERE';
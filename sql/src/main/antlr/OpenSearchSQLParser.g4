@@ -177,13 +177,26 @@ windowFunction
     ;
 
 overClause
-    : OVER LR_BRACKET partitionByClause? orderByClause? RR_BRACKET
+    : OVER LR_BRACKET partitionByClause? orderByClause? frameClause? RR_BRACKET
     ;
 
 partitionByClause
     : PARTITION BY expression (COMMA expression)*
     ;
 
+frameClause
+    : frameUnits=(ROWS | RANGE) startBound=frameBound
+    | frameUnits=(ROWS | RANGE) BETWEEN startBound=frameBound AND endBound=frameBound
+    ;
+
+frameBound
+    : UNBOUNDED PRECEDING                               #unboundedPrecedingFrameBound
+    | UNBOUNDED FOLLOWING                               #unboundedFollowingFrameBound
+    | CURRENT ROW                                       #currentRowFrameBound
+    | offset=decimalLiteral PRECEDING                   #precedingFrameBound
+    | offset=decimalLiteral FOLLOWING                   #followingFrameBound
+    ;
+
 
 //    Literals
 
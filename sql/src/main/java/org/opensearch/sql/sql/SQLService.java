@@ -27,6 +27,7 @@
 
 package org.opensearch.sql.sql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.analysis.AnalysisContext;
@@ -36,8 +37,10 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.PlanCache;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -63,6 +66,9 @@ public class SQLService {
 
   private final BuiltinFunctionRepository repository;
 
+  @Getter
+  private final PlanCache planCache;
+
   /**
    * Parse, analyze, plan and execute the query.
    * @param request       SQL query request
@@ -70,10 +76,7 @@ public class SQLService {
    */
   public void execute(SQLQueryRequest request, ResponseListener<QueryResponse> listener) {
     try {
-      executionEngine.execute(
-                        plan(
-                            analyze(
-                                parse(request.getQuery()))), listener);
+      executionEngine.execute(plan(request.getQuery()), listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -92,6 +95,20 @@ public class SQLService {
     }
   }
 
+  /**
+   * Given physical plan, execute it and listen on the rows streamed from it.
+   * @param plan        physical plan
+   * @param listener    callback listener
+   */
+  public void executeStream(PhysicalPlan plan,
+                            ResponseListener<StreamingQueryResponse> listener) {
+    try {
+      executionEngine.executeStream(plan, listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /**
    * Given physical plan, explain it.
    * @param plan        physical plan
@@ -105,6 +122,14 @@ public class SQLService {
     }
   }
 
+  /**
+   * Generate physical plan for the query. Parsing and analysis are skipped if the optimized
+   * logical plan of the same query is found in plan cache.
+   */
+  public PhysicalPlan plan(String query) {
+    return planCache.plan(query, () -> analyze(parse(query)), planner());
+  }
+
   /**
    * Parse query and convert parse tree (CST) to abstract syntax tree (AST).
    */
@@ -124,8 +149,11 @@ public class SQLService {
    * Generate optimal physical plan from logical plan.
    */
   public PhysicalPlan plan(LogicalPlan logicalPlan) {
-    return new Planner(storageEngine, LogicalPlanOptimizer.create(new DSL(repository)))
-        .plan(logicalPlan);
+    return planner().plan(logicalPlan);
+  }
+
+  private Planner planner() {
+    return new Planner(storageEngine, LogicalPlanOptimizer.create(new DSL(repository)));
   }
 
 }
@@ -32,6 +32,7 @@ import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.PlanCache;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.storage.StorageEngine;
@@ -56,7 +57,7 @@ public class SQLServiceConfig {
   @Autowired
   private BuiltinFunctionRepository functionRepository;
 
-  @Bean
+  @Bean(name = "sqlAnalyzer")
   public Analyzer analyzer() {
     return new Analyzer(new ExpressionAnalyzer(functionRepository), storageEngine);
   }
@@ -64,7 +65,7 @@ public class SQLServiceConfig {
   @Bean
   public SQLService sqlService() {
     return new SQLService(new SQLSyntaxParser(), analyzer(), storageEngine, executionEngine,
-        functionRepository);
+        functionRepository, new PlanCache());
   }
 
 }
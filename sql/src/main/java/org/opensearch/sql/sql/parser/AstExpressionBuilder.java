@@ -93,17 +93,26 @@ import org.opensearch.sql.ast.expression.UnresolvedArgument;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.When;
 import org.opensearch.sql.ast.expression.WindowFunction;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.AndExpressionContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.ColumnNameContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FollowingFrameBoundContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameBoundContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameClauseContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FunctionArgsContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.IdentContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.IntervalLiteralContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.NestedExpressionAtomContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OrExpressionContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.PrecedingFrameBoundContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TableNameContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.UnboundedFollowingFrameBoundContext;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.UnboundedPrecedingFrameBoundContext;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParserBaseVisitor;
 
 /**
@@ -202,7 +211,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
                                createSortOption(item), visit(item.expression())))
                            .collect(Collectors.toList());
     }
-    return new WindowFunction(visit(ctx.function), partitionByList, sortList);
+
+    FrameDefinition frame = null;
+    if (overClause.frameClause() != null) {
+      frame = createFrameDefinition(overClause.frameClause());
+    }
+    return new WindowFunction(visit(ctx.function), partitionByList, sortList, frame);
   }
 
   @Override
@@ -411,4 +425,31 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
     return builder.build();
   }
 
+  /**
+   * Create frame definition. End bound is current row if only start bound specified.
+   */
+  private FrameDefinition createFrameDefinition(FrameClauseContext ctx) {
+    FrameType type = (ctx.frameUnits.getType() == OpenSearchSQLParser.ROWS)
+        ? FrameType.ROWS : FrameType.RANGE;
+    FrameBound start = createFrameBound(ctx.startBound);
+    FrameBound end = (ctx.endBound == null)
+        ? FrameBound.CURRENT_ROW : createFrameBound(ctx.endBound);
+    return new FrameDefinition(type, start, end);
+  }
+
+  private FrameBound createFrameBound(FrameBoundContext ctx) {
+    if (ctx instanceof UnboundedPrecedingFrameBoundContext) {
+      return FrameBound.UNBOUNDED_PRECEDING;
+    } else if (ctx instanceof UnboundedFollowingFrameBoundContext) {
+      return FrameBound.UNBOUNDED_FOLLOWING;
+    } else if (ctx instanceof PrecedingFrameBoundContext) {
+      return FrameBound.preceding(
+          Long.parseLong(((PrecedingFrameBoundContext) ctx).offset.getText()));
+    } else if (ctx instanceof FollowingFrameBoundContext) {
+      return FrameBound.following(
+          Long.parseLong(((FollowingFrameBoundContext) ctx).offset.getText()));
+    }
+    return FrameBound.CURRENT_ROW;
+  }
+
 }
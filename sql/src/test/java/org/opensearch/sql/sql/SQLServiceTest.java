@@ -46,6 +46,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.ExecutionEngine.StreamingQueryResponse;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
@@ -167,6 +168,47 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void canExecuteStreamFromPhysicalPlan() {
+    doAnswer(invocation -> {
+      ResponseListener<StreamingQueryResponse> listener = invocation.getArgument(1);
+      listener.onResponse(
+          new StreamingQueryResponse(schema, Collections.emptyIterator()));
+      return null;
+    }).when(executionEngine).executeStream(any(), any());
+
+    sqlService.executeStream(mock(PhysicalPlan.class),
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+  }
+
+  @Test
+  public void canCaptureErrorDuringExecuteStreamFromPhysicalPlan() {
+    doThrow(new RuntimeException()).when(executionEngine).executeStream(any(), any());
+
+    sqlService.executeStream(mock(PhysicalPlan.class),
+        new ResponseListener<StreamingQueryResponse>() {
+          @Override
+          public void onResponse(StreamingQueryResponse response) {
+            fail();
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            assertNotNull(e);
+          }
+        });
+  }
+
   @Test
   public void canCaptureErrorDuringExecution() {
     sqlService.execute(
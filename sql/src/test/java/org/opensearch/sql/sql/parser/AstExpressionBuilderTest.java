@@ -59,6 +59,9 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.sql.ast.Node;
 import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.DataType;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameDefinition;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameType;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
@@ -347,6 +350,44 @@ class AstExpressionBuilderTest {
         buildExprAst("AVG(age) OVER (PARTITION BY state ORDER BY age)"));
   }
 
+  @Test
+  public void canBuildAggregateWindowFunctionWithFrame() {
+    assertEquals(
+        window(
+            aggregate("AVG", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new FrameDefinition(FrameType.ROWS, FrameBound.preceding(6), FrameBound.following(1))),
+        buildExprAst("AVG(age) OVER (ORDER BY age ROWS BETWEEN 6 PRECEDING AND 1 FOLLOWING)"));
+  }
+
+  @Test
+  public void canBuildAggregateWindowFunctionWithFrameStartOnly() {
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new FrameDefinition(
+                FrameType.RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW)),
+        buildExprAst("SUM(age) OVER (ORDER BY age RANGE UNBOUNDED PRECEDING)"));
+  }
+
+  @Test
+  public void canBuildAggregateWindowFunctionWithUnboundedFrame() {
+    assertEquals(
+        window(
+            aggregate("MAX", qualifiedName("age")),
+            ImmutableList.of(qualifiedName("state")),
+            ImmutableList.of(),
+            new FrameDefinition(
+                FrameType.ROWS, FrameBound.CURRENT_ROW, FrameBound.UNBOUNDED_FOLLOWING)),
+        buildExprAst("MAX(age) OVER (PARTITION BY state "
+            + "ROWS BETWEEN CURRENT ROW AND UNBOUNDED FOLLOWING)"));
+  }
+
   @Test
   public void canBuildCaseConditionStatement() {
     assertEquals(